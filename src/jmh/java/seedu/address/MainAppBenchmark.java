@@ -0,0 +1,149 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.application.Platform;
+import javafx.stage.Stage;
+import seedu.address.commons.core.Config;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.model.Findr;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ShardFormat;
+import seedu.address.storage.ShardedFindrStorage;
+
+/**
+ * Measures how long the app takes to start cold, with a generated candidate list of each size.
+ * Every measurement runs in a fresh JVM, and the time each phase of starting up took is printed after it.
+ *
+ * {@link #init()} runs without a display. {@link #initAndStart()} also shows the main window, so it needs a
+ * display to run on.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 5, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+public class MainAppBenchmark {
+
+    private static final int TAG_COUNT = 50;
+
+    @Param({"0", "10000", "100000"})
+    private int candidateCount;
+
+    private Path dataDirectory;
+    private AppParameters appParameters;
+    private MainApp mainApp;
+    private boolean isToolkitStarted;
+
+    /**
+     * Generates {@code candidateCount} candidates that share a catalogue of tags, and saves them along with a
+     * config file and preferences that point at them.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dataDirectory = Files.createTempDirectory("findr-benchmark");
+
+        Findr findr = new Findr();
+        for (int i = 0; i < TAG_COUNT; i++) {
+            findr.addTag(new Tag("skill" + i));
+        }
+        for (int i = 0; i < candidateCount; i++) {
+            Set<Tag> personTags = Set.of(new Tag("skill" + (i % TAG_COUNT)),
+                    new Tag("skill" + ((i + 1) % TAG_COUNT)), new Tag("skill" + ((i + 2) % TAG_COUNT)));
+            findr.addCandidate(new Person(new Name("Candidate " + i), new Phone(String.valueOf(80000000 + i)),
+                    new Email("candidate" + i + "@example.com"), new Address("Block " + i), personTags));
+        }
+
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(dataDirectory.resolve("findr.json"));
+        userPrefs.setSearchHistoryFilePath(dataDirectory.resolve("searchhistory.json"));
+        new ShardedFindrStorage(userPrefs.getAddressBookFilePath(), ShardedFindrStorage.DEFAULT_SHARD_COUNT,
+                ShardFormat.BINARY).saveCandidateList(findr);
+
+        Config config = new Config();
+        config.setUserPrefsFilePath(dataDirectory.resolve("preferences.json"));
+        new JsonUserPrefsStorage(config.getUserPrefsFilePath()).saveUserPrefs(userPrefs);
+        Path configPath = dataDirectory.resolve("config.json");
+        ConfigUtil.saveConfig(config, configPath);
+
+        appParameters = new AppParameters();
+        appParameters.setConfigPath(configPath);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (mainApp != null) {
+            System.out.println("Startup phases: " + mainApp.getStartupPhases());
+            mainApp.stop();
+        }
+        if (isToolkitStarted) {
+            Platform.exit();
+        }
+
+        try (Stream<Path> paths = Files.walk(dataDirectory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /**
+     * Initializes the app the way it is at launch, up to but not including showing the main window.
+     */
+    @Benchmark
+    public MainApp init() {
+        mainApp = new MainApp();
+        mainApp.init(appParameters);
+        return mainApp;
+    }
+
+    /**
+     * Initializes the app and shows the main window the way it is at launch.
+     */
+    @Benchmark
+    public MainApp initAndStart() throws Exception {
+        CompletableFuture<Void> toolkitStarted = new CompletableFuture<>();
+        Platform.startup(() -> toolkitStarted.complete(null));
+        toolkitStarted.get();
+        isToolkitStarted = true;
+
+        mainApp = new MainApp();
+        mainApp.init(appParameters);
+        CompletableFuture<Void> started = new CompletableFuture<>();
+        Platform.runLater(() -> {
+            mainApp.start(new Stage());
+            started.complete(null);
+        });
+        started.get();
+        return mainApp;
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@code ArgumentTokenizer}, which finds every prefix in a single pass with a {@code PrefixTrie}, against
+ * the tokenizer it replaced, which searched the whole arguments string once for each prefix, on the arguments of a
+ * typical {@code add} command.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ArgumentTokenizerBenchmark {
+
+    private static final Prefix PREAMBLE = new Prefix("");
+
+    private String argsString = " n/Ravi s/o Kumar Raj p/91234567 e/ravi.kumar_90@mail.example.com"
+            + " a/Blk 30 Geylang Street 29, #06-40 t/python3 t/java t/sql";
+
+    @Benchmark
+    public ArgumentMultimap tokenize_trie() {
+        return ArgumentTokenizer.tokenize(argsString, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
+                PREFIX_TAG);
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenize_rescanning() {
+        return tokenizeByRescanning(argsString, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
+                PREFIX_TAG);
+    }
+
+    private static ArgumentMultimap tokenizeByRescanning(String argsString, Prefix... prefixes) {
+        List<Prefix> found = new ArrayList<>();
+        List<Integer> starts = new ArrayList<>();
+        for (Prefix prefix : prefixes) {
+            int index = argsString.indexOf(" " + prefix.getPrefix());
+            while (index != -1) {
+                found.add(prefix);
+                starts.add(index + 1);
+                index = argsString.indexOf(" " + prefix.getPrefix(), index + 1);
+            }
+        }
+
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < starts.size(); i++) {
+            order.add(i);
+        }
+        order.sort((i, j) -> starts.get(i) - starts.get(j));
+
+        ArgumentMultimap argMultimap = new ArgumentMultimap();
+        Prefix current = PREAMBLE;
+        int currentStart = 0;
+        for (int i : order) {
+            argMultimap.put(current, argsString.substring(currentStart + current.getPrefix().length(),
+                    starts.get(i)).trim());
+            current = found.get(i);
+            currentStart = starts.get(i);
+        }
+        argMultimap.put(current, argsString.substring(currentStart + current.getPrefix().length()).trim());
+        return argMultimap;
+    }
+}
@@ -0,0 +1,161 @@
+package seedu.address.model;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.CandidateQuery;
+import seedu.address.model.person.CandidateQuery.Match;
+import seedu.address.model.person.CandidateQuery.Term;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.SearchField;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares finding candidates by name through the {@code CandidateIndex} against testing every candidate with the
+ * same {@code CandidateQuery}, and measures a query across fields, both on its own and with the
+ * displayed list filtered by it. Also compares finding a fragment of the email and address through the trigram index
+ * against checking whether each candidate's fields contain it, and finding names a few edits from a misspelt word
+ * through the tree of name words against working out the edit distance to every word of every name.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class FindBenchmark {
+
+    private static final int TAG_COUNT = 50;
+    private static final List<String> KEYWORDS = List.of("Candidate42", "Candidate4242");
+    private static final String EMAIL_FRAGMENT = "ate4242@example4";
+    private static final String ADDRESS_FRAGMENT = "ck 424";
+    private static final String MISSPELT_NAME = "candidaet4242";
+    private static final int MAX_EDIT_DISTANCE = 2;
+
+    @Param({"10000", "100000", "500000"})
+    private int candidateCount;
+
+    private Findr findr;
+    private ModelManager model;
+    private CandidateQuery nameQuery;
+    private CandidateQuery fieldsQuery;
+    private CandidateQuery substringQuery;
+    private CandidateQuery fuzzyQuery;
+
+    /**
+     * Generates {@code candidateCount} candidates that share a catalogue of tags, and indexes them.
+     */
+    @Setup
+    public void setUp() {
+        findr = new Findr();
+        for (int i = 0; i < TAG_COUNT; i++) {
+            findr.addTag(new Tag("skill" + i));
+        }
+        for (int i = 0; i < candidateCount; i++) {
+            Set<Tag> personTags = Set.of(new Tag("skill" + (i % TAG_COUNT)),
+                    new Tag("skill" + ((i + 1) % TAG_COUNT)), new Tag("skill" + ((i + 2) % TAG_COUNT)));
+            findr.addCandidate(new Person(new Name("Candidate" + i + " Tan"), new Phone(String.valueOf(80000000 + i)),
+                    new Email("candidate" + i + "@example" + (i % 100) + ".com"), new Address("Block " + i),
+                    personTags));
+        }
+        model = new ModelManager(findr, new UserPrefs());
+
+        nameQuery = CandidateQuery.anyName(KEYWORDS);
+
+        // skill7 AND example7.com, OR any name starting with candidate123
+        fieldsQuery = new CandidateQuery(List.of(
+                List.of(Term.of(SearchField.TAG, "skill7", Match.WORD),
+                        Term.of(SearchField.EMAIL, "example7.com", Match.WORD)),
+                List.of(Term.of(SearchField.NAME, "candidate123", Match.PREFIX))));
+        substringQuery = new CandidateQuery(List.of(List.of(
+                Term.of(SearchField.EMAIL, EMAIL_FRAGMENT, Match.SUBSTRING),
+                Term.of(SearchField.ADDRESS, ADDRESS_FRAGMENT, Match.SUBSTRING))));
+        model.updateFilteredCandidateList(fieldsQuery);
+        findr.findCandidates(fieldsQuery);
+        fuzzyQuery = new CandidateQuery(List.of(List.of(
+                Term.fuzzy(SearchField.NAME, MISSPELT_NAME, MAX_EDIT_DISTANCE))));
+        findr.findCandidates(substringQuery);
+        findr.findCandidates(fuzzyQuery);
+    }
+
+    @Benchmark
+    public int findByName_scan() {
+        // Wrapped so that the model tests every candidate rather than looking the query up in the index
+        model.updateFilteredCandidateList(person -> nameQuery.test(person));
+        return model.getObservableCandidateList().size();
+    }
+
+    @Benchmark
+    public int findByName_index() {
+        model.updateFilteredCandidateList(nameQuery);
+        return model.getObservableCandidateList().size();
+    }
+
+    @Benchmark
+    public int findByFields_index() {
+        model.updateFilteredCandidateList(fieldsQuery);
+        return model.getObservableCandidateList().size();
+    }
+
+    /**
+     * Looks the query up in the index alone, without filtering the displayed list.
+     */
+    @Benchmark
+    public int findByFields_lookUpOnly() {
+        return findr.findCandidates(fieldsQuery).size();
+    }
+
+    @Benchmark
+    public int findBySubstring_scan() {
+        model.updateFilteredCandidateList(person -> person.getEmail().value.contains(EMAIL_FRAGMENT)
+                && person.getAddress().value.contains(ADDRESS_FRAGMENT));
+        return model.getObservableCandidateList().size();
+    }
+
+    @Benchmark
+    public int findBySubstring_index() {
+        model.updateFilteredCandidateList(substringQuery);
+        return model.getObservableCandidateList().size();
+    }
+
+    @Benchmark
+    public int findBySubstring_lookUpOnly() {
+        return findr.findCandidates(substringQuery).size();
+    }
+
+    @Benchmark
+    public int findFuzzy_scan() {
+        model.updateFilteredCandidateList(person -> SearchField.NAME.tokensOf(person).stream()
+                .anyMatch(word -> StringUtil.editDistance(MISSPELT_NAME, word) <= MAX_EDIT_DISTANCE));
+        return model.getObservableCandidateList().size();
+    }
+
+    @Benchmark
+    public int findFuzzy_index() {
+        model.updateFilteredCandidateList(fuzzyQuery);
+        return model.getObservableCandidateList().size();
+    }
+
+    @Benchmark
+    public int findFuzzy_lookUpOnly() {
+        return findr.findCandidates(fuzzyQuery).size();
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.address.model.tag;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares resolving tags through the {@code UniqueTagList} catalogue against the linear scan it replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class UniqueTagListBenchmark {
+
+    @Param({"1000", "10000"})
+    private int tagCount;
+
+    private List<Tag> tags;
+    private List<Tag> lookups;
+    private UniqueTagList catalogue;
+
+    /**
+     * Builds a catalogue of {@code tagCount} tags and a set of lookups that differ from them only in case.
+     */
+    @Setup
+    public void setUp() {
+        tags = new ArrayList<>(tagCount);
+        lookups = new ArrayList<>(tagCount);
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new Tag("skill" + i));
+            lookups.add(new Tag("SKILL" + i));
+        }
+        catalogue = new UniqueTagList();
+        catalogue.setTags(tags);
+    }
+
+    /**
+     * Resolves every lookup through the case-folded catalogue.
+     */
+    @Benchmark
+    public void resolveAll_catalogue(Blackhole blackhole) {
+        for (Tag lookup : lookups) {
+            blackhole.consume(catalogue.get(lookup));
+        }
+    }
+
+    /**
+     * Resolves every lookup by scanning the tag list, as {@code UniqueTagList#get} used to.
+     */
+    @Benchmark
+    public void resolveAll_linearScan(Blackhole blackhole) {
+        for (Tag lookup : lookups) {
+            blackhole.consume(tags.stream()
+                    .filter(lookup::isSameTag)
+                    .findFirst()
+                    .orElseThrow());
+        }
+    }
+
+    /**
+     * Replaces the whole catalogue, which includes the uniqueness check.
+     */
+    @Benchmark
+    public UniqueTagList setTags_catalogue() {
+        UniqueTagList replacement = new UniqueTagList();
+        replacement.setTags(tags);
+        return replacement;
+    }
+
+    /**
+     * Checks uniqueness with the pairwise comparison that {@code UniqueTagList#setTags} used to run.
+     */
+    @Benchmark
+    public boolean setTags_pairwiseUniqueness() {
+        for (int i = 0; i < tags.size() - 1; i++) {
+            for (int j = i + 1; j < tags.size(); j++) {
+                if (tags.get(i).isSameTag(tags.get(j))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,111 @@
+package seedu.address.model.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares each {@code FieldValidator} scanner against the {@code String#matches} call it replaced, on a typical
+ * valid value of that field.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class FieldValidatorBenchmark {
+
+    private String name = "Ravi s/o Kumar Raj";
+    private String phone = "91234567";
+    private String email = "ravi.kumar_90@mail.example.com";
+    private String address = "Blk 30 Geylang Street 29, #06-40";
+    private String tagName = "python3";
+    private String tagCategory = "Technical Skills";
+    private String tagColour = "#7A7A7A";
+
+    @Benchmark
+    public boolean name_regex() {
+        String collapsed = name.trim().replaceAll("\\s+", " ");
+        return !collapsed.isEmpty() && collapsed.matches(Name.VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public boolean name_scanner() {
+        return FieldValidator.isValidName(name);
+    }
+
+    @Benchmark
+    public boolean phone_regex() {
+        return phone.matches(Phone.VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public boolean phone_scanner() {
+        return FieldValidator.isValidPhone(phone);
+    }
+
+    @Benchmark
+    public boolean email_regex() {
+        return email.matches(Email.VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public boolean email_scanner() {
+        return FieldValidator.isValidEmail(email);
+    }
+
+    @Benchmark
+    public boolean address_regex() {
+        return address.matches(Address.VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public boolean address_scanner() {
+        return FieldValidator.isValidAddress(address);
+    }
+
+    @Benchmark
+    public boolean tagName_regex() {
+        return tagName.matches(Tag.VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public boolean tagName_scanner() {
+        return FieldValidator.isValidTagName(tagName);
+    }
+
+    @Benchmark
+    public boolean tagCategory_regex() {
+        return tagCategory.matches(Tag.CATEGORY_VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public boolean tagCategory_scanner() {
+        return FieldValidator.isValidTagCategory(tagCategory);
+    }
+
+    @Benchmark
+    public boolean tagColour_regex() {
+        return tagColour.matches(Tag.COLOUR_VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public boolean tagColour_scanner() {
+        return FieldValidator.isValidTagColour(tagColour);
+    }
+}
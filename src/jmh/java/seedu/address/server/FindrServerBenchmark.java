@@ -0,0 +1,166 @@
+package seedu.address.server;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.Findr;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+import seedu.address.storage.JsonFindrStorage;
+import seedu.address.storage.JsonSearchHistoryStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+/**
+ * Load-tests the server with 1, 8 and 64 clients sending commands over loopback at once, against a generated
+ * candidate list. Run in {@code Throughput} mode, the score is commands per second, and in {@code SampleTime} mode,
+ * the percentiles of how long each command took, including its 99th percentile.
+ *
+ * In the {@code mixed} workload, one command in {@link #WRITE_INTERVAL} adds a candidate, and the rest search.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class FindrServerBenchmark {
+
+    private static final int TAG_COUNT = 50;
+    private static final int WRITE_INTERVAL = 20;
+
+    @Param({"10000"})
+    private int candidateCount;
+
+    @Param({"find", "mixed"})
+    private String workload;
+
+    private final AtomicLong addedCount = new AtomicLong();
+    private Path dataDirectory;
+    private Logic logic;
+    private FindrServer server;
+
+    /**
+     * Generates {@code candidateCount} candidates that share a catalogue of tags, and starts serving commands on
+     * them from a free port.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dataDirectory = Files.createTempDirectory("findr-benchmark");
+
+        Findr findr = new Findr();
+        for (int i = 0; i < TAG_COUNT; i++) {
+            findr.addTag(new Tag("skill" + i));
+        }
+        for (int i = 0; i < candidateCount; i++) {
+            Set<Tag> personTags = Set.of(new Tag("skill" + (i % TAG_COUNT)),
+                    new Tag("skill" + ((i + 1) % TAG_COUNT)), new Tag("skill" + ((i + 2) % TAG_COUNT)));
+            findr.addCandidate(new Person(new Name("Candidate " + i), new Phone(String.valueOf(80000000 + i)),
+                    new Email("candidate" + i + "@example.com"), new Address("Block " + i), personTags));
+        }
+
+        Model model = new ModelManager(findr, new UserPrefs());
+        StorageManager storage = new StorageManager(new JsonFindrStorage(dataDirectory.resolve("findr.json")),
+                new JsonUserPrefsStorage(dataDirectory.resolve("preferences.json")),
+                new JsonSearchHistoryStorage(dataDirectory.resolve("searchhistory.json")));
+        logic = new LogicManager(model, storage);
+        server = new FindrServer(new ConcurrentCommandRunner(logic, model.getUserPrefs()), 0,
+                FindrServer.DEFAULT_THREAD_COUNT);
+        server.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        server.stop();
+        logic.shutdown();
+
+        try (Stream<Path> paths = Files.walk(dataDirectory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /**
+     * A client of the server, one per benchmark thread.
+     */
+    @State(Scope.Thread)
+    public static class Client {
+        private HttpClient httpClient;
+        private int sentCount;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            httpClient = HttpClient.newHttpClient();
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public int oneClient(Client client) throws Exception {
+        return send(client);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public int eightClients(Client client) throws Exception {
+        return send(client);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public int sixtyFourClients(Client client) throws Exception {
+        return send(client);
+    }
+
+    private int send(Client client) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(server.getUri())
+                .POST(HttpRequest.BodyPublishers.ofString(nextCommand(client)))
+                .build();
+        HttpResponse<String> response = client.httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Command failed: " + response.body());
+        }
+        return response.body().length();
+    }
+
+    private String nextCommand(Client client) {
+        client.sentCount++;
+        if (workload.equals("mixed") && client.sentCount % WRITE_INTERVAL == 0) {
+            long id = addedCount.incrementAndGet();
+            return "add n/Applicant " + id + " p/" + (10_000_000_000L + id) + " e/applicant" + id
+                    + "@example.com a/Block " + id;
+        }
+        return "find " + ThreadLocalRandom.current().nextInt(candidateCount);
+    }
+}
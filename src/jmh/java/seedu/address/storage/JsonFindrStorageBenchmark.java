@@ -0,0 +1,118 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.Findr;
+import seedu.address.model.ReadOnlyFindr;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Measures how long it takes to load a candidate list at startup, both from the data file and, given the parsed
+ * records, into a {@code Findr} by bulk-loading against adding one candidate at a time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class JsonFindrStorageBenchmark {
+
+    private static final int TAG_COUNT = 50;
+
+    @Param({"10000", "100000", "1000000"})
+    private int candidateCount;
+
+    private List<Tag> tags;
+    private List<Person> persons;
+    private Path dataFile;
+
+    /**
+     * Generates {@code candidateCount} candidates that share a catalogue of tags, and saves them to a data file.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        tags = new ArrayList<>(TAG_COUNT);
+        for (int i = 0; i < TAG_COUNT; i++) {
+            tags.add(new Tag("skill" + i));
+        }
+
+        persons = new ArrayList<>(candidateCount);
+        for (int i = 0; i < candidateCount; i++) {
+            // Fresh tag instances, as the parser would create them, so that they have to be resolved
+            Set<Tag> personTags = Set.of(new Tag("skill" + (i % TAG_COUNT)),
+                    new Tag("skill" + ((i + 1) % TAG_COUNT)), new Tag("skill" + ((i + 2) % TAG_COUNT)));
+            persons.add(new Person(new Name("Candidate " + i), new Phone(String.valueOf(80000000 + i)),
+                    new Email("candidate" + i + "@example.com"), new Address("Block " + i), personTags));
+        }
+
+        Findr findr = new Findr();
+        findr.bulkLoad(tags, persons);
+        dataFile = Files.createTempFile("findr-benchmark", ".json");
+        new JsonFindrStorage(dataFile).saveCandidateList(findr);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(dataFile);
+    }
+
+    /**
+     * Reads the data file the way the app does at startup.
+     */
+    @Benchmark
+    public ReadOnlyFindr readCandidateList() throws DataLoadingException {
+        return new JsonFindrStorage(dataFile).readCandidateList().orElseThrow();
+    }
+
+    /**
+     * Loads the parsed records with a single bulk load.
+     */
+    @Benchmark
+    public Findr load_bulk() {
+        Findr findr = new Findr();
+        findr.bulkLoad(tags, persons);
+        return findr;
+    }
+
+    /**
+     * Loads the parsed records one candidate at a time, as {@code JsonSerializableFindr#toModelType} used to.
+     */
+    @Benchmark
+    public Findr load_perRecord() {
+        Findr findr = new Findr();
+        findr.setTags(tags);
+        for (Person person : persons) {
+            if (!findr.hasCandidate(person)) {
+                findr.addCandidate(person);
+            }
+        }
+        return findr;
+    }
+}
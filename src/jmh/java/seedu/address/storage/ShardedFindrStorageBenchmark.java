@@ -0,0 +1,107 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.Findr;
+import seedu.address.model.ReadOnlyFindr;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Measures how long it takes to read a sharded candidate list at startup, with the shards in each format.
+ * The total size of the shards in each format is printed when they are written.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class ShardedFindrStorageBenchmark {
+
+    private static final int TAG_COUNT = 50;
+
+    @Param({"10000", "100000", "1000000"})
+    private int candidateCount;
+
+    @Param({"BINARY", "JSON", "COMPACT_JSON"})
+    private ShardFormat format;
+
+    private Path dataDirectory;
+    private ShardedFindrStorage storage;
+
+    /**
+     * Generates {@code candidateCount} candidates that share a catalogue of tags, and saves them as shards.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Findr findr = new Findr();
+        for (int i = 0; i < TAG_COUNT; i++) {
+            findr.addTag(new Tag("skill" + i));
+        }
+        for (int i = 0; i < candidateCount; i++) {
+            Set<Tag> personTags = Set.of(new Tag("skill" + (i % TAG_COUNT)),
+                    new Tag("skill" + ((i + 1) % TAG_COUNT)), new Tag("skill" + ((i + 2) % TAG_COUNT)));
+            findr.addCandidate(new Person(new Name("Candidate " + i), new Phone(String.valueOf(80000000 + i)),
+                    new Email("candidate" + i + "@example.com"), new Address("Block " + i), personTags));
+        }
+
+        dataDirectory = Files.createTempDirectory("findr-benchmark");
+        storage = new ShardedFindrStorage(dataDirectory.resolve("findr.json"),
+                ShardedFindrStorage.DEFAULT_SHARD_COUNT, format);
+        storage.saveCandidateList(findr);
+        System.out.println(format + " shards take " + sizeOf(storage.getShardDirectoryPath()) + " bytes");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(dataDirectory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /**
+     * Reads the shards the way the app does at startup.
+     */
+    @Benchmark
+    public ReadOnlyFindr readCandidateList() throws DataLoadingException {
+        return storage.readCandidateList().orElseThrow();
+    }
+
+    private static long sizeOf(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            long size = 0;
+            for (Path file : files.toList()) {
+                size += Files.size(file);
+            }
+            return size;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -9,15 +10,25 @@ import java.util.logging.Logger;
 import javafx.application.Application;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Represents the parsed command-line parameters given to the application.
  */
 public class AppParameters {
+    /** The batch file path that stands for the standard input. */
+    public static final Path STANDARD_INPUT = Paths.get("-");
+
+    private static final int MAX_PORT = 65535;
+
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Path batchFilePath;
+    private int checkpointInterval;
+    private Path exportFilePath;
+    private Integer serverPort;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,12 +38,106 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the file of commands to run without showing the main window, which is {@link #STANDARD_INPUT} to read
+     * them from the standard input, or null if the app is to be run normally.
+     */
+    public Path getBatchFilePath() {
+        return batchFilePath;
+    }
+
+    public void setBatchFilePath(Path batchFilePath) {
+        this.batchFilePath = batchFilePath;
+    }
+
+    /**
+     * Returns true if the app is to run a file of commands without showing the main window.
+     */
+    public boolean isBatch() {
+        return batchFilePath != null;
+    }
+
+    /**
+     * Returns the number of commands in a batch after which the changes made so far are saved, or 0 if they are
+     * only saved once the batch ends.
+     */
+    public int getCheckpointInterval() {
+        return checkpointInterval;
+    }
+
+    public void setCheckpointInterval(int checkpointInterval) {
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * Returns the file to write the candidate list to as a single json file, once any batch of commands has run,
+     * without showing the main window, or null if it is not to be exported.
+     */
+    public Path getExportFilePath() {
+        return exportFilePath;
+    }
+
+    public void setExportFilePath(Path exportFilePath) {
+        this.exportFilePath = exportFilePath;
+    }
+
+    /**
+     * Returns true if the app is to export the candidate list as json without showing the main window.
+     */
+    public boolean isExport() {
+        return exportFilePath != null;
+    }
+
+    /**
+     * Returns the port on which to serve commands to other processes on this machine without showing the main
+     * window, which is 0 to use any free port, or null if the app is not to be run as a server.
+     */
+    public Integer getServerPort() {
+        return serverPort;
+    }
+
+    public void setServerPort(Integer serverPort) {
+        this.serverPort = serverPort;
+    }
+
+    /**
+     * Returns true if the app is to serve commands to other processes without showing the main window.
+     */
+    public boolean isServer() {
+        return serverPort != null;
+    }
+
+    /**
+     * Returns true if the app is to run without showing the main window, as a batch, an export or a server.
+     */
+    public boolean isHeadless() {
+        return isBatch() || isExport() || isServer();
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the command-line arguments given to {@code main}, of which only the named ones, of the form
+     * {@code --name=value}, are used.
+     */
+    public static AppParameters parse(String... args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (arg.startsWith("--") && separator > 2) {
+                namedParameters.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+        return parse(namedParameters);
+    }
+
+    private static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -41,9 +146,46 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String batchPathParameter = namedParameters.get("batch");
+        if (batchPathParameter != null && !FileUtil.isValidPath(batchPathParameter)) {
+            logger.warning("Invalid batch file path " + batchPathParameter + ". Starting the app normally.");
+            batchPathParameter = null;
+        }
+        appParameters.setBatchFilePath(batchPathParameter != null ? Paths.get(batchPathParameter) : null);
+
+        String checkpointParameter = namedParameters.get("checkpoint");
+        if (checkpointParameter != null) {
+            if (StringUtil.isNonZeroUnsignedInteger(checkpointParameter)) {
+                appParameters.setCheckpointInterval(Integer.parseInt(checkpointParameter));
+            } else {
+                logger.warning("Invalid checkpoint interval " + checkpointParameter
+                        + ". Saving only once the batch ends.");
+            }
+        }
+
+        String exportPathParameter = namedParameters.get("export");
+        if (exportPathParameter != null && !FileUtil.isValidPath(exportPathParameter)) {
+            logger.warning("Invalid export file path " + exportPathParameter + ". Not exporting.");
+            exportPathParameter = null;
+        }
+        appParameters.setExportFilePath(exportPathParameter != null ? Paths.get(exportPathParameter) : null);
+
+        String serverPortParameter = namedParameters.get("server");
+        if (serverPortParameter != null) {
+            if (isValidPort(serverPortParameter)) {
+                appParameters.setServerPort(Integer.parseInt(serverPortParameter));
+            } else {
+                logger.warning("Invalid server port " + serverPortParameter + ". Starting the app normally.");
+            }
+        }
+
         return appParameters;
     }
 
+    private static boolean isValidPort(String port) {
+        return port.matches("\\d{1,5}") && Integer.parseInt(port) <= MAX_PORT;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -56,18 +198,26 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && Objects.equals(batchFilePath, otherAppParameters.batchFilePath)
+                && checkpointInterval == otherAppParameters.checkpointInterval
+                && Objects.equals(exportFilePath, otherAppParameters.exportFilePath)
+                && Objects.equals(serverPort, otherAppParameters.serverPort);
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, batchFilePath, checkpointInterval, exportFilePath, serverPort);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("batchFilePath", batchFilePath)
+                .add("checkpointInterval", checkpointInterval)
+                .add("exportFilePath", exportFilePath)
+                .add("serverPort", serverPort)
                 .toString();
     }
 }
@@ -1,9 +1,11 @@
 package seedu.address;
 
+import java.io.IOException;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.server.FindrServer;
 
 /**
  * The main entry point to the application.
@@ -25,6 +27,15 @@ public class Main {
     private static Logger logger = LogsCenter.getLogger(Main.class);
 
     public static void main(String[] args) {
+        AppParameters appParameters = AppParameters.parse(args);
+        if (appParameters.isBatch() || appParameters.isExport()) {
+            // Commands are run, and the candidate list exported, without the main window, so JavaFX is never started
+            System.exit(new MainApp().runBatch(appParameters));
+        }
+        if (appParameters.isServer()) {
+            runServer(appParameters);
+            return;
+        }
 
         // As per https://github.com/openjdk/jfx/blob/master/doc-files/release-notes-16.md
         // JavaFX 16 (or later) runtime logs a warning at startup if JavaFX classes are loaded from
@@ -38,4 +49,19 @@ public class Main {
         logger.warning("The warning about Unsupported JavaFX configuration below (if any) can be ignored.");
         Application.launch(MainApp.class, args);
     }
+
+    /**
+     * Serves commands without starting JavaFX, which keeps running after this method returns, until the process is
+     * stopped.
+     */
+    private static void runServer(AppParameters appParameters) {
+        try {
+            FindrServer server = new MainApp().runServer(appParameters);
+            System.out.println("Findr is serving commands at " + server.getUri() + ". Press Ctrl+C to stop.");
+        } catch (IOException e) {
+            System.err.println("Could not serve commands on port " + appParameters.getServerPort() + ": "
+                    + e.getMessage());
+            System.exit(2);
+        }
+    }
 }
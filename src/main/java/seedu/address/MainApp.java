@@ -1,18 +1,29 @@
 package seedu.address;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.PhaseTimer;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.BatchRunner;
+import seedu.address.logic.CommandQueue;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.Findr;
@@ -22,11 +33,15 @@ import seedu.address.model.ReadOnlyFindr;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.server.ConcurrentCommandRunner;
+import seedu.address.server.FindrServer;
+import seedu.address.storage.AppendOnlySearchHistoryStorage;
 import seedu.address.storage.FindrStorage;
-import seedu.address.storage.JsonFindrStorage;
-import seedu.address.storage.JsonSearchHistoryStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.MappedFindrStorage;
 import seedu.address.storage.SearchHistoryStorage;
+import seedu.address.storage.ShardFormat;
+import seedu.address.storage.ShardedFindrStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -44,21 +59,35 @@ public class MainApp extends Application {
 
     protected Ui ui;
     protected Logic logic;
+    protected CommandQueue commandQueue;
     protected Storage storage;
     protected Model model;
     protected Config config;
 
+    private PhaseTimer startupTimer = new PhaseTimer();
+
     @Override
     public void init() throws Exception {
-        logger.info("=============================[ Initializing Findr ]===========================");
         super.init();
+        init(AppParameters.parse(getParameters()));
+    }
+
+    /**
+     * Initializes the app with the given {@code appParameters}, up to but not including showing the main window.
+     * How long each phase of starting up takes is recorded in {@link #getStartupPhases()}.
+     */
+    void init(AppParameters appParameters) {
+        logger.info("=============================[ Initializing Findr ]===========================");
+        startupTimer = new PhaseTimer();
 
-        AppParameters appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
+        startupTimer.endPhase("config");
         initLogging(config);
+        startupTimer.endPhase("logging");
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        startupTimer.endPhase("prefs");
 
         if (userPrefs.getAddressBookFilePath().equals(userPrefs.getSearchHistoryFilePath())) {
             logger.severe("Configuration error: addressBookFilePath and searchHistoryFilePath point to the same file: "
@@ -68,15 +97,111 @@ public class MainApp extends Application {
                             + "Please update your preferences.json file to use different file paths.");
         }
 
-        FindrStorage findrStorage = new JsonFindrStorage(userPrefs.getAddressBookFilePath());
-        SearchHistoryStorage searchHistoryStorage = new JsonSearchHistoryStorage(userPrefs.getSearchHistoryFilePath());
+        ShardedFindrStorage shardedStorage = new ShardedFindrStorage(userPrefs.getAddressBookFilePath(),
+                ShardedFindrStorage.DEFAULT_SHARD_COUNT, ShardFormat.BINARY);
+        FindrStorage findrStorage = userPrefs.isMappedDataFile()
+                ? new MappedFindrStorage(shardedStorage)
+                : shardedStorage;
+        SearchHistoryStorage searchHistoryStorage = new AppendOnlySearchHistoryStorage(
+                userPrefs.getSearchHistoryFilePath(), userPrefs.getSearchHistoryCapacity());
         storage = new StorageManager(findrStorage, userPrefsStorage, searchHistoryStorage);
+        startupTimer.endPhase("storage");
+
+        if (userPrefs.isProgressiveStartup() && !appParameters.isHeadless()) {
+            // The candidate list is loaded in the background once the main window is showing
+            model = new ModelManager(new Findr(), userPrefs);
+            startupTimer.endPhase("data");
+            logic = new LogicManager(model, storage, true);
+        } else {
+            model = initModelManager(storage, userPrefs);
+            startupTimer.endPhase("data");
+            logic = new LogicManager(model, storage);
+        }
+        startupTimer.endPhase("logic");
+
+        if (!appParameters.isHeadless()) {
+            commandQueue = new CommandQueue(logic);
+            ui = new UiManager(logic, commandQueue);
+            startupTimer.endPhase("ui");
+        }
+    }
+
+    /**
+     * Runs the commands in the batch file given by {@code appParameters}, if any, without starting JavaFX, saves the
+     * changes they made, exports the candidate list to the json file given by {@code appParameters}, if any, and
+     * stops the app.
+     *
+     * @return the exit status, which is 0 only if every command succeeded and the export, if any, was written.
+     */
+    int runBatch(AppParameters appParameters) {
+        init(appParameters);
+        BatchRunner batchRunner = new BatchRunner(logic, appParameters.getCheckpointInterval(), System.out);
+        logic.setSaveFailureHandler(System.err::println);
+        try {
+            int status = 0;
+            Path batchFilePath = appParameters.getBatchFilePath();
+            if (batchFilePath != null) {
+                status = runCommands(batchRunner, batchFilePath);
+            }
+
+            Path exportFilePath = appParameters.getExportFilePath();
+            if (exportFilePath != null && status != 2) {
+                try {
+                    batchRunner.export(exportFilePath, model.getUserPrefs().isCompactDataFile());
+                } catch (IOException e) {
+                    logger.severe("Failed to export to " + exportFilePath + ": " + StringUtil.getDetails(e));
+                    System.err.println("Could not export candidates to " + exportFilePath + ": " + e.getMessage());
+                    status = 2;
+                }
+            }
+            return status;
+        } finally {
+            stop();
+        }
+    }
 
-        model = initModelManager(storage, userPrefs);
+    /**
+     * Runs the commands in {@code batchFilePath} with {@code batchRunner}.
+     *
+     * @return the exit status, which is 0 only if every command succeeded, or 2 if the commands could not be read.
+     */
+    private int runCommands(BatchRunner batchRunner, Path batchFilePath) {
+        logger.info("Running batch of commands from " + batchFilePath);
+        try (BufferedReader commands = batchFilePath.equals(AppParameters.STANDARD_INPUT)
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(batchFilePath)) {
+            return batchRunner.run(commands).failedCount() == 0 ? 0 : 1;
+        } catch (IOException e) {
+            logger.severe("Failed to read batch file " + batchFilePath + ": " + StringUtil.getDetails(e));
+            System.err.println("Could not read commands from " + batchFilePath + ": " + e.getMessage());
+            return 2;
+        }
+    }
 
-        logic = new LogicManager(model, storage);
+    /**
+     * Serves commands on the port given by {@code appParameters} without starting JavaFX, until the process is
+     * stopped, at which point the app is stopped too.
+     *
+     * @return the server, which is serving commands in the background.
+     * @throws IOException if the port cannot be listened on.
+     */
+    FindrServer runServer(AppParameters appParameters) throws IOException {
+        init(appParameters);
+        FindrServer server = new FindrServer(new ConcurrentCommandRunner(logic, model.getUserPrefs()),
+                appParameters.getServerPort(), FindrServer.DEFAULT_THREAD_COUNT);
+        server.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.stop();
+            stop();
+        }, "findr-server-shutdown"));
+        return server;
+    }
 
-        ui = new UiManager(logic);
+    /**
+     * Returns how long each phase of starting up has taken so far.
+     */
+    Map<String, Duration> getStartupPhases() {
+        return startupTimer.getPhases();
     }
 
     /**
@@ -85,6 +210,14 @@ public class MainApp extends Application {
      * or an empty candidate list will be used instead if errors occur when reading {@code storage}'s candidate list.
      */
     Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        return new ModelManager(readInitialData(storage), userPrefs);
+    }
+
+    /**
+     * Returns the candidate list in {@code storage}, or the sample candidate list if it is not found, or an empty
+     * candidate list if errors occur when reading it.
+     */
+    ReadOnlyFindr readInitialData(Storage storage) {
         logger.info("Using data file : " + storage.getFindrFilePath());
 
         Optional<ReadOnlyFindr> addressBookOptional;
@@ -102,7 +235,7 @@ public class MainApp extends Application {
             initialData = new Findr();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        return initialData;
     }
 
     private void initLogging(Config config) {
@@ -184,11 +317,90 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting Findr " + MainApp.VERSION);
         ui.start(primaryStage);
+        startupTimer.endPhase("main window");
+        logger.info("Startup phases: " + startupTimer);
+        logger.info("Time to first frame: " + millisSinceLaunch() + " ms");
+
+        if (logic.isLoading()) {
+            loadInBackground();
+        } else {
+            logger.info("Time to interactive: " + millisSinceLaunch() + " ms");
+        }
+    }
+
+    /**
+     * Reads the candidate list on a background thread, and hands it to {@code logic} on the thread that executes
+     * commands once it has been read.
+     * If it cannot be read or handed over, {@code logic} is given an empty candidate list instead, so that it does not
+     * stay loading and go on rejecting every command that changes the candidate list.
+     */
+    private void loadInBackground() {
+        Thread loader = new Thread(() -> {
+            ReadOnlyFindr initialData;
+            try {
+                initialData = readInitialData(storage);
+            } catch (RuntimeException e) {
+                logger.severe("Data file at " + storage.getFindrFilePath() + " could not be read: "
+                        + StringUtil.getDetails(e) + " Will be starting with an empty candidate list.");
+                initialData = new Findr();
+            }
+
+            ReadOnlyFindr candidateList = initialData;
+            commandQueue.submit(() -> finishLoading(candidateList)).whenCompleteAsync((candidateCount, error) -> {
+                if (error != null) {
+                    logger.severe("Failed to finish loading the candidate list: "
+                            + StringUtil.getDetails(CommandQueue.unwrap(error)));
+                    ui.showLoadingFailed(CommandQueue.unwrap(error).getMessage());
+                    return;
+                }
+
+                ui.showLoadingFinished(candidateCount);
+                logger.info("Time to interactive: " + millisSinceLaunch() + " ms");
+            }, Platform::runLater).exceptionally(error -> {
+                logger.severe("Failed to show that the candidate list has loaded: "
+                        + StringUtil.getDetails(CommandQueue.unwrap(error)));
+                return null;
+            });
+        }, "findr-loader");
+        loader.setDaemon(true);
+        loader.setUncaughtExceptionHandler((thread, e) ->
+                logger.severe("Failed to load the candidate list: " + StringUtil.getDetails(e)));
+        loader.start();
+    }
+
+    /**
+     * Hands {@code candidateList} to {@code logic}, or an empty candidate list if that fails. Must be called on the
+     * thread that executes commands.
+     *
+     * @return the number of candidates loaded, counted on that thread before any command can change it.
+     */
+    private int finishLoading(ReadOnlyFindr candidateList) {
+        try {
+            logic.finishLoading(candidateList);
+        } catch (RuntimeException e) {
+            if (!logic.isLoading()) {
+                throw e;
+            }
+            logger.severe("Failed to use the loaded candidate list: " + StringUtil.getDetails(e)
+                    + " Will be starting with an empty candidate list.");
+            logic.finishLoading(new Findr());
+        }
+        return logic.getCandidateList().getCandidateList().size();
+    }
+
+    private static long millisSinceLaunch() {
+        return ManagementFactory.getRuntimeMXBean().getUptime();
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Findr ] =============================");
+        if (commandQueue != null) {
+            commandQueue.shutdown();
+        }
+        if (logic != null) {
+            logic.shutdown();
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,52 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Measures how long each phase of a task, such as starting the app, takes.
+ * Each phase runs from the end of the previous phase, or from when the timer was created for the first phase.
+ */
+public class PhaseTimer {
+
+    private final Map<String, Duration> phases = new LinkedHashMap<>();
+    private long phaseStart = System.nanoTime();
+
+    /**
+     * Ends the phase named {@code phase} now, and starts the next phase.
+     * If a phase of the same name has ended before, the time of this one is added to it.
+     */
+    public synchronized void endPhase(String phase) {
+        requireNonNull(phase);
+        long now = System.nanoTime();
+        phases.merge(phase, Duration.ofNanos(now - phaseStart), Duration::plus);
+        phaseStart = now;
+    }
+
+    /**
+     * Returns how long each phase took, in the order the phases first ended.
+     */
+    public synchronized Map<String, Duration> getPhases() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(phases));
+    }
+
+    /**
+     * Returns how long all the phases took together.
+     */
+    public synchronized Duration getTotal() {
+        return phases.values().stream().reduce(Duration.ZERO, Duration::plus);
+    }
+
+    @Override
+    public synchronized String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "", " (total " + getTotal().toMillis() + " ms)");
+        joiner.setEmptyValue("no phases ended");
+        phases.forEach((phase, duration) -> joiner.add(phase + " " + duration.toMillis() + " ms"));
+        return joiner.toString();
+    }
+}
@@ -38,6 +38,58 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns {@code text} with the case of each character folded, so that two strings are equal once folded if and
+     * only if they are equal ignoring case, as by {@link String#equalsIgnoreCase}.
+     *   <br>examples:<pre>
+     *       foldCase("ABc") == "abc"
+     *       foldCase("Straße").equals(foldCase("STRASSE")) == false // as "Straße".equalsIgnoreCase("STRASSE")
+     *       </pre>
+     * @param text cannot be null
+     */
+    public static String foldCase(String text) {
+        requireNonNull(text);
+
+        StringBuilder folded = new StringBuilder(text.length());
+        text.codePoints().forEach(codePoint ->
+                folded.appendCodePoint(Character.toLowerCase(Character.toUpperCase(codePoint))));
+        return folded.toString();
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}: the fewest characters that must be
+     * inserted, deleted or replaced to turn one into the other.
+     *   <br>examples:<pre>
+     *       editDistance("jonathon", "jonathan") == 1
+     *       editDistance("tan", "tang") == 1
+     *       editDistance("lim", "mil") == 2
+     *       </pre>
+     * @param first cannot be null
+     * @param second cannot be null
+     */
+    public static int editDistance(String first, String second) {
+        requireNonNull(first);
+        requireNonNull(second);
+
+        // The distances from each prefix of first to the prefixes of second up to the previous and current character
+        int[] previous = new int[first.length() + 1];
+        int[] current = new int[first.length() + 1];
+        for (int i = 0; i <= first.length(); i++) {
+            previous[i] = i;
+        }
+        for (int j = 1; j <= second.length(); j++) {
+            current[0] = j;
+            for (int i = 1; i <= first.length(); i++) {
+                int replaceCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                current[i] = Math.min(previous[i - 1] + replaceCost, Math.min(previous[i], current[i - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[first.length()];
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
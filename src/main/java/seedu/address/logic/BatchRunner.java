@@ -0,0 +1,142 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ReadOnlyFindr;
+import seedu.address.storage.JsonFindrStorage;
+
+/**
+ * Runs a batch of commands, one per line, through a {@code Logic} without the main window.
+ *
+ * Saving is deferred while the batch runs, so the changes made are saved once the batch ends, and optionally every
+ * few commands along the way, instead of after every command. Blank lines, and lines starting with
+ * {@value #COMMENT_PREFIX}, are skipped.
+ *
+ * The candidate list can also be exported as a single json file, the format older versions of Findr stored it in,
+ * which can be edited by hand or read by other programs, while the app itself keeps storing it in binary shards.
+ */
+public class BatchRunner {
+
+    public static final String COMMENT_PREFIX = "#";
+
+    public static final String MESSAGE_COMMAND_FAILED = "Line %1$d: %2$s";
+
+    public static final String MESSAGE_EXPORTED = "Exported %1$d candidates to %2$s.";
+
+    private final Logic logic;
+    private final int checkpointInterval;
+    private final PrintStream out;
+
+    /**
+     * Creates a {@code BatchRunner} that executes commands with {@code logic}, saves the changes made every
+     * {@code checkpointInterval} commands, or only at the end if it is 0, and reports to {@code out}.
+     */
+    public BatchRunner(Logic logic, int checkpointInterval, PrintStream out) {
+        requireNonNull(logic);
+        requireNonNull(out);
+        checkArgument(checkpointInterval >= 0, "Checkpoint interval must not be negative.");
+        this.logic = logic;
+        this.checkpointInterval = checkpointInterval;
+        this.out = out;
+    }
+
+    /**
+     * Executes every command read from {@code commands}, reports each command that fails and the statistics of
+     * the batch, and saves the changes made.
+     *
+     * @return the statistics of the batch.
+     * @throws IOException if the commands cannot be read. The changes made by the commands read so far are saved.
+     */
+    public Statistics run(BufferedReader commands) throws IOException {
+        requireNonNull(commands);
+        long start = System.nanoTime();
+        long saveNanos = 0;
+        int commandCount = 0;
+        int failedCount = 0;
+        int saveCount = 0;
+
+        logic.setSavingDeferred(true);
+        try {
+            int lineNumber = 0;
+            for (String line = commands.readLine(); line != null; line = commands.readLine()) {
+                lineNumber++;
+                String commandText = line.strip();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+
+                commandCount++;
+                try {
+                    logic.execute(commandText);
+                } catch (CommandException | ParseException e) {
+                    failedCount++;
+                    out.println(String.format(MESSAGE_COMMAND_FAILED, lineNumber, e.getMessage()));
+                }
+
+                if (checkpointInterval > 0 && commandCount % checkpointInterval == 0) {
+                    saveNanos += timeSave();
+                    saveCount++;
+                }
+            }
+        } finally {
+            saveNanos += timeSave();
+            saveCount++;
+            logic.setSavingDeferred(false);
+        }
+
+        Statistics statistics = new Statistics(commandCount, failedCount, saveCount,
+                Duration.ofNanos(System.nanoTime() - start), Duration.ofNanos(saveNanos));
+        out.println(statistics);
+        return statistics;
+    }
+
+    /**
+     * Writes the candidate list, with every change made to it so far, to {@code filePath} as a single json file,
+     * without indentation or line breaks if {@code isCompact} is true, and reports where it was written.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    public void export(Path filePath, boolean isCompact) throws IOException {
+        requireNonNull(filePath);
+        ReadOnlyFindr candidateList = logic.getCandidateList();
+        new JsonFindrStorage(filePath, isCompact).saveCandidateList(candidateList);
+        out.println(String.format(MESSAGE_EXPORTED, candidateList.getCandidateList().size(), filePath));
+    }
+
+    private long timeSave() {
+        long start = System.nanoTime();
+        logic.saveChanges();
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * How many commands a batch ran, how many of them failed, how often the changes were saved, and how long it took.
+     */
+    public record Statistics(int commandCount, int failedCount, int saveCount, Duration elapsed,
+            Duration saveTime) {
+
+        /**
+         * Returns the number of commands run per second, including the time spent saving.
+         */
+        public double commandsPerSecond() {
+            long nanos = Math.max(1, elapsed.toNanos());
+            return commandCount * 1e9 / nanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Ran %1$d commands (%2$d failed) in %3$d ms: %4$.0f commands/s."
+                    + " Saved %5$d times in %6$d ms.", commandCount, failedCount, elapsed.toMillis(),
+                    commandsPerSecond(), saveCount, saveTime.toMillis());
+        }
+    }
+}
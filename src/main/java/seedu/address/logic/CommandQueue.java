@@ -0,0 +1,101 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.CommandResult;
+
+/**
+ * Executes commands with a {@code Logic} on a dedicated background thread, so that the JavaFX application thread
+ * is never blocked by parsing, changing the candidate list, filtering or sorting it.
+ * Commands, and any other tasks given to the queue, run one at a time in the order they are submitted.
+ */
+public class CommandQueue {
+    private static final Logger logger = LogsCenter.getLogger(CommandQueue.class);
+
+    private final Logic logic;
+    private final ExecutorService executor;
+
+    /**
+     * Creates a {@code CommandQueue} that executes commands with {@code logic}.
+     */
+    public CommandQueue(Logic logic) {
+        requireNonNull(logic);
+        this.logic = logic;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "findr-command-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queues {@code commandText} to be executed after every command and task submitted before it.
+     *
+     * @return a future that completes, on the background thread, with the result of the command, or with the
+     *     {@code CommandException} or {@code ParseException} it throws.
+     * @see Logic#execute(String)
+     */
+    public CompletableFuture<CommandResult> submit(String commandText) {
+        requireNonNull(commandText);
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return logic.execute(commandText);
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    /**
+     * Queues {@code task} to be run after every command and task submitted before it, on the same thread as the
+     * commands, such as a task that must not run while a command is changing the candidate list.
+     *
+     * @return a future that completes, on the background thread, once the task has run.
+     */
+    public CompletableFuture<Void> submit(Runnable task) {
+        requireNonNull(task);
+        return CompletableFuture.runAsync(task, executor);
+    }
+
+    /**
+     * Queues {@code task} to be run after every command and task submitted before it, on the same thread as the
+     * commands, such as a task that reads the candidate list while no command is changing it.
+     *
+     * @return a future that completes, on the background thread, with what the task returns once it has run.
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        requireNonNull(task);
+        return CompletableFuture.supplyAsync(task, executor);
+    }
+
+    /**
+     * Returns the exception that a future returned by this queue failed with, without the
+     * {@code CompletionException} that may wrap it.
+     */
+    public static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    /**
+     * Waits for the commands and tasks already submitted to finish, and stops the background thread.
+     */
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                logger.warning("Gave up waiting for queued commands to finish.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
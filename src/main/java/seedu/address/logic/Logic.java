@@ -1,14 +1,18 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyFindr;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Stage;
 import seedu.address.storage.Storage;
 
 /**
@@ -24,6 +28,18 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command against the model that {@code modelView} makes of this logic's model, and returns the
+     * result. The changes the command makes through that model are saved as with {@link #execute(String)}.
+     * @param commandText The command as entered by the user.
+     * @param modelView Returns the model to execute the command against, which must make every change to the
+     *     candidate list through the model it is given.
+     * @return the result of the command execution.
+     * @throws CommandException If an error occurs during command execution.
+     * @throws ParseException If an error occurs during parsing.
+     */
+    CommandResult execute(String commandText, UnaryOperator<Model> modelView) throws CommandException, ParseException;
+
     /**
      * Returns the Candidate List.
      *
@@ -34,6 +50,9 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getObservableCandidateList();
 
+    /** Returns an unmodifiable view of the displayed candidates in {@code stage} */
+    ObservableList<Person> getStageCandidateList(Stage stage);
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -53,4 +72,47 @@ public interface Logic {
      * Returns the storage component.
      */
     Storage getStorage();
+
+    /**
+     * Returns the history of commands entered, which saves each command added to it in the background.
+     */
+    SearchHistory getSearchHistory();
+
+    /**
+     * Sets the handler that receives an error message whenever saving the candidate list fails.
+     * Saves happen in the background, so the handler is not called on the JavaFX application thread.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
+    /**
+     * Returns true if the candidate list is still being loaded, in which case only commands that do not change it
+     * can be executed.
+     */
+    boolean isLoading();
+
+    /**
+     * Replaces the empty candidate list that a loading logic starts with by {@code candidateList}, once it has been
+     * loaded, and from then on executes every command and saves the changes made.
+     * Must be called on the thread that executes commands.
+     *
+     * @throws IllegalStateException if the candidate list is not loading.
+     */
+    void finishLoading(ReadOnlyFindr candidateList);
+
+    /**
+     * Sets whether saving is deferred. While it is, the changes made by each command are only saved when
+     * {@link #saveChanges()} is called, instead of after every command.
+     */
+    void setSavingDeferred(boolean isSavingDeferred);
+
+    /**
+     * Saves every change made to the candidate list that has not been saved yet, and blocks until it is written.
+     * Does nothing while the candidate list is loading.
+     */
+    void saveChanges();
+
+    /**
+     * Writes any pending changes and search history to storage and stops background saving.
+     */
+    void shutdown();
 }
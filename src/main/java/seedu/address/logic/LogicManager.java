@@ -1,22 +1,33 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.FindrParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.FindrMutation;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyFindr;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Stage;
+import seedu.address.storage.SearchHistorySaver;
 import seedu.address.storage.Storage;
+import seedu.address.storage.WriteBehindSaver;
 
 /**
  * The main LogicManager of the app.
@@ -32,35 +43,133 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final FindrParser findrParser;
+    // Null while loading; set on the command thread, and read by isLoading() from any thread
+    private volatile WriteBehindSaver saver;
+    private final SearchHistorySaver historySaver;
+    private final SearchHistory searchHistory;
+    private final List<FindrMutation> unsavedMutations = new ArrayList<>();
+    private long savedVersion;
+    private boolean isSavingDeferred;
+    private volatile Consumer<String> saveFailureHandler = message -> {};
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Changes made by each command, and commands added to the search history, are saved to {@code storage} in the
+     * background.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, false);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which is loading the
+     * candidate list if {@code isLoading} is true.
+     * While loading, {@code model} holds no candidates yet, and commands that would change the candidate list are
+     * rejected until {@link #finishLoading(ReadOnlyFindr)} is called.
+     */
+    public LogicManager(Model model, Storage storage, boolean isLoading) {
         this.model = model;
         this.storage = storage;
         findrParser = new FindrParser();
+        model.addMutationListener(unsavedMutations::add);
+        if (!isLoading) {
+            startSaving();
+        }
+        historySaver = new SearchHistorySaver(storage);
+        searchHistory = new SearchHistory(model.getUserPrefs().getSearchHistoryCapacity(), readSearchHistory(),
+                historySaver::save);
+    }
+
+    /**
+     * Starts saving changes made to the candidate list from its current state on.
+     */
+    private void startSaving() {
+        unsavedMutations.clear();
+        savedVersion = model.getCandidateListVersion();
+        saver = new WriteBehindSaver(storage, model.getCandidateList());
+        saver.setFailureHandler(e -> saveFailureHandler.accept(describeSaveFailure(e)));
+    }
+
+    private List<String> readSearchHistory() {
+        try {
+            return storage.readSearchHistory().orElse(List.of());
+        } catch (DataLoadingException e) {
+            logger.warning("Search history file at " + storage.getSearchHistoryFilePath() + " could not be loaded."
+                    + " Will be starting with an empty search history.");
+            return List.of();
+        }
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
+        return execute(commandText, UnaryOperator.identity());
+    }
+
+    @Override
+    public CommandResult execute(String commandText, UnaryOperator<Model> modelView)
+            throws CommandException, ParseException {
+        requireNonNull(modelView);
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
         CommandResult commandResult;
         Command command = findrParser.parseCommand(commandText);
-        commandResult = command.execute(model);
-
+        if (isLoading() && !command.isReadOnly()) {
+            throw new CommandException(Messages.MESSAGE_STILL_LOADING);
+        }
+        Model commandModel = modelView.apply(model);
+        long version = model.getCandidateListVersion();
+        int earlierMutationCount = unsavedMutations.size();
         try {
-            storage.saveCandidateList(model.getCandidateList());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            commandResult = command.execute(commandModel);
+        } catch (CommandException | RuntimeException e) {
+            if (model.getCandidateListVersion() != version) {
+                rollBack(earlierMutationCount);
+            }
+            throw e;
+        }
+
+        if (!isSavingDeferred) {
+            saveUnsavedMutations();
         }
 
         return commandResult;
     }
 
+    /**
+     * Hands the changes made since the last save to the saver, if there are any.
+     */
+    private void saveUnsavedMutations() {
+        long version = model.getCandidateListVersion();
+        if (!isLoading() && version != savedVersion) {
+            savedVersion = version;
+            saver.save(List.copyOf(unsavedMutations));
+            unsavedMutations.clear();
+        }
+    }
+
+    /**
+     * Undoes the changes made by a command that failed after changing the candidate list, which are the unsaved
+     * changes from {@code earlierMutationCount} on, so that they are neither displayed nor saved with a later command.
+     * The earlier unsaved changes are saved at once, even if saving is deferred, and the candidate list is restored
+     * from the saver's copy of it.
+     */
+    private void rollBack(int earlierMutationCount) {
+        logger.warning("Command failed after changing the candidate list; undoing its changes.");
+        List<FindrMutation> earlierMutations = List.copyOf(unsavedMutations.subList(0, earlierMutationCount));
+        unsavedMutations.clear();
+        saver.save(earlierMutations);
+        model.setAddressBook(saver.copySaved());
+        unsavedMutations.clear();
+        savedVersion = model.getCandidateListVersion();
+    }
+
+    private static String describeSaveFailure(IOException e) {
+        if (e instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, e.getMessage());
+    }
+
     @Override
     public ReadOnlyFindr getCandidateList() {
         return model.getCandidateList();
@@ -71,6 +180,11 @@ public class LogicManager implements Logic {
         return model.getObservableCandidateList();
     }
 
+    @Override
+    public ObservableList<Person> getStageCandidateList(Stage stage) {
+        return model.getStageCandidateList(stage);
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
@@ -90,4 +204,53 @@ public class LogicManager implements Logic {
     public Storage getStorage() {
         return storage;
     }
+
+    @Override
+    public SearchHistory getSearchHistory() {
+        return searchHistory;
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    @Override
+    public boolean isLoading() {
+        return saver == null;
+    }
+
+    @Override
+    public void finishLoading(ReadOnlyFindr candidateList) {
+        requireNonNull(candidateList);
+        if (!isLoading()) {
+            throw new IllegalStateException("The candidate list has already been loaded.");
+        }
+
+        model.setAddressBook(candidateList);
+        startSaving();
+    }
+
+    @Override
+    public void setSavingDeferred(boolean isSavingDeferred) {
+        this.isSavingDeferred = isSavingDeferred;
+    }
+
+    @Override
+    public void saveChanges() {
+        saveUnsavedMutations();
+        if (saver != null) {
+            saver.flush();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        saveUnsavedMutations();
+        if (saver != null) {
+            saver.shutdown();
+        }
+        historySaver.shutdown();
+    }
 }
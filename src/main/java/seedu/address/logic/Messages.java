@@ -16,6 +16,8 @@ public class Messages {
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s.";
     public static final String MESSAGE_INVALID_CANDIDATE_DISPLAYED_INDEX = "The candidate index provided is invalid.";
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d candidates listed!";
+    public static final String MESSAGE_STILL_LOADING =
+            "The candidate list is still loading. Please try this command again in a moment.";
     public static final String MESSAGE_DUPLICATE_FIELDS =
                 "Multiple values specified for the following single-valued field(s): ";
 
@@ -0,0 +1,88 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * The most recently entered commands, up to a fixed capacity, for recalling them in the command box.
+ *
+ * The commands are kept in a ring buffer, so adding one takes constant time however large the capacity is, and the
+ * oldest command is overwritten once the history is full. Each command added is also handed to a listener, which
+ * saves it.
+ */
+public class SearchHistory {
+
+    private final String[] commands;
+    private final Consumer<String> onAdd;
+    private int oldest;
+    private int size;
+
+    /**
+     * Creates a {@code SearchHistory} of {@code capacity} commands, starting with the most recent of
+     * {@code savedCommands}, and passes each command added from then on to {@code onAdd}.
+     */
+    public SearchHistory(int capacity, List<String> savedCommands, Consumer<String> onAdd) {
+        checkArgument(capacity > 0, "Capacity must be positive.");
+        requireAllNonNull(savedCommands, onAdd);
+        this.commands = new String[capacity];
+        this.onAdd = onAdd;
+        savedCommands.forEach(this::push);
+    }
+
+    public int getCapacity() {
+        return commands.length;
+    }
+
+    /**
+     * Returns the number of commands in the history.
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the command entered {@code age} commands before the most recent one, which is of age 0.
+     *
+     * @throws IndexOutOfBoundsException if {@code age} is negative or not less than {@link #size()}.
+     */
+    public String getRecent(int age) {
+        Objects.checkIndex(age, size);
+        return commands[(oldest + size - 1 - age) % commands.length];
+    }
+
+    /**
+     * Adds {@code command} as the most recent command and passes it on to be saved.
+     * Blank commands, and commands that repeat the most recent one, are not added.
+     *
+     * @return true if the command was added.
+     */
+    public boolean add(String command) {
+        requireNonNull(command);
+        if (command.isBlank() || (size > 0 && getRecent(0).equals(command))) {
+            return false;
+        }
+
+        push(command);
+        onAdd.accept(command);
+        return true;
+    }
+
+    private void push(String command) {
+        if (size < commands.length) {
+            commands[(oldest + size) % commands.length] = command;
+            size++;
+        } else {
+            commands[oldest] = command;
+            oldest = (oldest + 1) % commands.length;
+        }
+    }
+}
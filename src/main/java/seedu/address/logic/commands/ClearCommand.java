@@ -2,8 +2,8 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import seedu.address.model.Findr;
 import seedu.address.model.Model;
@@ -54,9 +54,7 @@ public class ClearCommand extends Command {
             model.setAddressBook(new Findr());
             return new CommandResult(MESSAGE_SUCCESS_ALL);
         } else {
-            List<Person> candidatesToDelete = model.getObservableCandidateList().stream()
-                    .filter(person -> person.getStage().equals(stage))
-                    .collect(Collectors.toList());
+            List<Person> candidatesToDelete = new ArrayList<>(model.getStageCandidateList(stage));
 
             for (Person person : candidatesToDelete) {
                 model.deleteCandidate(person);
@@ -17,4 +17,12 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if the command never changes the candidate list, so that it can be executed while the candidate
+     * list is still loading.
+     */
+    public boolean isReadOnly() {
+        return false;
+    }
+
 }
@@ -4,7 +4,6 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
@@ -52,10 +51,7 @@ public class DeleteCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        // Filter the full list to get only persons in the specified fromStage
-        List<Person> targetList = model.getObservableCandidateList().stream()
-                .filter(person -> person.getStage().equals(fromStage))
-                .collect(Collectors.toList());
+        List<Person> targetList = model.getStageCandidateList(fromStage);
 
         if (targetIndex.getZeroBased() >= targetList.size()) {
             throw new CommandException(Messages.MESSAGE_INVALID_CANDIDATE_DISPLAYED_INDEX);
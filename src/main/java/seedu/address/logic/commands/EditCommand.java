@@ -79,12 +79,7 @@ public class EditCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Person> lastShownList = model.getObservableCandidateList();
-
-        // Filter candidates by the specified stage
-        List<Person> targetList = lastShownList.stream()
-                .filter(person -> person.getStage().equals(fromStage))
-                .toList();
+        List<Person> targetList = model.getStageCandidateList(fromStage);
 
         if (targetList.isEmpty()) {
             throw new CommandException(String.format(MESSAGE_EMPTY_STAGE, fromStage));
@@ -5,10 +5,11 @@ import static java.util.Objects.requireNonNull;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
-import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.CandidateQuery;
 
 /**
- * Finds and lists all candidates in the candidates list whose name contains any of the argument keywords.
+ * Finds and lists all candidates in the candidates list whose fields contain the argument keywords, as combined by
+ * a {@code CandidateQuery}.
  * Keyword matching is case-insensitive.
  */
 public class FindCommand extends Command {
@@ -17,15 +18,27 @@ public class FindCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all candidates whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Prefix a keyword with n/, e/, a/ or t/ to search the name, email, address or tags instead, and end it "
+            + "with * to match the start of a word, or wrap it in * to match any part of the field. End a keyword "
+            + "with ~ to also match words one edit away, or ~2 or ~3 for more, closest first. Keywords match if any "
+            + "of them does, or all of those joined by AND.\n"
+            + "Parameters: [FIELD/][*]KEYWORD[*|~[EDITS]] [[AND|OR] [FIELD/][*]KEYWORD[*|~[EDITS]]]...\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " t/java AND e/gmail.com OR n/ali*\n"
+            + "Example: " + COMMAND_WORD + " e/*gmail* AND a/*clementi*\n"
+            + "Example: " + COMMAND_WORD + " jonathon~ OR tann~2";
 
-    private final NameContainsKeywordsPredicate predicate;
+    private final CandidateQuery predicate;
 
-    public FindCommand(NameContainsKeywordsPredicate predicate) {
+    public FindCommand(CandidateQuery predicate) {
         this.predicate = predicate;
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
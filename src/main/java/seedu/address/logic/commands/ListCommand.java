@@ -15,6 +15,11 @@ public class ListCommand extends Command {
     public static final String MESSAGE_SUCCESS = "Listed all persons.";
 
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
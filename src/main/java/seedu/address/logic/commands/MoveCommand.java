@@ -5,7 +5,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
@@ -67,10 +66,7 @@ public class MoveCommand extends Command {
             throw new CommandException(MESSAGE_SAME_STAGE);
         }
 
-        // Filter the full list to get only persons in the specified fromStage
-        List<Person> personsInFromStage = model.getObservableCandidateList().stream()
-                .filter(person -> person.getStage().equals(fromStage))
-                .collect(Collectors.toList());
+        List<Person> personsInFromStage = model.getStageCandidateList(fromStage);
 
         // Check if index is valid for this stage
         if (targetIndex.getZeroBased() >= personsInFromStage.size()) {
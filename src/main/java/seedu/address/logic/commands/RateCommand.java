@@ -73,11 +73,9 @@ public class RateCommand extends Command {
         requireAllNonNull(model);
         logger.info(String.format("Executing RateCommand: index=%s, stage=%s, rating=%s", index, fromStage, rating));
 
-        List<Person> targetList = model.getObservableCandidateList().stream()
-                .filter(person -> person.getStage().equals(fromStage))
-                .collect(java.util.stream.Collectors.toList());
+        List<Person> targetList = model.getStageCandidateList(fromStage);
 
-        logger.fine(String.format("Filtered %d candidates for stage %s", targetList.size(), fromStage));
+        logger.fine(String.format("Found %d candidates for stage %s", targetList.size(), fromStage));
 
         if (index.getZeroBased() >= targetList.size()) {
             logger.warning(String.format("Invalid index %s for stage %s", index, fromStage));
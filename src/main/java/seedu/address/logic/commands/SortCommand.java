@@ -40,6 +40,11 @@ public class SortCommand extends Command {
         this.comparator = comparator;
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
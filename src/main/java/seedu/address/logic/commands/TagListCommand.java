@@ -25,6 +25,11 @@ public class TagListCommand extends Command {
 
     public static final String MESSAGE_TAGS_LISTED = "%1$d tags in the tag list:%n%2$s";
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
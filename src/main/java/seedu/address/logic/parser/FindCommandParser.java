@@ -1,21 +1,54 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.CandidateQuery;
+import seedu.address.model.person.CandidateQuery.Match;
+import seedu.address.model.person.CandidateQuery.Term;
+import seedu.address.model.person.SearchField;
 
 /**
  * Parses input arguments and creates a new FindCommand object
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    public static final String OPERATOR_AND = "AND";
+    public static final String OPERATOR_OR = "OR";
+    public static final String WILDCARD = "*";
+    public static final String FUZZY_MARKER = "~";
+    public static final int DEFAULT_MAX_EDIT_DISTANCE = 1;
+    public static final int MAX_EDIT_DISTANCE = 3;
+    public static final String MESSAGE_INVALID_EDIT_DISTANCE = "The number of edits after " + FUZZY_MARKER
+            + " must be from 1 to " + MAX_EDIT_DISTANCE + ".";
+
+    // A keyword ending with the fuzzy marker, and optionally the most edits its words may be from those matched
+    private static final Pattern FUZZY_KEYWORD_FORMAT =
+            Pattern.compile("(?<keyword>.+)" + Pattern.quote(FUZZY_MARKER) + "(?<maxDistance>\\d*)");
+
+    private static final Map<Prefix, SearchField> FIELDS_BY_PREFIX = Map.of(
+            PREFIX_NAME, SearchField.NAME,
+            PREFIX_EMAIL, SearchField.EMAIL,
+            PREFIX_ADDRESS, SearchField.ADDRESS,
+            PREFIX_TAG, SearchField.TAG);
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
+     * Keywords next to each other match if either does, as if joined by {@code OR}, and {@code AND} binds tighter
+     * than {@code OR}.
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
@@ -25,9 +58,95 @@ public class FindCommandParser implements Parser<FindCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        List<List<Term>> alternatives = new ArrayList<>();
+        List<Term> terms = new ArrayList<>();
+        boolean isAfterOperator = true; // Nothing may come before the first keyword, as if after an operator
+        for (String word : trimmedArgs.split("\\s+")) {
+            boolean isOperator = word.equals(OPERATOR_AND) || word.equals(OPERATOR_OR);
+            if (isOperator && isAfterOperator) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            }
+            if (word.equals(OPERATOR_OR) || !isOperator && !isAfterOperator) {
+                alternatives.add(terms);
+                terms = new ArrayList<>();
+            }
+            if (!isOperator) {
+                terms.add(parseTerm(word));
+            }
+            isAfterOperator = isOperator;
+        }
+        if (isAfterOperator) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        alternatives.add(terms);
+
+        return new FindCommand(new CandidateQuery(alternatives));
+    }
 
-        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+    /**
+     * Parses {@code keyword}, with an optional field prefix, into a {@code Term}. A keyword ending with
+     * {@value #WILDCARD} matches words starting with it, and one also starting with {@value #WILDCARD} matches
+     * anywhere in the field. A keyword ending with {@value #FUZZY_MARKER}, and optionally a number of edits, matches
+     * words up to that many edits, or {@value #DEFAULT_MAX_EDIT_DISTANCE}, away.
+     * @throws ParseException if the keyword has nothing to search for in its field, starts with {@value #WILDCARD}
+     *     but does not end with it, or has both {@value #WILDCARD} and {@value #FUZZY_MARKER}, or too many edits
+     */
+    private static Term parseTerm(String keyword) throws ParseException {
+        SearchField field = SearchField.NAME;
+        for (Map.Entry<Prefix, SearchField> entry : FIELDS_BY_PREFIX.entrySet()) {
+            String prefix = entry.getKey().getPrefix();
+            if (keyword.startsWith(prefix)) {
+                field = entry.getValue();
+                keyword = keyword.substring(prefix.length());
+                break;
+            }
+        }
+
+        Matcher fuzzyMatcher = FUZZY_KEYWORD_FORMAT.matcher(keyword);
+        if (fuzzyMatcher.matches()) {
+            return parseFuzzyTerm(field, fuzzyMatcher.group("keyword"), fuzzyMatcher.group("maxDistance"));
+        }
+
+        Match match = Match.WORD;
+        if (keyword.startsWith(WILDCARD)) {
+            if (keyword.length() < 2 * WILDCARD.length() + 1 || !keyword.endsWith(WILDCARD)) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            }
+            return Term.of(field, keyword.substring(WILDCARD.length(), keyword.length() - WILDCARD.length()),
+                    Match.SUBSTRING);
+        } else if (keyword.endsWith(WILDCARD)) {
+            match = Match.PREFIX;
+            keyword = keyword.substring(0, keyword.length() - WILDCARD.length());
+        }
+
+        List<String> words = field.tokenize(keyword);
+        if (words.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        return new Term(field, words, match);
+    }
+
+    private static Term parseFuzzyTerm(SearchField field, String keyword, String maxDistanceText)
+            throws ParseException {
+        int maxDistance = DEFAULT_MAX_EDIT_DISTANCE;
+        if (!maxDistanceText.isEmpty()) {
+            if (!StringUtil.isNonZeroUnsignedInteger(maxDistanceText)
+                    || Integer.parseInt(maxDistanceText) > MAX_EDIT_DISTANCE) {
+                throw new ParseException(MESSAGE_INVALID_EDIT_DISTANCE);
+            }
+            maxDistance = Integer.parseInt(maxDistanceText);
+        }
+
+        List<String> words = field.tokenize(keyword);
+        if (keyword.contains(WILDCARD) || words.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        return new Term(field, words, Match.FUZZY, maxDistance);
     }
 
 }
@@ -0,0 +1,99 @@
+package seedu.address.logic.parser;
+
+import java.util.Arrays;
+
+/**
+ * A trie of the prefixes an arguments string is tokenized with, which finds every one of them that starts at a given
+ * position of the string in a single walk, however many prefixes there are.
+ */
+class PrefixTrie {
+
+    private final Prefix[] prefixes;
+    private final Node root = new Node(new int[0]);
+
+    /**
+     * Creates a trie of {@code prefixes}, which may repeat and may be prefixes of each other.
+     */
+    PrefixTrie(Prefix... prefixes) {
+        this.prefixes = prefixes.clone();
+        for (int i = 0; i < prefixes.length; i++) {
+            String prefix = prefixes[i].getPrefix();
+            Node node = root;
+            for (int j = 0; j < prefix.length(); j++) {
+                node = node.getOrAddChild(prefix.charAt(j));
+            }
+            node.addMatch(i);
+        }
+    }
+
+    /**
+     * Returns the prefix at {@code index} in the prefixes this trie was created with.
+     */
+    Prefix getPrefix(int index) {
+        return prefixes[index];
+    }
+
+    /**
+     * Returns the indices, among the prefixes this trie was created with, of those that occur in {@code string} at
+     * {@code start}, in ascending order. The returned array must not be modified.
+     */
+    int[] findMatches(String string, int start) {
+        Node node = root;
+        for (int i = start; i < string.length(); i++) {
+            Node child = node.getChild(string.charAt(i));
+            if (child == null) {
+                break;
+            }
+            node = child;
+        }
+        return node.matches;
+    }
+
+    /**
+     * A node of the trie, standing for the string spelt out on the way to it from the root.
+     */
+    private static class Node {
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+
+        // The prefixes that are this node's string or a prefix of it, so that a walk need only look at its last node
+        private int[] matches;
+
+        Node(int[] matches) {
+            this.matches = matches;
+        }
+
+        Node getChild(char key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        Node getOrAddChild(char key) {
+            Node child = getChild(key);
+            if (child == null) {
+                child = new Node(matches);
+                keys = Arrays.copyOf(keys, keys.length + 1);
+                keys[keys.length - 1] = key;
+                children = Arrays.copyOf(children, children.length + 1);
+                children[children.length - 1] = child;
+            }
+            return child;
+        }
+
+        /**
+         * Records that the prefix at {@code index}, which is greater than that of any prefix recorded before it, is
+         * this node's string, and so occurs wherever the string of any node below this one does.
+         */
+        void addMatch(int index) {
+            matches = Arrays.copyOf(matches, matches.length + 1);
+            matches[matches.length - 1] = index;
+            for (Node child : children) {
+                child.addMatch(index);
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.address.model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * A Burkhard-Keller tree of words, which finds the words within an edit distance of a given word without working out
+ * its distance to every word.
+ *
+ * Each child of a node is at a different {@link StringUtil#editDistance edit distance} from the node's word, and holds
+ * the words at that distance from it. As edit distance obeys the triangle inequality, a word within {@code d} of the
+ * word looked up can only be under a child whose distance is within {@code d} of the node's own distance from it, so
+ * the other children are skipped.
+ */
+class BkTree {
+
+    private Node root;
+    private int size;
+
+    /**
+     * Adds {@code word}, if it is not in the tree already.
+     */
+    void add(String word) {
+        if (root == null) {
+            root = new Node(word);
+            size++;
+            return;
+        }
+
+        Node node = root;
+        while (true) {
+            int distance = StringUtil.editDistance(word, node.word);
+            if (distance == 0) {
+                return;
+            }
+            Node child = node.getChild(distance);
+            if (child == null) {
+                node.addChild(distance, new Node(word));
+                size++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Returns the number of words in the tree.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the words in the tree within {@code maxDistance} edits of {@code word}, in no particular order.
+     */
+    List<String> findWithin(String word, int maxDistance) {
+        List<String> words = new ArrayList<>();
+        if (root == null) {
+            return words;
+        }
+
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = StringUtil.editDistance(word, node.word);
+            if (distance <= maxDistance) {
+                words.add(node.word);
+            }
+            for (int i = 0; i < node.distances.length; i++) {
+                if (Math.abs(node.distances[i] - distance) <= maxDistance) {
+                    pending.push(node.children[i]);
+                }
+            }
+        }
+        return words;
+    }
+
+    /**
+     * A node of the tree, holding a word and the nodes below it, each at a different distance from the word.
+     */
+    private static class Node {
+        private final String word;
+        private int[] distances = new int[0];
+        private Node[] children = new Node[0];
+
+        Node(String word) {
+            this.word = word;
+        }
+
+        Node getChild(int distance) {
+            for (int i = 0; i < distances.length; i++) {
+                if (distances[i] == distance) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        void addChild(int distance, Node child) {
+            distances = Arrays.copyOf(distances, distances.length + 1);
+            distances[distances.length - 1] = distance;
+            children = Arrays.copyOf(children, children.length + 1);
+            children[children.length - 1] = child;
+        }
+    }
+}
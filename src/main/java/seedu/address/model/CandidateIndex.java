@@ -0,0 +1,216 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.CandidateQuery;
+import seedu.address.model.person.CandidateQuery.Match;
+import seedu.address.model.person.CandidateQuery.Term;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.SearchField;
+
+/**
+ * An inverted index from the words of each {@link SearchField} of a list of candidates to the candidates with those
+ * words, updated one candidate at a time as the list changes, so that a {@link CandidateQuery} takes time in
+ * proportion to the candidates listed under the words it looks up, rather than to the size of the list.
+ * The words of each field are kept in order, so that the words starting with a prefix are next to each other.
+ * Substring terms are looked up in a {@link TrigramIndex}, which is only built at the first query with one, and
+ * fuzzy terms in a {@link BkTree} of the words of their field, which is only built at the first fuzzy query on it.
+ */
+class CandidateIndex {
+
+    private final Map<SearchField, NavigableMap<String, Set<Person>>> candidatesByWord =
+            new EnumMap<>(SearchField.class);
+    // The number of candidates indexed before each indexed candidate, and itself
+    private final Map<Person, Long> indexCounts = new HashMap<>();
+    // The words of each field that has been searched with fuzzy terms, including some no longer indexed
+    private final Map<SearchField, BkTree> wordTrees = new EnumMap<>(SearchField.class);
+    private long indexCount;
+    private TrigramIndex trigramIndex;
+
+    /**
+     * Creates an empty index.
+     */
+    CandidateIndex() {
+        for (SearchField field : SearchField.values()) {
+            candidatesByWord.put(field, new TreeMap<>());
+        }
+    }
+
+    /**
+     * Adds {@code person}, which must not be indexed already, under each word of its fields.
+     */
+    void add(Person person) {
+        indexCount++;
+        indexCounts.put(person, indexCount);
+        for (SearchField field : SearchField.values()) {
+            NavigableMap<String, Set<Person>> index = candidatesByWord.get(field);
+            BkTree wordTree = wordTrees.get(field);
+            for (String word : field.tokensOf(person)) {
+                index.computeIfAbsent(word, unused -> new HashSet<>()).add(person);
+                if (wordTree != null) {
+                    wordTree.add(word);
+                }
+            }
+        }
+        if (trigramIndex != null) {
+            trigramIndex.add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from under each word of its fields, if it is indexed.
+     */
+    void remove(Person person) {
+        if (indexCounts.remove(person) == null) {
+            return;
+        }
+        if (trigramIndex != null) {
+            trigramIndex.remove(person);
+        }
+        for (SearchField field : SearchField.values()) {
+            NavigableMap<String, Set<Person>> index = candidatesByWord.get(field);
+            for (String word : field.tokensOf(person)) {
+                Set<Person> persons = index.get(word);
+                if (persons != null) {
+                    persons.remove(person);
+                    if (persons.isEmpty()) {
+                        index.remove(word);
+                    }
+                }
+            }
+
+            // Words no longer indexed are left in the tree, to be skipped, until they outnumber the others
+            BkTree wordTree = wordTrees.get(field);
+            if (wordTree != null && wordTree.size() > 2 * index.size()) {
+                wordTrees.remove(field);
+            }
+        }
+    }
+
+    /**
+     * Builds the trigram index, and the tree of the words of every field, now rather than at the first query that
+     * needs each of them, so that queries no longer change the index and can be answered from many threads at once.
+     */
+    void buildAll() {
+        getTrigramIndex();
+        for (SearchField field : SearchField.values()) {
+            getWordTree(field);
+        }
+    }
+
+    /**
+     * Returns a predicate that agrees with {@code query} on every person, and answers for the candidates indexed now
+     * with a lookup in the candidates found by {@code query} now. Other persons, such as candidates added or edited
+     * later, are tested against {@code query} directly.
+     */
+    Predicate<Person> matcherFor(CandidateQuery query) {
+        Set<Person> matches = find(query);
+        long lastIndexCount = indexCount;
+        return person -> {
+            Long personIndexCount = indexCounts.get(person);
+            return personIndexCount != null && personIndexCount <= lastIndexCount
+                    ? matches.contains(person)
+                    : query.test(person);
+        };
+    }
+
+    /**
+     * Returns the indexed candidates that match {@code query}.
+     */
+    Set<Person> find(CandidateQuery query) {
+        Set<Person> matches = new HashSet<>();
+        for (List<Term> terms : query.getAlternatives()) {
+            matches.addAll(findAll(terms));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the indexed candidates that meet all of {@code terms}.
+     */
+    private Set<Person> findAll(List<Term> terms) {
+        if (terms.isEmpty()) {
+            return indexCounts.keySet();
+        }
+
+        List<Set<Person>> candidateSets = new ArrayList<>();
+        for (Term term : terms) {
+            if (term.match() == Match.SUBSTRING) {
+                candidateSets.add(getTrigramIndex().find(term));
+                continue;
+            }
+            for (int i = 0; i < term.words().size(); i++) {
+                String word = term.words().get(i);
+                candidateSets.add(term.match() == Match.FUZZY
+                        ? findSimilar(term.field(), word, term.maxDistance())
+                        : find(term.field(), word, term.isPrefixWord(i)));
+            }
+        }
+
+        // Starting from the smallest set, no more candidates are visited than the rarest word has
+        candidateSets.sort(Comparator.comparingInt(Set::size));
+        Set<Person> matches = new HashSet<>(candidateSets.get(0));
+        for (Set<Person> candidateSet : candidateSets.subList(1, candidateSets.size())) {
+            matches.retainAll(candidateSet);
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the indexed candidates with {@code word} among the words of {@code field}, or, if {@code isPrefix}, a
+     * word starting with {@code word}. The returned set must not be modified.
+     */
+    private Set<Person> find(SearchField field, String word, boolean isPrefix) {
+        NavigableMap<String, Set<Person>> index = candidatesByWord.get(field);
+        if (!isPrefix) {
+            return index.getOrDefault(word, Set.of());
+        }
+
+        Set<Person> persons = new HashSet<>();
+        for (Map.Entry<String, Set<Person>> entry : index.tailMap(word, true).entrySet()) {
+            if (!entry.getKey().startsWith(word)) {
+                break;
+            }
+            persons.addAll(entry.getValue());
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the indexed candidates with a word of {@code field} within {@code maxDistance} edits of {@code word}.
+     */
+    private Set<Person> findSimilar(SearchField field, String word, int maxDistance) {
+        NavigableMap<String, Set<Person>> index = candidatesByWord.get(field);
+        Set<Person> persons = new HashSet<>();
+        for (String similarWord : getWordTree(field).findWithin(word, maxDistance)) {
+            persons.addAll(index.getOrDefault(similarWord, Set.of()));
+        }
+        return persons;
+    }
+
+    private BkTree getWordTree(SearchField field) {
+        return wordTrees.computeIfAbsent(field, unused -> {
+            BkTree newWordTree = new BkTree();
+            candidatesByWord.get(field).keySet().forEach(newWordTree::add);
+            return newWordTree;
+        });
+    }
+
+    private TrigramIndex getTrigramIndex() {
+        if (trigramIndex == null) {
+            trigramIndex = new TrigramIndex();
+            indexCounts.keySet().forEach(trigramIndex::add);
+        }
+        return trigramIndex;
+    }
+}
@@ -0,0 +1,107 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import javafx.collections.transformation.SortedList;
+
+/**
+ * A sorted view of a source list that shows the source as it is until it is first given a comparator.
+ * A {@link SortedList} fetches, and holds on to, every element of its source as soon as it is created, which would
+ * build every person of a list whose persons are built only as they are accessed. This view puts that off until a
+ * sort is actually asked for, and then sorts through a {@code SortedList} from that point on.
+ */
+class DeferredSortedList<E> extends ObservableListBase<E> {
+
+    private final ObservableList<E> source;
+    private SortedList<E> sorted;
+
+    /**
+     * Creates an unsorted view of {@code source}.
+     */
+    DeferredSortedList(ObservableList<E> source) {
+        this.source = requireNonNull(source);
+        source.addListener(this::onSourceChanged);
+    }
+
+    /**
+     * Sorts the view with {@code comparator}, or, if it is null, shows the source in its own order again.
+     */
+    void setComparator(Comparator<? super E> comparator) {
+        if (sorted != null) {
+            sorted.setComparator(comparator);
+            return;
+        }
+        if (comparator == null) {
+            return;
+        }
+
+        List<E> unsorted = new ArrayList<>(source);
+        sorted = new SortedList<>(source, comparator);
+        sorted.addListener(this::onSortedChanged);
+        beginChange();
+        try {
+            if (!unsorted.isEmpty()) {
+                nextRemove(0, unsorted);
+                nextAdd(0, size());
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        return sorted == null ? source.get(index) : sorted.get(index);
+    }
+
+    @Override
+    public int size() {
+        return sorted == null ? source.size() : sorted.size();
+    }
+
+    private void onSourceChanged(ListChangeListener.Change<? extends E> change) {
+        // Once sorted, the sorted list reports its own changes, which already take the source's into account
+        if (sorted == null) {
+            forward(change);
+        }
+    }
+
+    private void onSortedChanged(ListChangeListener.Change<? extends E> change) {
+        forward(change);
+    }
+
+    private void forward(ListChangeListener.Change<? extends E> change) {
+        beginChange();
+        try {
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    int[] permutation = new int[change.getTo() - change.getFrom()];
+                    for (int i = 0; i < permutation.length; i++) {
+                        permutation[i] = change.getPermutation(change.getFrom() + i);
+                    }
+                    nextPermutation(change.getFrom(), change.getTo(), permutation);
+                } else if (change.wasUpdated()) {
+                    for (int i = change.getFrom(); i < change.getTo(); i++) {
+                        nextUpdate(i);
+                    }
+                } else {
+                    if (change.wasRemoved()) {
+                        nextRemove(change.getFrom(), change.getRemoved());
+                    }
+                    if (change.wasAdded()) {
+                        nextAdd(change.getFrom(), change.getTo());
+                    }
+                }
+            }
+        } finally {
+            endChange();
+        }
+    }
+}
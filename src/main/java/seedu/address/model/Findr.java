@@ -1,28 +1,56 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.CandidateQuery;
+import seedu.address.model.person.CandidateRecords;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.UniqueTagList;
+import seedu.address.model.tag.exceptions.DuplicateTagException;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ *
+ * An index from case-folded tag names to the candidates holding that tag is kept in sync with the person list, so
+ * that renaming or deleting a tag only touches the candidates that actually hold it. The index is built the first
+ * time a tag is renamed or deleted, so that loading a candidate list does not have to walk every candidate. That
+ * first rename or delete therefore pays a one-off O(n) cost, building every candidate of a lazily loaded list and
+ * indexing the tags of each, after which renames and deletes cost in proportion to the holders of the tag.
+ * Likewise, a {@link CandidateIndex} of the words in the candidates' fields is built the first time the candidates
+ * are searched, and kept in sync from then on.
+ *
+ * Every successful mutation advances a version counter, so that callers can tell whether the data has changed
+ * since they last looked at it, and is reported to mutation listeners as a {@link FindrMutation}.
  */
 public class Findr implements ReadOnlyFindr {
 
     private final UniquePersonList persons;
     private final UniqueTagList tags;
+    // Null until a tag is first renamed or deleted
+    private Map<String, Set<Person>> holdersByTag;
+    // Null until the candidates are first searched
+    private CandidateIndex candidateIndex;
+    private final List<Consumer<? super FindrMutation>> mutationListeners = new ArrayList<>();
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -57,16 +85,78 @@ public class Findr implements ReadOnlyFindr {
                 .map(this::resolveTagsForPerson)
                 .collect(Collectors.toList());
         this.persons.setPersons(resolvedPersons);
+        holdersByTag = null;
+        candidateIndex = null;
+        recordMutation(new FindrMutation.SetCandidates(List.copyOf(resolvedPersons)));
     }
 
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * If {@code newData} is backed by candidate records, this {@code AddressBook} shares them.
      */
     public void resetData(ReadOnlyFindr newData) {
         requireNonNull(newData);
 
-        setTags(newData.getTagList());
-        setPersons(newData.getCandidateList());
+        Optional<CandidateRecords> records = newData.getCandidateRecords();
+        if (records.isPresent()) {
+            loadRecords(newData.getTagList(), records.get());
+        } else {
+            bulkLoad(newData.getTagList(), newData.getCandidateList());
+        }
+    }
+
+    /**
+     * Replaces the tag catalogue with {@code tags} and the person list with {@code persons} in a single pass, for
+     * loading a whole candidate list at once.
+     * The tags of each person are resolved through a name map over the catalogue, with tags missing from it appended
+     * to it, and duplicates are found with hash lookups, so the cost is linear in the number of persons. Each list
+     * is then replaced with a single {@code setAll}. If either list holds duplicates, nothing is changed.
+     *
+     * @throws DuplicateTagException if {@code tags} contains duplicate tags.
+     * @throws DuplicatePersonException if {@code persons} contains duplicate persons.
+     */
+    public void bulkLoad(List<Tag> tags, List<Person> persons) {
+        requireAllNonNull(tags, persons);
+
+        List<Tag> catalogue = new ArrayList<>(tags);
+        Map<String, Tag> tagsByKey = new HashMap<>();
+        for (Tag tag : tags) {
+            if (tagsByKey.putIfAbsent(keyOf(tag), tag) != null) {
+                throw new DuplicateTagException();
+            }
+        }
+
+        List<Person> resolvedPersons = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            resolvedPersons.add(resolveTags(person, tagsByKey, catalogue));
+        }
+
+        // The person list checks for duplicates before changing anything, so it goes first
+        this.persons.setPersons(resolvedPersons);
+        this.tags.setTags(catalogue);
+        holdersByTag = null;
+        candidateIndex = null;
+        recordMutation(new FindrMutation.SetTags(List.copyOf(catalogue)));
+        recordMutation(new FindrMutation.SetCandidates(List.copyOf(resolvedPersons)));
+    }
+
+    /**
+     * Replaces the tag catalogue with {@code tags} and the person list with the candidates in {@code records},
+     * without building any of the candidates, which are built as they are accessed.
+     * The candidates in {@code records} must not contain duplicates, and must hold the instances in {@code tags} of
+     * their tags; neither is checked, as that would mean building every candidate.
+     *
+     * @throws DuplicateTagException if {@code tags} contains duplicate tags.
+     */
+    public void loadRecords(List<Tag> tags, CandidateRecords records) {
+        requireAllNonNull(tags, records);
+
+        this.tags.setTags(tags);
+        this.persons.setRecords(records);
+        holdersByTag = null;
+        candidateIndex = null;
+        recordMutation(new FindrMutation.SetTags(List.copyOf(tags)));
+        recordMutation(new FindrMutation.SetCandidates(records.asList()));
     }
 
     //// person-level operations
@@ -84,7 +174,11 @@ public class Findr implements ReadOnlyFindr {
      * The person must not already exist in the address book.
      */
     public void addCandidate(Person p) {
-        persons.add(resolveTagsForPerson(p));
+        Person resolvedPerson = resolveTagsForPerson(p);
+        persons.add(resolvedPerson);
+        indexTags(resolvedPerson);
+        indexWords(resolvedPerson);
+        recordMutation(new FindrMutation.AddCandidate(resolvedPerson));
     }
 
     /**
@@ -96,6 +190,11 @@ public class Findr implements ReadOnlyFindr {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        unindexTags(target);
+        indexTags(editedPerson);
+        unindexWords(target);
+        indexWords(editedPerson);
+        recordMutation(new FindrMutation.SetCandidate(target, editedPerson));
     }
 
     /**
@@ -104,6 +203,9 @@ public class Findr implements ReadOnlyFindr {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        unindexTags(key);
+        unindexWords(key);
+        recordMutation(new FindrMutation.RemoveCandidate(key));
     }
 
     //// tag-level operations
@@ -114,6 +216,7 @@ public class Findr implements ReadOnlyFindr {
      */
     public void setTags(List<Tag> tags) {
         this.tags.setTags(tags);
+        recordMutation(new FindrMutation.SetTags(List.copyOf(tags)));
     }
 
     /**
@@ -138,6 +241,7 @@ public class Findr implements ReadOnlyFindr {
      */
     public void addTag(Tag tag) {
         tags.add(tag);
+        recordMutation(new FindrMutation.AddTag(tag));
     }
 
     /**
@@ -149,6 +253,7 @@ public class Findr implements ReadOnlyFindr {
         requireNonNull(editedTag);
         tags.setTag(target, editedTag);
         replaceTagAcrossPersons(target, editedTag);
+        recordMutation(new FindrMutation.SetTag(target, editedTag));
     }
 
     /**
@@ -158,45 +263,94 @@ public class Findr implements ReadOnlyFindr {
     public void removeTag(Tag tag) {
         tags.remove(tag);
         replaceTagAcrossPersons(tag, null);
+        recordMutation(new FindrMutation.RemoveTag(tag));
     }
 
+    /**
+     * Replaces {@code target} with {@code replacement} in the tags of every candidate holding {@code target}, or
+     * strips it if {@code replacement} is null. Candidates without the tag are left untouched.
+     */
     private void replaceTagAcrossPersons(Tag target, Tag replacement) {
-        List<Person> updatedPersons = new ArrayList<>();
-        boolean anyChanges = false;
-        for (Person person : persons.asUnmodifiableObservableList()) {
+        if (holdersByTag == null) {
+            // The candidates are about to change anyway, and the index must hold the same instances as the list
+            persons.materialize();
+            holdersByTag = new HashMap<>();
+            persons.forEach(this::indexTags);
+        }
+
+        Set<Person> holders = holdersByTag.get(keyOf(target));
+        if (holders == null) {
+            return;
+        }
+
+        for (Person holder : new ArrayList<>(holders)) {
             Set<Tag> updatedTags = new HashSet<>();
-            boolean tagModified = false;
-            for (Tag existingTag : person.getTags()) {
-                if (existingTag.isSameTag(target)) {
-                    tagModified = true;
-                    if (replacement != null) {
-                        updatedTags.add(replacement);
-                    }
-                } else {
+            for (Tag existingTag : holder.getTags()) {
+                if (!existingTag.isSameTag(target)) {
                     updatedTags.add(existingTag);
                 }
             }
+            if (replacement != null) {
+                updatedTags.add(replacement);
+            }
+
+            Person updatedPerson = new Person(holder.getName(), holder.getPhone(), holder.getEmail(),
+                    holder.getAddress(), updatedTags, holder.getDateAdded(), holder.getRating(),
+                    holder.getStage());
+            persons.setPerson(holder, updatedPerson);
+            unindexTags(holder);
+            indexTags(updatedPerson);
+            unindexWords(holder);
+            indexWords(updatedPerson);
+        }
+    }
+
+    private void indexTags(Person person) {
+        if (holdersByTag == null) {
+            return;
+        }
+        for (Tag tag : person.getTags()) {
+            holdersByTag.computeIfAbsent(keyOf(tag), key -> new HashSet<>()).add(person);
+        }
+    }
 
-            if (tagModified) {
-                anyChanges = true;
-                updatedPersons.add(new Person(person.getName(), person.getPhone(), person.getEmail(),
-                        person.getAddress(), updatedTags, person.getDateAdded(), person.getRating(),
-                        person.getStage()));
-            } else {
-                updatedPersons.add(person);
+    private void unindexTags(Person person) {
+        if (holdersByTag == null) {
+            return;
+        }
+        for (Tag tag : person.getTags()) {
+            String key = keyOf(tag);
+            Set<Person> holders = holdersByTag.get(key);
+            if (holders != null) {
+                holders.remove(person);
+                if (holders.isEmpty()) {
+                    holdersByTag.remove(key);
+                }
             }
         }
+    }
+
+    private void indexWords(Person person) {
+        if (candidateIndex != null) {
+            candidateIndex.add(person);
+        }
+    }
 
-        if (anyChanges) {
-            persons.setPersons(updatedPersons);
+    private void unindexWords(Person person) {
+        if (candidateIndex != null) {
+            candidateIndex.remove(person);
         }
     }
 
+    private static String keyOf(Tag tag) {
+        return tag.tagName.toLowerCase(Locale.ROOT);
+    }
+
     private Person resolveTagsForPerson(Person person) {
         Set<Tag> resolvedTags = new HashSet<>();
         for (Tag tag : person.getTags()) {
             if (!tags.contains(tag)) {
-                tags.add(tag);
+                addTag(tag);
             }
             resolvedTags.add(tags.get(tag));
         }
@@ -205,8 +359,91 @@ public class Findr implements ReadOnlyFindr {
                 person.getStage());
     }
 
+    /**
+     * Returns {@code person} with its tags replaced by their namesakes in {@code tagsByKey}, adding any tag not found
+     * there to both {@code tagsByKey} and {@code catalogue}. Returns {@code person} itself if its tags already are
+     * the catalogue's.
+     */
+    private static Person resolveTags(Person person, Map<String, Tag> tagsByKey, List<Tag> catalogue) {
+        Set<Tag> resolvedTags = new HashSet<>();
+        boolean isAlreadyResolved = true;
+        for (Tag tag : person.getTags()) {
+            Tag resolvedTag = tagsByKey.computeIfAbsent(keyOf(tag), key -> {
+                catalogue.add(tag);
+                return tag;
+            });
+            isAlreadyResolved &= resolvedTag == tag;
+            resolvedTags.add(resolvedTag);
+        }
+        if (isAlreadyResolved) {
+            return person;
+        }
+        return new Person(person.getName(), person.getPhone(), person.getEmail(), person.getAddress(), resolvedTags,
+                person.getDateAdded(), person.getRating(), person.getStage());
+    }
+
+    //// searching
+
+    /**
+     * Returns a predicate that agrees with {@code query} on every person, but answers for the candidates in this
+     * {@code Findr} by looking their words up in an index, rather than by splitting their fields into words.
+     * The predicate stays correct as the candidates change, but is fastest on the candidates there were when it was
+     * created.
+     */
+    public Predicate<Person> matcherFor(CandidateQuery query) {
+        requireNonNull(query);
+        return getCandidateIndex().matcherFor(query);
+    }
+
+    /**
+     * Returns the candidates that match {@code query}, as found in the index.
+     */
+    Set<Person> findCandidates(CandidateQuery query) {
+        requireNonNull(query);
+        return getCandidateIndex().find(query);
+    }
+
+    /**
+     * Builds every candidate, if they are only built as they are accessed, and every index used to look them up, so
+     * that this {@code Findr} can be read and searched from many threads at once, for as long as nothing changes it.
+     */
+    public void prepareForConcurrentReads() {
+        persons.materialize();
+        getCandidateIndex().buildAll();
+    }
+
+    private CandidateIndex getCandidateIndex() {
+        if (candidateIndex == null) {
+            candidateIndex = new CandidateIndex();
+            persons.forEach(candidateIndex::add);
+        }
+        return candidateIndex;
+    }
+
+    //// mutation tracking
+
+    /**
+     * Registers {@code listener} to be notified of every subsequent successful mutation, in order.
+     */
+    public void addMutationListener(Consumer<? super FindrMutation> listener) {
+        requireNonNull(listener);
+        mutationListeners.add(listener);
+    }
+
+    private void recordMutation(FindrMutation mutation) {
+        version++;
+        mutationListeners.forEach(listener -> listener.accept(mutation));
+    }
+
     //// util methods
 
+    /**
+     * Returns a counter that advances whenever this {@code Findr} is modified.
+     */
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
@@ -225,6 +462,11 @@ public class Findr implements ReadOnlyFindr {
         return tags.asUnmodifiableObservableList();
     }
 
+    @Override
+    public Optional<CandidateRecords> getCandidateRecords() {
+        return persons.getRecords();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,100 @@
+package seedu.address.model;
+
+import java.util.List;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A single successful change to a {@link Findr}.
+ * Replaying the mutations of one {@code Findr}, in order, onto another {@code Findr} that held the same data
+ * leaves both holding the same data again.
+ */
+public interface FindrMutation {
+
+    /**
+     * Applies this mutation to {@code findr}.
+     */
+    void applyTo(Findr findr);
+
+    /**
+     * Returns true if this mutation replaces the whole candidate list or tag catalogue.
+     */
+    default boolean isWholesale() {
+        return false;
+    }
+
+    /** A candidate was added. */
+    record AddCandidate(Person person) implements FindrMutation {
+        @Override
+        public void applyTo(Findr findr) {
+            findr.addCandidate(person);
+        }
+    }
+
+    /** The candidate {@code target} was replaced by {@code editedPerson}. */
+    record SetCandidate(Person target, Person editedPerson) implements FindrMutation {
+        @Override
+        public void applyTo(Findr findr) {
+            findr.setPerson(target, editedPerson);
+        }
+    }
+
+    /** A candidate was removed. */
+    record RemoveCandidate(Person person) implements FindrMutation {
+        @Override
+        public void applyTo(Findr findr) {
+            findr.removePerson(person);
+        }
+    }
+
+    /** The whole candidate list was replaced. */
+    record SetCandidates(List<Person> persons) implements FindrMutation {
+        @Override
+        public void applyTo(Findr findr) {
+            findr.setPersons(persons);
+        }
+
+        @Override
+        public boolean isWholesale() {
+            return true;
+        }
+    }
+
+    /** A tag was added to the catalogue. */
+    record AddTag(Tag tag) implements FindrMutation {
+        @Override
+        public void applyTo(Findr findr) {
+            findr.addTag(tag);
+        }
+    }
+
+    /** The tag {@code target} was replaced by {@code editedTag}, on every candidate holding it. */
+    record SetTag(Tag target, Tag editedTag) implements FindrMutation {
+        @Override
+        public void applyTo(Findr findr) {
+            findr.setTag(target, editedTag);
+        }
+    }
+
+    /** A tag was removed from the catalogue and from every candidate holding it. */
+    record RemoveTag(Tag tag) implements FindrMutation {
+        @Override
+        public void applyTo(Findr findr) {
+            findr.removeTag(tag);
+        }
+    }
+
+    /** The whole tag catalogue was replaced. */
+    record SetTags(List<Tag> tags) implements FindrMutation {
+        @Override
+        public void applyTo(Findr findr) {
+            findr.setTags(tags);
+        }
+
+        @Override
+        public boolean isWholesale() {
+            return true;
+        }
+    }
+}
@@ -2,11 +2,13 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Stage;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -54,6 +56,18 @@ public interface Model {
     /** Returns the Candidate List */
     ReadOnlyFindr getCandidateList();
 
+    /**
+     * Returns a counter that advances whenever the candidate list or tag catalogue is modified.
+     * Changes to the filter, sort order or user prefs do not advance it.
+     */
+    long getCandidateListVersion();
+
+    /**
+     * Registers {@code listener} to be notified, in order, of every subsequent change to the candidate list or
+     * tag catalogue.
+     */
+    void addMutationListener(Consumer<? super FindrMutation> listener);
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -81,8 +95,17 @@ public interface Model {
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getObservableCandidateList();
 
+    /**
+     * Returns an unmodifiable view of the candidates in {@code stage}, in the order of the filtered and sorted
+     * candidate list. Looking up a candidate by its position within the stage does not scan the whole list.
+     */
+    ObservableList<Person> getStageCandidateList(Stage stage);
+
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
+     * A {@code CandidateQuery} is answered from an index of the candidates' words, without testing every candidate.
+     * The candidates found by a fuzzy {@code CandidateQuery} are ranked by their distance from it, ahead of the sort
+     * order, until the filter is next updated.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredCandidateList(Predicate<Person> predicate);
@@ -5,15 +5,17 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
-import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.CandidateQuery;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Stage;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -25,7 +27,11 @@ public class ModelManager implements Model {
     private final Findr findr;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
-    private final SortedList<Person> sortedPersons;
+    private final DeferredSortedList<Person> sortedPersons;
+    private final StageViews stageViews;
+    // The order set by the last sort, and the ranking of the candidates found by the current fuzzy search, if any
+    private Comparator<Person> sortComparator;
+    private Comparator<Person> rankComparator;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -33,12 +39,17 @@ public class ModelManager implements Model {
     public ModelManager(ReadOnlyFindr addressBook, ReadOnlyUserPrefs userPrefs) {
         requireAllNonNull(addressBook, userPrefs);
 
-        logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
+        // Printing the address book would build every candidate of one that builds them only as they are accessed
+        logger.fine(() -> "Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.findr = new Findr(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         this.filteredPersons = new FilteredList<>(this.findr.getCandidateList());
-        this.sortedPersons = new SortedList<>(this.filteredPersons);
+        this.sortedPersons = new DeferredSortedList<>(this.filteredPersons);
+        // Until filtered or sorted, the views list the candidates in the same order as the records, if any
+        this.stageViews = this.findr.getCandidateRecords()
+                .map(records -> new StageViews(this.sortedPersons, records::getStage))
+                .orElseGet(() -> new StageViews(this.sortedPersons));
     }
 
     public ModelManager() {
@@ -92,6 +103,16 @@ public class ModelManager implements Model {
         return findr;
     }
 
+    @Override
+    public long getCandidateListVersion() {
+        return findr.getVersion();
+    }
+
+    @Override
+    public void addMutationListener(Consumer<? super FindrMutation> listener) {
+        findr.addMutationListener(listener);
+    }
+
     @Override
     public boolean hasCandidate(Person person) {
         requireNonNull(person);
@@ -162,16 +183,49 @@ public class ModelManager implements Model {
         return sortedPersons;
     }
 
+    @Override
+    public ObservableList<Person> getStageCandidateList(Stage stage) {
+        requireNonNull(stage);
+        return stageViews.get(stage);
+    }
+
     @Override
     public void updateFilteredCandidateList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        Comparator<Person> newRankComparator = null;
+        if (predicate instanceof CandidateQuery) {
+            CandidateQuery query = (CandidateQuery) predicate;
+            if (query.isFuzzy()) {
+                newRankComparator = query.byDistance();
+            }
+            // Looked up in an index of the candidates' words, rather than tested on every candidate's fields
+            predicate = findr.matcherFor(query);
+        }
         filteredPersons.setPredicate(predicate);
+
+        if (newRankComparator != null || rankComparator != null) {
+            rankComparator = newRankComparator;
+            updateComparator();
+        }
     }
 
     @Override
     public void updateSortedCandidateList(Comparator<Person> comparator) {
         requireNonNull(comparator);
-        sortedPersons.setComparator(comparator);
+        sortComparator = comparator;
+        updateComparator();
+    }
+
+    /**
+     * Sorts the candidates by their rank in the current fuzzy search, if any, and then by the last sort, if any.
+     */
+    private void updateComparator() {
+        if (rankComparator == null) {
+            sortedPersons.setComparator(sortComparator);
+        } else {
+            sortedPersons.setComparator(sortComparator == null ? rankComparator
+                    : rankComparator.thenComparing(sortComparator));
+        }
     }
 
     @Override
@@ -1,6 +1,9 @@
 package seedu.address.model;
 
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
+import seedu.address.model.person.CandidateRecords;
 import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
 
@@ -20,4 +23,12 @@ public interface ReadOnlyFindr {
      * This list will not contain any duplicate tags.
      */
     ObservableList<Tag> getTagList();
+
+    /**
+     * Returns the candidate records backing the persons list, if its persons are built only as they are accessed
+     * and none of them have been changed, or {@code Optional.empty()} otherwise.
+     */
+    default Optional<CandidateRecords> getCandidateRecords() {
+        return Optional.empty();
+    }
 }
@@ -15,4 +15,12 @@ public interface ReadOnlyUserPrefs {
 
     Path getSearchHistoryFilePath();
 
+    int getSearchHistoryCapacity();
+
+    boolean isCompactDataFile();
+
+    boolean isMappedDataFile();
+
+    boolean isProgressiveStartup();
+
 }
@@ -0,0 +1,263 @@
+package seedu.address.model;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+import seedu.address.model.person.Stage;
+
+/**
+ * A positional order-statistic tree (an implicit treap) over the stages of a sequence of persons.
+ * Every node tracks how many persons of each {@link Stage} its subtree holds, so that inserting or removing at a
+ * position, finding the position of the i-th person of a stage, and finding the stage-relative rank of a position
+ * all take expected O(log n) time. Only stages are held, so the persons themselves need not be built to be
+ * tracked.
+ */
+class StageOrderTree {
+
+    private static final int STAGE_COUNT = Stage.values().length;
+
+    private final Random random = new Random();
+    private Node root;
+
+    /**
+     * Returns the number of persons in the tree.
+     */
+    int size() {
+        return sizeOf(root);
+    }
+
+    /**
+     * Returns the number of persons in {@code stage}.
+     */
+    int count(Stage stage) {
+        return countOf(root, stage);
+    }
+
+    /**
+     * Returns the stage of the person at {@code position} in the sequence.
+     */
+    Stage get(int position) {
+        checkPosition(position, size());
+        Node node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (position < leftSize) {
+                node = node.left;
+            } else if (position == leftSize) {
+                return node.stage;
+            } else {
+                position -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Returns the position in the sequence of the {@code index}-th (zero-based) person in {@code stage}.
+     */
+    int select(Stage stage, int index) {
+        checkPosition(index, count(stage));
+        Node node = root;
+        int position = 0;
+        while (true) {
+            int leftCount = countOf(node.left, stage);
+            if (index < leftCount) {
+                node = node.left;
+                continue;
+            }
+            index -= leftCount;
+            if (node.stage == stage) {
+                if (index == 0) {
+                    return position + sizeOf(node.left);
+                }
+                index--;
+            }
+            position += sizeOf(node.left) + 1;
+            node = node.right;
+        }
+    }
+
+    /**
+     * Returns the number of persons in {@code stage} that come before {@code position} in the sequence.
+     */
+    int rank(Stage stage, int position) {
+        int result = 0;
+        Node node = root;
+        while (node != null) {
+            int leftSize = sizeOf(node.left);
+            if (position <= leftSize) {
+                node = node.left;
+            } else {
+                result += countOf(node.left, stage) + (node.stage == stage ? 1 : 0);
+                position -= leftSize + 1;
+                node = node.right;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Inserts a person in {@code stage} so that it ends up at {@code position} in the sequence.
+     */
+    void insert(int position, Stage stage) {
+        checkPosition(position, size() + 1);
+        root = insert(root, position, new Node(stage, random.nextInt()));
+    }
+
+    /**
+     * Removes the person at {@code position} in the sequence, and returns its stage.
+     */
+    Stage remove(int position) {
+        Stage removed = get(position);
+        root = remove(root, position);
+        return removed;
+    }
+
+    /**
+     * Replaces the contents of the tree with {@code size} persons, the one at each position being in the stage
+     * {@code stageAt} gives for it, in O(n) time.
+     */
+    void setAll(int size, IntFunction<Stage> stageAt) {
+        // Builds the treap as a Cartesian tree on the right spine, since the positions are already sorted
+        Deque<Node> rightSpine = new ArrayDeque<>();
+        for (int position = 0; position < size; position++) {
+            Node node = new Node(stageAt.apply(position), random.nextInt());
+            Node lastPopped = null;
+            while (!rightSpine.isEmpty() && rightSpine.peek().priority < node.priority) {
+                lastPopped = rightSpine.pop();
+                update(lastPopped);
+            }
+            node.left = lastPopped;
+            if (!rightSpine.isEmpty()) {
+                rightSpine.peek().right = node;
+            }
+            rightSpine.push(node);
+        }
+
+        Node top = null;
+        while (!rightSpine.isEmpty()) {
+            top = rightSpine.pop();
+            update(top);
+        }
+        root = top;
+    }
+
+    private Node insert(Node node, int position, Node newNode) {
+        if (node == null) {
+            return newNode;
+        }
+
+        if (newNode.priority > node.priority) {
+            Node[] halves = split(node, position);
+            newNode.left = halves[0];
+            newNode.right = halves[1];
+            update(newNode);
+            return newNode;
+        }
+
+        int leftSize = sizeOf(node.left);
+        if (position <= leftSize) {
+            node.left = insert(node.left, position, newNode);
+        } else {
+            node.right = insert(node.right, position - leftSize - 1, newNode);
+        }
+        update(node);
+        return node;
+    }
+
+    private Node remove(Node node, int position) {
+        int leftSize = sizeOf(node.left);
+        if (position == leftSize) {
+            return merge(node.left, node.right);
+        }
+
+        if (position < leftSize) {
+            node.left = remove(node.left, position);
+        } else {
+            node.right = remove(node.right, position - leftSize - 1);
+        }
+        update(node);
+        return node;
+    }
+
+    /**
+     * Splits {@code node} into a tree of its first {@code count} persons and a tree of the rest.
+     */
+    private Node[] split(Node node, int count) {
+        if (node == null) {
+            return new Node[] {null, null};
+        }
+
+        int leftSize = sizeOf(node.left);
+        if (count <= leftSize) {
+            Node[] halves = split(node.left, count);
+            node.left = halves[1];
+            update(node);
+            return new Node[] {halves[0], node};
+        } else {
+            Node[] halves = split(node.right, count - leftSize - 1);
+            node.right = halves[0];
+            update(node);
+            return new Node[] {node, halves[1]};
+        }
+    }
+
+    private Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        } else {
+            right.left = merge(left, right.left);
+            update(right);
+            return right;
+        }
+    }
+
+    private static void update(Node node) {
+        node.size = 1 + sizeOf(node.left) + sizeOf(node.right);
+        for (int i = 0; i < STAGE_COUNT; i++) {
+            node.stageCounts[i] = (node.left == null ? 0 : node.left.stageCounts[i])
+                    + (node.right == null ? 0 : node.right.stageCounts[i]);
+        }
+        node.stageCounts[node.stage.ordinal()]++;
+    }
+
+    private static int sizeOf(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int countOf(Node node, Stage stage) {
+        return node == null ? 0 : node.stageCounts[stage.ordinal()];
+    }
+
+    private static void checkPosition(int position, int bound) {
+        if (position < 0 || position >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + position + ", Size: " + bound);
+        }
+    }
+
+    private static class Node {
+        private final Stage stage;
+        private final int priority;
+        private final int[] stageCounts = new int[STAGE_COUNT];
+        private Node left;
+        private Node right;
+        private int size;
+
+        Node(Stage stage, int priority) {
+            this.stage = stage;
+            this.priority = priority;
+            update(this);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Stage;
+
+/**
+ * Maintains one read-only view per {@link Stage} over a source list of persons, preserving the source order.
+ * The views are backed by a single {@link StageOrderTree} of the stages of the source's persons that is updated
+ * incrementally from the source's change events, so looking up the i-th person of a stage does not need to scan
+ * the source list. The views fetch their persons from the source as they are accessed, and hold none themselves.
+ */
+class StageViews {
+
+    private final ObservableList<Person> source;
+    private final StageOrderTree tree = new StageOrderTree();
+    private final Map<Stage, StageView> views = new EnumMap<>(Stage.class);
+
+    /**
+     * Creates stage views that track {@code source}.
+     */
+    StageViews(ObservableList<Person> source) {
+        this(source, position -> source.get(position).getStage());
+    }
+
+    /**
+     * Creates stage views that track {@code source}, whose persons are currently in the stages given by
+     * {@code stageAt} for each of their positions, so that they need not be fetched to be placed.
+     */
+    StageViews(ObservableList<Person> source, IntFunction<Stage> stageAt) {
+        this.source = source;
+        for (Stage stage : Stage.values()) {
+            views.put(stage, new StageView(stage));
+        }
+        tree.setAll(source.size(), stageAt);
+        source.addListener(this::onSourceChanged);
+    }
+
+    /**
+     * Returns the view of the persons in {@code stage}.
+     */
+    ObservableList<Person> get(Stage stage) {
+        return views.get(stage);
+    }
+
+    private void onSourceChanged(ListChangeListener.Change<? extends Person> change) {
+        views.values().forEach(StageView::startChange);
+        try {
+            while (change.next()) {
+                if (change.wasPermutated() || change.wasUpdated()) {
+                    // A rebuild already reflects every remaining sub-change
+                    rebuild(previousPositionMapping(change));
+                    break;
+                }
+
+                List<? extends Person> removed = change.getRemoved();
+                for (int i = 0; i < removed.size(); i++) {
+                    removeAt(change.getFrom(), removed.get(i));
+                }
+                List<? extends Person> added = change.getAddedSubList();
+                for (int i = 0; i < added.size(); i++) {
+                    insertAt(change.getFrom() + i, added.get(i));
+                }
+            }
+        } finally {
+            views.values().forEach(StageView::finishChange);
+        }
+    }
+
+    private void removeAt(int position, Person removed) {
+        Stage stage = tree.get(position);
+        int stageIndex = tree.rank(stage, position);
+        tree.remove(position);
+        views.get(stage).reportRemoved(stageIndex, removed);
+    }
+
+    private void insertAt(int position, Person person) {
+        Stage stage = person.getStage();
+        tree.insert(position, stage);
+        views.get(stage).reportAdded(tree.rank(stage, position));
+    }
+
+    /**
+     * Returns a function from the position of each person before {@code change}, which permutes or updates persons
+     * in place, to its position in the source now.
+     */
+    private static IntUnaryOperator previousPositionMapping(ListChangeListener.Change<? extends Person> change) {
+        if (!change.wasPermutated()) {
+            return position -> position;
+        }
+        int from = change.getFrom();
+        int to = change.getTo();
+        return position -> position >= from && position < to ? change.getPermutation(position) : position;
+    }
+
+    /**
+     * Rebuilds the tree from the source, reporting every view as replaced.
+     *
+     * @param toCurrentPosition maps the positions the tree still holds to the current positions of their persons.
+     */
+    private void rebuild(IntUnaryOperator toCurrentPosition) {
+        Map<Stage, List<Person>> previous = new EnumMap<>(Stage.class);
+        views.forEach((stage, view) -> {
+            List<Person> persons = new ArrayList<>(view.size());
+            for (int i = 0; i < view.size(); i++) {
+                persons.add(source.get(toCurrentPosition.applyAsInt(tree.select(stage, i))));
+            }
+            previous.put(stage, persons);
+        });
+        tree.setAll(source.size(), position -> source.get(position).getStage());
+        views.forEach((stage, view) -> view.reportReplaced(previous.get(stage)));
+    }
+
+    /**
+     * A read-only list of the persons in one stage, backed by the shared {@link StageOrderTree}.
+     */
+    private class StageView extends ObservableListBase<Person> {
+        private final Stage stage;
+
+        StageView(Stage stage) {
+            this.stage = stage;
+        }
+
+        @Override
+        public Person get(int index) {
+            return source.get(tree.select(stage, index));
+        }
+
+        @Override
+        public int size() {
+            return tree.count(stage);
+        }
+
+        void startChange() {
+            beginChange();
+        }
+
+        void finishChange() {
+            endChange();
+        }
+
+        void reportAdded(int index) {
+            nextAdd(index, index + 1);
+        }
+
+        void reportRemoved(int index, Person removed) {
+            nextRemove(index, removed);
+        }
+
+        void reportReplaced(List<Person> removed) {
+            if (!removed.isEmpty() || size() > 0) {
+                nextReplace(0, size(), removed);
+            }
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.CandidateQuery.Match;
+import seedu.address.model.person.CandidateQuery.Term;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.SearchField;
+
+/**
+ * An index from the trigrams, the runs of three characters, in the case-folded values of each {@link SearchField} of
+ * a list of candidates to the candidates with them, which finds the candidates with a fragment anywhere in a field.
+ * The candidates with every trigram of the fragment are found by intersecting their posting lists, and are then
+ * checked for the fragment itself, as having all its trigrams does not mean having the fragment.
+ *
+ * Each candidate is given an id when it is added, one more than the last, so that each posting list is an array of
+ * ids in ascending order. A candidate removed leaves its ids in the posting lists, to be skipped, until more
+ * candidates have been removed than are left, when the index is built again.
+ */
+class TrigramIndex {
+
+    static final int TRIGRAM_LENGTH = 3;
+
+    private final Map<SearchField, Map<String, PostingList>> postingsByField = new EnumMap<>(SearchField.class);
+    // The candidate with each id, or null if it has been removed
+    private final List<Person> personsById = new ArrayList<>();
+    private final Map<Person, Integer> idsByPerson = new HashMap<>();
+
+    /**
+     * Creates an empty index.
+     */
+    TrigramIndex() {
+        for (SearchField field : SearchField.values()) {
+            postingsByField.put(field, new HashMap<>());
+        }
+    }
+
+    /**
+     * Adds {@code person}, which must not be indexed already, under each trigram of its fields.
+     */
+    void add(Person person) {
+        int id = personsById.size();
+        personsById.add(person);
+        idsByPerson.put(person, id);
+        for (SearchField field : SearchField.values()) {
+            Map<String, PostingList> postings = postingsByField.get(field);
+            for (String value : field.valuesOf(person)) {
+                String foldedValue = StringUtil.foldCase(value);
+                for (int i = 0; i + TRIGRAM_LENGTH <= foldedValue.length(); i++) {
+                    postings.computeIfAbsent(foldedValue.substring(i, i + TRIGRAM_LENGTH), unused -> new PostingList())
+                            .add(id);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes {@code person}, if it is indexed.
+     */
+    void remove(Person person) {
+        Integer id = idsByPerson.remove(person);
+        if (id == null) {
+            return;
+        }
+        personsById.set(id, null);
+
+        int removedCount = personsById.size() - idsByPerson.size();
+        if (removedCount > idsByPerson.size()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Returns the indexed candidates that meet {@code term}, which must be a {@code SUBSTRING} term. The returned set
+     * must not be modified.
+     */
+    Set<Person> find(Term term) {
+        assert term.match() == Match.SUBSTRING;
+        String fragment = term.words().get(0);
+        if (fragment.length() < TRIGRAM_LENGTH) {
+            // Too short to have a trigram of its own, so every candidate is checked
+            Set<Person> matches = new HashSet<>();
+            for (Person person : idsByPerson.keySet()) {
+                if (term.test(person)) {
+                    matches.add(person);
+                }
+            }
+            return matches;
+        }
+
+        Map<String, PostingList> postings = postingsByField.get(term.field());
+        List<PostingList> postingLists = new ArrayList<>();
+        for (int i = 0; i + TRIGRAM_LENGTH <= fragment.length(); i++) {
+            PostingList postingList = postings.get(fragment.substring(i, i + TRIGRAM_LENGTH));
+            if (postingList == null) {
+                return Set.of();
+            }
+            postingLists.add(postingList);
+        }
+
+        // Starting from the shortest list, no more ids are visited than the rarest trigram has
+        postingLists.sort(Comparator.comparingInt(postingList -> postingList.size));
+        int[] ids = Arrays.copyOf(postingLists.get(0).ids, postingLists.get(0).size);
+        int idCount = ids.length;
+        for (PostingList postingList : postingLists.subList(1, postingLists.size())) {
+            idCount = postingList.retainAll(ids, idCount);
+        }
+
+        Set<Person> matches = new HashSet<>();
+        for (int i = 0; i < idCount; i++) {
+            Person person = personsById.get(ids[i]);
+            if (person != null && term.test(person)) {
+                matches.add(person);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Builds the index again from the candidates still indexed, dropping the ids of those removed.
+     */
+    private void rebuild() {
+        List<Person> persons = new ArrayList<>(idsByPerson.keySet());
+        personsById.clear();
+        idsByPerson.clear();
+        postingsByField.values().forEach(Map::clear);
+        persons.forEach(this::add);
+    }
+
+    /**
+     * The ids of the candidates with a trigram, in ascending order, in an array that grows as ids are added.
+     */
+    private static class PostingList {
+        private int[] ids = new int[1];
+        private int size;
+
+        /**
+         * Adds {@code id}, which must be no less than any id added before it. Adding the last id again does nothing,
+         * so that a trigram that occurs more than once in a candidate lists it once.
+         */
+        void add(int id) {
+            if (size > 0 && ids[size - 1] == id) {
+                return;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        /**
+         * Keeps only those of the first {@code count} of {@code otherIds}, which are in ascending order, that are in
+         * this list, moving them to the front of {@code otherIds}, and returns how many there are.
+         */
+        int retainAll(int[] otherIds, int count) {
+            int retainedCount = 0;
+            int from = 0;
+            for (int i = 0; i < count && from < size; i++) {
+                // Both lists are in order, so each search starts after the id found before
+                int found = Arrays.binarySearch(ids, from, size, otherIds[i]);
+                if (found >= 0) {
+                    otherIds[retainedCount++] = otherIds[i];
+                    from = found + 1;
+                } else {
+                    from = -found - 1;
+                }
+            }
+            return retainedCount;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -13,9 +14,17 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_SEARCH_HISTORY_CAPACITY = 50;
+    public static final String MESSAGE_SEARCH_HISTORY_CAPACITY_CONSTRAINTS =
+            "Search history capacity must be a positive number.";
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "findr.json");
     private Path searchHistoryFilePath = Paths.get("data" , "searchhistory.json");
+    private int searchHistoryCapacity = DEFAULT_SEARCH_HISTORY_CAPACITY;
+    private boolean compactDataFile = false;
+    private boolean mappedDataFile = false;
+    private boolean progressiveStartup = false;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -38,6 +47,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
         setSearchHistoryFilePath(newUserPrefs.getSearchHistoryFilePath());
+        setSearchHistoryCapacity(newUserPrefs.getSearchHistoryCapacity());
+        setCompactDataFile(newUserPrefs.isCompactDataFile());
+        setMappedDataFile(newUserPrefs.isMappedDataFile());
+        setProgressiveStartup(newUserPrefs.isProgressiveStartup());
     }
 
     public GuiSettings getGuiSettings() {
@@ -67,6 +80,39 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.searchHistoryFilePath = searchHistoryFilePath;
     }
 
+    public int getSearchHistoryCapacity() {
+        return searchHistoryCapacity;
+    }
+
+    public void setSearchHistoryCapacity(int searchHistoryCapacity) {
+        checkArgument(searchHistoryCapacity > 0, MESSAGE_SEARCH_HISTORY_CAPACITY_CONSTRAINTS);
+        this.searchHistoryCapacity = searchHistoryCapacity;
+    }
+
+    public boolean isCompactDataFile() {
+        return compactDataFile;
+    }
+
+    public void setCompactDataFile(boolean compactDataFile) {
+        this.compactDataFile = compactDataFile;
+    }
+
+    public boolean isMappedDataFile() {
+        return mappedDataFile;
+    }
+
+    public void setMappedDataFile(boolean mappedDataFile) {
+        this.mappedDataFile = mappedDataFile;
+    }
+
+    public boolean isProgressiveStartup() {
+        return progressiveStartup;
+    }
+
+    public void setProgressiveStartup(boolean progressiveStartup) {
+        this.progressiveStartup = progressiveStartup;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -81,12 +127,17 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
                 && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
-                && searchHistoryFilePath.equals(otherUserPrefs.searchHistoryFilePath);
+                && searchHistoryFilePath.equals(otherUserPrefs.searchHistoryFilePath)
+                && searchHistoryCapacity == otherUserPrefs.searchHistoryCapacity
+                && compactDataFile == otherUserPrefs.compactDataFile
+                && mappedDataFile == otherUserPrefs.mappedDataFile
+                && progressiveStartup == otherUserPrefs.progressiveStartup;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath, searchHistoryFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, searchHistoryFilePath, searchHistoryCapacity,
+                compactDataFile, mappedDataFile, progressiveStartup);
     }
 
     @Override
@@ -95,6 +146,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
         sb.append("\nSearch history file location : " + searchHistoryFilePath);
+        sb.append("\nSearch history capacity : " + searchHistoryCapacity);
+        sb.append("\nCompact data file : " + compactDataFile);
+        sb.append("\nMapped data file : " + mappedDataFile);
+        sb.append("\nProgressive startup : " + progressiveStartup);
         return sb.toString();
     }
 
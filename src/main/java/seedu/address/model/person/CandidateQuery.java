@@ -0,0 +1,233 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person} matches a search over the words of its fields, given as alternatives, any one of which
+ * the person must match, each made up of terms, all of which the person must match.
+ *
+ * Testing a person directly splits its fields into words every time. To search a whole candidate list, the model
+ * looks the query up in an index of the words, and of the trigrams of the fields for substring terms, instead.
+ *
+ * A query with {@code FUZZY} terms also ranks the persons it matches, by how many edits their words are from the
+ * words searched for.
+ */
+public class CandidateQuery implements Predicate<Person> {
+    private final List<List<Term>> alternatives;
+
+    /**
+     * Creates a query that matches a person matching every term of any of {@code alternatives}.
+     */
+    public CandidateQuery(List<List<Term>> alternatives) {
+        requireNonNull(alternatives);
+        this.alternatives = alternatives.stream().map(List::copyOf).toList();
+    }
+
+    /**
+     * Returns a query that matches a person whose name has any of {@code keywords} as a word, ignoring case.
+     */
+    public static CandidateQuery anyName(List<String> keywords) {
+        return new CandidateQuery(keywords.stream()
+                .map(keyword -> List.of(Term.of(SearchField.NAME, keyword, Match.WORD)))
+                .toList());
+    }
+
+    public List<List<Term>> getAlternatives() {
+        return alternatives;
+    }
+
+    /**
+     * Returns true if any term of this query is a {@code FUZZY} term, so that the persons it matches are ranked.
+     */
+    public boolean isFuzzy() {
+        return alternatives.stream().flatMap(List::stream).anyMatch(term -> term.match() == Match.FUZZY);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return alternatives.stream().anyMatch(terms -> terms.stream().allMatch(term -> term.test(person)));
+    }
+
+    /**
+     * Returns how far {@code person} is from this query: the fewest edits, over the alternatives it matches, between
+     * the words of their {@code FUZZY} terms and the closest words of the person. Returns {@link Integer#MAX_VALUE}
+     * if {@code person} does not match this query.
+     */
+    public int distanceTo(Person person) {
+        int distance = Integer.MAX_VALUE;
+        for (List<Term> terms : alternatives) {
+            if (terms.stream().allMatch(term -> term.test(person))) {
+                distance = Math.min(distance, terms.stream().mapToInt(term -> term.distanceTo(person)).sum());
+            }
+        }
+        return distance;
+    }
+
+    /**
+     * Returns a comparator that orders persons matching this query from the closest to the furthest.
+     * Distances are worked out afresh at every comparison, rather than kept, as the comparator lives as long as the
+     * query is displayed, while candidates are edited and replaced.
+     */
+    public Comparator<Person> byDistance() {
+        return Comparator.comparingInt(this::distanceTo);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CandidateQuery)) {
+            return false;
+        }
+
+        CandidateQuery otherCandidateQuery = (CandidateQuery) other;
+        return alternatives.equals(otherCandidateQuery.alternatives);
+    }
+
+    @Override
+    public int hashCode() {
+        return alternatives.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("alternatives", alternatives).toString();
+    }
+
+    /**
+     * How the words of a {@code Term} are matched against the text of a field.
+     */
+    public enum Match {
+        /** Each word is a whole word of the field. */
+        WORD,
+        /** Each word is a whole word of the field, except the last, which starts a word of the field. */
+        PREFIX,
+        /** The single word is a fragment of a value of the field, anywhere in it and ignoring word boundaries. */
+        SUBSTRING,
+        /** Each word is within the term's maximum edit distance of a word of the field. */
+        FUZZY
+    }
+
+    /**
+     * A condition on one field of a person: that the field has each of {@code words}, which are case-folded, as
+     * {@code match} describes. {@code maxDistance} is the most edits a word of a {@code FUZZY} term may be from a
+     * word of the field, and is 0 for other terms.
+     */
+    public record Term(SearchField field, List<String> words, Match match, int maxDistance) {
+
+        /**
+         * Creates a term, checking that it has at least one word, that a {@code SUBSTRING} term has exactly one,
+         * which is not empty, and that only a {@code FUZZY} term has a maximum edit distance, which is positive.
+         */
+        public Term {
+            requireNonNull(field);
+            requireNonNull(match);
+            words = List.copyOf(words);
+            checkArgument(!words.isEmpty(), "A term must have at least one word");
+            checkArgument(match != Match.SUBSTRING || words.size() == 1 && !words.get(0).isEmpty(),
+                    "A substring term must have exactly one fragment, which is not empty");
+            checkArgument(match == Match.FUZZY ? maxDistance > 0 : maxDistance == 0,
+                    "Only a fuzzy term has a maximum edit distance, which must be positive");
+        }
+
+        /**
+         * Creates a term that is not {@code FUZZY}.
+         */
+        public Term(SearchField field, List<String> words, Match match) {
+            this(field, words, match, 0);
+        }
+
+        /**
+         * Returns a term on {@code field} with the words of {@code keyword}, split as {@code field} is, or, for a
+         * {@code SUBSTRING} term, with {@code keyword} whole.
+         *
+         * @throws IllegalArgumentException if {@code keyword} has no words.
+         */
+        public static Term of(SearchField field, String keyword, Match match) {
+            List<String> words = match == Match.SUBSTRING
+                    ? List.of(StringUtil.foldCase(keyword))
+                    : field.tokenize(keyword);
+            return new Term(field, words, match);
+        }
+
+        /**
+         * Returns a {@code FUZZY} term on {@code field} with the words of {@code keyword}, split as {@code field} is,
+         * each matching words of the field up to {@code maxDistance} edits away.
+         *
+         * @throws IllegalArgumentException if {@code keyword} has no words, or {@code maxDistance} is not positive.
+         */
+        public static Term fuzzy(SearchField field, String keyword, int maxDistance) {
+            return new Term(field, field.tokenize(keyword), Match.FUZZY, maxDistance);
+        }
+
+        /**
+         * Returns true if the word at {@code index} is matched as a prefix of a word of the field, rather than whole.
+         */
+        public boolean isPrefixWord(int index) {
+            return match == Match.PREFIX && index == words.size() - 1;
+        }
+
+        /**
+         * Returns true if {@code person} meets this term.
+         */
+        public boolean test(Person person) {
+            if (match == Match.SUBSTRING) {
+                String fragment = words.get(0);
+                return field.valuesOf(person).stream()
+                        .anyMatch(value -> StringUtil.foldCase(value).contains(fragment));
+            }
+
+            List<String> personWords = field.tokensOf(person);
+            for (int i = 0; i < words.size(); i++) {
+                String word = words.get(i);
+                boolean isPrefixWord = isPrefixWord(i);
+                if (personWords.stream().noneMatch(personWord -> matchesWord(word, isPrefixWord, personWord))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Returns the fewest edits between the words of this term and the closest words of {@code person}'s field,
+         * summed over the words of this term, if it is {@code FUZZY}, or 0 otherwise. Returns {@link Integer#MAX_VALUE}
+         * if the field has no words.
+         */
+        public int distanceTo(Person person) {
+            if (match != Match.FUZZY) {
+                return 0;
+            }
+
+            List<String> personWords = field.tokensOf(person);
+            if (personWords.isEmpty()) {
+                return Integer.MAX_VALUE;
+            }
+            int distance = 0;
+            for (String word : words) {
+                distance += personWords.stream()
+                        .mapToInt(personWord -> StringUtil.editDistance(word, personWord))
+                        .min()
+                        .getAsInt();
+            }
+            return distance;
+        }
+
+        private boolean matchesWord(String word, boolean isPrefixWord, String personWord) {
+            if (match == Match.FUZZY) {
+                return StringUtil.editDistance(word, personWord) <= maxDistance;
+            }
+            return isPrefixWord ? personWord.startsWith(word) : personWord.equals(word);
+        }
+    }
+}
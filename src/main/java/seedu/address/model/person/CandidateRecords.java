@@ -0,0 +1,49 @@
+package seedu.address.model.person;
+
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * A fixed sequence of stored candidates that are built into {@code Person} objects one at a time, on request.
+ * Lets a very large candidate list be loaded without building every candidate in it up front.
+ * The candidates never change, so any number of lists may share the same records.
+ */
+public interface CandidateRecords {
+
+    /**
+     * Returns the number of candidates.
+     */
+    int size();
+
+    /**
+     * Returns the stage of the candidate at {@code index}, without building the candidate.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     */
+    Stage getStage(int index);
+
+    /**
+     * Builds the candidate at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     * @throws IllegalStateException if the stored candidate turns out to be damaged.
+     */
+    Person get(int index);
+
+    /**
+     * Returns a read-only list of the candidates, which builds each candidate whenever it is accessed.
+     */
+    default List<Person> asList() {
+        return new AbstractList<>() {
+            @Override
+            public Person get(int index) {
+                return CandidateRecords.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return CandidateRecords.this.size();
+            }
+        };
+    }
+}
@@ -0,0 +1,142 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable list of persons that can be backed by {@link CandidateRecords}, building each person only when it
+ * is accessed.
+ *
+ * While backed by records, the persons most recently accessed are kept in a cache of bounded size, so that reading
+ * through a very large list only ever holds a small part of it in memory. The first change to the list builds every
+ * person into an ordinary list, which then backs it from that point on.
+ */
+class LazyPersonList extends ModifiableObservableListBase<Person> {
+
+    static final int CACHE_CAPACITY = 1024;
+
+    private final Map<Integer, Person> cache = new RecentlyUsed(CACHE_CAPACITY);
+    private CandidateRecords records;
+    private List<Person> persons = new ArrayList<>();
+
+    @Override
+    public Person get(int index) {
+        if (records == null) {
+            return persons.get(index);
+        }
+
+        Objects.checkIndex(index, records.size());
+        return cache.computeIfAbsent(index, records::get);
+    }
+
+    @Override
+    public int size() {
+        return records == null ? persons.size() : records.size();
+    }
+
+    /**
+     * Returns the records backing this list, or {@code Optional.empty()} if its persons have been built.
+     */
+    Optional<CandidateRecords> getRecords() {
+        return Optional.ofNullable(records);
+    }
+
+    /**
+     * Replaces the contents of this list with the persons in {@code records}, without building any of them.
+     */
+    void setRecords(CandidateRecords records) {
+        requireNonNull(records);
+        replaceContents(records, new ArrayList<>());
+    }
+
+    /**
+     * Builds every person not built yet, so that the list is no longer backed by records.
+     * The contents of the list do not change, so no change is reported.
+     */
+    void materialize() {
+        if (records == null) {
+            return;
+        }
+
+        List<Person> built = new ArrayList<>(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            Person cached = cache.get(i);
+            built.add(cached == null ? records.get(i) : cached);
+        }
+        persons = built;
+        records = null;
+        cache.clear();
+    }
+
+    /**
+     * Replaces the contents of this list with {@code col} as a single change, without building the persons of the
+     * records that may be backing it.
+     */
+    @Override
+    public boolean setAll(Collection<? extends Person> col) {
+        requireNonNull(col);
+        replaceContents(null, new ArrayList<>(col));
+        return true;
+    }
+
+    @Override
+    protected void doAdd(int index, Person element) {
+        materialize();
+        persons.add(index, element);
+    }
+
+    @Override
+    protected Person doSet(int index, Person element) {
+        materialize();
+        return persons.set(index, element);
+    }
+
+    @Override
+    protected Person doRemove(int index) {
+        materialize();
+        return persons.remove(index);
+    }
+
+    private void replaceContents(CandidateRecords newRecords, List<Person> newPersons) {
+        List<Person> removed = records == null ? persons : records.asList();
+        beginChange();
+        try {
+            records = newRecords;
+            persons = newPersons;
+            cache.clear();
+            if (!removed.isEmpty() || size() > 0) {
+                nextReplace(0, size(), removed);
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * A map that drops its least recently used entry whenever it grows beyond its capacity.
+     */
+    private static class RecentlyUsed extends LinkedHashMap<Integer, Person> {
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
+
+        RecentlyUsed(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, Person> eldest) {
+            return size() > capacity;
+        }
+    }
+}
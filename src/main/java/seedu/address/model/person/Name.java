@@ -4,6 +4,9 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.util.Locale;
+import java.util.regex.Pattern;
+
+import seedu.address.model.util.FieldValidator;
 
 /**
  * Represents a Person's name in the candidate list.
@@ -23,6 +26,7 @@ public class Name {
     public static final String VALIDATION_REGEX =
             "(?i)[\\p{L}\\p{M}\\p{N}][\\p{L}\\p{M}\\p{N} @'\\-]*(?:\\b[sd]/o\\b[\\p{L}\\p{M}\\p{N} @'\\-]*)*";
 
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
 
     public final String fullName;
     private final String canonicalName;
@@ -45,8 +49,7 @@ public class Name {
      */
     public static boolean isValidName(String test) {
         requireNonNull(test);
-        String collapsedWhitespace = collapseWhitespace(test);
-        return !collapsedWhitespace.isEmpty() && collapsedWhitespace.matches(VALIDATION_REGEX);
+        return FieldValidator.isValidName(test);
     }
 
 
@@ -75,12 +78,12 @@ public class Name {
         return canonicalName.hashCode();
     }
 
-    private static String canonicalize(String value) {
-        return collapseWhitespace(value).toLowerCase(Locale.ROOT);
+    private static String canonicalize(String collapsedWhitespace) {
+        return collapsedWhitespace.toLowerCase(Locale.ROOT);
     }
 
     private static String collapseWhitespace(String value) {
-        return value.trim().replaceAll("\\s+", " ");
+        return WHITESPACE.matcher(value.trim()).replaceAll(" ");
     }
 
     private static String formatDisplayName(String value) {
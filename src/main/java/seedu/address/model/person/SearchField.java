@@ -0,0 +1,83 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A field of a {@code Person} that can be searched by words, and how its text is split into words.
+ * Words are case-folded with {@link StringUtil#foldCase}, so that words equal ignoring case are equal.
+ */
+public enum SearchField {
+    /** The words of the name, separated by whitespace, as {@link StringUtil#containsWordIgnoreCase} splits them. */
+    NAME,
+    /** The runs of letters and digits in the email. */
+    EMAIL,
+    /** The runs of letters and digits in the address. */
+    ADDRESS,
+    /** The names of the tags. */
+    TAG;
+
+    /**
+     * Returns the case-folded words of {@code text}, split the way this field's text is.
+     */
+    public List<String> tokenize(String text) {
+        List<String> words = new ArrayList<>();
+        int wordStart = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isInWord = i < text.length() && isWordCharacter(text.charAt(i));
+            if (isInWord && wordStart == -1) {
+                wordStart = i;
+            } else if (!isInWord && wordStart != -1) {
+                words.add(StringUtil.foldCase(text.substring(wordStart, i)));
+                wordStart = -1;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Returns the case-folded words of this field of {@code person}.
+     */
+    public List<String> tokensOf(Person person) {
+        List<String> words = new ArrayList<>();
+        for (String value : valuesOf(person)) {
+            words.addAll(tokenize(value));
+        }
+        return words;
+    }
+
+    /**
+     * Returns the text of this field of {@code person}, as it was entered: one value for most fields, and the name
+     * of each tag for {@code TAG}.
+     */
+    public List<String> valuesOf(Person person) {
+        switch (this) {
+        case NAME:
+            return List.of(person.getName().fullName);
+        case EMAIL:
+            return List.of(person.getEmail().value);
+        case ADDRESS:
+            return List.of(person.getAddress().value);
+        case TAG:
+            List<String> tagNames = new ArrayList<>();
+            for (Tag tag : person.getTags()) {
+                tagNames.add(tag.tagName);
+            }
+            return tagNames;
+        default:
+            throw new AssertionError(this);
+        }
+    }
+
+    private boolean isWordCharacter(char c) {
+        if (this == NAME) {
+            // The whitespace matched by \s in a regex, as names were split with one
+            return c != ' ' && c != '\t' && c != '\n' && c != '\u000B' && c != '\f' && c != '\r';
+        }
+        // Surrogates are kept, so that letters beyond the Basic Multilingual Plane stay whole
+        return Character.isLetterOrDigit(c) || Character.isSurrogate(c);
+    }
+}
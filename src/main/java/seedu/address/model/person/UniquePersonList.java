@@ -3,8 +3,14 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,20 +26,33 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * An identity index from (name, email, phone) keys to list positions is kept in sync with the backing list so that
+ * duplicate checks and locating the person to update do not need to scan every element. Each position is held in a
+ * mutable slot, kept in list order alongside the backing list, so that removing a person only renumbers the slots
+ * after it: one int store per later person, with no allocation or hashing, which is accepted as it costs no more than
+ * the shift of the backing list that the removal makes anyway.
+ *
+ * The list can also be backed by {@link CandidateRecords}, whose persons are only built as they are accessed. The
+ * identity index is then built, along with every person, the first time it is needed.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final LazyPersonList internalList = new LazyPersonList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // Null while the list is backed by records and has not needed the index yet
+    private Map<Identity, Slot> positions = new HashMap<>();
+    // The slot of each person, in list order; only kept while positions is
+    private List<Slot> slots = new ArrayList<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return positions().containsKey(Identity.of(toCheck));
     }
 
     /**
@@ -45,6 +64,9 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        Slot slot = new Slot(internalList.size());
+        positions().put(Identity.of(toAdd), slot);
+        slots.add(slot);
         internalList.add(toAdd);
     }
 
@@ -56,7 +78,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -65,6 +87,7 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        positions().put(Identity.of(editedPerson), positions().remove(Identity.of(target)));
         internalList.set(index, editedPerson);
     }
 
@@ -74,13 +97,40 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        positions().remove(Identity.of(toRemove));
+        slots.remove(index);
+        internalList.remove(index);
+        for (int i = index; i < slots.size(); i++) {
+            slots.get(i).position = i;
+        }
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        Optional<CandidateRecords> records = replacement.getRecords();
+        if (records.isPresent()) {
+            setRecords(records.get());
+            return;
+        }
+
+        // The slots are changed in place, so each list needs slots of its own
+        Map<Identity, Slot> replacementPositions = replacement.positions();
+        Slot[] copiedSlots = new Slot[replacementPositions.size()];
+        positions = new HashMap<>();
+        replacementPositions.forEach((identity, slot) -> {
+            Slot copiedSlot = new Slot(slot.position);
+            positions.put(identity, copiedSlot);
+            copiedSlots[slot.position] = copiedSlot;
+        });
+        slots = new ArrayList<>(List.of(copiedSlots));
         internalList.setAll(replacement.internalList);
     }
 
@@ -94,9 +144,37 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        indexPositions(persons);
         internalList.setAll(persons);
     }
 
+    /**
+     * Replaces the contents of this list with the persons in {@code records}, without building any of them.
+     * {@code records} must not contain duplicate persons, which is not checked.
+     */
+    public void setRecords(CandidateRecords records) {
+        requireNonNull(records);
+        positions = null;
+        slots = null;
+        internalList.setRecords(records);
+    }
+
+    /**
+     * Builds every person not built yet, and the identity index over them, if the list is backed by records, so that
+     * they stop being built anew whenever they are accessed. The contents of the list do not change.
+     */
+    public void materialize() {
+        positions();
+    }
+
+    /**
+     * Returns the records backing this list, or {@code Optional.empty()} if its persons have been built, which
+     * happens the first time the list is changed or a person is looked up by identity.
+     */
+    public Optional<CandidateRecords> getRecords() {
+        return internalList.getRecords();
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -134,17 +212,71 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    /**
+     * Returns the position of the person equal to {@code person}, or -1 if there is no such person.
+     */
+    private int indexOf(Person person) {
+        Slot slot = positions().get(Identity.of(person));
+        if (slot == null || !internalList.get(slot.position).equals(person)) {
+            return -1;
+        }
+        return slot.position;
+    }
+
+    /**
+     * Returns the identity index, first building it, along with every person, if the list is backed by records.
+     */
+    private Map<Identity, Slot> positions() {
+        if (positions == null) {
+            internalList.materialize();
+            indexPositions(internalList);
+        }
+        return positions;
+    }
+
+    /**
+     * Replaces the identity index by one over {@code persons}, which must be unique.
+     */
+    private void indexPositions(List<Person> persons) {
+        positions = new HashMap<>();
+        slots = new ArrayList<>(persons.size());
+        for (int i = 0; i < persons.size(); i++) {
+            Slot slot = new Slot(i);
+            positions.put(Identity.of(persons.get(i)), slot);
+            slots.add(slot);
+        }
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Identity> seen = new HashSet<>();
+        for (Person person : persons) {
+            if (!seen.add(Identity.of(person))) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * The position of a person in the list, changed in place as the persons before it are removed.
+     */
+    private static class Slot {
+        private int position;
+
+        Slot(int position) {
+            this.position = position;
+        }
+    }
+
+    /**
+     * Hash key made up of the identity fields compared by {@code Person#isSamePerson(Person)}.
+     */
+    private record Identity(Name name, Email email, Phone phone) {
+        static Identity of(Person person) {
+            return new Identity(person.getName(), person.getEmail(), person.getPhone());
+        }
+    }
 }
@@ -5,6 +5,8 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.util.Objects;
 
+import seedu.address.model.util.FieldValidator;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -41,6 +43,9 @@ public class Tag {
     public final String colour;
     public final String description;
 
+    // Tags are hashed for every candidate holding them whenever candidate lists are loaded, so the hash is kept
+    private final int hashCode;
+
     /**
      * Constructs a {@code Tag}.
      *
@@ -66,13 +71,14 @@ public class Tag {
         this.category = category.trim();
         this.colour = normaliseColour(colour);
         this.description = description.trim();
+        this.hashCode = Objects.hash(tagName.toLowerCase(), this.category, this.colour, this.description);
     }
 
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return FieldValidator.isValidTagName(test);
     }
 
     /**
@@ -80,7 +86,7 @@ public class Tag {
      */
     public static boolean isValidCategory(String test) {
         requireNonNull(test);
-        return test.matches(CATEGORY_VALIDATION_REGEX);
+        return FieldValidator.isValidTagCategory(test);
     }
 
     /**
@@ -88,7 +94,7 @@ public class Tag {
      */
     public static boolean isValidColour(String test) {
         requireNonNull(test);
-        return test.matches(COLOUR_VALIDATION_REGEX);
+        return FieldValidator.isValidTagColour(test);
     }
 
     /**
@@ -134,7 +140,7 @@ public class Tag {
 
     @Override
     public int hashCode() {
-        return Objects.hash(tagName.toLowerCase(), category, colour, description);
+        return hashCode;
     }
 
     /**
@@ -3,8 +3,13 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,6 +25,9 @@ import seedu.address.model.tag.exceptions.TagNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * A catalogue from case-folded tag name to {@code Tag} is kept consistent with the backing list so that tags can be
+ * looked up by name without scanning every element.
+ *
  * @see Tag#isSameTag(Tag)
  */
 public class UniqueTagList implements Iterable<Tag> {
@@ -27,13 +35,14 @@ public class UniqueTagList implements Iterable<Tag> {
     private final ObservableList<Tag> internalList = FXCollections.observableArrayList();
     private final ObservableList<Tag> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<String, Tag> catalogue = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent tag as the given argument.
      */
     public boolean contains(Tag toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTag);
+        return catalogue.containsKey(keyOf(toCheck));
     }
 
     /**
@@ -42,10 +51,11 @@ public class UniqueTagList implements Iterable<Tag> {
      */
     public Tag get(Tag toFind) {
         requireNonNull(toFind);
-        return internalList.stream()
-                .filter(toFind::isSameTag)
-                .findFirst()
-                .orElseThrow(TagNotFoundException::new);
+        Tag found = catalogue.get(keyOf(toFind));
+        if (found == null) {
+            throw new TagNotFoundException();
+        }
+        return found;
     }
 
     /**
@@ -57,6 +67,7 @@ public class UniqueTagList implements Iterable<Tag> {
         if (contains(toAdd)) {
             throw new DuplicateTagException();
         }
+        catalogue.put(keyOf(toAdd), toAdd);
         internalList.add(toAdd);
     }
 
@@ -77,6 +88,8 @@ public class UniqueTagList implements Iterable<Tag> {
             throw new DuplicateTagException();
         }
 
+        catalogue.remove(keyOf(target));
+        catalogue.put(keyOf(editedTag), editedTag);
         internalList.set(index, editedTag);
     }
 
@@ -89,10 +102,13 @@ public class UniqueTagList implements Iterable<Tag> {
         if (!internalList.remove(toRemove)) {
             throw new TagNotFoundException();
         }
+        catalogue.remove(keyOf(toRemove));
     }
 
     public void setTags(UniqueTagList replacement) {
         requireNonNull(replacement);
+        catalogue.clear();
+        catalogue.putAll(replacement.catalogue);
         internalList.setAll(replacement.internalList);
     }
 
@@ -106,6 +122,10 @@ public class UniqueTagList implements Iterable<Tag> {
             throw new DuplicateTagException();
         }
 
+        catalogue.clear();
+        for (Tag tag : tags) {
+            catalogue.put(keyOf(tag), tag);
+        }
         internalList.setAll(tags);
     }
 
@@ -149,13 +169,20 @@ public class UniqueTagList implements Iterable<Tag> {
      * Returns true if {@code tags} contains only unique tags.
      */
     private boolean tagsAreUnique(List<Tag> tags) {
-        for (int i = 0; i < tags.size() - 1; i++) {
-            for (int j = i + 1; j < tags.size(); j++) {
-                if (tags.get(i).isSameTag(tags.get(j))) {
-                    return false;
-                }
+        Set<String> seen = new HashSet<>();
+        for (Tag tag : tags) {
+            if (!seen.add(keyOf(tag))) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Returns the catalogue key of {@code tag}, which is equal for two tags exactly when
+     * {@code Tag#isSameTag(Tag)} holds.
+     */
+    private static String keyOf(Tag tag) {
+        return tag.tagName.toLowerCase(Locale.ROOT);
+    }
 }
@@ -0,0 +1,311 @@
+package seedu.address.model.util;
+
+/**
+ * Hand-written scanners for the field formats of the model, which walk the input once without allocating.
+ * Each scanner accepts exactly the strings that the corresponding {@code VALIDATION_REGEX} of the field matches, but
+ * without compiling a {@code Pattern} on every call as {@code String#matches} does.
+ */
+public class FieldValidator {
+
+    private static final String EMAIL_SPECIAL_CHARACTERS = "+_.-";
+
+    private FieldValidator() {}
+
+    /**
+     * Returns true if {@code test}, with its whitespace trimmed and collapsed, matches {@code Name#VALIDATION_REGEX}:
+     * it starts with a letter, mark or number, and otherwise only holds those, spaces, {@code @}, {@code '} and
+     * {@code -}, apart from any number of standalone {@code s/o} or {@code d/o}.
+     */
+    public static boolean isValidName(String test) {
+        int start = 0;
+        int end = test.length();
+        while (start < end && test.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && test.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return false;
+        }
+
+        int first = test.codePointAt(start);
+        if (!isLetterMarkOrNumber(first)) {
+            return false;
+        }
+        for (int i = start + Character.charCount(first); i < end;) {
+            int codePoint = test.codePointAt(i);
+            boolean isValid = codePoint == '/'
+                    ? isSlashOfRelation(test, i, start, end)
+                    : isLetterMarkOrNumber(codePoint) || isNamePunctuation(codePoint) || isWhitespace(codePoint);
+            if (!isValid) {
+                return false;
+            }
+            i += Character.charCount(codePoint);
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} matches {@code Phone#VALIDATION_REGEX}: at least 3 ASCII digits.
+     */
+    public static boolean isValidPhone(String test) {
+        int length = test.length();
+        if (length < 3) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (!isAsciiDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} matches {@code Email#VALIDATION_REGEX}.
+     */
+    public static boolean isValidEmail(String test) {
+        int at = test.indexOf('@');
+        return at >= 0 && isEmailLocalPart(test, 0, at) && isEmailDomain(test, at + 1, test.length());
+    }
+
+    /**
+     * Returns true if {@code test} matches {@code Address#VALIDATION_REGEX}: a first character that is not
+     * whitespace, followed by anything but line terminators.
+     */
+    public static boolean isValidAddress(String test) {
+        int length = test.length();
+        if (length == 0 || isWhitespace(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < length; i++) {
+            if (isLineTerminator(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} matches {@code Tag#VALIDATION_REGEX}: one or more ASCII letters or digits.
+     */
+    public static boolean isValidTagName(String test) {
+        int length = test.length();
+        if (length == 0) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (!isAsciiAlphanumeric(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} matches {@code Tag#CATEGORY_VALIDATION_REGEX}: an ASCII letter or digit,
+     * followed by any number of ASCII letters, digits or spaces.
+     */
+    public static boolean isValidTagCategory(String test) {
+        int length = test.length();
+        if (length == 0 || !isAsciiAlphanumeric(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < length; i++) {
+            char c = test.charAt(i);
+            if (c != ' ' && !isAsciiAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} matches {@code Tag#COLOUR_VALIDATION_REGEX}: {@code #} and six hex digits.
+     */
+    public static boolean isValidTagColour(String test) {
+        if (test.length() != 7 || test.charAt(0) != '#') {
+            return false;
+        }
+        for (int i = 1; i < 7; i++) {
+            char c = test.charAt(i);
+            if (!isAsciiDigit(c) && !(c >= 'a' && c <= 'f') && !(c >= 'A' && c <= 'F')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    //// name helpers
+
+    private static boolean isLetterMarkOrNumber(int codePoint) {
+        switch (Character.getType(codePoint)) {
+        case Character.UPPERCASE_LETTER:
+        case Character.LOWERCASE_LETTER:
+        case Character.TITLECASE_LETTER:
+        case Character.MODIFIER_LETTER:
+        case Character.OTHER_LETTER:
+        case Character.NON_SPACING_MARK:
+        case Character.ENCLOSING_MARK:
+        case Character.COMBINING_SPACING_MARK:
+        case Character.DECIMAL_DIGIT_NUMBER:
+        case Character.LETTER_NUMBER:
+        case Character.OTHER_NUMBER:
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    private static boolean isNamePunctuation(int codePoint) {
+        return codePoint == ' ' || codePoint == '@' || codePoint == '\'' || codePoint == '-';
+    }
+
+    /**
+     * Returns true if the {@code /} at {@code slash} is part of a standalone {@code s/o} or {@code d/o}, in any case,
+     * that does not start the name.
+     */
+    private static boolean isSlashOfRelation(String test, int slash, int start, int end) {
+        int relation = slash - 1;
+        if (relation <= start || slash + 1 >= end) {
+            return false;
+        }
+        char before = test.charAt(relation);
+        char after = test.charAt(slash + 1);
+        if ("sSdD".indexOf(before) < 0 || (after != 'o' && after != 'O')) {
+            return false;
+        }
+        return !isWordBefore(test, relation, start) && !isWordAt(test, slash + 2, start, end);
+    }
+
+    /**
+     * Returns true if the code point before {@code index} counts as part of a word for a regex word boundary.
+     */
+    private static boolean isWordBefore(String test, int index, int start) {
+        int codePoint = test.codePointBefore(index);
+        return isWordCharacter(codePoint) || (Character.getType(codePoint) == Character.NON_SPACING_MARK
+                && hasBaseCharacter(test, index - 1, start));
+    }
+
+    /**
+     * Returns true if the code point at {@code index} counts as part of a word for a regex word boundary.
+     */
+    private static boolean isWordAt(String test, int index, int start, int end) {
+        if (index >= end) {
+            return false;
+        }
+        int codePoint = test.codePointAt(index);
+        return isWordCharacter(codePoint) || (Character.getType(codePoint) == Character.NON_SPACING_MARK
+                && hasBaseCharacter(test, index, start));
+    }
+
+    /**
+     * Returns true if the non-spacing marks ending at {@code index} are attached to a letter or digit, which makes
+     * them part of a word for a regex word boundary.
+     */
+    private static boolean hasBaseCharacter(String test, int index, int start) {
+        for (int i = index; i >= start; i--) {
+            int codePoint = test.codePointAt(i);
+            if (Character.isLetterOrDigit(codePoint)) {
+                return true;
+            }
+            if (Character.getType(codePoint) != Character.NON_SPACING_MARK) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isWordCharacter(int codePoint) {
+        return codePoint == '_' || Character.isLetterOrDigit(codePoint);
+    }
+
+    //// email helpers
+
+    /**
+     * Returns true if {@code test[from, to)} is runs of ASCII letters and digits separated by single special
+     * characters.
+     */
+    private static boolean isEmailLocalPart(String test, int from, int to) {
+        if (from == to || !isAsciiAlphanumeric(test.charAt(from)) || !isAsciiAlphanumeric(test.charAt(to - 1))) {
+            return false;
+        }
+        for (int i = from + 1; i < to - 1; i++) {
+            char c = test.charAt(i);
+            if (isAsciiAlphanumeric(c)) {
+                continue;
+            }
+            if (EMAIL_SPECIAL_CHARACTERS.indexOf(c) < 0 || !isAsciiAlphanumeric(test.charAt(i + 1))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test[from, to)} is domain labels separated by periods, the last of which holds at least
+     * two adjacent letters or digits.
+     */
+    private static boolean isEmailDomain(String test, int from, int to) {
+        int labelStart = from;
+        for (int i = from; i < to; i++) {
+            if (test.charAt(i) == '.') {
+                if (!isDomainLabel(test, labelStart, i)) {
+                    return false;
+                }
+                labelStart = i + 1;
+            }
+        }
+        return isDomainLabel(test, labelStart, to) && hasAdjacentAlphanumerics(test, labelStart, to);
+    }
+
+    /**
+     * Returns true if {@code test[from, to)} is runs of ASCII letters and digits separated by single hyphens.
+     */
+    private static boolean isDomainLabel(String test, int from, int to) {
+        if (from == to || !isAsciiAlphanumeric(test.charAt(from)) || !isAsciiAlphanumeric(test.charAt(to - 1))) {
+            return false;
+        }
+        for (int i = from + 1; i < to - 1; i++) {
+            char c = test.charAt(i);
+            if (!isAsciiAlphanumeric(c) && (c != '-' || !isAsciiAlphanumeric(test.charAt(i + 1)))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasAdjacentAlphanumerics(String test, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            if (isAsciiAlphanumeric(test.charAt(i - 1)) && isAsciiAlphanumeric(test.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    //// character classes
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isAsciiAlphanumeric(char c) {
+        return isAsciiDigit(c) || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     * Returns true if {@code codePoint} is in the regex class {@code \s}.
+     */
+    private static boolean isWhitespace(int codePoint) {
+        return codePoint == ' ' || (codePoint >= '\t' && codePoint <= '\r');
+    }
+
+    /**
+     * Returns true if {@code c} is one of the line terminators that the regex {@code .} does not match.
+     */
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
@@ -0,0 +1,187 @@
+package seedu.address.server;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.FindrMutation;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyFindr;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Stage;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A model for one command that changes the candidate list, which makes every change to the shared model, but
+ * displays the candidates of one client's {@link ClientView}.
+ *
+ * The indexes in the command are therefore resolved against the candidates that the client was last sent, rather
+ * than against whatever other clients have displayed since. Those candidates are handed to the shared model as they
+ * were sent, and it only changes or removes a candidate that is still exactly so, so a candidate that another client
+ * has changed or removed in the meantime is never mistaken for another.
+ */
+class ClientModel implements Model {
+
+    private final Model model;
+    private final ClientView view;
+    // Null until the displayed candidates are asked for, and again whenever the client's filter or sort changes
+    private ObservableList<Person> displayedPersons;
+
+    /**
+     * Creates a {@code ClientModel} that changes {@code model}, and displays the candidates of {@code view}.
+     */
+    ClientModel(Model model, ClientView view) {
+        requireAllNonNull(model, view);
+        this.model = model;
+        this.view = view;
+    }
+
+    //=========== Displayed candidates of the client ==========================================================
+
+    @Override
+    public ObservableList<Person> getObservableCandidateList() {
+        if (displayedPersons == null) {
+            displayedPersons = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableList(view.getDisplayedCandidates()));
+        }
+        return displayedPersons;
+    }
+
+    @Override
+    public ObservableList<Person> getStageCandidateList(Stage stage) {
+        requireNonNull(stage);
+        return getObservableCandidateList().filtered(person -> person.getStage() == stage);
+    }
+
+    /**
+     * Sets the filter the client's candidates are displayed with from its next reply on; the candidates its indexes
+     * refer to stay those it was last sent until then.
+     */
+    @Override
+    public void updateFilteredCandidateList(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        view.setPredicate(predicate);
+    }
+
+    /**
+     * Sets the order the client's candidates are displayed in from its next reply on; the candidates its indexes
+     * refer to stay those it was last sent until then.
+     */
+    @Override
+    public void updateSortedCandidateList(Comparator<Person> comparator) {
+        requireNonNull(comparator);
+        view.setSortComparator(comparator);
+    }
+
+    @Override
+    public void addCandidate(Person person) {
+        model.addCandidate(person);
+        // As on the main window, adding a candidate shows every candidate
+        updateFilteredCandidateList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
+    //=========== Shared model ================================================================================
+
+    @Override
+    public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
+        model.setUserPrefs(userPrefs);
+    }
+
+    @Override
+    public ReadOnlyUserPrefs getUserPrefs() {
+        return model.getUserPrefs();
+    }
+
+    @Override
+    public GuiSettings getGuiSettings() {
+        return model.getGuiSettings();
+    }
+
+    @Override
+    public void setGuiSettings(GuiSettings guiSettings) {
+        model.setGuiSettings(guiSettings);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return model.getAddressBookFilePath();
+    }
+
+    @Override
+    public void setAddressBookFilePath(Path addressBookFilePath) {
+        model.setAddressBookFilePath(addressBookFilePath);
+    }
+
+    @Override
+    public void setAddressBook(ReadOnlyFindr addressBook) {
+        model.setAddressBook(addressBook);
+    }
+
+    @Override
+    public ReadOnlyFindr getCandidateList() {
+        return model.getCandidateList();
+    }
+
+    @Override
+    public long getCandidateListVersion() {
+        return model.getCandidateListVersion();
+    }
+
+    @Override
+    public void addMutationListener(Consumer<? super FindrMutation> listener) {
+        model.addMutationListener(listener);
+    }
+
+    @Override
+    public boolean hasCandidate(Person person) {
+        return model.hasCandidate(person);
+    }
+
+    @Override
+    public void deleteCandidate(Person target) {
+        model.deleteCandidate(target);
+    }
+
+    @Override
+    public void setPerson(Person target, Person editedPerson) {
+        model.setPerson(target, editedPerson);
+    }
+
+    @Override
+    public ObservableList<Tag> getTagList() {
+        return model.getTagList();
+    }
+
+    @Override
+    public boolean hasTag(Tag tag) {
+        return model.hasTag(tag);
+    }
+
+    @Override
+    public Tag getTag(Tag tag) {
+        return model.getTag(tag);
+    }
+
+    @Override
+    public void addTag(Tag tag) {
+        model.addTag(tag);
+    }
+
+    @Override
+    public void setTag(Tag target, Tag editedTag) {
+        model.setTag(target, editedTag);
+    }
+
+    @Override
+    public void deleteTag(Tag tag) {
+        model.deleteTag(tag);
+    }
+}
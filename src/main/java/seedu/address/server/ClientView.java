@@ -0,0 +1,50 @@
+package seedu.address.server;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * What one client of a {@link ConcurrentCommandRunner} has on display: the filter and sort set by its commands, and
+ * the candidates it was last sent, which the indexes in its later commands refer to.
+ *
+ * A client starts out having been sent no candidates, so it must list some before referring to one by index.
+ */
+class ClientView {
+
+    private Predicate<Person> predicate = PREDICATE_SHOW_ALL_PERSONS;
+    // Null until the client sorts the candidates
+    private Comparator<Person> sortComparator;
+    private List<Person> displayedCandidates = List.of();
+
+    Predicate<Person> getPredicate() {
+        return predicate;
+    }
+
+    void setPredicate(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+    }
+
+    Comparator<Person> getSortComparator() {
+        return sortComparator;
+    }
+
+    void setSortComparator(Comparator<Person> sortComparator) {
+        requireNonNull(sortComparator);
+        this.sortComparator = sortComparator;
+    }
+
+    List<Person> getDisplayedCandidates() {
+        return displayedCandidates;
+    }
+
+    void setDisplayedCandidates(List<Person> displayedCandidates) {
+        this.displayedCandidates = List.copyOf(displayedCandidates);
+    }
+}
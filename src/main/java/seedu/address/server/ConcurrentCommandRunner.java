@@ -0,0 +1,142 @@
+package seedu.address.server;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.FindrParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Findr;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+
+/**
+ * Executes commands from many clients at once.
+ *
+ * Commands that only read the candidate list, such as {@code find}, {@code list} and {@code taglist}, run
+ * concurrently, each against its own {@link SnapshotModel} over a snapshot of the candidate list, so one client's
+ * filter or sort never affects another's. Commands that change the candidate list are executed one at a time by
+ * {@code Logic}, which saves them, and never while a snapshot is being taken, so every snapshot reflects all the
+ * changes made before it and none made after it.
+ *
+ * Each client has a {@link ClientView} of its own, holding its filter and sort, and the candidates it was last sent.
+ * The indexes in a command that changes the candidate list are resolved against those candidates, through a
+ * {@link ClientModel}, so they refer to what the client saw even after other clients have changed the list or their
+ * filters. A command that refers to a candidate that has been changed or removed since the client was sent it is
+ * rejected rather than applied to another candidate.
+ *
+ * A snapshot is taken at most once after each change, together with every index used to search it, and shared by
+ * every reader until the next change, so a read copies neither the candidate list nor its indexes.
+ */
+public class ConcurrentCommandRunner {
+
+    /** The client that commands sent without naming one are run for. */
+    public static final String DEFAULT_CLIENT = "";
+
+    public static final String MESSAGE_CANDIDATE_CHANGED = "The candidate at this index has been changed or removed "
+            + "since it was listed. List the candidates again to see the current ones.";
+
+    private final Logic logic;
+    private final ReadOnlyUserPrefs userPrefs;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock(true);
+    private final Map<String, ClientView> views = new ConcurrentHashMap<>();
+
+    // The candidate list as of the last change, or null if it has changed since the last snapshot was taken
+    private Findr snapshot;
+
+    /**
+     * Creates a {@code ConcurrentCommandRunner} that changes the candidate list through {@code logic}, and runs
+     * read-only commands with {@code userPrefs}.
+     */
+    public ConcurrentCommandRunner(Logic logic, ReadOnlyUserPrefs userPrefs) {
+        requireAllNonNull(logic, userPrefs);
+        this.logic = logic;
+        this.userPrefs = userPrefs;
+    }
+
+    /**
+     * Executes {@code commandText} for the {@link #DEFAULT_CLIENT}.
+     *
+     * @see #execute(String, String)
+     */
+    public Reply execute(String commandText) throws CommandException, ParseException {
+        return execute(DEFAULT_CLIENT, commandText);
+    }
+
+    /**
+     * Executes {@code commandText} for the client named {@code clientId}, and returns its result together with the
+     * candidates the client then has displayed, which its later commands refer to by index.
+     * Commands from one client run one at a time, in the order they arrive.
+     *
+     * @throws CommandException if an error occurs during command execution.
+     * @throws ParseException if an error occurs during parsing.
+     */
+    public Reply execute(String clientId, String commandText) throws CommandException, ParseException {
+        requireAllNonNull(clientId, commandText);
+        Command command = new FindrParser().parseCommand(commandText);
+        ClientView view = views.computeIfAbsent(clientId, id -> new ClientView());
+        synchronized (view) {
+            if (command.isReadOnly()) {
+                Model snapshotModel = new SnapshotModel(getSnapshot(), userPrefs, view);
+                CommandResult commandResult = command.execute(snapshotModel);
+                view.setDisplayedCandidates(snapshotModel.getObservableCandidateList());
+                return new Reply(commandResult, view.getDisplayedCandidates());
+            }
+
+            lock.writeLock().lock();
+            try {
+                CommandResult commandResult;
+                try {
+                    commandResult = logic.execute(commandText, model -> new ClientModel(model, view));
+                } catch (PersonNotFoundException e) {
+                    throw new CommandException(MESSAGE_CANDIDATE_CHANGED, e);
+                }
+                synchronized (this) {
+                    snapshot = null;
+                }
+                // Taken while no other change can be made, so the client is sent the list just as it left it
+                view.setDisplayedCandidates(new SnapshotModel(getSnapshot(), userPrefs, view)
+                        .getObservableCandidateList());
+                return new Reply(commandResult, view.getDisplayedCandidates());
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Returns a snapshot of the candidate list as of the last change, taking one, and building its indexes, if it has
+     * changed since the last.
+     */
+    Findr getSnapshot() {
+        lock.readLock().lock();
+        try {
+            synchronized (this) {
+                if (snapshot == null) {
+                    Findr newSnapshot = new Findr(logic.getCandidateList());
+                    newSnapshot.prepareForConcurrentReads();
+                    snapshot = newSnapshot;
+                }
+                return snapshot;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The result of a command, and the candidates it leaves displayed.
+     */
+    public record Reply(CommandResult commandResult, List<Person> candidates) {
+    }
+}
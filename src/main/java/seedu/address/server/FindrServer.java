@@ -0,0 +1,145 @@
+package seedu.address.server;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Serves commands over HTTP to other processes on this machine, so that several people can work on one candidate
+ * list at once.
+ *
+ * Each command is sent as the UTF-8 body of a {@code POST} to {@value #COMMAND_PATH}, and answered with a json
+ * object. A command that succeeds is answered with status 200, its {@code feedback}, and the {@code candidates} it
+ * leaves displayed. A command that fails is answered with status 400 and its {@code error}. Requests are handled by
+ * a pool of threads, and the commands are run by a {@link ConcurrentCommandRunner}.
+ *
+ * A client names itself with the {@value #CLIENT_HEADER} header, so that the indexes in its commands refer to the
+ * candidates it was last sent. Requests without the header all share one unnamed client.
+ */
+public class FindrServer {
+
+    public static final String COMMAND_PATH = "/command";
+    public static final String CLIENT_HEADER = "Findr-Client";
+    public static final int DEFAULT_THREAD_COUNT = 16;
+
+    private static final Logger logger = LogsCenter.getLogger(FindrServer.class);
+
+    private final ConcurrentCommandRunner runner;
+    private final int port;
+    private final int threadCount;
+    private HttpServer httpServer;
+    private ExecutorService executor;
+
+    /**
+     * Creates a {@code FindrServer} that runs commands with {@code runner}, on {@code port} of the loopback
+     * address, or any free port if it is 0, with {@code threadCount} threads handling requests.
+     */
+    public FindrServer(ConcurrentCommandRunner runner, int port, int threadCount) {
+        requireNonNull(runner);
+        checkArgument(port >= 0, "Port must not be negative.");
+        checkArgument(threadCount > 0, "Thread count must be positive.");
+        this.runner = runner;
+        this.port = port;
+        this.threadCount = threadCount;
+    }
+
+    /**
+     * Starts accepting commands.
+     *
+     * @throws IOException if the port cannot be listened on.
+     */
+    public void start() throws IOException {
+        httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(threadCount, runnable ->
+                new Thread(runnable, "findr-server-" + threadNumber.incrementAndGet()));
+        httpServer.setExecutor(executor);
+        httpServer.createContext(COMMAND_PATH, this::handle);
+        httpServer.start();
+        logger.info("Serving commands at " + getUri());
+    }
+
+    /**
+     * Returns the address that commands are sent to.
+     */
+    public URI getUri() {
+        InetSocketAddress address = httpServer.getAddress();
+        return URI.create("http://" + address.getHostString() + ":" + address.getPort() + COMMAND_PATH);
+    }
+
+    /**
+     * Stops accepting commands, and waits briefly for the commands being run to finish.
+     */
+    public void stop() {
+        httpServer.stop(1);
+        executor.shutdown();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!exchange.getRequestMethod().equals("POST")) {
+                exchange.getResponseHeaders().set("Allow", "POST");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            String commandText;
+            try (InputStream body = exchange.getRequestBody()) {
+                commandText = new String(body.readAllBytes(), UTF_8).strip();
+            }
+
+            String clientId = exchange.getRequestHeaders().getFirst(CLIENT_HEADER);
+            if (clientId == null) {
+                clientId = ConcurrentCommandRunner.DEFAULT_CLIENT;
+            }
+
+            Map<String, Object> reply = new LinkedHashMap<>();
+            int status;
+            try {
+                ConcurrentCommandRunner.Reply result = runner.execute(clientId, commandText);
+                reply.put("feedback", result.commandResult().getFeedbackToUser());
+                reply.put("candidates", result.candidates().stream().map(Messages::format).toList());
+                status = 200;
+            } catch (CommandException | ParseException e) {
+                reply.put("error", e.getMessage());
+                status = 400;
+            } catch (RuntimeException e) {
+                logger.warning("Failed to run command " + commandText + ": " + StringUtil.getDetails(e));
+                reply.put("error", e.toString());
+                status = 500;
+            }
+
+            byte[] response = JsonUtil.toCompactJsonString(reply).getBytes(UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(status, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+}
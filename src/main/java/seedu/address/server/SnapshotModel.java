@@ -0,0 +1,238 @@
+package seedu.address.server;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.Findr;
+import seedu.address.model.FindrMutation;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyFindr;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.person.CandidateQuery;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Stage;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A model for one read-only command, over a snapshot of the candidate list that it shares with every other command
+ * running against the same snapshot.
+ *
+ * Filtering and sorting only change which candidates this model displays, and in what order. They are worked out
+ * when the displayed candidates are first asked for, by looking a {@code CandidateQuery} up in the snapshot's
+ * indexes, so neither the snapshot nor its indexes are ever copied. The snapshot must have been prepared for
+ * concurrent reads, and anything that would change it, or the user prefs, is not supported. The filter and sort
+ * start out as those of a {@link ClientView}, and are kept in it as they change, so that the client's next command
+ * starts from them.
+ */
+class SnapshotModel implements Model {
+
+    static final String MESSAGE_READ_ONLY = "A snapshot of the candidate list cannot be changed.";
+
+    private final Findr snapshot;
+    private final ReadOnlyUserPrefs userPrefs;
+    private final ClientView view;
+    // The view's filter, as looked up in the snapshot, and the ranking of the candidates found by a fuzzy search
+    private Predicate<Person> matcher;
+    private Comparator<Person> rankComparator;
+    // Null until the displayed candidates are asked for, and again whenever the filter or sort changes
+    private ObservableList<Person> displayedPersons;
+
+    /**
+     * Creates a {@code SnapshotModel} over {@code snapshot}, which must not change while the model is in use, with
+     * {@code userPrefs}.
+     *
+     * @see Findr#prepareForConcurrentReads()
+     */
+    SnapshotModel(Findr snapshot, ReadOnlyUserPrefs userPrefs) {
+        this(snapshot, userPrefs, new ClientView());
+    }
+
+    /**
+     * Creates a {@code SnapshotModel} over {@code snapshot}, which must not change while the model is in use, with
+     * {@code userPrefs}, that displays the candidates with the filter and sort of {@code view}.
+     */
+    SnapshotModel(Findr snapshot, ReadOnlyUserPrefs userPrefs, ClientView view) {
+        requireAllNonNull(snapshot, userPrefs, view);
+        this.snapshot = snapshot;
+        this.userPrefs = userPrefs;
+        this.view = view;
+        applyFilter(view.getPredicate());
+    }
+
+    @Override
+    public ReadOnlyUserPrefs getUserPrefs() {
+        return userPrefs;
+    }
+
+    @Override
+    public GuiSettings getGuiSettings() {
+        return userPrefs.getGuiSettings();
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return userPrefs.getAddressBookFilePath();
+    }
+
+    @Override
+    public ReadOnlyFindr getCandidateList() {
+        return snapshot;
+    }
+
+    @Override
+    public long getCandidateListVersion() {
+        return snapshot.getVersion();
+    }
+
+    @Override
+    public boolean hasCandidate(Person person) {
+        requireNonNull(person);
+        return snapshot.hasCandidate(person);
+    }
+
+    @Override
+    public ObservableList<Tag> getTagList() {
+        return snapshot.getTagList();
+    }
+
+    @Override
+    public boolean hasTag(Tag tag) {
+        requireNonNull(tag);
+        return snapshot.hasTag(tag);
+    }
+
+    @Override
+    public Tag getTag(Tag tag) {
+        requireNonNull(tag);
+        return snapshot.getTag(tag);
+    }
+
+    //=========== Sorted and Filtered Person List Accessors ===================================================
+
+    @Override
+    public ObservableList<Person> getObservableCandidateList() {
+        if (displayedPersons == null) {
+            List<Person> persons = new ArrayList<>();
+            for (Person person : snapshot.getCandidateList()) {
+                if (matcher.test(person)) {
+                    persons.add(person);
+                }
+            }
+
+            Comparator<Person> sortComparator = view.getSortComparator();
+            Comparator<Person> comparator = rankComparator == null ? sortComparator
+                    : sortComparator == null ? rankComparator
+                    : rankComparator.thenComparing(sortComparator);
+            if (comparator != null) {
+                persons.sort(comparator);
+            }
+            displayedPersons = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+        }
+        return displayedPersons;
+    }
+
+    @Override
+    public ObservableList<Person> getStageCandidateList(Stage stage) {
+        requireNonNull(stage);
+        return getObservableCandidateList().filtered(person -> person.getStage() == stage);
+    }
+
+    @Override
+    public void updateFilteredCandidateList(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        view.setPredicate(predicate);
+        applyFilter(predicate);
+        displayedPersons = null;
+    }
+
+    /**
+     * Filters the displayed candidates with {@code predicate}, looking it up in the snapshot's indexes if it is a
+     * {@code CandidateQuery}.
+     */
+    private void applyFilter(Predicate<Person> predicate) {
+        Comparator<Person> newRankComparator = null;
+        if (predicate instanceof CandidateQuery) {
+            CandidateQuery query = (CandidateQuery) predicate;
+            if (query.isFuzzy()) {
+                newRankComparator = query.byDistance();
+            }
+            predicate = snapshot.matcherFor(query);
+        }
+        matcher = predicate;
+        rankComparator = newRankComparator;
+    }
+
+    @Override
+    public void updateSortedCandidateList(Comparator<Person> comparator) {
+        requireNonNull(comparator);
+        view.setSortComparator(comparator);
+        displayedPersons = null;
+    }
+
+    //=========== Unsupported changes ========================================================================
+
+    @Override
+    public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void setGuiSettings(GuiSettings guiSettings) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void setAddressBookFilePath(Path addressBookFilePath) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void setAddressBook(ReadOnlyFindr addressBook) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void addMutationListener(Consumer<? super FindrMutation> listener) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void deleteCandidate(Person target) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void addCandidate(Person person) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void setPerson(Person target, Person editedPerson) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void addTag(Tag tag) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void setTag(Tag target, Tag editedTag) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void deleteTag(Tag tag) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+}
@@ -0,0 +1,174 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * A class to access search history stored in the hard disk as an append-only file, with one command per line.
+ *
+ * Each command is written as a compact json string, so that adding commands appends only their own lines and the
+ * cost does not depend on how long the history is. Only the most recent commands, up to the capacity, are read
+ * back. Once the file would hold more than twice the capacity, it is compacted by rewriting only the most recent
+ * commands. A search history saved by {@link JsonSearchHistoryStorage} as a single json array is still read, and
+ * is rewritten in the append-only format the first time commands are added to it.
+ */
+public class AppendOnlySearchHistoryStorage implements SearchHistoryStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(AppendOnlySearchHistoryStorage.class);
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private final Path filePath;
+    private final int capacity;
+
+    // Number of lines in the file, or -1 if not known yet or if the file must be rewritten before it is appended to
+    private int lineCount = -1;
+
+    /**
+     * Creates an {@code AppendOnlySearchHistoryStorage} that keeps the {@code capacity} most recent commands.
+     */
+    public AppendOnlySearchHistoryStorage(Path filePath, int capacity) {
+        requireNonNull(filePath);
+        checkArgument(capacity > 0, "Capacity must be positive.");
+        this.filePath = filePath;
+        this.capacity = capacity;
+    }
+
+    @Override
+    public Path getSearchHistoryFilePath() {
+        return filePath;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Only the most recent commands, up to the capacity, are returned. Lines that cannot be read, such as one left
+     * half-written by an interrupted append, are skipped.
+     */
+    @Override
+    public synchronized Optional<List<String>> readSearchHistory() throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        List<String> commands;
+        try {
+            commands = readCommands();
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+        return Optional.of(mostRecent(commands));
+    }
+
+    @Override
+    public synchronized void saveSearchHistory(List<String> searchHistory) throws IOException {
+        requireNonNull(searchHistory);
+        List<String> commands = mostRecent(searchHistory);
+        StringBuilder lines = new StringBuilder();
+        for (String command : commands) {
+            appendLine(lines, command);
+        }
+
+        lineCount = -1;
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempPath = filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX);
+        Files.writeString(tempPath, lines, UTF_8);
+        FileUtil.moveReplacing(tempPath, filePath);
+        lineCount = commands.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     * The commands are appended to the end of the file, unless it has to be compacted or converted from the json
+     * array format first, in which case it is rewritten with only the most recent commands.
+     */
+    @Override
+    public synchronized void appendSearchHistory(List<String> commands) throws IOException {
+        requireNonNull(commands);
+        if (commands.isEmpty()) {
+            return;
+        }
+
+        List<String> existing = lineCount < 0 ? readForAppend() : null;
+        if (lineCount >= 0 && lineCount + commands.size() <= 2 * capacity) {
+            StringBuilder lines = new StringBuilder();
+            for (String command : commands) {
+                appendLine(lines, command);
+            }
+            FileUtil.createParentDirsOfFile(filePath);
+            Files.writeString(filePath, lines, UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            lineCount += commands.size();
+            return;
+        }
+
+        List<String> searchHistory = new ArrayList<>(existing == null ? readForAppend() : existing);
+        searchHistory.addAll(commands);
+        saveSearchHistory(searchHistory);
+    }
+
+    /**
+     * Returns every command in the file, which is read in either format, and records its number of lines if it is
+     * in the append-only format.
+     */
+    private List<String> readCommands() throws IOException, DataLoadingException {
+        lineCount = -1;
+        String content = Files.readString(filePath, UTF_8);
+        if (content.stripLeading().startsWith("[")) {
+            return new JsonSearchHistoryStorage(filePath).readSearchHistory().orElse(List.of());
+        }
+
+        List<String> commands = new ArrayList<>();
+        List<String> lines = content.lines().toList();
+        for (String line : lines) {
+            try {
+                commands.add(JsonUtil.fromJsonString(line, String.class));
+            } catch (IOException e) {
+                logger.warning("Skipping unreadable line in search history file " + filePath);
+            }
+        }
+        if (content.isEmpty() || content.endsWith("\n")) {
+            // Otherwise the last line was cut short, and appending to it would damage the next command
+            lineCount = lines.size();
+        }
+        return commands;
+    }
+
+    /**
+     * Returns the commands in the file before commands are added to it, or none if there is no file or it cannot be
+     * read, in which case it is about to be replaced.
+     */
+    private List<String> readForAppend() throws IOException {
+        if (!Files.exists(filePath)) {
+            lineCount = 0;
+            return List.of();
+        }
+
+        try {
+            return readCommands();
+        } catch (DataLoadingException e) {
+            logger.warning("Search history file " + filePath + " could not be read and will be replaced: " + e);
+            return List.of();
+        }
+    }
+
+    private List<String> mostRecent(List<String> commands) {
+        return commands.subList(Math.max(0, commands.size() - capacity), commands.size());
+    }
+
+    private static void appendLine(StringBuilder lines, String command) throws IOException {
+        lines.append(JsonUtil.toCompactJsonString(requireNonNull(command))).append('\n');
+    }
+}
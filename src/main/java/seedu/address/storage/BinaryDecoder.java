@@ -0,0 +1,129 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Decodes the values written by a {@link BinaryEncoder} from a range of a buffer.
+ * Every read is bounds-checked, so damaged data fails with an {@code IllegalValueException}. Reads never move the
+ * position of the buffer, so buffers can be shared between decoders on different threads.
+ */
+class BinaryDecoder {
+
+    private final ByteBuffer bytes;
+    private final int limit;
+    private final String corruptedMessage;
+    private int position;
+
+    /**
+     * Creates a decoder of the bytes of {@code bytes} from {@code position} up to {@code limit}, which fails with
+     * {@code corruptedMessage} if they turn out to be damaged.
+     */
+    BinaryDecoder(ByteBuffer bytes, int position, int limit, String corruptedMessage) {
+        this.bytes = bytes;
+        this.position = position;
+        this.limit = limit;
+        this.corruptedMessage = corruptedMessage;
+    }
+
+    /**
+     * Returns true if the CRC32 of the bytes of {@code bytes} from {@code from} up to {@code to} matches the one
+     * stored in the four bytes at {@code to}.
+     */
+    static boolean isChecksumValid(ByteBuffer bytes, int from, int to) {
+        if (from < 0 || from > to || to > bytes.limit() - BinaryEncoder.CHECKSUM_SIZE) {
+            return false;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(bytes.slice(from, to - from));
+        return bytes.getInt(to) == (int) crc.getValue();
+    }
+
+    int position() {
+        return position;
+    }
+
+    int readByte() throws IllegalValueException {
+        if (position >= limit) {
+            throw corrupted();
+        }
+        return bytes.get(position++) & 0xFF;
+    }
+
+    int readInt() throws IllegalValueException {
+        if (limit - position < 4) {
+            throw corrupted();
+        }
+        int value = bytes.getInt(position);
+        position += 4;
+        return value;
+    }
+
+    long readVarLong() throws IllegalValueException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            if (position >= limit) {
+                throw corrupted();
+            }
+            byte b = bytes.get(position++);
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw corrupted();
+    }
+
+    long readZigZagVarLong() throws IllegalValueException {
+        long value = readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Reads a count of items that each take at least one more byte, so that it can be checked against the bytes
+     * left before anything is allocated for them.
+     */
+    int readCount() throws IllegalValueException {
+        long count = readVarLong();
+        if (count < 0 || count > limit - position) {
+            throw corrupted();
+        }
+        return (int) count;
+    }
+
+    int readIndex(int bound) throws IllegalValueException {
+        long index = readVarLong();
+        if (index < 0 || index >= bound) {
+            throw corrupted();
+        }
+        return (int) index;
+    }
+
+    String readString() throws IllegalValueException {
+        int length = readCount();
+        String value;
+        if (bytes.hasArray()) {
+            value = new String(bytes.array(), bytes.arrayOffset() + position, length, UTF_8);
+        } else {
+            byte[] copy = new byte[length];
+            bytes.get(position, copy);
+            value = new String(copy, UTF_8);
+        }
+        position += length;
+        return value;
+    }
+
+    void checkFullyRead() throws IllegalValueException {
+        if (position != limit) {
+            throw corrupted();
+        }
+    }
+
+    IllegalValueException corrupted() {
+        return new IllegalValueException(corruptedMessage);
+    }
+}
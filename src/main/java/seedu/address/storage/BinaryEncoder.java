@@ -0,0 +1,95 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * Encodes values into a growing byte array, for the binary storage formats.
+ * Counts, lengths, indices and numbers are varints, and strings are UTF-8 prefixed by their length.
+ */
+class BinaryEncoder {
+
+    static final int CHECKSUM_SIZE = 4;
+
+    private byte[] buffer = new byte[4096];
+    private int size;
+
+    /**
+     * Returns the number of bytes encoded so far.
+     */
+    int size() {
+        return size;
+    }
+
+    void writeBytes(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, size, bytes.length);
+        size += bytes.length;
+    }
+
+    void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[size++] = (byte) value;
+    }
+
+    /**
+     * Writes {@code value} as four big-endian bytes.
+     */
+    void writeInt(int value) {
+        ensureCapacity(4);
+        for (int shift = 24; shift >= 0; shift -= 8) {
+            buffer[size++] = (byte) (value >>> shift);
+        }
+    }
+
+    /**
+     * Overwrites the four bytes at {@code position}, which must already have been written, with {@code value}.
+     */
+    void setInt(int position, int value) {
+        for (int i = 0; i < 4; i++) {
+            buffer[position + i] = (byte) (value >>> (24 - 8 * i));
+        }
+    }
+
+    void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[size++] = (byte) value;
+    }
+
+    void writeZigZagVarLong(long value) {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    void writeString(String value) {
+        byte[] bytes = value.getBytes(UTF_8);
+        writeVarLong(bytes.length);
+        writeBytes(bytes);
+    }
+
+    /**
+     * Writes a CRC32 of the bytes from {@code from} up to here.
+     */
+    void writeChecksum(int from) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer, from, size - from);
+        writeInt((int) crc.getValue());
+    }
+
+    void writeTo(OutputStream out) throws IOException {
+        out.write(buffer, 0, size);
+    }
+
+    private void ensureCapacity(int extra) {
+        if (size + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+        }
+    }
+}
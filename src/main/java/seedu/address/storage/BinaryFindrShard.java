@@ -0,0 +1,227 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.DateAdded;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Rating;
+import seedu.address.model.person.Stage;
+import seedu.address.model.tag.Tag;
+import seedu.address.storage.JsonFindrShard.Shard;
+
+/**
+ * Reads and writes one shard of a {@link ShardedFindrStorage} in a compact binary format, which holds the same data
+ * as {@link JsonFindrShard} in a fraction of the space and is decoded without a general-purpose parser.
+ *
+ * A shard file starts with the magic bytes {@code FNDR} and a format version. A dictionary of the distinct tags held
+ * by the candidates of the shard follows, which each candidate refers to by index, and then the candidates, each
+ * with the gap from the previous ordinal. Counts, lengths, indices and numbers are varints, strings are UTF-8,
+ * {@code Rating} and {@code Stage} are enum ordinals and {@code DateAdded} is epoch milliseconds. The file ends with
+ * a CRC32 of everything before it, so that a damaged file is rejected rather than misread.
+ */
+class BinaryFindrShard {
+
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Shard %s has unsupported format version %d.";
+    public static final String MESSAGE_CORRUPTED = "Shard %s is corrupted.";
+
+    static final int VERSION = 1;
+
+    private static final byte[] MAGIC = {'F', 'N', 'D', 'R'};
+    private static final Rating[] RATINGS = Rating.values();
+    private static final Stage[] STAGES = Stage.values();
+
+    private BinaryFindrShard() {}
+
+    /**
+     * Returns true if the file at {@code filePath} starts with the magic bytes of this format.
+     *
+     * @throws IOException if the file could not be read.
+     */
+    public static boolean isBinary(Path filePath) throws IOException {
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return Arrays.equals(in.readNBytes(MAGIC.length), MAGIC);
+        }
+    }
+
+    /**
+     * Writes {@code persons}, each with the ordinal at the same index of {@code ordinals}, to the file at
+     * {@code filePath}, replacing any existing content.
+     *
+     * @throws IOException if the file could not be written.
+     */
+    public static void write(List<Person> persons, long[] ordinals, Path filePath) throws IOException {
+        Map<Tag, Integer> dictionary = new LinkedHashMap<>();
+        for (Person person : persons) {
+            for (Tag tag : person.getTags()) {
+                dictionary.putIfAbsent(tag, dictionary.size());
+            }
+        }
+
+        BinaryEncoder encoder = new BinaryEncoder();
+        encoder.writeBytes(MAGIC);
+        encoder.writeVarLong(VERSION);
+        writeTags(encoder, dictionary.keySet());
+
+        encoder.writeVarLong(persons.size());
+        long previousOrdinal = -1;
+        for (int i = 0; i < persons.size(); i++) {
+            encoder.writeVarLong(ordinals[i] - previousOrdinal);
+            previousOrdinal = ordinals[i];
+            writePerson(encoder, persons.get(i), dictionary);
+        }
+        encoder.writeChecksum(0);
+
+        try (OutputStream out = Files.newOutputStream(filePath)) {
+            encoder.writeTo(out);
+        }
+    }
+
+    /**
+     * Reads the shard in the file at {@code filePath}.
+     * Candidates hold the instances in {@code catalogue} of the tags equal to them, so that loading them into a
+     * {@code Findr} does not have to rebuild each candidate to resolve its tags.
+     *
+     * @throws IOException if the file could not be read.
+     * @throws IllegalValueException if the file is damaged, of an unsupported version, or there were any data
+     *     constraints violated.
+     */
+    public static Shard read(Path filePath, List<Tag> catalogue) throws IOException, IllegalValueException {
+        String shardName = filePath.getFileName().toString();
+        byte[] content = Files.readAllBytes(filePath);
+        ByteBuffer bytes = ByteBuffer.wrap(content);
+        int limit = content.length - BinaryEncoder.CHECKSUM_SIZE;
+        if (limit < MAGIC.length || !Arrays.equals(content, 0, MAGIC.length, MAGIC, 0, MAGIC.length)
+                || !BinaryDecoder.isChecksumValid(bytes, 0, limit)) {
+            throw new IllegalValueException(String.format(MESSAGE_CORRUPTED, shardName));
+        }
+        BinaryDecoder decoder = new BinaryDecoder(bytes, MAGIC.length, limit,
+                String.format(MESSAGE_CORRUPTED, shardName));
+
+        long version = decoder.readVarLong();
+        if (version != VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, shardName, version));
+        }
+
+        Map<Tag, Tag> catalogueTags = new HashMap<>();
+        catalogue.forEach(tag -> catalogueTags.put(tag, tag));
+        Tag[] dictionary = readTags(decoder);
+        for (int i = 0; i < dictionary.length; i++) {
+            dictionary[i] = catalogueTags.getOrDefault(dictionary[i], dictionary[i]);
+        }
+
+        int personCount = decoder.readCount();
+        long[] ordinals = new long[personCount];
+        List<Person> persons = new ArrayList<>(personCount);
+        long previousOrdinal = -1;
+        for (int i = 0; i < personCount; i++) {
+            long gap = decoder.readVarLong();
+            if (gap <= 0) {
+                throw new IllegalValueException(String.format(JsonFindrShard.MESSAGE_UNORDERED, shardName));
+            }
+            ordinals[i] = previousOrdinal + gap;
+            previousOrdinal = ordinals[i];
+            persons.add(readPerson(decoder, dictionary));
+        }
+
+        decoder.checkFullyRead();
+        return new Shard(ordinals, persons);
+    }
+
+    /**
+     * Writes the count of {@code tags}, then the fields of each of them.
+     */
+    static void writeTags(BinaryEncoder encoder, Collection<Tag> tags) {
+        encoder.writeVarLong(tags.size());
+        for (Tag tag : tags) {
+            encoder.writeString(tag.tagName);
+            encoder.writeString(tag.category);
+            encoder.writeString(tag.colour);
+            encoder.writeString(tag.description);
+        }
+    }
+
+    /**
+     * Reads tags written by {@link #writeTags}.
+     *
+     * @throws IllegalValueException if the data is damaged, or there were any data constraints violated.
+     */
+    static Tag[] readTags(BinaryDecoder decoder) throws IllegalValueException {
+        Tag[] tags = new Tag[decoder.readCount()];
+        for (int i = 0; i < tags.length; i++) {
+            tags[i] = new JsonAdaptedTag(decoder.readString(), decoder.readString(), decoder.readString(),
+                    decoder.readString()).toModelType();
+        }
+        return tags;
+    }
+
+    /**
+     * Writes the fields of {@code person}, with its tags as their indices in {@code dictionary}.
+     */
+    static void writePerson(BinaryEncoder encoder, Person person, Map<Tag, Integer> dictionary) {
+        encoder.writeString(person.getName().fullName);
+        encoder.writeString(person.getPhone().value);
+        encoder.writeString(person.getEmail().value);
+        encoder.writeString(person.getAddress().value);
+        encoder.writeVarLong(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            encoder.writeVarLong(dictionary.get(tag));
+        }
+        encoder.writeZigZagVarLong(person.getDateAdded().date().getTime());
+        encoder.writeVarLong(person.getRating().ordinal());
+        encoder.writeVarLong(person.getStage().ordinal());
+    }
+
+    /**
+     * Reads a person written by {@link #writePerson}, with its tags looked up in {@code dictionary}.
+     *
+     * @throws IllegalValueException if the data is damaged, or there were any data constraints violated.
+     */
+    static Person readPerson(BinaryDecoder decoder, Tag[] dictionary) throws IllegalValueException {
+        String name = decoder.readString();
+        requireValid(Name.isValidName(name), Name.MESSAGE_CONSTRAINTS);
+        String phone = decoder.readString();
+        requireValid(Phone.isValidPhone(phone), Phone.MESSAGE_CONSTRAINTS);
+        String email = decoder.readString();
+        requireValid(Email.isValidEmail(email), Email.MESSAGE_CONSTRAINTS);
+        String address = decoder.readString();
+        requireValid(Address.isValidAddress(address), Address.MESSAGE_CONSTRAINTS);
+
+        int tagCount = decoder.readCount();
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(dictionary[decoder.readIndex(dictionary.length)]);
+        }
+
+        DateAdded date = new DateAdded(new Date(decoder.readZigZagVarLong()));
+        Rating rating = RATINGS[decoder.readIndex(RATINGS.length)];
+        Stage stage = STAGES[decoder.readIndex(STAGES.length)];
+        return new Person(new Name(name), new Phone(phone), new Email(email), new Address(address), tags, date,
+                rating, stage);
+    }
+
+    private static void requireValid(boolean isValid, String message) throws IllegalValueException {
+        if (!isValid) {
+            throw new IllegalValueException(message);
+        }
+    }
+}
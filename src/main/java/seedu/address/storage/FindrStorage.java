@@ -2,10 +2,12 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.Findr;
+import seedu.address.model.FindrMutation;
 import seedu.address.model.ReadOnlyFindr;
 
 /**
@@ -43,4 +45,17 @@ public interface FindrStorage {
      */
     void saveCandidateList(ReadOnlyFindr candidateList, Path filePath) throws IOException;
 
+    /**
+     * Saves the changes in {@code mutations}, which turned the candidate list last read from or saved to this
+     * storage into {@code candidateList}.
+     * Storages that cannot record individual changes save the whole of {@code candidateList}, which is the default.
+     *
+     * @param mutations the changes, in the order they were made.
+     * @param candidateList the candidate list after the changes. Must not be retained after this call returns.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void saveMutations(List<FindrMutation> mutations, ReadOnlyFindr candidateList) throws IOException {
+        saveCandidateList(candidateList);
+    }
+
 }
@@ -0,0 +1,363 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.Findr;
+import seedu.address.model.FindrMutation;
+import seedu.address.model.ReadOnlyFindr;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.exceptions.DuplicateTagException;
+import seedu.address.model.tag.exceptions.TagNotFoundException;
+
+/**
+ * A class to access Candidate List data stored as a json snapshot plus an append-only journal of the changes made
+ * since that snapshot.
+ *
+ * Saving a batch of changes appends one compact record per change to the journal and forces it to disk, so the cost
+ * depends on the size of the changes rather than the size of the candidate list. Once the journal would hold more
+ * than the compaction threshold, or a change replaces the whole list, the journal is compacted into a new snapshot.
+ *
+ * The journal starts with a header holding the checksum of the snapshot it applies to, and each record carries its
+ * own checksum. On reading, a journal written against another snapshot is ignored, and a torn final record left
+ * behind by an interrupted append is discarded.
+ */
+public class JournaledFindrStorage implements FindrStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+    public static final String MESSAGE_CORRUPTED_RECORD = "Journal record %d in %s is corrupted.";
+
+    static final String HEADER_PREFIX = "findr-journal 1 ";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledFindrStorage.class);
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private final Path filePath;
+    private final int compactionThreshold;
+    private final JsonFindrStorage snapshotStorage;
+
+    // Whether the journal on disk applies to the snapshot on disk, so that new records may be appended to it
+    private boolean isJournalCurrent;
+    private int journalRecordCount;
+
+    public JournaledFindrStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledFindrStorage} that compacts its journal once it would hold more than
+     * {@code compactionThreshold} records.
+     */
+    public JournaledFindrStorage(Path filePath, int compactionThreshold) {
+        this(filePath, compactionThreshold, false);
+    }
+
+    /**
+     * Creates a {@code JournaledFindrStorage} that compacts its journal once it would hold more than
+     * {@code compactionThreshold} records, and writes its snapshots without indentation or line breaks if
+     * {@code isCompact} is true.
+     */
+    public JournaledFindrStorage(Path filePath, int compactionThreshold, boolean isCompact) {
+        requireNonNull(filePath);
+        checkArgument(compactionThreshold > 0, "Compaction threshold must be positive.");
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+        this.snapshotStorage = new JsonFindrStorage(filePath, isCompact);
+    }
+
+    @Override
+    public Path getFindrFilePath() {
+        return filePath;
+    }
+
+    public Path getJournalFilePath() {
+        return journalPathFor(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyFindr> readCandidateList() throws DataLoadingException {
+        return readCandidateList(filePath);
+    }
+
+    /**
+     * Similar to {@link #readCandidateList()}.
+     * Replays the journal kept next to {@code filePath}, if it applies to the snapshot at {@code filePath}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyFindr> readCandidateList(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        boolean isOwnFile = filePath.equals(this.filePath);
+        if (isOwnFile) {
+            isJournalCurrent = false;
+        }
+
+        Optional<ReadOnlyFindr> snapshot = snapshotStorage.readCandidateList(filePath);
+        if (snapshot.isEmpty()) {
+            return snapshot;
+        }
+
+        Findr findr = snapshot.get() instanceof Findr loaded ? loaded : new Findr(snapshot.get());
+        int replayedCount;
+        try {
+            replayedCount = replayJournal(filePath, findr);
+        } catch (IOException e) {
+            logger.warning("Error reading journal for " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        if (isOwnFile && replayedCount >= 0) {
+            isJournalCurrent = true;
+            journalRecordCount = replayedCount;
+        }
+        return Optional.of(findr);
+    }
+
+    @Override
+    public void saveCandidateList(ReadOnlyFindr candidateList) throws IOException {
+        saveCandidateList(candidateList, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveCandidateList(ReadOnlyFindr)}.
+     * Writes a new snapshot to {@code filePath} and starts an empty journal for it.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public synchronized void saveCandidateList(ReadOnlyFindr candidateList, Path filePath) throws IOException {
+        requireAllNonNull(candidateList, filePath);
+        boolean isOwnFile = filePath.equals(this.filePath);
+        if (isOwnFile) {
+            isJournalCurrent = false;
+        }
+
+        writeSnapshot(candidateList, filePath);
+
+        if (isOwnFile) {
+            isJournalCurrent = true;
+            journalRecordCount = 0;
+        }
+    }
+
+    @Override
+    public synchronized void saveMutations(List<FindrMutation> mutations, ReadOnlyFindr candidateList)
+            throws IOException {
+        requireAllNonNull(mutations, candidateList);
+        boolean mustCompact = !isJournalCurrent
+                || journalRecordCount + mutations.size() > compactionThreshold
+                || mutations.stream().anyMatch(FindrMutation::isWholesale);
+        if (mustCompact) {
+            saveCandidateList(candidateList);
+            return;
+        }
+
+        try {
+            appendAndForce(getJournalFilePath(), recordsOf(mutations));
+        } catch (IOException e) {
+            // The journal may now end in a partial record, so start afresh from a snapshot next time
+            isJournalCurrent = false;
+            throw e;
+        }
+        journalRecordCount += mutations.size();
+    }
+
+    /**
+     * Applies the records of the journal next to {@code snapshotPath} to {@code findr}.
+     * A torn final record is discarded and cut off the journal.
+     *
+     * @return the number of records applied, or -1 if there is no journal for the snapshot at {@code snapshotPath}.
+     * @throws DataLoadingException if a record before the final one is corrupted or cannot be applied.
+     */
+    private int replayJournal(Path snapshotPath, Findr findr) throws IOException, DataLoadingException {
+        Path journalPath = journalPathFor(snapshotPath);
+        if (!Files.exists(journalPath)) {
+            return -1;
+        }
+
+        String header = HEADER_PREFIX + checksumOf(Files.readAllBytes(snapshotPath));
+        Optional<List<FindrMutation>> replayed = replay(journalPath, header, findr);
+        if (replayed.isEmpty()) {
+            logger.info("Ignoring journal " + journalPath + " as it was not written for " + snapshotPath);
+            return -1;
+        }
+        return replayed.get().size();
+    }
+
+    /**
+     * Returns the journal records of {@code mutations}, one line each, ready to be appended to a journal.
+     *
+     * @throws IllegalArgumentException if one of {@code mutations} replaces the whole candidate list or tag
+     *     catalogue.
+     */
+    static byte[] recordsOf(List<FindrMutation> mutations) throws IOException {
+        StringBuilder records = new StringBuilder();
+        for (FindrMutation mutation : mutations) {
+            String json = JsonUtil.toCompactJsonString(JsonAdaptedFindrMutation.fromModelType(mutation));
+            records.append(checksumOf(json.getBytes(UTF_8))).append(' ').append(json).append('\n');
+        }
+        return records.toString().getBytes(UTF_8);
+    }
+
+    /**
+     * Applies the records of the journal at {@code journalPath} to {@code findr}, if the journal starts with
+     * {@code header}. A torn final record is discarded and cut off the journal.
+     *
+     * @return the mutations applied, in order, or {@code Optional.empty()} if there is no journal at
+     *     {@code journalPath} starting with {@code header}.
+     * @throws DataLoadingException if a record before the final one is corrupted or cannot be applied.
+     */
+    static Optional<List<FindrMutation>> replay(Path journalPath, String header, Findr findr)
+            throws IOException, DataLoadingException {
+        if (!Files.exists(journalPath)) {
+            return Optional.empty();
+        }
+
+        byte[] journal = Files.readAllBytes(journalPath);
+        int headerEnd = indexOfNewline(journal, 0);
+        if (headerEnd < 0 || !new String(journal, 0, headerEnd, UTF_8).equals(header)) {
+            return Optional.empty();
+        }
+
+        List<FindrMutation> replayed = new ArrayList<>();
+        int recordStart = headerEnd + 1;
+        while (recordStart < journal.length) {
+            int recordEnd = indexOfNewline(journal, recordStart);
+            boolean isFinalRecord = recordEnd < 0 || recordEnd == journal.length - 1;
+            Optional<FindrMutation> mutation = recordEnd < 0
+                    ? Optional.empty()
+                    : parseRecord(new String(journal, recordStart, recordEnd - recordStart, UTF_8));
+
+            if (mutation.isEmpty()) {
+                if (!isFinalRecord) {
+                    throw new DataLoadingException(new IllegalValueException(
+                            String.format(MESSAGE_CORRUPTED_RECORD, replayed.size() + 1, journalPath)));
+                }
+                logger.warning("Discarding torn final record of journal " + journalPath);
+                truncate(journalPath, recordStart);
+                break;
+            }
+
+            try {
+                mutation.get().applyTo(findr);
+            } catch (DuplicatePersonException | PersonNotFoundException
+                    | DuplicateTagException | TagNotFoundException e) {
+                throw new DataLoadingException(e);
+            }
+            replayed.add(mutation.get());
+            recordStart = recordEnd + 1;
+        }
+        return Optional.of(replayed);
+    }
+
+    /**
+     * Returns the mutation in {@code record}, or {@code Optional.empty()} if the record is damaged.
+     */
+    private static Optional<FindrMutation> parseRecord(String record) {
+        int separator = record.indexOf(' ');
+        if (separator < 0) {
+            return Optional.empty();
+        }
+
+        String json = record.substring(separator + 1);
+        if (!record.substring(0, separator).equals(checksumOf(json.getBytes(UTF_8)))) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(JsonUtil.fromJsonString(json, JsonAdaptedFindrMutation.class).toModelType());
+        } catch (IOException | IllegalValueException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes {@code candidateList} as the snapshot at {@code snapshotPath} and replaces its journal with an empty
+     * one. Each file is written in full before it replaces the previous one, so an interruption leaves either the
+     * old or the new snapshot, and a journal that is either empty or ignored for not matching the snapshot.
+     */
+    private void writeSnapshot(ReadOnlyFindr candidateList, Path snapshotPath) throws IOException {
+        Path tempSnapshot = tempPathFor(snapshotPath);
+        snapshotStorage.saveCandidateList(candidateList, tempSnapshot);
+        byte[] snapshot = Files.readAllBytes(tempSnapshot);
+        FileUtil.forceToDisk(tempSnapshot);
+        FileUtil.moveReplacing(tempSnapshot, snapshotPath);
+
+        startJournal(journalPathFor(snapshotPath), HEADER_PREFIX + checksumOf(snapshot));
+    }
+
+    /**
+     * Replaces the journal at {@code journalPath}, if any, with an empty one starting with {@code header}.
+     * The new journal is written in full before it replaces the old one.
+     */
+    static void startJournal(Path journalPath, String header) throws IOException {
+        Path tempJournal = tempPathFor(journalPath);
+        Files.deleteIfExists(tempJournal);
+        appendAndForce(tempJournal, (header + "\n").getBytes(UTF_8));
+        FileUtil.moveReplacing(tempJournal, journalPath);
+    }
+
+    static void appendAndForce(Path file, byte[] bytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+    }
+
+    private static void truncate(Path file, long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(size);
+            channel.force(true);
+        }
+    }
+
+    private static int indexOfNewline(byte[] bytes, int from) {
+        for (int i = from; i < bytes.length; i++) {
+            if (bytes[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String checksumOf(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return String.format("%08x", crc.getValue());
+    }
+
+    private static Path journalPathFor(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    private static Path tempPathFor(Path path) {
+        return path.resolveSibling(path.getFileName() + TEMP_FILE_SUFFIX);
+    }
+}
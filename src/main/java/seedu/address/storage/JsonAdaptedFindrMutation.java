@@ -0,0 +1,115 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.FindrMutation;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Jackson-friendly version of a single-candidate or single-tag {@link FindrMutation}, as recorded in a journal.
+ * Mutations that replace the whole candidate list or tag catalogue are not journaled.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedFindrMutation {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal record's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_TYPE = "Journal record has unknown type: %s";
+
+    static final String ADD_CANDIDATE = "addCandidate";
+    static final String SET_CANDIDATE = "setCandidate";
+    static final String REMOVE_CANDIDATE = "removeCandidate";
+    static final String ADD_TAG = "addTag";
+    static final String SET_TAG = "setTag";
+    static final String REMOVE_TAG = "removeTag";
+
+    private final String type;
+    private final JsonAdaptedPerson target;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedTag targetTag;
+    private final JsonAdaptedTag tag;
+
+    /**
+     * Constructs a {@code JsonAdaptedFindrMutation} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedFindrMutation(@JsonProperty("type") String type,
+            @JsonProperty("target") JsonAdaptedPerson target, @JsonProperty("person") JsonAdaptedPerson person,
+            @JsonProperty("targetTag") JsonAdaptedTag targetTag, @JsonProperty("tag") JsonAdaptedTag tag) {
+        this.type = type;
+        this.target = target;
+        this.person = person;
+        this.targetTag = targetTag;
+        this.tag = tag;
+    }
+
+    /**
+     * Converts a given {@code FindrMutation} into this class for Jackson use.
+     *
+     * @throws IllegalArgumentException if {@code source} replaces the whole candidate list or tag catalogue.
+     */
+    public static JsonAdaptedFindrMutation fromModelType(FindrMutation source) {
+        if (source instanceof FindrMutation.AddCandidate add) {
+            return new JsonAdaptedFindrMutation(ADD_CANDIDATE, null, new JsonAdaptedPerson(add.person()), null, null);
+        } else if (source instanceof FindrMutation.SetCandidate set) {
+            return new JsonAdaptedFindrMutation(SET_CANDIDATE, new JsonAdaptedPerson(set.target()),
+                    new JsonAdaptedPerson(set.editedPerson()), null, null);
+        } else if (source instanceof FindrMutation.RemoveCandidate remove) {
+            return new JsonAdaptedFindrMutation(REMOVE_CANDIDATE, null, new JsonAdaptedPerson(remove.person()),
+                    null, null);
+        } else if (source instanceof FindrMutation.AddTag add) {
+            return new JsonAdaptedFindrMutation(ADD_TAG, null, null, null, new JsonAdaptedTag(add.tag()));
+        } else if (source instanceof FindrMutation.SetTag set) {
+            return new JsonAdaptedFindrMutation(SET_TAG, null, null, new JsonAdaptedTag(set.target()),
+                    new JsonAdaptedTag(set.editedTag()));
+        } else if (source instanceof FindrMutation.RemoveTag remove) {
+            return new JsonAdaptedFindrMutation(REMOVE_TAG, null, null, null, new JsonAdaptedTag(remove.tag()));
+        }
+        throw new IllegalArgumentException("Cannot journal " + source.getClass().getSimpleName());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted record into the model's {@code FindrMutation} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted record.
+     */
+    public FindrMutation toModelType() throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+
+        switch (type) {
+        case ADD_CANDIDATE:
+            return new FindrMutation.AddCandidate(toPerson(person, "person"));
+        case SET_CANDIDATE:
+            return new FindrMutation.SetCandidate(toPerson(target, "target"), toPerson(person, "person"));
+        case REMOVE_CANDIDATE:
+            return new FindrMutation.RemoveCandidate(toPerson(person, "person"));
+        case ADD_TAG:
+            return new FindrMutation.AddTag(toTag(tag, "tag"));
+        case SET_TAG:
+            return new FindrMutation.SetTag(toTag(targetTag, "targetTag"), toTag(tag, "tag"));
+        case REMOVE_TAG:
+            return new FindrMutation.RemoveTag(toTag(tag, "tag"));
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_TYPE, type));
+        }
+    }
+
+    private static Person toPerson(JsonAdaptedPerson adaptedPerson, String fieldName) throws IllegalValueException {
+        if (adaptedPerson == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+        return adaptedPerson.toModelType();
+    }
+
+    private static Tag toTag(JsonAdaptedTag adaptedTag, String fieldName) throws IllegalValueException {
+        if (adaptedTag == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+        return adaptedTag.toModelType();
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Jackson-friendly version of the manifest of a {@link ShardedFindrStorage}.
+ * The manifest names the file that currently holds each shard, and holds the tag catalogue, which is small enough
+ * to be rewritten with every save.
+ */
+class JsonFindrManifest {
+
+    public static final String MESSAGE_NO_SHARDS = "Manifest does not list any shards.";
+    public static final String MESSAGE_INVALID_SHARD_NAME = "Manifest lists an invalid shard file name: %s";
+
+    private final long generation;
+    private final List<String> shards = new ArrayList<>();
+    private final List<JsonAdaptedTag> tags = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonFindrManifest} with the given details.
+     */
+    @JsonCreator
+    public JsonFindrManifest(@JsonProperty("generation") long generation,
+                             @JsonProperty("shards") List<String> shards,
+                             @JsonProperty("tags") List<JsonAdaptedTag> tags) {
+        this.generation = generation;
+        if (shards != null) {
+            this.shards.addAll(shards);
+        }
+        if (tags != null) {
+            this.tags.addAll(tags);
+        }
+    }
+
+    /**
+     * Constructs a {@code JsonFindrManifest} for the shard files {@code shards} written in {@code generation}, and
+     * the tag catalogue {@code tags}.
+     */
+    public JsonFindrManifest(long generation, String[] shards, List<Tag> tags) {
+        this.generation = generation;
+        this.shards.addAll(List.of(shards));
+        tags.stream().map(JsonAdaptedTag::new).forEach(this.tags::add);
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the file names of the shards, in shard order.
+     *
+     * @throws IllegalValueException if there are no shards, or a name is not a plain file name.
+     */
+    public String[] getShards() throws IllegalValueException {
+        if (shards.isEmpty()) {
+            throw new IllegalValueException(MESSAGE_NO_SHARDS);
+        }
+        for (String shard : shards) {
+            if (shard == null || shard.isEmpty() || shard.contains("/") || shard.contains("\\")
+                    || shard.startsWith(".")) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_SHARD_NAME, shard));
+            }
+        }
+        return shards.toArray(String[]::new);
+    }
+
+    /**
+     * Converts the tag catalogue into the model's {@code Tag} objects.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted tags.
+     */
+    public List<Tag> getTags() throws IllegalValueException {
+        return ParallelConverter.convertAll(tags, JsonAdaptedTag::toModelType);
+    }
+}
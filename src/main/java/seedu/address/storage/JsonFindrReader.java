@@ -0,0 +1,123 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.Findr;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads a candidate list json file, in the format written by {@link JsonSerializableFindr}, one record at a time.
+ * Candidates are read in batches of adapted records, and each batch is converted into {@code Person}s in parallel
+ * before the next is read, so that only one batch of the file is held in memory in adapted form at any point,
+ * rather than the whole file and its adapted object graph.
+ *
+ * The tags and candidates read are bulk-loaded into a {@code Findr} once the whole file has been read, so the
+ * catalogue and candidates may appear in either order.
+ */
+class JsonFindrReader {
+
+    public static final String MESSAGE_NOT_AN_OBJECT = "Candidate list file does not hold a JSON object.";
+    public static final String MESSAGE_NOT_AN_ARRAY = "Candidate list's %s field is not a JSON array.";
+
+    static final String PERSONS_FIELD = "persons";
+    static final String TAGS_FIELD = "tags";
+
+    /** Number of adapted candidates read before they are converted. */
+    static final int CONVERSION_BATCH_SIZE = 8192;
+
+    private final JsonParser parser;
+    private final List<Tag> tags = new ArrayList<>();
+    private final List<Person> persons = new ArrayList<>();
+
+    private JsonFindrReader(JsonParser parser) {
+        this.parser = parser;
+    }
+
+    /**
+     * Reads the candidate list in the json file at {@code filePath}.
+     *
+     * @throws IOException if the file could not be read or is not valid json.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static Findr read(Path filePath) throws IOException, IllegalValueException {
+        try (InputStream in = Files.newInputStream(filePath); JsonParser parser = JsonUtil.createParser(in)) {
+            return new JsonFindrReader(parser).read();
+        }
+    }
+
+    private Findr read() throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IllegalValueException(MESSAGE_NOT_AN_OBJECT);
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName) {
+            case PERSONS_FIELD:
+                readPersons();
+                break;
+            case TAGS_FIELD:
+                readTags();
+                break;
+            default:
+                parser.skipChildren();
+                break;
+            }
+        }
+
+        return JsonSerializableFindr.toFindr(tags, persons);
+    }
+
+    private void readPersons() throws IOException, IllegalValueException {
+        if (!enterArray(PERSONS_FIELD)) {
+            return;
+        }
+
+        List<JsonAdaptedPerson> batch = new ArrayList<>(CONVERSION_BATCH_SIZE);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            batch.add(parser.readValueAs(JsonAdaptedPerson.class));
+            if (batch.size() == CONVERSION_BATCH_SIZE) {
+                persons.addAll(ParallelConverter.convertAll(batch, JsonAdaptedPerson::toModelType));
+                batch.clear();
+            }
+        }
+        persons.addAll(ParallelConverter.convertAll(batch, JsonAdaptedPerson::toModelType));
+    }
+
+    private void readTags() throws IOException, IllegalValueException {
+        if (!enterArray(TAGS_FIELD)) {
+            return;
+        }
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            tags.add(parser.readValueAs(JsonAdaptedTag.class).toModelType());
+        }
+    }
+
+    /**
+     * Checks that the current token starts an array, or is null, which is read as an absent field.
+     *
+     * @return true if the parser is now inside an array.
+     */
+    private boolean enterArray(String fieldName) throws IllegalValueException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return false;
+        }
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new IllegalValueException(String.format(MESSAGE_NOT_AN_ARRAY, fieldName));
+        }
+        return true;
+    }
+}
@@ -0,0 +1,139 @@
+package seedu.address.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads and writes one shard of a {@link ShardedFindrStorage} as a json file, one candidate at a time.
+ * Each candidate is stored with its ordinal, the key that places it in the candidate list relative to the candidates
+ * of every other shard. A shard holds its candidates in increasing order of ordinal.
+ */
+class JsonFindrShard {
+
+    public static final String MESSAGE_NOT_A_SHARD = "Shard %s does not hold a JSON object with a candidates array.";
+    public static final String MESSAGE_INCOMPLETE_CANDIDATE = "Shard %s has a candidate without an ordinal or details.";
+    public static final String MESSAGE_UNORDERED = "Shard %s does not hold its candidates in order.";
+
+    static final String CANDIDATES_FIELD = "candidates";
+    static final String ORDINAL_FIELD = "ordinal";
+    static final String PERSON_FIELD = "person";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The candidates of a shard, in order, with their ordinals.
+     */
+    record Shard(long[] ordinals, List<Person> persons) {}
+
+    private JsonFindrShard() {}
+
+    /**
+     * Writes {@code persons}, each with the ordinal at the same index of {@code ordinals}, to the json file at
+     * {@code filePath}, replacing any existing content.
+     *
+     * @param isCompact whether to leave out the indentation and line breaks that make the file human-readable.
+     * @throws IOException if the file could not be written.
+     */
+    public static void write(List<Person> persons, long[] ordinals, Path filePath, boolean isCompact)
+            throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(filePath), BUFFER_SIZE);
+                JsonGenerator generator = JsonUtil.createGenerator(out, !isCompact)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(CANDIDATES_FIELD);
+            for (int i = 0; i < persons.size(); i++) {
+                generator.writeStartObject();
+                generator.writeNumberField(ORDINAL_FIELD, ordinals[i]);
+                generator.writeFieldName(PERSON_FIELD);
+                generator.writeObject(new JsonAdaptedPerson(persons.get(i)));
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Reads the shard in the json file at {@code filePath}.
+     *
+     * @throws IOException if the file could not be read or is not valid json.
+     * @throws IllegalValueException if the shard is malformed or there were any data constraints violated.
+     */
+    public static Shard read(Path filePath) throws IOException, IllegalValueException {
+        try (InputStream in = Files.newInputStream(filePath); JsonParser parser = JsonUtil.createParser(in)) {
+            String shardName = filePath.getFileName().toString();
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalValueException(String.format(MESSAGE_NOT_A_SHARD, shardName));
+            }
+
+            Shard shard = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                if (fieldName.equals(CANDIDATES_FIELD) && parser.getCurrentToken() == JsonToken.START_ARRAY) {
+                    shard = readCandidates(parser, shardName);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+
+            if (shard == null) {
+                throw new IllegalValueException(String.format(MESSAGE_NOT_A_SHARD, shardName));
+            }
+            return shard;
+        }
+    }
+
+    private static Shard readCandidates(JsonParser parser, String shardName)
+            throws IOException, IllegalValueException {
+        long[] ordinals = new long[16];
+        List<Person> persons = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            Long ordinal = null;
+            Person person = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                if (fieldName.equals(ORDINAL_FIELD) && parser.getCurrentToken() == JsonToken.VALUE_NUMBER_INT) {
+                    ordinal = parser.getLongValue();
+                } else if (fieldName.equals(PERSON_FIELD) && parser.getCurrentToken() == JsonToken.START_OBJECT) {
+                    person = parser.readValueAs(JsonAdaptedPerson.class).toModelType();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+
+            if (ordinal == null || person == null) {
+                throw new IllegalValueException(String.format(MESSAGE_INCOMPLETE_CANDIDATE, shardName));
+            }
+            int index = persons.size();
+            if (index > 0 && ordinal <= ordinals[index - 1]) {
+                throw new IllegalValueException(String.format(MESSAGE_UNORDERED, shardName));
+            }
+            if (index == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, index * 2);
+            }
+            ordinals[index] = ordinal;
+            persons.add(person);
+        }
+
+        if (parser.getCurrentToken() != JsonToken.END_ARRAY) {
+            throw new IllegalValueException(String.format(MESSAGE_NOT_A_SHARD, shardName));
+        }
+        return new Shard(Arrays.copyOf(ordinals, persons.size()), persons);
+    }
+}
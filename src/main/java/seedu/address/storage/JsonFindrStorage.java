@@ -3,6 +3,7 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -11,7 +12,6 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyFindr;
 
 /**
@@ -22,9 +22,19 @@ public class JsonFindrStorage implements FindrStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonFindrStorage.class);
 
     private Path filePath;
+    private final boolean isCompact;
 
     public JsonFindrStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonFindrStorage} that writes {@code filePath} without indentation or line breaks if
+     * {@code isCompact} is true.
+     */
+    public JsonFindrStorage(Path filePath, boolean isCompact) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
     }
 
     public Path getFindrFilePath() {
@@ -38,6 +48,7 @@ public class JsonFindrStorage implements FindrStorage {
 
     /**
      * Similar to {@link #readCandidateList()}.
+     * The file is streamed, one candidate record at a time, rather than read into memory as a whole.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
@@ -45,14 +56,16 @@ public class JsonFindrStorage implements FindrStorage {
     public Optional<ReadOnlyFindr> readCandidateList(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableFindr> jsonCandidateList = JsonUtil.readJsonFile(
-                filePath, JsonSerializableFindr.class);
-        if (!jsonCandidateList.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
 
         try {
-            return Optional.of(jsonCandidateList.get().toModelType());
+            return Optional.of(JsonFindrReader.read(filePath));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -66,6 +79,7 @@ public class JsonFindrStorage implements FindrStorage {
 
     /**
      * Similar to {@link #saveCandidateList(ReadOnlyFindr)}.
+     * The file is written one record at a time, rather than built in memory as a whole.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -74,7 +88,7 @@ public class JsonFindrStorage implements FindrStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableFindr(candidateList), filePath);
+        JsonFindrWriter.write(candidateList, filePath, isCompact);
     }
 
 }
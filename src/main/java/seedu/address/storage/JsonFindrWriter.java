@@ -0,0 +1,53 @@
+package seedu.address.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyFindr;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes a candidate list as a json file, in the format read by {@link JsonFindrReader}, one record at a time.
+ * Each tag and candidate is adapted and written as soon as it is reached, straight to a buffered file stream, so
+ * neither the whole document nor a list of adapted records is ever built in memory.
+ */
+class JsonFindrWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private JsonFindrWriter() {}
+
+    /**
+     * Writes {@code candidateList} to the json file at {@code filePath}, replacing any existing content.
+     *
+     * @param isCompact whether to leave out the indentation and line breaks that make the file human-readable.
+     * @throws IOException if the file could not be written.
+     */
+    public static void write(ReadOnlyFindr candidateList, Path filePath, boolean isCompact) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(filePath), BUFFER_SIZE);
+                JsonGenerator generator = JsonUtil.createGenerator(out, !isCompact)) {
+            generator.writeStartObject();
+
+            generator.writeArrayFieldStart(JsonFindrReader.TAGS_FIELD);
+            for (Tag tag : candidateList.getTagList()) {
+                generator.writeObject(new JsonAdaptedTag(tag));
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart(JsonFindrReader.PERSONS_FIELD);
+            for (Person person : candidateList.getCandidateList()) {
+                generator.writeObject(new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+
+            generator.writeEndObject();
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -44,4 +47,21 @@ public class JsonSearchHistoryStorage implements SearchHistoryStorage {
         JsonUtil.saveJsonFile(searchHistory, filePath);
     }
 
+    /**
+     * {@inheritDoc}
+     * The whole file is read and written again, as a json array cannot be appended to in place.
+     */
+    @Override
+    public void appendSearchHistory(List<String> commands) throws IOException {
+        requireNonNull(commands);
+        List<String> searchHistory = new ArrayList<>();
+        try {
+            readSearchHistory().ifPresent(searchHistory::addAll);
+        } catch (DataLoadingException e) {
+            throw new IOException(e);
+        }
+        searchHistory.addAll(commands);
+        saveSearchHistory(searchHistory);
+    }
+
 }
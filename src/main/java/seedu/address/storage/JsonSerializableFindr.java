@@ -1,9 +1,7 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -14,7 +12,9 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.Findr;
 import seedu.address.model.ReadOnlyFindr;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.exceptions.DuplicateTagException;
 
 /**
  * An Immutable Candidate List that is serializable to JSON format.
@@ -52,33 +52,28 @@ class JsonSerializableFindr {
 
     /**
      * Converts this candidate list into the model's {@code Findr} object.
+     * Records are converted in parallel, but any error reported is that of the first invalid record in order.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public Findr toModelType() throws IllegalValueException {
-        Findr findr = new Findr();
-
-
-        final List<Tag> modelTags = new ArrayList<>();
-        final Set<String> seenTagNames = new HashSet<>();
-        for (JsonAdaptedTag jsonAdaptedTag : tags) {
-            Tag tag = jsonAdaptedTag.toModelType();
-            if (!seenTagNames.add(tag.tagName)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_TAG);
-            }
-            modelTags.add(tag);
-        }
-
-        if (!modelTags.isEmpty()) {
-            findr.setTags(modelTags);
-        }
+        return toFindr(ParallelConverter.convertAll(tags, JsonAdaptedTag::toModelType),
+                ParallelConverter.convertAll(persons, JsonAdaptedPerson::toModelType));
+    }
 
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (findr.hasCandidate(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            findr.addCandidate(person);
+    /**
+     * Bulk-loads {@code tags} and {@code persons} into a new {@code Findr}.
+     *
+     * @throws IllegalValueException if either list contains duplicates.
+     */
+    static Findr toFindr(List<Tag> tags, List<Person> persons) throws IllegalValueException {
+        Findr findr = new Findr();
+        try {
+            findr.bulkLoad(tags, persons);
+        } catch (DuplicateTagException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_TAG);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
         }
         return findr;
     }
@@ -0,0 +1,221 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyFindr;
+import seedu.address.model.person.CandidateRecords;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Stage;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A snapshot of a whole candidate list in a single file, which is memory-mapped and read one candidate at a time,
+ * for {@link MappedFindrStorage}.
+ *
+ * The file starts with the magic bytes {@code FNDM}, a format version, the generation of the shards it mirrors, the
+ * number of candidates and the tag catalogue. The stage of every candidate follows, one byte each, and then a table
+ * of the fixed-width offset of the record of every candidate, so that the i-th record is found without reading any
+ * other. All of it is covered by a CRC32. The records come last, each in the format of {@link BinaryFindrShard} and
+ * followed by a CRC32 of its own, so that opening the snapshot reads only its header, stages and offsets, and each
+ * record is checked when it is read.
+ */
+class MappedFindrSnapshot implements CandidateRecords {
+
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Snapshot %s has unsupported format version %d.";
+    public static final String MESSAGE_CORRUPTED = "Snapshot %s is corrupted.";
+    public static final String MESSAGE_CORRUPTED_RECORD = "Candidate %d in snapshot %s is corrupted.";
+    public static final String MESSAGE_TOO_LARGE = "Candidate list is too large for a snapshot.";
+
+    static final int VERSION = 1;
+
+    private static final byte[] MAGIC = {'F', 'N', 'D', 'M'};
+    private static final int OFFSET_SIZE = 4;
+    private static final Stage[] STAGES = Stage.values();
+
+    private final ByteBuffer bytes;
+    private final String snapshotName;
+    private final long generation;
+    private final Tag[] dictionary;
+    private final int size;
+    private final int stagesStart;
+    private final int offsetsStart;
+
+    private MappedFindrSnapshot(ByteBuffer bytes, String snapshotName, long generation, Tag[] dictionary, int size,
+            int stagesStart, int offsetsStart) {
+        this.bytes = bytes;
+        this.snapshotName = snapshotName;
+        this.generation = generation;
+        this.dictionary = dictionary;
+        this.size = size;
+        this.stagesStart = stagesStart;
+        this.offsetsStart = offsetsStart;
+    }
+
+    /**
+     * Writes a snapshot of {@code candidateList}, which mirrors the shards of {@code generation}, to the file at
+     * {@code filePath}, replacing any existing content.
+     *
+     * @throws IOException if the file could not be written, or the snapshot would be too large to be mapped.
+     */
+    public static void write(ReadOnlyFindr candidateList, long generation, Path filePath) throws IOException {
+        List<Person> persons = candidateList.getCandidateList();
+        Map<Tag, Integer> dictionary = new LinkedHashMap<>();
+        candidateList.getTagList().forEach(tag -> dictionary.putIfAbsent(tag, dictionary.size()));
+        for (Person person : persons) {
+            person.getTags().forEach(tag -> dictionary.putIfAbsent(tag, dictionary.size()));
+        }
+
+        BinaryEncoder records = new BinaryEncoder();
+        int[] recordStarts = new int[persons.size() + 1];
+        for (int i = 0; i < persons.size(); i++) {
+            recordStarts[i] = records.size();
+            BinaryFindrShard.writePerson(records, persons.get(i), dictionary);
+            records.writeChecksum(recordStarts[i]);
+        }
+        recordStarts[persons.size()] = records.size();
+
+        BinaryEncoder header = new BinaryEncoder();
+        header.writeBytes(MAGIC);
+        header.writeVarLong(VERSION);
+        header.writeVarLong(generation);
+        header.writeVarLong(persons.size());
+        BinaryFindrShard.writeTags(header, dictionary.keySet());
+        for (Person person : persons) {
+            header.writeByte(person.getStage().ordinal());
+        }
+
+        long headerSize = header.size() + (long) OFFSET_SIZE * recordStarts.length + BinaryEncoder.CHECKSUM_SIZE;
+        if (headerSize + records.size() > Integer.MAX_VALUE) {
+            throw new IOException(MESSAGE_TOO_LARGE);
+        }
+        for (int recordStart : recordStarts) {
+            header.writeInt((int) headerSize + recordStart);
+        }
+        header.writeChecksum(0);
+
+        try (OutputStream out = Files.newOutputStream(filePath)) {
+            header.writeTo(out);
+            records.writeTo(out);
+        }
+    }
+
+    /**
+     * Maps the snapshot in the file at {@code filePath}, reading only its header, stages and offsets.
+     *
+     * @throws IOException if the file could not be read.
+     * @throws IllegalValueException if the header, stages or offsets are damaged, the snapshot is of an unsupported
+     *     version, or its tags violate any data constraints.
+     */
+    public static MappedFindrSnapshot open(Path filePath) throws IOException, IllegalValueException {
+        String snapshotName = filePath.getFileName().toString();
+        String corruptedMessage = String.format(MESSAGE_CORRUPTED, snapshotName);
+        ByteBuffer bytes;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IllegalValueException(corruptedMessage);
+            }
+            // The mapping stays valid once the channel is closed
+            bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        BinaryDecoder decoder = new BinaryDecoder(bytes, 0, bytes.limit(), corruptedMessage);
+        for (byte magicByte : MAGIC) {
+            if (decoder.readByte() != magicByte) {
+                throw decoder.corrupted();
+            }
+        }
+        long version = decoder.readVarLong();
+        if (version != VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, snapshotName, version));
+        }
+        long generation = decoder.readVarLong();
+        int size = decoder.readCount();
+        Tag[] dictionary = BinaryFindrShard.readTags(decoder);
+
+        int stagesStart = decoder.position();
+        for (int i = 0; i < size; i++) {
+            if (decoder.readByte() >= STAGES.length) {
+                throw decoder.corrupted();
+            }
+        }
+
+        int offsetsStart = decoder.position();
+        long offsetsEnd = offsetsStart + (long) OFFSET_SIZE * (size + 1);
+        if (offsetsEnd + BinaryEncoder.CHECKSUM_SIZE > bytes.limit()) {
+            throw decoder.corrupted();
+        }
+        int headerEnd = (int) offsetsEnd;
+        int previousOffset = headerEnd + BinaryEncoder.CHECKSUM_SIZE;
+        for (int i = 0; i <= size; i++) {
+            int offset = decoder.readInt();
+            boolean isInOrder = i == 0 ? offset == previousOffset : offset > previousOffset;
+            if (!isInOrder || offset > bytes.limit()) {
+                throw decoder.corrupted();
+            }
+            previousOffset = offset;
+        }
+        if (previousOffset != bytes.limit() || !BinaryDecoder.isChecksumValid(bytes, 0, headerEnd)) {
+            throw decoder.corrupted();
+        }
+
+        return new MappedFindrSnapshot(bytes, snapshotName, generation, dictionary, size, stagesStart, offsetsStart);
+    }
+
+    /**
+     * Returns the generation of the shards this snapshot mirrors.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the tag catalogue, whose instances the candidates of this snapshot hold.
+     */
+    public List<Tag> getTags() {
+        return List.of(dictionary);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Stage getStage(int index) {
+        Objects.checkIndex(index, size);
+        return STAGES[bytes.get(stagesStart + index)];
+    }
+
+    @Override
+    public Person get(int index) {
+        Objects.checkIndex(index, size);
+        int start = bytes.getInt(offsetsStart + OFFSET_SIZE * index);
+        int end = bytes.getInt(offsetsStart + OFFSET_SIZE * (index + 1)) - BinaryEncoder.CHECKSUM_SIZE;
+        String corruptedMessage = String.format(MESSAGE_CORRUPTED_RECORD, index, snapshotName);
+        try {
+            BinaryDecoder decoder = new BinaryDecoder(bytes, start, end, corruptedMessage);
+            if (!BinaryDecoder.isChecksumValid(bytes, start, end)) {
+                throw decoder.corrupted();
+            }
+            Person person = BinaryFindrShard.readPerson(decoder, dictionary);
+            decoder.checkFullyRead();
+            if (person.getStage() != getStage(index)) {
+                throw decoder.corrupted();
+            }
+            return person;
+        } catch (IllegalValueException ive) {
+            throw new IllegalStateException(corruptedMessage, ive);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.Findr;
+import seedu.address.model.FindrMutation;
+import seedu.address.model.ReadOnlyFindr;
+
+/**
+ * A class to access Candidate List data through a memory-mapped snapshot of the shards of a
+ * {@link ShardedFindrStorage}, for candidate lists too large to build in full at startup.
+ *
+ * As long as the snapshot mirrors the current shards, reading returns a candidate list backed by it, whose candidates
+ * are built only as they are accessed. Otherwise the shards are read in full, and the snapshot is rewritten from them
+ * for the next read. Saving goes to the shards alone, which stay the authoritative copy of the data, so a snapshot
+ * that is missing, out of date or damaged only costs a full read. A snapshot only ever mirrors shards with an empty
+ * journal, so changes journaled since it was written are compacted into the shards on the full read that follows.
+ */
+public class MappedFindrStorage implements FindrStorage {
+
+    public static final String SNAPSHOT_FILE_SUFFIX = ".snapshot";
+
+    private static final Logger logger = LogsCenter.getLogger(MappedFindrStorage.class);
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private final ShardedFindrStorage shards;
+
+    /**
+     * Creates a {@code MappedFindrStorage} that keeps a snapshot of the shards of {@code shards}.
+     */
+    public MappedFindrStorage(ShardedFindrStorage shards) {
+        this.shards = requireNonNull(shards);
+    }
+
+    @Override
+    public Path getFindrFilePath() {
+        return shards.getFindrFilePath();
+    }
+
+    public Path getSnapshotPath() {
+        return snapshotPathFor(getFindrFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyFindr> readCandidateList() throws DataLoadingException {
+        return readCandidateList(getFindrFilePath());
+    }
+
+    /**
+     * Similar to {@link #readCandidateList()}.
+     * Maps the snapshot of the shards of {@code filePath} if it is up to date, or else reads the shards, compacts
+     * their journal into them if they are this storage's own, and rewrites the snapshot from them.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyFindr> readCandidateList(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        Path snapshotPath = snapshotPathFor(filePath);
+        OptionalLong generation = shards.readGeneration(filePath);
+        if (generation.isPresent() && Files.exists(snapshotPath) && !shards.hasJournaledChanges(filePath)) {
+            Optional<ReadOnlyFindr> candidateList = readSnapshot(snapshotPath, generation.getAsLong());
+            if (candidateList.isPresent()) {
+                return candidateList;
+            }
+        }
+
+        Optional<ReadOnlyFindr> candidateList = shards.readCandidateList(filePath);
+        if (candidateList.isPresent()) {
+            if (filePath.equals(getFindrFilePath())) {
+                compactJournal(candidateList.get());
+            }
+            writeSnapshot(candidateList.get(), filePath, snapshotPath);
+        }
+        return candidateList;
+    }
+
+    @Override
+    public void saveCandidateList(ReadOnlyFindr candidateList) throws IOException {
+        shards.saveCandidateList(candidateList);
+    }
+
+    @Override
+    public void saveCandidateList(ReadOnlyFindr candidateList, Path filePath) throws IOException {
+        shards.saveCandidateList(candidateList, filePath);
+    }
+
+    @Override
+    public void saveMutations(List<FindrMutation> mutations, ReadOnlyFindr candidateList) throws IOException {
+        requireAllNonNull(mutations, candidateList);
+        shards.saveMutations(mutations, candidateList);
+    }
+
+    /**
+     * Returns a candidate list backed by the snapshot at {@code snapshotPath}, or {@code Optional.empty()} if the
+     * snapshot does not mirror the shards of {@code generation}, or cannot be read.
+     */
+    private Optional<ReadOnlyFindr> readSnapshot(Path snapshotPath, long generation) {
+        try {
+            MappedFindrSnapshot snapshot = MappedFindrSnapshot.open(snapshotPath);
+            if (snapshot.getGeneration() != generation) {
+                logger.info("Snapshot " + snapshotPath + " is out of date, reading the shards instead");
+                return Optional.empty();
+            }
+
+            Findr candidateList = new Findr();
+            candidateList.loadRecords(snapshot.getTags(), snapshot);
+            return Optional.of(candidateList);
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Could not read snapshot " + snapshotPath + ", reading the shards instead: " + e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Compacts the journal of this storage's own shards into them, so that they alone hold {@code candidateList},
+     * just read from them. A journal that cannot be compacted is only logged, as it still holds the changes.
+     */
+    private void compactJournal(ReadOnlyFindr candidateList) {
+        try {
+            shards.compactJournal(candidateList);
+        } catch (IOException e) {
+            logger.warning("Could not compact the journal of " + shards.getShardDirectoryPath() + ": " + e);
+        }
+    }
+
+    /**
+     * Writes a snapshot of {@code candidateList}, just read from the shards of {@code filePath}.
+     * A snapshot that cannot be written is only logged, as the shards still hold the data.
+     */
+    private void writeSnapshot(ReadOnlyFindr candidateList, Path filePath, Path snapshotPath)
+            throws DataLoadingException {
+        OptionalLong generation = shards.readGeneration(filePath);
+        if (generation.isEmpty()) {
+            // The data could not be migrated into shards, so there is nothing for a snapshot to mirror
+            return;
+        }
+        if (shards.hasJournaledChanges(filePath)) {
+            // The shards alone do not hold candidateList, so a snapshot of the generation would be wrong
+            return;
+        }
+
+        Path tempPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + TEMP_FILE_SUFFIX);
+        try {
+            MappedFindrSnapshot.write(candidateList, generation.getAsLong(), tempPath);
+            FileUtil.moveReplacing(tempPath, snapshotPath);
+        } catch (IOException e) {
+            logger.warning("Could not write snapshot " + snapshotPath + ": " + e);
+        }
+    }
+
+    private static Path snapshotPathFor(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + SNAPSHOT_FILE_SUFFIX);
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts adapted records into model objects on the common fork-join pool.
+ * The converted objects keep the order of the records, and if several records are invalid, the error reported is
+ * always that of the first one in order, no matter which record the pool happened to reach first.
+ */
+class ParallelConverter {
+
+    /** Lists shorter than this are converted on the calling thread, where splitting them up would cost more. */
+    static final int PARALLEL_THRESHOLD = 1024;
+
+    /**
+     * Converts one adapted record into a model object.
+     */
+    @FunctionalInterface
+    interface Conversion<A, M> {
+        M convert(A adapted) throws IllegalValueException;
+    }
+
+    private ParallelConverter() {}
+
+    /**
+     * Returns the result of converting each of {@code records}, in the same order.
+     *
+     * @throws IllegalValueException the error of the first record, in order, that failed to convert.
+     */
+    public static <A, M> List<M> convertAll(List<A> records, Conversion<? super A, ? extends M> conversion)
+            throws IllegalValueException {
+        int size = records.size();
+        // Each index is written by exactly one task, and the stream completing makes every write visible here
+        List<M> converted = new ArrayList<>(Collections.nCopies(size, null));
+        IllegalValueException[] failures = new IllegalValueException[size];
+        // Records after the first known failure cannot change the outcome, so they are skipped
+        AtomicInteger firstFailure = new AtomicInteger(size);
+
+        IntStream indices = IntStream.range(0, size);
+        if (size >= PARALLEL_THRESHOLD) {
+            indices = indices.parallel();
+        }
+        indices.forEach(i -> {
+            if (i > firstFailure.get()) {
+                return;
+            }
+            try {
+                converted.set(i, conversion.convert(records.get(i)));
+            } catch (IllegalValueException ive) {
+                failures[i] = ive;
+                firstFailure.accumulateAndGet(i, Math::min);
+            }
+        });
+
+        if (firstFailure.get() < size) {
+            throw failures[firstFailure.get()];
+        }
+        return converted;
+    }
+}
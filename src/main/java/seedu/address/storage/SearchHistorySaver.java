@@ -0,0 +1,99 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Appends commands to a {@link SearchHistoryStorage} on a dedicated background thread, so that entering a command
+ * never waits on the disk.
+ * Commands that arrive while a write is queued or in progress are appended together in the next write.
+ */
+public class SearchHistorySaver {
+    private static final Logger logger = LogsCenter.getLogger(SearchHistorySaver.class);
+
+    private final SearchHistoryStorage storage;
+    private final ExecutorService executor;
+    private final List<String> pending = new ArrayList<>();
+
+    /**
+     * Creates a {@code SearchHistorySaver} that appends to {@code storage}.
+     */
+    public SearchHistorySaver(SearchHistoryStorage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "findr-history-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queues {@code command} to be appended after any commands queued before it.
+     */
+    public void save(String command) {
+        requireNonNull(command);
+        synchronized (pending) {
+            boolean writeQueued = !pending.isEmpty();
+            pending.add(command);
+            if (writeQueued) {
+                return;
+            }
+        }
+        executor.execute(this::writePending);
+    }
+
+    /**
+     * Blocks until every command queued so far has been written.
+     * Does nothing if the saver has already been shut down.
+     */
+    public void flush() {
+        if (executor.isShutdown()) {
+            return;
+        }
+
+        try {
+            executor.submit(this::writePending).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning("Failed to flush search history: " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Writes any queued commands and stops the background thread.
+     */
+    public void shutdown() {
+        flush();
+        executor.shutdown();
+    }
+
+    private void writePending() {
+        List<String> batch;
+        synchronized (pending) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = new ArrayList<>(pending);
+            pending.clear();
+        }
+
+        try {
+            storage.appendSearchHistory(batch);
+        } catch (IOException e) {
+            // The search history is a convenience, so a failed write is not worth interrupting the user for
+            logger.warning("Failed to save search history: " + StringUtil.getDetails(e));
+        }
+    }
+}
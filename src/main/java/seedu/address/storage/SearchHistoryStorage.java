@@ -32,4 +32,11 @@ public interface SearchHistoryStorage {
      */
     void saveSearchHistory(List<String> searchHistory) throws IOException;
 
+    /**
+     * Adds the given commands to the end of the search history in the storage.
+     * @param commands cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void appendSearchHistory(List<String> commands) throws IOException;
+
 }
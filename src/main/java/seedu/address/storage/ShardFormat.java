@@ -0,0 +1,16 @@
+package seedu.address.storage;
+
+/**
+ * The formats that a {@link ShardedFindrStorage} can write its shards in.
+ * Shards are read in whichever of these formats they were written in, so switching formats needs no conversion.
+ * The app writes binary shards; the json formats remain readable, so shards written as json by older versions, or by
+ * hand, are still read.
+ */
+public enum ShardFormat {
+    /** The compact binary format of {@link BinaryFindrShard}. */
+    BINARY,
+    /** Indented, human-readable json. */
+    JSON,
+    /** Json without indentation or line breaks. */
+    COMPACT_JSON
+}
@@ -0,0 +1,617 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.Findr;
+import seedu.address.model.FindrMutation;
+import seedu.address.model.ReadOnlyFindr;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.storage.JsonFindrShard.Shard;
+
+/**
+ * A class to access Candidate List data stored as a directory of shard files and a manifest, plus an append-only
+ * journal of the changes made since the manifest was written.
+ *
+ * Candidates are partitioned into shards by a stable hash of the fields that identify them, so a candidate stays in
+ * the same shard however its stage, rating or tags change. Saving a batch of changes appends one record per change to
+ * the journal, in the format of {@link JournaledFindrStorage}, and forces it to disk. Once the journal would hold more
+ * than the compaction threshold, it is compacted by rewriting only the shards holding a candidate that was added,
+ * edited or removed since the last compaction, plus the manifest, which names the current file of each shard and
+ * holds the tag catalogue. Changes that replace the whole list, or that edit or remove any tag, are not journaled,
+ * and rewrite every shard at once.
+ *
+ * Every save writes its shards to new files and then atomically replaces the manifest, so an interruption leaves the
+ * previous manifest and the shard files it names untouched. The journal names the generation of the manifest it
+ * applies to, and is ignored once the manifest moves on, so a compaction interrupted after replacing the manifest
+ * never has its changes replayed twice. Each candidate is stored with an ordinal that orders it
+ * against the candidates of every other shard, so reading, which loads the shards in parallel, restores the list in
+ * its original order.
+ *
+ * Shards are written in a {@link ShardFormat}, the compact binary one unless json is asked for, and each shard is
+ * read in whichever format its file turns out to hold.
+ *
+ * A single-file candidate list found at the data file path, along with its journal, is copied into shards the first
+ * time it is read. The single file is left in place, and never written again, so that it stays a backup until the
+ * user deletes it; it is only read again if the shard directory is removed.
+ */
+public class ShardedFindrStorage implements FindrStorage {
+
+    public static final String SHARD_DIRECTORY_SUFFIX = ".shards";
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    public static final String JOURNAL_FILE_NAME = "journal";
+    public static final int DEFAULT_SHARD_COUNT = 16;
+    public static final String MESSAGE_DUPLICATE_ORDINAL = "Shards %s and %s both hold a candidate at ordinal %d.";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedFindrStorage.class);
+    private static final String SHARD_FILE_FORMAT = "shard-%d-%d.json";
+    private static final Pattern SHARD_FILE_PATTERN = Pattern.compile("shard-\\d{1,9}-(\\d{1,18})\\.json");
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private final Path filePath;
+    private final int shardCount;
+    private final ShardFormat format;
+    private final int compactionThreshold;
+
+    // The layout of this storage's own shard directory, known only after it has been read or written in full
+    private boolean isLayoutCurrent;
+    private long generation;
+    private String[] shardFiles;
+    private long[][] shardOrdinals;
+
+    // Whether the journal on disk applies to the manifest on disk, and the shards its records have changed
+    private boolean isJournalCurrent;
+    private int journalRecordCount;
+    private boolean[] isJournaled;
+
+    public ShardedFindrStorage(Path filePath) {
+        this(filePath, DEFAULT_SHARD_COUNT);
+    }
+
+    /**
+     * Creates a {@code ShardedFindrStorage} that splits candidate lists it writes in full into {@code shardCount}
+     * shards, and writes its shards in the binary format.
+     */
+    public ShardedFindrStorage(Path filePath, int shardCount) {
+        this(filePath, shardCount, ShardFormat.BINARY);
+    }
+
+    /**
+     * Creates a {@code ShardedFindrStorage} that splits candidate lists it writes in full into {@code shardCount}
+     * shards, and writes its shards in {@code format}.
+     */
+    public ShardedFindrStorage(Path filePath, int shardCount, ShardFormat format) {
+        this(filePath, shardCount, format, JournaledFindrStorage.DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code ShardedFindrStorage} that splits candidate lists it writes in full into {@code shardCount}
+     * shards, writes its shards in {@code format}, and compacts its journal once it would hold more than
+     * {@code compactionThreshold} records.
+     */
+    public ShardedFindrStorage(Path filePath, int shardCount, ShardFormat format, int compactionThreshold) {
+        requireAllNonNull(filePath, format);
+        checkArgument(shardCount > 0, "Shard count must be positive.");
+        checkArgument(compactionThreshold > 0, "Compaction threshold must be positive.");
+        this.filePath = filePath;
+        this.shardCount = shardCount;
+        this.format = format;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @Override
+    public Path getFindrFilePath() {
+        return filePath;
+    }
+
+    public Path getShardDirectoryPath() {
+        return shardDirectoryFor(filePath);
+    }
+
+    public Path getJournalFilePath() {
+        return getShardDirectoryPath().resolve(JOURNAL_FILE_NAME);
+    }
+
+    @Override
+    public Optional<ReadOnlyFindr> readCandidateList() throws DataLoadingException {
+        return readCandidateList(filePath);
+    }
+
+    /**
+     * Similar to {@link #readCandidateList()}.
+     * Reads the shards named by the manifest in the shard directory of {@code filePath} and replays the journal
+     * there, or, if there is no manifest, migrates the single-file candidate list at {@code filePath} into shards.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyFindr> readCandidateList(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        boolean isOwnFile = filePath.equals(this.filePath);
+        if (isOwnFile) {
+            isLayoutCurrent = false;
+            isJournalCurrent = false;
+        }
+
+        Path directory = shardDirectoryFor(filePath);
+        Optional<JsonFindrManifest> manifest =
+                JsonUtil.readJsonFile(directory.resolve(MANIFEST_FILE_NAME), JsonFindrManifest.class);
+        if (manifest.isEmpty()) {
+            return migrate(filePath);
+        }
+
+        try {
+            String[] files = manifest.get().getShards();
+            List<Tag> tags = manifest.get().getTags();
+            Shard[] shards = readShards(directory, files, tags);
+            Findr candidateList = JsonSerializableFindr.toFindr(tags, merge(files, shards));
+            long manifestGeneration = manifest.get().getGeneration();
+            Optional<List<FindrMutation>> replayed = JournaledFindrStorage.replay(
+                    directory.resolve(JOURNAL_FILE_NAME), journalHeaderOf(manifestGeneration), candidateList);
+
+            if (isOwnFile) {
+                generation = manifestGeneration;
+                shardFiles = files;
+                shardOrdinals = Arrays.stream(shards).map(Shard::ordinals).toArray(long[][]::new);
+                isLayoutCurrent = true;
+                isJournaled = new boolean[files.length];
+                journalRecordCount = replayed.map(List::size).orElse(0);
+                isJournalCurrent = replayed.isPresent();
+                for (FindrMutation mutation : replayed.orElse(List.of())) {
+                    if (!markDirtyShards(mutation, isJournaled)) {
+                        // Not written by this storage, so it is safest to rewrite every shard at the next compaction
+                        Arrays.fill(isJournaled, true);
+                    }
+                }
+            }
+            return Optional.of(candidateList);
+        } catch (IOException ioe) {
+            logger.warning("Error reading shards in " + directory + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + directory + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Returns the generation of the shards of {@code filePath}, which advances with every save, or
+     * {@code OptionalLong.empty()} if no shards have been written there.
+     *
+     * @throws DataLoadingException if the manifest could not be read.
+     */
+    public OptionalLong readGeneration(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        Optional<JsonFindrManifest> manifest = JsonUtil.readJsonFile(
+                shardDirectoryFor(filePath).resolve(MANIFEST_FILE_NAME), JsonFindrManifest.class);
+        return manifest.isPresent() ? OptionalLong.of(manifest.get().getGeneration()) : OptionalLong.empty();
+    }
+
+    /**
+     * Returns true if the journal of the shards of {@code filePath} holds changes that are not yet in the shards.
+     *
+     * @throws DataLoadingException if the manifest or the journal could not be read.
+     */
+    public boolean hasJournaledChanges(Path filePath) throws DataLoadingException {
+        OptionalLong manifestGeneration = readGeneration(filePath);
+        Path journalPath = shardDirectoryFor(filePath).resolve(JOURNAL_FILE_NAME);
+        if (manifestGeneration.isEmpty() || !Files.exists(journalPath)) {
+            return false;
+        }
+
+        try {
+            byte[] header = (journalHeaderOf(manifestGeneration.getAsLong()) + "\n").getBytes(UTF_8);
+            byte[] journal = Files.readAllBytes(journalPath);
+            return journal.length > header.length
+                    && Arrays.equals(journal, 0, header.length, header, 0, header.length);
+        } catch (IOException ioe) {
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    @Override
+    public void saveCandidateList(ReadOnlyFindr candidateList) throws IOException {
+        saveCandidateList(candidateList, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveCandidateList(ReadOnlyFindr)}.
+     * Writes every shard of {@code candidateList} to the shard directory of {@code filePath}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveCandidateList(ReadOnlyFindr candidateList, Path filePath) throws IOException {
+        requireAllNonNull(candidateList, filePath);
+        boolean isOwnFile = filePath.equals(this.filePath);
+        if (isOwnFile) {
+            isLayoutCurrent = false;
+            isJournalCurrent = false;
+        }
+
+        Path directory = shardDirectoryFor(filePath);
+        boolean[] isDirty = new boolean[shardCount];
+        Arrays.fill(isDirty, true);
+        // With every shard dirty there are no kept ordinals to fall out of step with
+        Partition partition = partition(candidateList.getCandidateList(), isDirty, null).orElseThrow();
+        long newGeneration = nextGenerationIn(directory);
+        String[] files = writeShards(directory, newGeneration, new String[shardCount], isDirty, partition,
+                candidateList);
+
+        if (isOwnFile) {
+            generation = newGeneration;
+            shardFiles = files;
+            shardOrdinals = partition.ordinals();
+            isLayoutCurrent = true;
+            isJournalCurrent = true;
+            journalRecordCount = 0;
+            isJournaled = new boolean[files.length];
+        }
+    }
+
+    /**
+     * Appends {@code mutations} to the journal, or, once the journal would hold more than the compaction threshold,
+     * compacts it by rewriting only the shards holding a candidate that was added, edited or removed since the last
+     * compaction, along with the manifest. Every shard is rewritten instead if the layout on disk is not known, or a
+     * mutation reaches into every candidate.
+     */
+    @Override
+    public synchronized void saveMutations(List<FindrMutation> mutations, ReadOnlyFindr candidateList)
+            throws IOException {
+        requireAllNonNull(mutations, candidateList);
+        if (!isLayoutCurrent) {
+            saveCandidateList(candidateList);
+            return;
+        }
+
+        boolean[] isDirty = isJournaled.clone();
+        for (FindrMutation mutation : mutations) {
+            if (!markDirtyShards(mutation, isDirty)) {
+                saveCandidateList(candidateList);
+                return;
+            }
+        }
+
+        if (!isJournalCurrent || journalRecordCount + mutations.size() > compactionThreshold) {
+            compact(isDirty, candidateList);
+            return;
+        }
+
+        try {
+            JournaledFindrStorage.appendAndForce(getJournalFilePath(), JournaledFindrStorage.recordsOf(mutations));
+        } catch (IOException e) {
+            // The journal may now end in a partial record, so compact into the shards next time
+            isJournalCurrent = false;
+            throw e;
+        }
+        journalRecordCount += mutations.size();
+        isJournaled = isDirty;
+    }
+
+    /**
+     * Moves the changes in the journal into the shards, as {@link #saveMutations} does once the journal is full, so
+     * that the shards alone hold {@code candidateList}, which must be the candidate list last read from or saved to
+     * this storage.
+     */
+    public synchronized void compactJournal(ReadOnlyFindr candidateList) throws IOException {
+        requireNonNull(candidateList);
+        if (!isLayoutCurrent) {
+            saveCandidateList(candidateList);
+        } else if (!isJournalCurrent || journalRecordCount > 0) {
+            compact(isJournaled.clone(), candidateList);
+        }
+    }
+
+    /**
+     * Rewrites the shards marked in {@code isDirty}, and the manifest, from {@code candidateList}, and starts an
+     * empty journal for the new manifest. Every shard is rewritten instead if the clean shards do not hold the
+     * candidates they should.
+     */
+    private void compact(boolean[] isDirty, ReadOnlyFindr candidateList) throws IOException {
+        Optional<Partition> partition = partition(candidateList.getCandidateList(), isDirty, shardOrdinals);
+        if (partition.isEmpty()) {
+            logger.warning("Shards in " + getShardDirectoryPath() + " are out of step with the candidate list,"
+                    + " rewriting all of them");
+            saveCandidateList(candidateList);
+            return;
+        }
+
+        isLayoutCurrent = false;
+        isJournalCurrent = false;
+        long newGeneration = generation + 1;
+        shardFiles = writeShards(getShardDirectoryPath(), newGeneration, shardFiles, isDirty, partition.get(),
+                candidateList);
+        for (int shard = 0; shard < isDirty.length; shard++) {
+            if (isDirty[shard]) {
+                shardOrdinals[shard] = partition.get().ordinals()[shard];
+            }
+        }
+        generation = newGeneration;
+        isLayoutCurrent = true;
+        isJournalCurrent = true;
+        journalRecordCount = 0;
+        isJournaled = new boolean[shardFiles.length];
+    }
+
+    /**
+     * Returns the shard of {@code person} among {@code shardCount} shards.
+     * The shard depends only on the fields that identify the person, through hash codes that are specified by
+     * {@code String}, so it is the same on every run.
+     */
+    static int shardOf(Person person, int shardCount) {
+        int hash = (person.getName().hashCode() * 31 + person.getPhone().hashCode()) * 31
+                + person.getEmail().hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), shardCount);
+    }
+
+    /**
+     * Marks the shards that {@code mutation} changes in {@code isDirty}.
+     *
+     * @return false if the mutation may change every shard.
+     */
+    private static boolean markDirtyShards(FindrMutation mutation, boolean[] isDirty) {
+        int count = isDirty.length;
+        if (mutation instanceof FindrMutation.AddCandidate add) {
+            isDirty[shardOf(add.person(), count)] = true;
+        } else if (mutation instanceof FindrMutation.SetCandidate set) {
+            isDirty[shardOf(set.target(), count)] = true;
+            isDirty[shardOf(set.editedPerson(), count)] = true;
+        } else if (mutation instanceof FindrMutation.RemoveCandidate remove) {
+            isDirty[shardOf(remove.person(), count)] = true;
+        } else if (!(mutation instanceof FindrMutation.AddTag)) {
+            return false;
+        }
+        // A new tag is held by no candidate yet, so it only changes the catalogue in the manifest
+        return true;
+    }
+
+    /**
+     * The candidates of each dirty shard, in list order, with their ordinals.
+     * Both arrays are indexed by shard, and hold {@code null} for shards that are not dirty.
+     */
+    private record Partition(List<List<Person>> members, long[][] ordinals) {}
+
+    /**
+     * Splits {@code persons} into the shards marked in {@code isDirty}, giving each of their candidates an ordinal
+     * that fits between the kept ordinals of the candidates around it in the other shards.
+     *
+     * The list only ever grows at its end, and candidates are edited in place, so the candidates between two
+     * candidates of clean shards are never more than the dirty-shard candidates that were there when the kept
+     * ordinals were given out, and counting up from the ordinal before them always leaves room.
+     *
+     * @param keptOrdinals the ordinals on disk of every shard, or null if every shard is dirty.
+     * @return the partition, or {@code Optional.empty()} if the clean shards do not hold the candidates they should.
+     */
+    private Optional<Partition> partition(List<Person> persons, boolean[] isDirty, long[][] keptOrdinals) {
+        int count = isDirty.length;
+        List<List<Person>> members = new ArrayList<>(count);
+        long[][] ordinals = new long[count][];
+        int[] sizes = new int[count];
+        for (int shard = 0; shard < count; shard++) {
+            members.add(isDirty[shard] ? new ArrayList<>() : null);
+            ordinals[shard] = isDirty[shard] ? new long[16] : null;
+        }
+
+        long previous = -1;
+        for (Person person : persons) {
+            int shard = shardOf(person, count);
+            if (isDirty[shard]) {
+                previous++;
+                if (sizes[shard] == ordinals[shard].length) {
+                    ordinals[shard] = Arrays.copyOf(ordinals[shard], sizes[shard] * 2);
+                }
+                ordinals[shard][sizes[shard]++] = previous;
+                members.get(shard).add(person);
+            } else {
+                long[] kept = keptOrdinals[shard];
+                if (sizes[shard] == kept.length || kept[sizes[shard]] <= previous) {
+                    return Optional.empty();
+                }
+                previous = kept[sizes[shard]++];
+            }
+        }
+
+        for (int shard = 0; shard < count; shard++) {
+            if (isDirty[shard]) {
+                ordinals[shard] = Arrays.copyOf(ordinals[shard], sizes[shard]);
+            } else if (sizes[shard] != keptOrdinals[shard].length) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(new Partition(members, ordinals));
+    }
+
+    /**
+     * Writes the shards marked in {@code isDirty} to new files of {@code generation}, then atomically replaces the
+     * manifest with one naming them in place of their files in {@code previousFiles}, and finally deletes shard
+     * files that the manifest no longer names.
+     *
+     * @return the file names of the shards, as named by the new manifest.
+     */
+    private String[] writeShards(Path directory, long generation, String[] previousFiles, boolean[] isDirty,
+            Partition partition, ReadOnlyFindr candidateList) throws IOException {
+        Files.createDirectories(directory);
+        String[] files = previousFiles.clone();
+        for (int shard = 0; shard < files.length; shard++) {
+            if (!isDirty[shard]) {
+                continue;
+            }
+            files[shard] = String.format(SHARD_FILE_FORMAT, shard, generation);
+            Path shardPath = directory.resolve(files[shard]);
+            writeShard(partition.members().get(shard), partition.ordinals()[shard], shardPath);
+            FileUtil.forceToDisk(shardPath);
+        }
+
+        Path manifestPath = directory.resolve(MANIFEST_FILE_NAME);
+        Path tempManifest = directory.resolve(MANIFEST_FILE_NAME + TEMP_FILE_SUFFIX);
+        JsonUtil.saveJsonFile(new JsonFindrManifest(generation, files, candidateList.getTagList()), tempManifest);
+        FileUtil.forceToDisk(tempManifest);
+        FileUtil.moveReplacing(tempManifest, manifestPath);
+        // The old journal no longer names the current manifest, so it is ignored even if this is interrupted
+        JournaledFindrStorage.startJournal(directory.resolve(JOURNAL_FILE_NAME), journalHeaderOf(generation));
+
+        deleteUnnamedShards(directory, Set.of(files));
+        return files;
+    }
+
+    private void writeShard(List<Person> persons, long[] ordinals, Path shardPath) throws IOException {
+        if (format == ShardFormat.BINARY) {
+            BinaryFindrShard.write(persons, ordinals, shardPath);
+        } else {
+            JsonFindrShard.write(persons, ordinals, shardPath, format == ShardFormat.COMPACT_JSON);
+        }
+    }
+
+    /**
+     * Deletes the shard files in {@code directory} other than {@code namedFiles}, which are left behind by saves
+     * that replaced them or that were interrupted before replacing the manifest.
+     */
+    private static void deleteUnnamedShards(Path directory, Set<String> namedFiles) {
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+            for (Path entry : entries) {
+                String name = entry.getFileName().toString();
+                if (SHARD_FILE_PATTERN.matcher(name).matches() && !namedFiles.contains(name)) {
+                    Files.deleteIfExists(entry);
+                }
+            }
+        } catch (IOException e) {
+            // The new manifest is already in place, so stale shards only cost disk space until the next save
+            logger.warning("Could not delete stale shards in " + directory + ": " + e);
+        }
+    }
+
+    /**
+     * Returns a generation newer than that of every shard file in {@code directory}, so that writing shards of it
+     * can never overwrite a file named by the current manifest.
+     */
+    private static long nextGenerationIn(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return 1;
+        }
+
+        long latest = 0;
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+            for (Path entry : entries) {
+                Matcher matcher = SHARD_FILE_PATTERN.matcher(entry.getFileName().toString());
+                if (matcher.matches()) {
+                    latest = Math.max(latest, Long.parseLong(matcher.group(1)));
+                }
+            }
+        }
+        return latest + 1;
+    }
+
+    /**
+     * Reads the shard files {@code files} in {@code directory} in parallel, each in the format it was written in.
+     *
+     * @throws IOException the error of the first shard, in order, that could not be read.
+     * @throws IllegalValueException the error of the first shard, in order, that holds invalid data.
+     */
+    private static Shard[] readShards(Path directory, String[] files, List<Tag> catalogue)
+            throws IOException, IllegalValueException {
+        Shard[] shards = new Shard[files.length];
+        Exception[] failures = new Exception[files.length];
+        IntStream.range(0, files.length).parallel().forEach(i -> {
+            try {
+                Path shardPath = directory.resolve(files[i]);
+                shards[i] = BinaryFindrShard.isBinary(shardPath)
+                        ? BinaryFindrShard.read(shardPath, catalogue)
+                        : JsonFindrShard.read(shardPath);
+            } catch (IOException | IllegalValueException e) {
+                failures[i] = e;
+            }
+        });
+
+        for (Exception failure : failures) {
+            if (failure instanceof IOException ioe) {
+                throw ioe;
+            } else if (failure instanceof IllegalValueException ive) {
+                throw ive;
+            }
+        }
+        return shards;
+    }
+
+    /**
+     * Merges the candidates of {@code shards}, each already in order, into a single list in order of ordinal.
+     *
+     * @throws IllegalValueException if two shards hold a candidate at the same ordinal.
+     */
+    private static List<Person> merge(String[] files, Shard[] shards) throws IllegalValueException {
+        int total = Arrays.stream(shards).mapToInt(shard -> shard.persons().size()).sum();
+        List<Person> persons = new ArrayList<>(total);
+        int[] next = new int[shards.length];
+        for (int i = 0; i < total; i++) {
+            int earliest = -1;
+            for (int shard = 0; shard < shards.length; shard++) {
+                if (next[shard] == shards[shard].ordinals().length) {
+                    continue;
+                }
+                long ordinal = shards[shard].ordinals()[next[shard]];
+                long earliestOrdinal = earliest < 0 ? Long.MAX_VALUE : shards[earliest].ordinals()[next[earliest]];
+                if (earliest >= 0 && ordinal == earliestOrdinal) {
+                    throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_ORDINAL,
+                            files[earliest], files[shard], ordinal));
+                }
+                if (earliest < 0 || ordinal < earliestOrdinal) {
+                    earliest = shard;
+                }
+            }
+            persons.add(shards[earliest].persons().get(next[earliest]++));
+        }
+        return persons;
+    }
+
+    /**
+     * Reads the single-file candidate list at {@code filePath}, replaying its journal, and copies it into shards.
+     * The single file and its journal are left where they are, as a backup. If the shards cannot be written, the
+     * candidate list is still returned, and migration is tried again on the next read.
+     */
+    private Optional<ReadOnlyFindr> migrate(Path filePath) throws DataLoadingException {
+        JournaledFindrStorage singleFileStorage = new JournaledFindrStorage(filePath);
+        Optional<ReadOnlyFindr> candidateList = singleFileStorage.readCandidateList();
+        if (candidateList.isEmpty()) {
+            return candidateList;
+        }
+
+        logger.info("Migrating " + filePath + " into shards in " + shardDirectoryFor(filePath));
+        try {
+            saveCandidateList(candidateList.get(), filePath);
+        } catch (IOException e) {
+            logger.warning("Could not migrate " + filePath + " into shards: " + e);
+        }
+        return candidateList;
+    }
+
+    private static String journalHeaderOf(long generation) {
+        return JournaledFindrStorage.HEADER_PREFIX + "generation " + generation;
+    }
+
+    private static Path shardDirectoryFor(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + SHARD_DIRECTORY_SUFFIX);
+    }
+}
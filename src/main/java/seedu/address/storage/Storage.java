@@ -39,4 +39,7 @@ public interface Storage extends FindrStorage, UserPrefsStorage, SearchHistorySt
     @Override
     void saveSearchHistory(List<String> searchHistory) throws IOException;
 
+    @Override
+    void appendSearchHistory(List<String> commands) throws IOException;
+
 }
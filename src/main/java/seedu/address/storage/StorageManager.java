@@ -8,6 +8,7 @@ import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.FindrMutation;
 import seedu.address.model.ReadOnlyFindr;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
@@ -80,6 +81,12 @@ public class StorageManager implements Storage {
         findrStorage.saveCandidateList(candidateList, filePath);
     }
 
+    @Override
+    public void saveMutations(List<FindrMutation> mutations, ReadOnlyFindr candidateList) throws IOException {
+        logger.fine("Attempting to record " + mutations.size() + " changes to data file: " + getFindrFilePath());
+        findrStorage.saveMutations(mutations, candidateList);
+    }
+
     // ================ SearchHistory methods ==============================
 
     @Override
@@ -99,4 +106,11 @@ public class StorageManager implements Storage {
         searchHistoryStorage.saveSearchHistory(searchHistory);
     }
 
+    @Override
+    public void appendSearchHistory(List<String> commands) throws IOException {
+        logger.fine("Attempting to append " + commands.size() + " commands to search history file: "
+                + getSearchHistoryFilePath());
+        searchHistoryStorage.appendSearchHistory(commands);
+    }
+
 }
@@ -0,0 +1,135 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.Findr;
+import seedu.address.model.FindrMutation;
+import seedu.address.model.ReadOnlyFindr;
+
+/**
+ * Writes changes to a {@link FindrStorage} on a dedicated background thread.
+ * The saver keeps its own replica of the candidate list, which it brings up to date by replaying the changes it is
+ * given, so callers only hand over the (immutable) changes and never need to copy the whole candidate list.
+ * Changes that arrive while a write is queued or in progress are coalesced into the next write.
+ */
+public class WriteBehindSaver {
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindSaver.class);
+
+    private final FindrStorage storage;
+    private final ExecutorService executor;
+    private final Findr replica;
+    private final List<FindrMutation> pending = new ArrayList<>();
+    private volatile Consumer<IOException> failureHandler = e -> {};
+
+    /**
+     * Creates a {@code WriteBehindSaver} that writes to {@code storage}, starting from {@code initialData}.
+     */
+    public WriteBehindSaver(FindrStorage storage, ReadOnlyFindr initialData) {
+        requireNonNull(storage);
+        requireNonNull(initialData);
+        this.storage = storage;
+        this.replica = new Findr(initialData);
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "findr-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets the handler that is called, on the background thread, whenever a write fails.
+     */
+    public void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Queues {@code mutations} to be written after any changes queued before them.
+     */
+    public void save(List<FindrMutation> mutations) {
+        requireNonNull(mutations);
+        synchronized (pending) {
+            boolean writeQueued = !pending.isEmpty();
+            pending.addAll(mutations);
+            if (writeQueued || pending.isEmpty()) {
+                return;
+            }
+        }
+        executor.execute(this::writePending);
+    }
+
+    /**
+     * Blocks until every change queued so far has been written.
+     * Does nothing if the saver has already been shut down.
+     */
+    public void flush() {
+        if (executor.isShutdown()) {
+            return;
+        }
+
+        try {
+            executor.submit(this::writePending).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning("Failed to flush pending saves: " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Blocks until every change queued so far has been written, and returns a copy of the candidate list as of those
+     * changes.
+     */
+    public ReadOnlyFindr copySaved() {
+        try {
+            return executor.submit(() -> {
+                writePending();
+                return new Findr(replica);
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while copying the saved candidate list.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to copy the saved candidate list.", e.getCause());
+        }
+    }
+
+    /**
+     * Writes any queued changes and stops the background thread.
+     */
+    public void shutdown() {
+        flush();
+        executor.shutdown();
+    }
+
+    private void writePending() {
+        List<FindrMutation> batch;
+        synchronized (pending) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = new ArrayList<>(pending);
+            pending.clear();
+        }
+
+        batch.forEach(mutation -> mutation.applyTo(replica));
+        try {
+            storage.saveMutations(batch, replica);
+        } catch (IOException e) {
+            logger.warning("Failed to save candidate list: " + StringUtil.getDetails(e));
+            failureHandler.accept(e);
+        }
+    }
+}
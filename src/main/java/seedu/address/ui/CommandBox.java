@@ -1,8 +1,6 @@
 package seedu.address.ui;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -10,11 +8,8 @@ import javafx.scene.control.TextField;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
-import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.logic.SearchHistory;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.storage.Storage;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -22,59 +17,79 @@ import seedu.address.storage.Storage;
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final String BUSY_STYLE_CLASS = "busy";
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
-    private final Storage storage;
+    private final SearchHistory searchHistory;
     private final FeedbackDisplay feedbackDisplay;
 
     // Search history navigation fields
-    private final List<String> searchHistory = new ArrayList<>();
     private int historyIndex = -1; // -1 means we're at the "new command" position
     private String currentInput = ""; // Store current input when navigating history
 
+    private boolean isBusy;
+
     @FXML
     private TextField commandTextField;
 
     /**
      * Creates a {@code CommandBox} with the given {@code CommandExecutor},
-     * {@code Storage}, and {@code FeedbackDisplay}.
+     * {@code SearchHistory}, and {@code FeedbackDisplay}.
      */
-    public CommandBox(CommandExecutor commandExecutor, Storage storage, FeedbackDisplay feedbackDisplay) {
+    public CommandBox(CommandExecutor commandExecutor, SearchHistory searchHistory, FeedbackDisplay feedbackDisplay) {
         super(FXML);
         this.commandExecutor = commandExecutor;
-        this.storage = storage;
+        this.searchHistory = searchHistory;
         this.feedbackDisplay = feedbackDisplay;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
 
         // Add key event listener for arrow key navigation
         commandTextField.setOnKeyPressed(this::handleKeyPressed);
-
-        // Load search history from storage
-        loadSearchHistory();
     }
 
     /**
      * Handles the Enter button pressed event.
+     * The command runs in the background, during which the command box shows that it is busy and ignores further
+     * commands, but can still be typed in.
      */
     @FXML
     public void handleCommandEntered() {
         String commandText = commandTextField.getText();
-        if (commandText.equals("")) {
+        if (commandText.equals("") || isBusy) {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
+        setBusy(true);
+        commandExecutor.execute(commandText).whenComplete((commandResult, error) -> {
+            setBusy(false);
+            if (error != null) {
+                setStyleToIndicateCommandFailure();
+                return;
+            }
 
             // Save command to history
-            saveToHistory(commandText);
+            searchHistory.add(commandText);
 
-            commandTextField.setText("");
+            // Keep anything typed while the command was running
+            if (commandTextField.getText().equals(commandText)) {
+                commandTextField.setText("");
+            }
             resetHistoryNavigation();
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
+        });
+    }
+
+    /**
+     * Sets whether the command box shows that a command is running.
+     */
+    private void setBusy(boolean isBusy) {
+        this.isBusy = isBusy;
+        ObservableList<String> styleClass = commandTextField.getStyleClass();
+        if (!isBusy) {
+            styleClass.remove(BUSY_STYLE_CLASS);
+        } else if (!styleClass.contains(BUSY_STYLE_CLASS)) {
+            styleClass.add(BUSY_STYLE_CLASS);
         }
     }
 
@@ -133,7 +148,7 @@ public class CommandBox extends UiPart<Region> {
 
         // Move to previous history item
         historyIndex++;
-        String historyCommand = searchHistory.get(searchHistory.size() - 1 - historyIndex);
+        String historyCommand = searchHistory.getRecent(historyIndex);
         commandTextField.setText(historyCommand);
         commandTextField.positionCaret(historyCommand.length()); // Move cursor to end
     }
@@ -149,7 +164,7 @@ public class CommandBox extends UiPart<Region> {
         // Move to next history item
         if (historyIndex > 0) {
             historyIndex--;
-            String historyCommand = searchHistory.get(searchHistory.size() - 1 - historyIndex);
+            String historyCommand = searchHistory.getRecent(historyIndex);
             commandTextField.setText(historyCommand);
             commandTextField.positionCaret(historyCommand.length()); // Move cursor to end
         } else if (historyIndex == 0) {
@@ -160,36 +175,6 @@ public class CommandBox extends UiPart<Region> {
         }
     }
 
-    /**
-     * Saves a command to the search history.
-     */
-    public void saveToHistory(String command) {
-        // Don't save empty commands
-        if (command.trim().isEmpty()) {
-            return;
-        }
-
-        // Don't save duplicate consecutive commands
-        if (!searchHistory.isEmpty() && searchHistory.get(searchHistory.size() - 1).equals(command)) {
-            return;
-        }
-
-        searchHistory.add(command);
-
-        // Limit history size to prevent memory issues (keep last 50 commands)
-        if (searchHistory.size() > 50) {
-            searchHistory.remove(0);
-        }
-
-        // Save to persistent storage
-        try {
-            storage.saveSearchHistory(searchHistory);
-        } catch (Exception e) {
-            // Log error but don't interrupt user experience
-            System.err.println("Failed to save search history: " + e.getMessage());
-        }
-    }
-
     /**
      * Resets the history navigation position to the "new command" state.
      */
@@ -198,33 +183,18 @@ public class CommandBox extends UiPart<Region> {
         currentInput = "";
     }
 
-    /**
-     * Loads search history from persistent storage.
-     */
-    private void loadSearchHistory() {
-        try {
-            Optional<List<String>> loadedHistory = storage.readSearchHistory();
-            if (loadedHistory.isPresent()) {
-                searchHistory.clear();
-                searchHistory.addAll(loadedHistory.get());
-            }
-        } catch (DataLoadingException e) {
-            // If loading fails, start with empty history
-            System.err.println("Failed to load search history: " + e.getMessage());
-        }
-    }
-
     /**
      * Represents a function that can execute commands.
      */
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command, and returns a stage that completes on the JavaFX application thread with
+         * the result, or with the {@code CommandException} or {@code ParseException} the command throws.
          *
          * @see seedu.address.logic.Logic#execute(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletionStage<CommandResult> execute(String commandText);
     }
 
     /**
@@ -1,9 +1,9 @@
 package seedu.address.ui;
 
+import java.util.function.Function;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import javafx.fxml.FXML;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Priority;
@@ -24,36 +24,26 @@ public class KanbanBoard extends UiPart<Region> {
 
     /**
      * Creates a {@code KanbanBoard} with four columns: Candidates, Contacted, Interviewed, and Hired.
-     * Each column displays persons filtered by their recruitment stage.
+     * Each column displays the persons in its recruitment stage, as supplied by {@code stageLists}.
      */
-    public KanbanBoard(ObservableList<Person> personList) {
+    public KanbanBoard(Function<Stage, ObservableList<Person>> stageLists) {
         super(FXML);
-        initializeColumns(personList);
+        initializeColumns(stageLists);
     }
 
     /**
      * Initializes the kanban columns.
      * Creates four columns: Candidates, Contacted, Interviewed, and Hired.
-     * Each column displays persons filtered by their recruitment stage.
-     * The filtered lists automatically update when persons are moved between stages.
+     * Each column displays the model's view of the persons in its recruitment stage.
+     * The stage views automatically update when persons are moved between stages.
      * Each person card displays a column-relative index (1, 2, 3...).
      */
-    private void initializeColumns(ObservableList<Person> personList) {
-        // Create filtered lists for each recruitment stage
-        FilteredList<Person> candidatesList = new FilteredList<>(personList,
-                person -> person.getStage() == Stage.CANDIDATES);
-        FilteredList<Person> contactedList = new FilteredList<>(personList,
-                person -> person.getStage() == Stage.CONTACTED);
-        FilteredList<Person> interviewedList = new FilteredList<>(personList,
-                person -> person.getStage() == Stage.INTERVIEWED);
-        FilteredList<Person> hiredList = new FilteredList<>(personList,
-                person -> person.getStage() == Stage.HIRED);
-
+    private void initializeColumns(Function<Stage, ObservableList<Person>> stageLists) {
         // Create the four kanban columns with column-relative indices
-        KanbanColumn candidatesColumn = new KanbanColumn("Candidates", candidatesList);
-        KanbanColumn contactedColumn = new KanbanColumn("Contacted", contactedList);
-        KanbanColumn interviewedColumn = new KanbanColumn("Interviewed", interviewedList);
-        KanbanColumn hiredColumn = new KanbanColumn("Hired", hiredList);
+        KanbanColumn candidatesColumn = new KanbanColumn("Candidates", stageLists.apply(Stage.CANDIDATES));
+        KanbanColumn contactedColumn = new KanbanColumn("Contacted", stageLists.apply(Stage.CONTACTED));
+        KanbanColumn interviewedColumn = new KanbanColumn("Interviewed", stageLists.apply(Stage.INTERVIEWED));
+        KanbanColumn hiredColumn = new KanbanColumn("Hired", stageLists.apply(Stage.HIRED));
 
         // Add all columns to the container in order
         columnContainer.getChildren().addAll(
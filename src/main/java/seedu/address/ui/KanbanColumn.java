@@ -28,7 +28,7 @@ public class KanbanColumn extends UiPart<Region> {
      * Creates a {@code KanbanColumn} with the given header and {@code ObservableList}.
      *
      * @param headerText The header text for the column.
-     * @param personList The filtered list of persons to display in this column.
+     * @param personList The list of persons in this column's stage.
      */
     public KanbanColumn(String headerText, ObservableList<Person> personList) {
         super(FXML);
@@ -0,0 +1,168 @@
+package seedu.address.ui;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * A read-only copy of a list that is changed on a background thread, kept up to date on another thread, such as the
+ * JavaFX application thread.
+ *
+ * Items are only copied once they are read, a block at a time, so that a long list, such as one that builds its
+ * items as they are accessed, only ever has the items that are displayed built. Until an item has been copied, the
+ * mirror holds {@code null} in its place, and reports the item as replaced once it arrives.
+ */
+class ListMirror<T> extends ObservableListBase<T> {
+
+    // Changes of up to this many items are copied as they happen, and missing items are copied this many at a time
+    static final int BLOCK_SIZE = 64;
+
+    private final ObservableList<T> source;
+    private final Executor executor;
+    private final Executor sourceExecutor;
+
+    // Only used with sourceExecutor: the number of changes made to the source so far
+    private long sourceVersion;
+
+    // Only used with executor: the items copied so far, the number of changes replayed, and the blocks being copied
+    private final List<T> items;
+    private long version;
+    private final Set<Integer> pendingBlocks = new HashSet<>();
+
+    private ListMirror(ObservableList<T> source, Executor executor, Executor sourceExecutor) {
+        this.source = source;
+        this.executor = executor;
+        this.sourceExecutor = sourceExecutor;
+        this.items = new ArrayList<>(Collections.nCopies(source.size(), null));
+    }
+
+    /**
+     * Returns a read-only copy of {@code source}, which must not be changed while this method runs, that follows
+     * every later change to it by replaying the change with {@code executor}. Items are copied from {@code source}
+     * with {@code sourceExecutor}, which must run tasks on the thread that changes {@code source}, in order with
+     * its changes.
+     * The copy goes through the same states as {@code source}, in the same order, only later, except that items
+     * not read since they were last changed may be missing.
+     */
+    static <T> ObservableList<T> of(ObservableList<T> source, Executor executor, Executor sourceExecutor) {
+        requireAllNonNull(source, executor, sourceExecutor);
+        ListMirror<T> mirror = new ListMirror<>(source, executor, sourceExecutor);
+        source.addListener((ListChangeListener<T>) mirror::onSourceChanged);
+        return mirror;
+    }
+
+    @Override
+    public T get(int index) {
+        T item = items.get(index);
+        if (item == null) {
+            copyBlock(index / BLOCK_SIZE);
+            item = items.get(index);
+        }
+        return item;
+    }
+
+    @Override
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * Records a change to the source, which is made on the source's thread, to be replayed with the executor.
+     */
+    private void onSourceChanged(ListChangeListener.Change<? extends T> change) {
+        long changeVersion = ++sourceVersion;
+        List<Step<T>> steps = new ArrayList<>();
+        while (change.next()) {
+            int from = change.getFrom();
+            int removedSize;
+            int addedSize;
+            if (change.wasPermutated() || change.wasUpdated()) {
+                removedSize = change.getTo() - from;
+                addedSize = removedSize;
+            } else {
+                removedSize = change.getRemovedSize();
+                addedSize = change.getAddedSize();
+            }
+            List<T> added = addedSize <= BLOCK_SIZE
+                    ? List.copyOf(change.getList().subList(from, from + addedSize))
+                    : null;
+            steps.add(new Step<>(from, removedSize, addedSize, added));
+        }
+        executor.execute(() -> replay(changeVersion, steps));
+    }
+
+    /**
+     * Applies the steps of one change to the source, leaving the items it added but did not copy missing.
+     */
+    private void replay(long changeVersion, List<Step<T>> steps) {
+        beginChange();
+        // Sub-changes come in ascending order, so later ones never move the items of earlier ones
+        for (Step<T> step : steps) {
+            List<T> range = items.subList(step.from(), step.from() + step.removedSize());
+            List<T> removed = new ArrayList<>(range);
+            range.clear();
+            range.addAll(step.added() != null ? step.added() : Collections.nCopies(step.addedSize(), null));
+            nextReplace(step.from(), step.from() + step.addedSize(), removed);
+        }
+        version = changeVersion;
+        // Blocks still being copied are from before this change, and will be dropped on arrival
+        pendingBlocks.clear();
+        endChange();
+    }
+
+    /**
+     * Asks the source's thread for the items of {@code block}, unless they have already been asked for.
+     */
+    private void copyBlock(int block) {
+        if (!pendingBlocks.add(block)) {
+            return;
+        }
+
+        long requestedVersion = version;
+        int from = block * BLOCK_SIZE;
+        int to = Math.min(from + BLOCK_SIZE, items.size());
+        sourceExecutor.execute(() -> {
+            if (sourceVersion != requestedVersion) {
+                // The source has changed since, and the block will be asked for again once the change is replayed
+                return;
+            }
+            List<T> copied = List.copyOf(source.subList(from, to));
+            executor.execute(() -> fill(requestedVersion, block, from, copied));
+        });
+    }
+
+    /**
+     * Puts the items copied for {@code block}, starting at {@code from}, in the places still missing them.
+     */
+    private void fill(long copiedVersion, int block, int from, List<T> copied) {
+        if (copiedVersion != version) {
+            return;
+        }
+
+        pendingBlocks.remove(block);
+        beginChange();
+        for (int i = 0; i < copied.size(); i++) {
+            if (items.get(from + i) == null) {
+                items.set(from + i, copied.get(i));
+                nextSet(from + i, null);
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * One sub-change to the source: the items from {@code from} on that were removed, and those that replaced
+     * them, which are only copied if there are few enough.
+     */
+    private record Step<T>(int from, int removedSize, int addedSize, List<T> added) {
+    }
+}
@@ -1,7 +1,9 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -12,10 +14,9 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.CommandQueue;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -24,11 +25,15 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    private static final String MESSAGE_LOADING = "Loading candidates...";
+    private static final String MESSAGE_LOADED = "Loaded %1$d candidates.";
+    private static final String MESSAGE_LOADING_FAILED = "Could not load candidates: %1$s";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
     private Stage primaryStage;
     private Logic logic;
+    private CommandQueue commandQueue;
 
     // Independent Ui parts residing in this Ui container
     private KanbanBoard kanbanBoard;
@@ -51,21 +56,21 @@ public class MainWindow extends UiPart<Stage> {
     private StackPane statusbarPlaceholder;
 
     /**
-     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}.
+     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}, whose commands are executed by
+     * {@code commandQueue}.
      */
-    public MainWindow(Stage primaryStage, Logic logic) {
+    public MainWindow(Stage primaryStage, Logic logic, CommandQueue commandQueue) {
         super(FXML, primaryStage);
 
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.commandQueue = commandQueue;
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
 
         setAccelerators();
-
-        helpWindow = new HelpWindow();
     }
 
     public Stage getPrimaryStage() {
@@ -110,18 +115,41 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        kanbanBoard = new KanbanBoard(logic.getObservableCandidateList());
+        // Commands change the model's lists on the command queue's thread, so the board shows copies of them that
+        // are kept up to date on the JavaFX application thread, and that copy only the candidates it displays
+        kanbanBoard = new KanbanBoard(stage -> ListMirror.of(logic.getStageCandidateList(stage), Platform::runLater,
+                commandQueue::submit));
         personListPanelPlaceholder.getChildren().add(kanbanBoard.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand, logic.getStorage(),
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic.getSearchHistory(),
                 resultDisplay::setFeedbackToUser);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
+
+        if (logic.isLoading()) {
+            resultDisplay.setFeedbackToUser(MESSAGE_LOADING);
+        }
+    }
+
+    /**
+     * Shows that the candidate list has finished loading, with {@code candidateCount} candidates.
+     * The count is taken on the command queue's thread, since the candidate list may be changing while this runs.
+     */
+    void showLoadingFinished(int candidateCount) {
+        resultDisplay.setFeedbackToUser(String.format(MESSAGE_LOADED, candidateCount));
+    }
+
+    /**
+     * Shows that the candidate list could not be loaded, because of {@code message}.
+     */
+    void showLoadingFailed(String message) {
+        resultDisplay.setFeedbackToUser(String.format(MESSAGE_LOADING_FAILED, message));
     }
 
     /**
@@ -144,6 +172,11 @@ public class MainWindow extends UiPart<Stage> {
      */
     @FXML
     public void handleHelp() {
+        if (helpWindow == null) {
+            // Most sessions never open the help window, so it is only built when first asked for
+            helpWindow = new HelpWindow();
+        }
+
         if (!helpWindow.isShowing()) {
             helpWindow.show();
         } else {
@@ -162,8 +195,11 @@ public class MainWindow extends UiPart<Stage> {
     private void handleExit() {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
-        logic.setGuiSettings(guiSettings);
-        helpWindow.hide();
+        // Queued behind any command still running, which may be reading the user prefs on the command thread
+        commandQueue.submit(() -> logic.setGuiSettings(guiSettings));
+        if (helpWindow != null) {
+            helpWindow.hide();
+        }
         primaryStage.hide();
     }
 
@@ -172,13 +208,20 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Queues the command to be executed in the background, and shows its result once it has been executed.
      *
+     * @return a future that completes on the JavaFX application thread, with the result of the command or the
+     *     exception it throws, once the result is shown.
      * @see seedu.address.logic.Logic#execute(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        return commandQueue.submit(commandText).whenCompleteAsync((commandResult, error) -> {
+            if (error != null) {
+                logger.info("An error occurred while executing command: " + commandText);
+                resultDisplay.setFeedbackToUser(CommandQueue.unwrap(error).getMessage());
+                return;
+            }
+
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
@@ -189,12 +232,6 @@ public class MainWindow extends UiPart<Stage> {
             if (commandResult.isExit()) {
                 handleExit();
             }
-
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
-        }
+        }, Platform::runLater);
     }
 }
@@ -10,4 +10,10 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Shows that the candidate list, which was loading when the UI was started, has loaded {@code candidateCount}. */
+    void showLoadingFinished(int candidateCount);
+
+    /** Shows that the candidate list, which was loading when the UI was started, could not be loaded. */
+    void showLoadingFailed(String message);
+
 }
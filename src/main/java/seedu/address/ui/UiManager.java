@@ -8,6 +8,7 @@ import javafx.scene.control.Alert.AlertType;
 import javafx.stage.Stage;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandQueue;
 import seedu.address.logic.Logic;
 
 /**
@@ -20,13 +21,16 @@ public class UiManager implements Ui {
     private static final Logger logger = LogsCenter.getLogger(UiManager.class);
 
     private Logic logic;
+    private CommandQueue commandQueue;
     private MainWindow mainWindow;
 
     /**
-     * Creates a {@code UiManager} with the given {@code Logic}.
+     * Creates a {@code UiManager} with the given {@code Logic}, whose commands are executed by
+     * {@code commandQueue}.
      */
-    public UiManager(Logic logic) {
+    public UiManager(Logic logic, CommandQueue commandQueue) {
         this.logic = logic;
+        this.commandQueue = commandQueue;
     }
 
     @Override
@@ -34,7 +38,7 @@ public class UiManager implements Ui {
         logger.info("Starting UI...");
 
         try {
-            mainWindow = new MainWindow(primaryStage, logic);
+            mainWindow = new MainWindow(primaryStage, logic, commandQueue);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
 
@@ -44,6 +48,16 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showLoadingFinished(int candidateCount) {
+        mainWindow.showLoadingFinished(candidateCount);
+    }
+
+    @Override
+    public void showLoadingFailed(String message) {
+        mainWindow.showLoadingFailed(message);
+    }
+
     void showAlertDialogAndWait(Alert.AlertType type, String title, String headerText, String contentText) {
         showAlertDialogAndWait(mainWindow.getPrimaryStage(), type, title, headerText, contentText);
     }
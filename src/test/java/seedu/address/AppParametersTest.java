@@ -39,10 +39,80 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validBatchParameters_success() {
+        parametersStub.namedParameters.put("batch", "commands.txt");
+        parametersStub.namedParameters.put("checkpoint", "1000");
+        expected.setBatchFilePath(Paths.get("commands.txt"));
+        expected.setCheckpointInterval(1000);
+        AppParameters appParameters = AppParameters.parse(parametersStub);
+        assertEquals(expected, appParameters);
+        assertTrue(appParameters.isBatch());
+    }
+
+    @Test
+    public void parse_invalidBatchParameters_success() {
+        parametersStub.namedParameters.put("batch", "a\0");
+        parametersStub.namedParameters.put("checkpoint", "-5");
+        AppParameters appParameters = AppParameters.parse(parametersStub);
+        assertEquals(expected, appParameters);
+        assertFalse(appParameters.isBatch());
+    }
+
+    @Test
+    public void parse_validExportFilePath_success() {
+        parametersStub.namedParameters.put("export", "findr.json");
+        expected.setExportFilePath(Paths.get("findr.json"));
+        AppParameters appParameters = AppParameters.parse(parametersStub);
+        assertEquals(expected, appParameters);
+        assertTrue(appParameters.isExport());
+        assertFalse(appParameters.isBatch());
+        assertTrue(appParameters.isHeadless());
+    }
+
+    @Test
+    public void parse_invalidExportFilePath_success() {
+        parametersStub.namedParameters.put("export", "a\0");
+        AppParameters appParameters = AppParameters.parse(parametersStub);
+        assertEquals(expected, appParameters);
+        assertFalse(appParameters.isHeadless());
+    }
+
+    @Test
+    public void parse_validServerPort_success() {
+        parametersStub.namedParameters.put("server", "8080");
+        expected.setServerPort(8080);
+        AppParameters appParameters = AppParameters.parse(parametersStub);
+        assertEquals(expected, appParameters);
+        assertTrue(appParameters.isServer());
+        assertTrue(appParameters.isHeadless());
+    }
+
+    @Test
+    public void parse_invalidServerPort_success() {
+        for (String port : List.of("", "-1", "http", "65536", "123456")) {
+            parametersStub.namedParameters.put("server", port);
+            AppParameters appParameters = AppParameters.parse(parametersStub);
+            assertEquals(expected, appParameters);
+            assertFalse(appParameters.isHeadless());
+        }
+    }
+
+    @Test
+    public void parse_commandLineArguments_usesOnlyNamedArguments() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setBatchFilePath(AppParameters.STANDARD_INPUT);
+        assertEquals(expected, AppParameters.parse("--config=config.json", "--batch=-", "unnamed", "--=ignored"));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", batchFilePath=" + appParameters.getBatchFilePath()
+                + ", checkpointInterval=" + appParameters.getCheckpointInterval()
+                + ", exportFilePath=" + appParameters.getExportFilePath()
+                + ", serverPort=" + appParameters.getServerPort() + "}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,6 +136,26 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different batch file path -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setBatchFilePath(Paths.get("commands.txt"));
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different checkpoint interval -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setCheckpointInterval(100);
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different export file path -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setExportFilePath(Paths.get("findr.json"));
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different server port -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setServerPort(0);
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
@@ -1,13 +1,17 @@
 package seedu.address;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,6 +20,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.Config;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ConfigUtil;
 import seedu.address.model.Findr;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyFindr;
@@ -24,6 +29,7 @@ import seedu.address.model.UserPrefs;
 import seedu.address.storage.JsonFindrStorage;
 import seedu.address.storage.JsonSearchHistoryStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ShardedFindrStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 
@@ -307,4 +313,80 @@ public class MainAppTest {
         });
     }
 
+    @Test
+    public void init_appParameters_recordsStartupPhases() throws IOException {
+        AppParameters appParameters = createAppParametersInTempDir();
+        mainApp.init(appParameters);
+        mainApp.logic.shutdown();
+
+        assertEquals(List.of("config", "logging", "prefs", "storage", "data", "logic", "ui"),
+                List.copyOf(mainApp.getStartupPhases().keySet()));
+    }
+
+    @Test
+    public void runBatch_validCommands_savesCandidates() throws Exception {
+        AppParameters appParameters = createAppParametersInTempDir();
+        Path batchFilePath = tempDir.resolve("commands.txt");
+        Files.writeString(batchFilePath, "clear all\nadd n/Amy Bee p/85355255 e/amy@gmail.com a/123, Jurong West\n");
+        appParameters.setBatchFilePath(batchFilePath);
+
+        assertEquals(0, mainApp.runBatch(appParameters));
+        assertEquals(1, mainApp.storage.readCandidateList().get().getCandidateList().size());
+        assertEquals(List.of("config", "logging", "prefs", "storage", "data", "logic"),
+                List.copyOf(mainApp.getStartupPhases().keySet()));
+    }
+
+    @Test
+    public void runBatch_commandsAndExport_writesJsonBesideShards() throws Exception {
+        AppParameters appParameters = createAppParametersInTempDir();
+        Path batchFilePath = tempDir.resolve("commands.txt");
+        Files.writeString(batchFilePath, "add n/Amy Bee p/85355255 e/amy@gmail.com a/123, Jurong West\n");
+        appParameters.setBatchFilePath(batchFilePath);
+        Path exportFilePath = tempDir.resolve("export.json");
+        appParameters.setExportFilePath(exportFilePath);
+
+        assertEquals(0, mainApp.runBatch(appParameters));
+        ReadOnlyFindr candidateList = mainApp.storage.readCandidateList().get();
+        assertEquals(candidateList, new JsonFindrStorage(exportFilePath).readCandidateList().get());
+        assertTrue(Files.isDirectory(tempDir.resolve("findr.json" + ShardedFindrStorage.SHARD_DIRECTORY_SUFFIX)));
+        assertFalse(Files.exists(tempDir.resolve("findr.json")));
+    }
+
+    @Test
+    public void runBatch_exportOnly_writesJson() throws Exception {
+        AppParameters appParameters = createAppParametersInTempDir();
+        Path exportFilePath = tempDir.resolve("export.json");
+        appParameters.setExportFilePath(exportFilePath);
+
+        assertEquals(0, mainApp.runBatch(appParameters));
+        assertEquals(mainApp.logic.getCandidateList(), new JsonFindrStorage(exportFilePath).readCandidateList().get());
+    }
+
+    @Test
+    public void runBatch_missingBatchFile_returnsError() throws IOException {
+        AppParameters appParameters = createAppParametersInTempDir();
+        appParameters.setBatchFilePath(tempDir.resolve("missing.txt"));
+
+        assertEquals(2, mainApp.runBatch(appParameters));
+    }
+
+    /**
+     * Returns {@code AppParameters} with a config file, and preferences, that keep every file in {@code tempDir}.
+     */
+    private AppParameters createAppParametersInTempDir() throws IOException {
+        Config config = new Config();
+        config.setUserPrefsFilePath(tempDir.resolve("preferences.json"));
+        Path configPath = tempDir.resolve("config.json");
+        ConfigUtil.saveConfig(config, configPath);
+
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(tempDir.resolve("findr.json"));
+        userPrefs.setSearchHistoryFilePath(tempDir.resolve("searchhistory.json"));
+        new JsonUserPrefsStorage(config.getUserPrefsFilePath()).saveUserPrefs(userPrefs);
+
+        AppParameters appParameters = new AppParameters();
+        appParameters.setConfigPath(configPath);
+        return appParameters;
+    }
+
 }
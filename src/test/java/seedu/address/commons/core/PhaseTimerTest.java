@@ -0,0 +1,73 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class PhaseTimerTest {
+
+    @Test
+    public void endPhase_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PhaseTimer().endPhase(null));
+    }
+
+    @Test
+    public void getPhases_noPhaseEnded_returnsEmptyMap() {
+        PhaseTimer timer = new PhaseTimer();
+        assertTrue(timer.getPhases().isEmpty());
+        assertEquals(Duration.ZERO, timer.getTotal());
+    }
+
+    @Test
+    public void getPhases_phasesEnded_returnsPhasesInOrder() throws InterruptedException {
+        PhaseTimer timer = new PhaseTimer();
+        timer.endPhase("config");
+        Thread.sleep(5);
+        timer.endPhase("storage");
+        timer.endPhase("ui");
+
+        Map<String, Duration> phases = timer.getPhases();
+        assertEquals(List.of("config", "storage", "ui"), List.copyOf(phases.keySet()));
+        assertTrue(phases.get("storage").toMillis() >= 5);
+        assertEquals(phases.values().stream().reduce(Duration.ZERO, Duration::plus), timer.getTotal());
+    }
+
+    @Test
+    public void endPhase_repeatedPhase_addsTime() throws InterruptedException {
+        PhaseTimer timer = new PhaseTimer();
+        Thread.sleep(5);
+        timer.endPhase("load");
+        timer.endPhase("ui");
+        Thread.sleep(5);
+        timer.endPhase("load");
+
+        assertEquals(List.of("load", "ui"), List.copyOf(timer.getPhases().keySet()));
+        assertTrue(timer.getPhases().get("load").toMillis() >= 10);
+    }
+
+    @Test
+    public void getPhases_modifyReturnedMap_throwsUnsupportedOperationException() {
+        PhaseTimer timer = new PhaseTimer();
+        timer.endPhase("config");
+        assertThrows(UnsupportedOperationException.class, () -> timer.getPhases().clear());
+    }
+
+    @Test
+    public void toStringMethod() {
+        PhaseTimer timer = new PhaseTimer();
+        assertEquals("no phases ended", timer.toString());
+
+        timer.endPhase("config");
+        String summary = timer.toString();
+        assertTrue(summary.startsWith("config "));
+        assertTrue(summary.contains(" ms (total "));
+        assertFalse(summary.contains(", "));
+    }
+}
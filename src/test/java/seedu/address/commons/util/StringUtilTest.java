@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -123,6 +124,57 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for foldCase --------------------------------------
+
+    @Test
+    public void foldCase_nullText_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.foldCase(null));
+    }
+
+    @Test
+    public void foldCase_validInputs_equalIfEqualIgnoringCase() {
+        assertEquals("", StringUtil.foldCase(""));
+        assertEquals("abc 1@_", StringUtil.foldCase("aBC 1@_"));
+
+        String[] words = {"hans", "HANS", "Hans", "Straße", "STRASSE", "Ǆ", "ǅ", "ǆ", "İ", "i", "ı", "I", "Σ", "σ",
+            "ς", "\uD801\uDC00", "\uD801\uDC28", "K", "\u212A", "k"};
+        for (String first : words) {
+            for (String second : words) {
+                assertEquals(first.equalsIgnoreCase(second),
+                        StringUtil.foldCase(first).equals(StringUtil.foldCase(second)), first + " and " + second);
+            }
+        }
+    }
+
+    //---------------- Tests for editDistance --------------------------------------
+
+    @Test
+    public void editDistance_nullWord_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance(null, "abc"));
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance("abc", null));
+    }
+
+    @Test
+    public void editDistance_validInputs_correctResult() {
+        // Equal words
+        assertEquals(0, StringUtil.editDistance("", ""));
+        assertEquals(0, StringUtil.editDistance("alice", "alice"));
+
+        // One insertion, deletion or replacement
+        assertEquals(1, StringUtil.editDistance("tan", "tang"));
+        assertEquals(1, StringUtil.editDistance("tang", "tan"));
+        assertEquals(1, StringUtil.editDistance("jonathon", "jonathan"));
+
+        // Several edits, including from and to an empty word
+        assertEquals(3, StringUtil.editDistance("", "bob"));
+        assertEquals(3, StringUtil.editDistance("bob", ""));
+        assertEquals(2, StringUtil.editDistance("lim", "mil"));
+        assertEquals(3, StringUtil.editDistance("kitten", "sitting"));
+
+        // Case is not ignored
+        assertEquals(1, StringUtil.editDistance("Alice", "alice"));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -0,0 +1,123 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.storage.JsonFindrStorage;
+import seedu.address.storage.JsonSearchHistoryStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class BatchRunnerTest {
+
+    private static final String ADD_AMY = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+            + ADDRESS_DESC_AMY;
+    private static final String ADD_BOB = AddCommand.COMMAND_WORD + NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB
+            + ADDRESS_DESC_BOB;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private final PrintStream out = new PrintStream(output, true, StandardCharsets.UTF_8);
+    private final Model model = new ModelManager();
+    private Logic logic;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(new JsonFindrStorage(temporaryFolder.resolve("findr.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonSearchHistoryStorage(temporaryFolder.resolve("searchHistory.json")));
+        logic = new LogicManager(model, storage);
+    }
+
+    @Test
+    public void constructor_negativeCheckpointInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new BatchRunner(logic, -1, out));
+    }
+
+    @Test
+    public void run_validCommands_savesOnceAtEnd() throws Exception {
+        BatchRunner.Statistics statistics = new BatchRunner(logic, 0, out).run(commands(
+                "# migrated from the old tracker", ADD_AMY, "", ADD_BOB, ListCommand.COMMAND_WORD));
+
+        assertEquals(3, statistics.commandCount());
+        assertEquals(0, statistics.failedCount());
+        assertEquals(1, statistics.saveCount());
+        assertEquals(2, model.getCandidateList().getCandidateList().size());
+        assertEquals(model.getCandidateList(), logic.getStorage().readCandidateList().get());
+        assertTrue(output.toString(StandardCharsets.UTF_8).startsWith("Ran 3 commands (0 failed) in "));
+    }
+
+    @Test
+    public void run_invalidCommand_reportsLineAndContinues() throws Exception {
+        BatchRunner.Statistics statistics = new BatchRunner(logic, 0, out).run(commands(
+                ADD_AMY, "uicfhmowqewca", ADD_BOB));
+
+        assertEquals(3, statistics.commandCount());
+        assertEquals(1, statistics.failedCount());
+        assertEquals(2, model.getCandidateList().getCandidateList().size());
+        assertTrue(output.toString(StandardCharsets.UTF_8).startsWith(
+                String.format(BatchRunner.MESSAGE_COMMAND_FAILED, 2, MESSAGE_UNKNOWN_COMMAND)));
+    }
+
+    @Test
+    public void run_checkpointInterval_savesAtEachCheckpointAndAtEnd() throws Exception {
+        BatchRunner.Statistics statistics = new BatchRunner(logic, 2, out).run(commands(
+                ADD_AMY, ListCommand.COMMAND_WORD, ADD_BOB));
+
+        assertEquals(2, statistics.saveCount());
+        assertEquals(model.getCandidateList(), logic.getStorage().readCandidateList().get());
+    }
+
+    @Test
+    public void export_afterCommands_writesCandidateListAsJson() throws Exception {
+        BatchRunner batchRunner = new BatchRunner(logic, 0, out);
+        batchRunner.run(commands(ADD_AMY, ADD_BOB));
+        output.reset();
+
+        Path exportFilePath = temporaryFolder.resolve("export").resolve("findr.json");
+        batchRunner.export(exportFilePath, false);
+        assertEquals(model.getCandidateList(), new JsonFindrStorage(exportFilePath).readCandidateList().get());
+        assertEquals(String.format(BatchRunner.MESSAGE_EXPORTED, 2, exportFilePath) + System.lineSeparator(),
+                output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void statisticsToString() {
+        BatchRunner.Statistics statistics = new BatchRunner.Statistics(2000, 3, 2,
+                Duration.ofSeconds(2), Duration.ofMillis(150));
+        assertEquals("Ran 2000 commands (3 failed) in 2000 ms: 1000 commands/s. Saved 2 times in 150 ms.",
+                statistics.toString());
+    }
+
+    private static BufferedReader commands(String... lines) {
+        return new BufferedReader(new StringReader(String.join("\n", lines)));
+    }
+}
@@ -0,0 +1,132 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalFindr;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonFindrStorage;
+import seedu.address.storage.JsonSearchHistoryStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class CommandQueueTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalFindr(), new UserPrefs());
+    private Logic logic;
+    private CommandQueue commandQueue;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(new JsonFindrStorage(temporaryFolder.resolve("findr.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonSearchHistoryStorage(temporaryFolder.resolve("searchHistory.json")));
+        logic = new LogicManager(model, storage);
+        commandQueue = new CommandQueue(logic);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        commandQueue.shutdown();
+        logic.shutdown();
+    }
+
+    @Test
+    public void submit_validCommand_completesWithResult() throws Exception {
+        CommandResult commandResult = commandQueue.submit(ListCommand.COMMAND_WORD).get();
+        assertEquals(ListCommand.MESSAGE_SUCCESS, commandResult.getFeedbackToUser());
+    }
+
+    @Test
+    public void submit_invalidCommand_completesExceptionally() throws Exception {
+        CompletableFuture<CommandResult> future = commandQueue.submit("uicfhmowqewca");
+
+        Throwable error = future.handle((result, e) -> CommandQueue.unwrap(e)).get();
+        assertTrue(error instanceof ParseException);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, error.getMessage());
+    }
+
+    @Test
+    public void submit_commandsAndTasks_runInSubmissionOrder() throws Exception {
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        int initialSize = model.getCandidateList().getCandidateList().size();
+
+        commandQueue.submit(() -> order.add("task before"));
+        commandQueue.submit(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY).thenRun(() -> order.add("add"));
+        commandQueue.submit(() -> order.add("task after, seeing " + model.getCandidateList().getCandidateList()
+                .size() + " candidates")).get();
+
+        assertEquals(List.of("task before", "add", "task after, seeing " + (initialSize + 1) + " candidates"),
+                order);
+    }
+
+    @Test
+    public void submit_task_runsOnWorkerThread() throws Exception {
+        List<String> threadNames = new ArrayList<>();
+        commandQueue.submit(() -> threadNames.add(Thread.currentThread().getName())).get();
+        assertEquals(List.of("findr-command-worker"), threadNames);
+    }
+
+    @Test
+    public void submit_supplier_completesWithValueSeenAfterEarlierCommands() throws Exception {
+        int initialSize = model.getCandidateList().getCandidateList().size();
+        commandQueue.submit(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY);
+
+        CompletableFuture<Integer> size = commandQueue.submit(() -> model.getCandidateList().getCandidateList()
+                .size());
+        assertEquals(initialSize + 1, size.get());
+    }
+
+    @Test
+    public void shutdown_queuedTasks_waitsForThemToFinish() {
+        List<String> finished = Collections.synchronizedList(new ArrayList<>());
+        commandQueue.submit(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            finished.add("slow task");
+        });
+
+        commandQueue.shutdown();
+        assertEquals(List.of("slow task"), finished);
+    }
+
+    @Test
+    public void unwrap() {
+        ParseException cause = new ParseException("cause");
+        assertSame(cause, CommandQueue.unwrap(new CompletionException(cause)));
+        assertSame(cause, CommandQueue.unwrap(cause));
+        assertTrue(CommandQueue.unwrap(new CompletionException("no cause", null)) instanceof CompletionException);
+    }
+}
@@ -1,7 +1,9 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_CANDIDATE_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -10,20 +12,36 @@ import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalFindr;
 
 import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.TagListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Findr;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyFindr;
@@ -75,17 +93,100 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
+    public void execute_storageThrowsIoException_reportsSaveFailure() throws Exception {
+        assertSaveFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
     }
 
     @Test
-    public void execute_storageThrowsAdException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
+    public void execute_storageThrowsAdException_reportsSaveFailure() throws Exception {
+        assertSaveFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void shutdown_afterMutatingCommand_writesCandidateList() throws Exception {
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        logic.shutdown();
+        assertEquals(model.getCandidateList(), logic.getStorage().readCandidateList().get());
+    }
+
+    @Test
+    public void execute_nonMutatingCommands_writesZeroBytes() throws Exception {
+        ByteCountingFindrStorage findrStorage = useByteCountingStorage();
+
+        for (String command : new String[] {ListCommand.COMMAND_WORD, FindCommand.COMMAND_WORD + " Alice",
+            SortCommand.COMMAND_WORD + " alphabetical", HelpCommand.COMMAND_WORD, TagListCommand.COMMAND_WORD,
+            ExitCommand.COMMAND_WORD}) {
+            logic.execute(command);
+        }
+        logic.shutdown();
+
+        assertEquals(0L, findrStorage.bytesWritten.get());
+        assertFalse(Files.exists(findrStorage.getFindrFilePath()));
+    }
+
+    @Test
+    public void execute_mutatingCommandAfterReads_writesOnce() throws Exception {
+        ByteCountingFindrStorage findrStorage = useByteCountingStorage();
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        logic.shutdown();
+
+        assertEquals(1, findrStorage.saveCount.get());
+        assertEquals(Files.size(findrStorage.getFindrFilePath()), findrStorage.bytesWritten.get());
+    }
+
+    @Test
+    public void execute_savingDeferred_writesOnlyWhenChangesSaved() throws Exception {
+        ByteCountingFindrStorage findrStorage = useByteCountingStorage();
+        logic.setSavingDeferred(true);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        logic.execute("delete 1 from/candidates");
+        assertEquals(0, findrStorage.saveCount.get());
+
+        logic.saveChanges();
+        assertEquals(1, findrStorage.saveCount.get());
+        assertEquals(model.getCandidateList(), findrStorage.readCandidateList().get());
+
+        // nothing has changed since the last save
+        logic.saveChanges();
+        logic.shutdown();
+        assertEquals(1, findrStorage.saveCount.get());
+    }
+
+    @Test
+    public void shutdown_savingDeferred_writesUnsavedChanges() throws Exception {
+        ByteCountingFindrStorage findrStorage = useByteCountingStorage();
+        logic.setSavingDeferred(true);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        logic.shutdown();
+
+        assertEquals(1, findrStorage.saveCount.get());
+        assertEquals(model.getCandidateList(), findrStorage.readCandidateList().get());
+    }
+
+    @Test
+    public void execute_commandFailsAfterChangingModel_changesUndoneAndNotSaved() throws Exception {
+        ByteCountingFindrStorage findrStorage = useByteCountingStorage();
+        logic.setSavingDeferred(true);
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        ReadOnlyFindr beforeClear = new Findr(model.getCandidateList());
+
+        // The clear fails on its second deletion, after the first has been made
+        assertThrows(IllegalStateException.class, () -> logic.execute(ClearCommand.COMMAND_WORD + " candidates",
+                LogicManagerTest::failingOnSecondDeletion));
+        assertEquals(beforeClear, model.getCandidateList());
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.saveChanges();
+        logic.shutdown();
+        assertEquals(beforeClear, findrStorage.readCandidateList().get());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getObservableCandidateList().remove(0));
@@ -96,6 +197,100 @@ public class LogicManagerTest {
         assertNotNull(logic.getStorage());
     }
 
+    @Test
+    public void getSearchHistory_commandsAdded_savedByShutdown() throws Exception {
+        logic.getSearchHistory().add("list");
+        logic.getSearchHistory().add("find Alex");
+        logic.shutdown();
+
+        assertEquals(List.of("list", "find Alex"), logic.getStorage().readSearchHistory().get());
+    }
+
+    @Test
+    public void execute_whileLoading_rejectsOnlyMutatingCommands() throws Exception {
+        ByteCountingFindrStorage findrStorage = useLoadingLogic();
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(FindCommand.COMMAND_WORD + " Alice");
+        assertCommandException(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY, Messages.MESSAGE_STILL_LOADING);
+        logic.shutdown();
+
+        assertTrue(logic.isLoading());
+        assertEquals(0, findrStorage.saveCount.get());
+    }
+
+    @Test
+    public void finishLoading_thenMutatingCommand_savesOnlyLaterChanges() throws Exception {
+        ByteCountingFindrStorage findrStorage = useLoadingLogic();
+        logic.execute(FindCommand.COMMAND_WORD + " Alice");
+
+        logic.finishLoading(getTypicalFindr());
+        assertFalse(logic.isLoading());
+        assertEquals(getTypicalFindr(), model.getCandidateList());
+        // The filter applied while loading still applies to the loaded candidates
+        assertEquals(1, logic.getObservableCandidateList().size());
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        logic.shutdown();
+
+        assertEquals(1, findrStorage.saveCount.get());
+        assertEquals(model.getCandidateList(), findrStorage.readCandidateList().get());
+    }
+
+    @Test
+    public void finishLoading_notLoading_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> logic.finishLoading(getTypicalFindr()));
+    }
+
+    /**
+     * Returns a view of {@code model} whose second {@code deleteCandidate} call throws an
+     * {@code IllegalStateException}.
+     */
+    private static Model failingOnSecondDeletion(Model model) {
+        AtomicInteger deletionCount = new AtomicInteger();
+        return (Model) Proxy.newProxyInstance(Model.class.getClassLoader(), new Class<?>[] {Model.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("deleteCandidate") && deletionCount.incrementAndGet() == 2) {
+                        throw new IllegalStateException();
+                    }
+                    try {
+                        return method.invoke(model, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    /**
+     * Replaces {@code logic} with one over the typical candidates that saves to a {@code ByteCountingFindrStorage}.
+     */
+    private ByteCountingFindrStorage useByteCountingStorage() {
+        model = new ModelManager(getTypicalFindr(), new UserPrefs());
+        ByteCountingFindrStorage findrStorage =
+                new ByteCountingFindrStorage(temporaryFolder.resolve("countedFindr.json"));
+        StorageManager storage = new StorageManager(findrStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("countedUserPrefs.json")),
+                new JsonSearchHistoryStorage(temporaryFolder.resolve("countedSearchHistory.json")));
+        logic = new LogicManager(model, storage);
+        return findrStorage;
+    }
+
+    /**
+     * Replaces {@code logic} with one that is loading the candidate list and saves to a
+     * {@code ByteCountingFindrStorage}.
+     */
+    private ByteCountingFindrStorage useLoadingLogic() {
+        model = new ModelManager();
+        ByteCountingFindrStorage findrStorage =
+                new ByteCountingFindrStorage(temporaryFolder.resolve("countedFindr.json"));
+        StorageManager storage = new StorageManager(findrStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("countedUserPrefs.json")),
+                new JsonSearchHistoryStorage(temporaryFolder.resolve("countedSearchHistory.json")));
+        logic = new LogicManager(model, storage, true);
+        return findrStorage;
+    }
+
     /**
      * Executes the command and confirms that
      * - no exceptions are thrown <br>
@@ -151,11 +346,14 @@ public class LogicManagerTest {
 
     /**
      * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
+     * The command itself succeeds, and the failure is reported to the save failure handler once the
+     * background save has run.
      *
      * @param e the exception to be thrown by the Storage component
-     * @param expectedMessage the message expected inside exception thrown by the Logic component
+     * @param expectedMessage the message expected to be reported by the Logic component
      */
-    private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+    private void assertSaveFailureForExceptionFromStorage(IOException e, String expectedMessage)
+            throws CommandException, ParseException {
         Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
 
         // Inject LogicManager with an AddressBookStorage that throws the IOException e when saving
@@ -174,6 +372,8 @@ public class LogicManagerTest {
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage, searchHistoryStorage);
 
         logic = new LogicManager(model, storage);
+        List<String> reportedMessages = Collections.synchronizedList(new ArrayList<>());
+        logic.setSaveFailureHandler(reportedMessages::add);
 
         // Triggers the saveAddressBook method by executing an add command
         String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
@@ -181,6 +381,29 @@ public class LogicManagerTest {
         Person expectedPerson = new PersonBuilder(AMY).withTags().build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addCandidate(expectedPerson);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        assertCommandSuccess(addCommand, String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(expectedPerson)),
+                expectedModel);
+
+        logic.shutdown();
+        assertEquals(List.of(expectedMessage), reportedMessages);
+    }
+
+    /**
+     * A {@code JsonFindrStorage} that counts the saves it performs and the bytes they write.
+     */
+    private static class ByteCountingFindrStorage extends JsonFindrStorage {
+        private final AtomicLong bytesWritten = new AtomicLong();
+        private final AtomicInteger saveCount = new AtomicInteger();
+
+        ByteCountingFindrStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveCandidateList(ReadOnlyFindr candidateList, Path filePath) throws IOException {
+            super.saveCandidateList(candidateList, filePath);
+            saveCount.incrementAndGet();
+            bytesWritten.addAndGet(Files.size(filePath));
+        }
     }
 }
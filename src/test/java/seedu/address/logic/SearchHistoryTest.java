@@ -0,0 +1,79 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class SearchHistoryTest {
+
+    private final List<String> saved = new ArrayList<>();
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SearchHistory(0, List.of(), saved::add));
+    }
+
+    @Test
+    public void constructor_moreSavedCommandsThanCapacity_keepsMostRecent() {
+        SearchHistory searchHistory = new SearchHistory(2, List.of("list", "find Alex", "sort name"), saved::add);
+
+        assertEquals(2, searchHistory.size());
+        assertEquals("sort name", searchHistory.getRecent(0));
+        assertEquals("find Alex", searchHistory.getRecent(1));
+        assertTrue(saved.isEmpty());
+    }
+
+    @Test
+    public void add_newCommand_addedAndSaved() {
+        SearchHistory searchHistory = new SearchHistory(3, List.of("list"), saved::add);
+
+        assertTrue(searchHistory.add("find Alex"));
+
+        assertEquals(List.of("find Alex", "list"), recentFirst(searchHistory));
+        assertEquals(List.of("find Alex"), saved);
+    }
+
+    @Test
+    public void add_blankOrRepeatedCommand_notAdded() {
+        SearchHistory searchHistory = new SearchHistory(3, List.of("list"), saved::add);
+
+        assertFalse(searchHistory.add("   "));
+        assertFalse(searchHistory.add("list"));
+
+        assertEquals(List.of("list"), recentFirst(searchHistory));
+        assertTrue(saved.isEmpty());
+    }
+
+    @Test
+    public void add_beyondCapacity_dropsOldest() {
+        SearchHistory searchHistory = new SearchHistory(3, List.of(), saved::add);
+        for (int i = 0; i < 10; i++) {
+            searchHistory.add("find " + i);
+        }
+
+        assertEquals(3, searchHistory.size());
+        assertEquals(List.of("find 9", "find 8", "find 7"), recentFirst(searchHistory));
+        assertEquals(10, saved.size());
+    }
+
+    @Test
+    public void getRecent_outOfRange_throwsIndexOutOfBoundsException() {
+        SearchHistory searchHistory = new SearchHistory(3, List.of("list"), saved::add);
+        assertThrows(IndexOutOfBoundsException.class, () -> searchHistory.getRecent(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> searchHistory.getRecent(-1));
+    }
+
+    private static List<String> recentFirst(SearchHistory searchHistory) {
+        List<String> commands = new ArrayList<>();
+        for (int age = 0; age < searchHistory.size(); age++) {
+            commands.add(searchHistory.getRecent(age));
+        }
+        return commands;
+    }
+}
@@ -13,6 +13,7 @@ import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -23,10 +24,12 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Findr;
+import seedu.address.model.FindrMutation;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyFindr;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Stage;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.exceptions.TagNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -168,6 +171,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getCandidateListVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addMutationListener(Consumer<? super FindrMutation> listener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasCandidate(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -188,6 +201,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ObservableList<Person> getStageCandidateList(Stage stage) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredCandidateList(Predicate<Person> predicate) {
             throw new AssertionError("This method should not be called.");
@@ -5,20 +5,28 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
 import static seedu.address.testutil.TypicalPersons.getTypicalFindr;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.parser.FindCommandParser;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.CandidateQuery;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -29,10 +37,8 @@ public class FindCommandTest {
 
     @Test
     public void equals() {
-        NameContainsKeywordsPredicate firstPredicate =
-                new NameContainsKeywordsPredicate(Collections.singletonList("first"));
-        NameContainsKeywordsPredicate secondPredicate =
-                new NameContainsKeywordsPredicate(Collections.singletonList("second"));
+        CandidateQuery firstPredicate = CandidateQuery.anyName(Collections.singletonList("first"));
+        CandidateQuery secondPredicate = CandidateQuery.anyName(Collections.singletonList("second"));
 
         FindCommand findFirstCommand = new FindCommand(firstPredicate);
         FindCommand findSecondCommand = new FindCommand(secondPredicate);
@@ -57,7 +63,7 @@ public class FindCommandTest {
     @Test
     public void execute_zeroKeywords_noPersonFound() {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
-        NameContainsKeywordsPredicate predicate = preparePredicate(" ");
+        CandidateQuery predicate = preparePredicate(" ");
         FindCommand command = new FindCommand(predicate);
         expectedModel.updateFilteredCandidateList(predicate);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
@@ -67,25 +73,74 @@ public class FindCommandTest {
     @Test
     public void execute_multipleKeywords_multiplePersonsFound() {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
-        NameContainsKeywordsPredicate predicate = preparePredicate("Kurz Elle Kunz");
+        CandidateQuery predicate = preparePredicate("Kurz Elle Kunz");
         FindCommand command = new FindCommand(predicate);
         expectedModel.updateFilteredCandidateList(predicate);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getObservableCandidateList());
     }
 
+    @Test
+    public void execute_fieldsAndOperators_matchingPersonsFound() throws Exception {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        FindCommand command = new FindCommandParser().parse(" t/friends AND a/ave OR n/kur*");
+        expectedModel.updateFilteredCandidateList(List.of(ALICE, BENSON, CARL)::contains);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), model.getObservableCandidateList());
+    }
+
+    @Test
+    public void execute_substrings_matchingPersonsFound() throws Exception {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 4);
+        FindCommand command = new FindCommandParser().parse(" a/*STREET* OR e/*ner@*");
+        expectedModel.updateFilteredCandidateList(List.of(CARL, DANIEL, ELLE, GEORGE)::contains);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CARL, DANIEL, ELLE, GEORGE), model.getObservableCandidateList());
+    }
+
+    @Test
+    public void execute_fuzzyKeyword_rankedByDistance() throws Exception {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        FindCommand command = new FindCommandParser().parse(" meyer~");
+        new FindCommandParser().parse(" meyer~").execute(expectedModel);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ELLE, BENSON, DANIEL), model.getObservableCandidateList());
+
+        // Candidates as close as each other are in the order of the last sort
+        model.updateSortedCandidateList(SortCommand.SORT_BY_ALPHABET.reversed());
+        assertEquals(Arrays.asList(ELLE, DANIEL, BENSON), model.getObservableCandidateList());
+
+        // Closer candidates come first whatever the last sort
+        new FindCommandParser().parse(" Kurz~").execute(model);
+        assertEquals(Arrays.asList(CARL, FIONA), model.getObservableCandidateList());
+
+        // A search without fuzzy keywords is no longer ranked
+        new FindCommandParser().parse(" Meier Meyer").execute(model);
+        assertEquals(Arrays.asList(ELLE, DANIEL, BENSON), model.getObservableCandidateList());
+    }
+
+    @Test
+    public void execute_candidatesChangedAfterFind_filteredByKeywords() {
+        new FindCommand(preparePredicate("Kurz Elle Kunz")).execute(model);
+
+        Person editedCarl = new PersonBuilder(CARL).withPhone("91111111").build();
+        model.setPerson(CARL, editedCarl);
+        model.setPerson(ELLE, new PersonBuilder(ELLE).withName("Ellen Meyer").build());
+        assertEquals(Arrays.asList(editedCarl, FIONA), model.getObservableCandidateList());
+    }
+
     @Test
     public void toStringMethod() {
-        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
+        CandidateQuery predicate = CandidateQuery.anyName(Arrays.asList("keyword"));
         FindCommand findCommand = new FindCommand(predicate);
         String expected = FindCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
         assertEquals(expected, findCommand.toString());
     }
 
     /**
-     * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
+     * Parses {@code userInput} into a {@code CandidateQuery} that matches any of its words in a name.
      */
-    private NameContainsKeywordsPredicate preparePredicate(String userInput) {
-        return new NameContainsKeywordsPredicate(Arrays.asList(userInput.split("\\s+")));
+    private CandidateQuery preparePredicate(String userInput) {
+        return CandidateQuery.anyName(Arrays.asList(userInput.split("\\s+")));
     }
 }
@@ -6,16 +6,19 @@ import java.nio.file.Path;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.Findr;
+import seedu.address.model.FindrMutation;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyFindr;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Stage;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.exceptions.DuplicateTagException;
 import seedu.address.model.tag.exceptions.TagNotFoundException;
@@ -75,6 +78,16 @@ final class TagCommandTestUtil {
             return new Findr();
         }
 
+        @Override
+        public long getCandidateListVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addMutationListener(Consumer<? super FindrMutation> listener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasCandidate(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -100,6 +113,11 @@ final class TagCommandTestUtil {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ObservableList<Person> getStageCandidateList(Stage stage) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredCandidateList(Predicate<Person> predicate) {
             throw new AssertionError("This method should not be called.");
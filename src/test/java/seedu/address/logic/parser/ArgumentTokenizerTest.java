@@ -4,11 +4,32 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NEW_TAG_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG_CATEGORY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG_COLOUR;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 public class ArgumentTokenizerTest {
 
+    private static final int RANDOM_CASES = 20_000;
+    private static final int MAX_RANDOM_LENGTH = 12;
+
     private final Prefix unknownPrefix = new Prefix("--u");
     private final Prefix pSlash = new Prefix("p/");
     private final Prefix dashT = new Prefix("-t");
@@ -147,4 +168,87 @@ public class ArgumentTokenizerTest {
         assertNotEquals(aaa, new Prefix("aab"));
     }
 
+    @Test
+    public void tokenize_matchesRescanningTokenizer() {
+        List<Prefix[]> prefixSets = List.of(
+                new Prefix[] {},
+                new Prefix[] {PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG},
+                new Prefix[] {PREFIX_TAG_NAME, PREFIX_TAG_CATEGORY, PREFIX_TAG_COLOUR, PREFIX_TAG},
+                new Prefix[] {PREFIX_NEW_TAG_NAME, PREFIX_NAME, PREFIX_FROM, PREFIX_TO},
+                new Prefix[] {pSlash, dashT, hatQ, unknownPrefix},
+                // Prefixes that overlap, repeat or are empty, on which both tokenizers throw alike
+                new Prefix[] {PREFIX_TAG_COLOUR, new Prefix("t"), PREFIX_TAG_CATEGORY, PREFIX_TAG, PREFIX_TAG},
+                new Prefix[] {new Prefix(""), new Prefix(" n/"), PREFIX_NAME});
+        List<String> cases = new ArrayList<>(List.of("", " ", "n/", " n/", "add n/Amy p/123 t/a t/b",
+                "tag tn/java tc/Skill tcol/#FFFFFF", "move 1 from/Applied to/Screening", " tcol/ tc/ t/ t"));
+        Random random = new Random(1);
+        String[] pieces = {" ", "  ", "\t", "a", "/", "n/", "p/", "e/", "a/", "t/", "t", "tn/", "tc/", "tcol/", "nn/",
+            "from/", "to/", "-t", "^Q", "--u"};
+        for (int i = 0; i < RANDOM_CASES; i++) {
+            StringBuilder builder = new StringBuilder();
+            int length = random.nextInt(MAX_RANDOM_LENGTH + 1);
+            for (int j = 0; j < length; j++) {
+                builder.append(pieces[random.nextInt(pieces.length)]);
+            }
+            cases.add(builder.toString());
+        }
+
+        for (Prefix[] prefixes : prefixSets) {
+            for (String argsString : cases) {
+                assertEquals(describe(() -> tokenizeByRescanning(argsString, prefixes), prefixes),
+                        describe(() -> ArgumentTokenizer.tokenize(argsString, prefixes), prefixes),
+                        "Disagreement on \"" + argsString + "\" with " + Arrays.toString(prefixes));
+            }
+        }
+    }
+
+    /**
+     * Returns the preamble and the values of each of {@code prefixes} in the {@code ArgumentMultimap} that
+     * {@code tokenizer} returns, or the type of exception it throws.
+     */
+    private static String describe(Supplier<ArgumentMultimap> tokenizer, Prefix... prefixes) {
+        try {
+            ArgumentMultimap argMultimap = tokenizer.get();
+            return argMultimap.getPreamble() + " " + Arrays.stream(prefixes)
+                    .map(prefix -> prefix + "=" + argMultimap.getAllValues(prefix))
+                    .collect(Collectors.joining(", "));
+        } catch (RuntimeException e) {
+            return e.getClass().getName();
+        }
+    }
+
+    /**
+     * Tokenizes {@code argsString} the way {@code ArgumentTokenizer} did before it used a {@code PrefixTrie}, by
+     * searching the whole string once for each prefix.
+     */
+    private static ArgumentMultimap tokenizeByRescanning(String argsString, Prefix... prefixes) {
+        List<Integer> starts = new ArrayList<>();
+        List<Prefix> found = new ArrayList<>();
+        for (Prefix prefix : prefixes) {
+            int index = argsString.indexOf(" " + prefix.getPrefix());
+            while (index != -1) {
+                starts.add(index + 1);
+                found.add(prefix);
+                index = argsString.indexOf(" " + prefix.getPrefix(), index + 1);
+            }
+        }
+
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < starts.size(); i++) {
+            order.add(i);
+        }
+        order.sort((i, j) -> starts.get(i) - starts.get(j));
+
+        ArgumentMultimap argMultimap = new ArgumentMultimap();
+        Prefix current = new Prefix("");
+        int currentStart = 0;
+        for (int i : order) {
+            argMultimap.put(current, argsString.substring(currentStart + current.getPrefix().length(),
+                    starts.get(i)).trim());
+            current = found.get(i);
+            currentStart = starts.get(i);
+        }
+        argMultimap.put(current, argsString.substring(currentStart + current.getPrefix().length()).trim());
+        return argMultimap;
+    }
 }
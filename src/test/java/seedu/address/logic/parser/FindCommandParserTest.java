@@ -5,30 +5,106 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
-import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.CandidateQuery;
+import seedu.address.model.person.CandidateQuery.Match;
+import seedu.address.model.person.CandidateQuery.Term;
+import seedu.address.model.person.SearchField;
 
 public class FindCommandParserTest {
 
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+
     private FindCommandParser parser = new FindCommandParser();
 
     @Test
     public void parse_emptyArg_throwsParseException() {
-        assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
     }
 
     @Test
     public void parse_validArgs_returnsFindCommand() {
         // no leading and trailing whitespaces
         FindCommand expectedFindCommand =
-                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bob")));
+                new FindCommand(CandidateQuery.anyName(Arrays.asList("Alice", "Bob")));
         assertParseSuccess(parser, "Alice Bob", expectedFindCommand);
 
         // multiple whitespaces between keywords
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
+
+        // explicit OR
+        assertParseSuccess(parser, "Alice OR Bob", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_fieldsAndOperators_returnsFindCommand() {
+        Term javaTag = new Term(SearchField.TAG, List.of("java"), Match.WORD);
+        Term gmailEmail = new Term(SearchField.EMAIL, List.of("gmail", "com"), Match.WORD);
+        Term aliName = new Term(SearchField.NAME, List.of("ali"), Match.PREFIX);
+        Term clementiAddress = new Term(SearchField.ADDRESS, List.of("clementi"), Match.PREFIX);
+
+        // AND binds tighter than OR, and keywords side by side are alternatives
+        FindCommand expectedFindCommand = new FindCommand(new CandidateQuery(List.of(
+                List.of(javaTag, gmailEmail), List.of(aliName), List.of(clementiAddress))));
+        assertParseSuccess(parser, "t/Java AND e/GMAIL.com OR n/Ali* a/clementi*", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_substrings_returnsFindCommand() {
+        Term gmailEmail = new Term(SearchField.EMAIL, List.of("gmail"), Match.SUBSTRING);
+        Term ongName = new Term(SearchField.NAME, List.of("ong"), Match.SUBSTRING);
+        Term streetAddress = new Term(SearchField.ADDRESS, List.of("st,"), Match.SUBSTRING);
+
+        // the fragment is kept whole, including characters that are not part of a word
+        FindCommand expectedFindCommand = new FindCommand(new CandidateQuery(List.of(
+                List.of(gmailEmail, ongName), List.of(streetAddress))));
+        assertParseSuccess(parser, "e/*GMail* AND *Ong* OR a/*st,*", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_fuzzyKeywords_returnsFindCommand() {
+        Term jonathonName = new Term(SearchField.NAME, List.of("jonathon"), Match.FUZZY,
+                FindCommandParser.DEFAULT_MAX_EDIT_DISTANCE);
+        Term gmailEmail = new Term(SearchField.EMAIL, List.of("gmial", "com"), Match.FUZZY, 2);
+
+        FindCommand expectedFindCommand = new FindCommand(new CandidateQuery(List.of(
+                List.of(jonathonName), List.of(gmailEmail))));
+        assertParseSuccess(parser, "Jonathon~ e/gmial.com~2", expectedFindCommand);
+
+        // a fuzzy marker elsewhere in the keyword is part of it
+        expectedFindCommand = new FindCommand(new CandidateQuery(List.of(
+                List.of(new Term(SearchField.NAME, List.of("jon~a"), Match.WORD)))));
+        assertParseSuccess(parser, "jon~a", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidFuzzyKeyword_throwsParseException() {
+        assertParseFailure(parser, "jon~0", FindCommandParser.MESSAGE_INVALID_EDIT_DISTANCE);
+        assertParseFailure(parser, "jon~4", FindCommandParser.MESSAGE_INVALID_EDIT_DISTANCE);
+        assertParseFailure(parser, "jon~99999999999", FindCommandParser.MESSAGE_INVALID_EDIT_DISTANCE);
+        assertParseFailure(parser, "jon*~", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "e/@.~", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_misplacedOperator_throwsParseException() {
+        assertParseFailure(parser, "AND alice", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "alice OR", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "alice AND OR bob", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_keywordWithoutWords_throwsParseException() {
+        assertParseFailure(parser, "t/", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "alice e/@.", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "*", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "**", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "e/*gmail", MESSAGE_INVALID_FORMAT);
     }
 
 }
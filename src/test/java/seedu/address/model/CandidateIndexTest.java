@@ -0,0 +1,200 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Address;
+import seedu.address.model.person.CandidateQuery;
+import seedu.address.model.person.CandidateQuery.Match;
+import seedu.address.model.person.CandidateQuery.Term;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.SearchField;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Differential tests that check the candidates found through a {@code CandidateIndex} against those found by testing
+ * each candidate with the {@code CandidateQuery} directly, over random candidate lists, changes and queries.
+ */
+public class CandidateIndexTest {
+
+    private static final String[] FIRST_NAMES = {"Alice", "Alex", "Alexander", "Bob", "Bobby", "Carol"};
+    private static final String[] LAST_NAMES = {"Tan", "Tang", "Lim", "Ng"};
+    private static final String[] DOMAINS = {"gmail.com", "example.com", "u.nus.edu"};
+    private static final String[] STREETS = {"Clementi Ave", "Jurong West St", "Ang Mo Kio Ave"};
+    private static final String[] TAG_NAMES = {"java", "javascript", "Python", "sql"};
+    private static final String[] QUERY_WORDS = {"alice", "al", "alex", "bob", "b", "tan", "tang", "ng", "gmail", "com",
+        "u", "nus", "clementi", "ave", "ang", "mo", "java", "ja", "python", "py", "sql", "1", "missing", "alcie",
+        "tnag", "bobb", "clemnti", "pyhton", "gmial", "jav"};
+    private static final String[] QUERY_FRAGMENTS = {"a", "al", "lex", "ice", "an ", "ang", "g mo", "mail.c", "@u.nus",
+        "nus.edu", "ave", "jav", "ytho", "sq", "1", "12 ", "t st", "clementi ave", "alexander tan", "xyz"};
+
+    private final Random random = new Random(1);
+    private int createdCount;
+
+    @Test
+    public void find_randomQueries_matchesTestingEachCandidate() {
+        CandidateIndex index = new CandidateIndex();
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            Person person = createPerson();
+            persons.add(person);
+            index.add(person);
+        }
+        for (int i = 0; i < 50; i++) {
+            index.remove(persons.remove(random.nextInt(persons.size())));
+        }
+
+        int matchCount = 0;
+        for (int i = 0; i < 2000; i++) {
+            CandidateQuery query = createQuery();
+            Set<Person> expected = persons.stream().filter(query).collect(Collectors.toSet());
+            assertEquals(expected, index.find(query), query.toString());
+            matchCount += expected.size();
+        }
+        assertTrue(matchCount > 0);
+    }
+
+    @Test
+    public void find_mostCandidatesRemoved_matchesTestingEachCandidate() {
+        CandidateIndex index = new CandidateIndex();
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Person person = createPerson();
+            persons.add(person);
+            index.add(person);
+        }
+
+        // Removing candidates one at a time, past the points where the trigram index and word trees are built again
+        while (!persons.isEmpty()) {
+            for (int i = 0; i < 5; i++) {
+                Match match = random.nextBoolean() ? Match.SUBSTRING : Match.FUZZY;
+                CandidateQuery query = new CandidateQuery(List.of(List.of(createTerm(match))));
+                assertEquals(persons.stream().filter(query).collect(Collectors.toSet()), index.find(query),
+                        query.toString());
+            }
+            index.remove(persons.remove(random.nextInt(persons.size())));
+            if (random.nextInt(4) == 0) {
+                Person person = createPerson();
+                persons.add(person);
+                index.add(person);
+            }
+        }
+    }
+
+    @Test
+    public void findrChanged_indexAgreesWithQuery() {
+        Findr findr = new Findr();
+        for (int i = 0; i < 50; i++) {
+            findr.addCandidate(createPerson());
+        }
+
+        CandidateQuery earlierQuery = createQuery();
+        Predicate<Person> earlierMatcher = findr.matcherFor(earlierQuery);
+        for (int step = 0; step < 300; step++) {
+            changeRandomly(findr);
+
+            CandidateQuery query = createQuery();
+            Predicate<Person> matcher = findr.matcherFor(query);
+            assertEquals(findr.getCandidateList().stream().filter(query).collect(Collectors.toSet()),
+                    findr.findCandidates(query), query.toString());
+            for (Person person : findr.getCandidateList()) {
+                assertEquals(query.test(person), matcher.test(person), query + " on " + person);
+                assertEquals(earlierQuery.test(person), earlierMatcher.test(person), earlierQuery + " on " + person);
+            }
+
+            if (random.nextInt(10) == 0) {
+                earlierQuery = query;
+                earlierMatcher = matcher;
+            }
+        }
+    }
+
+    private void changeRandomly(Findr findr) {
+        List<Person> persons = findr.getCandidateList();
+        List<Tag> tags = findr.getTagList();
+        switch (random.nextInt(6)) {
+        case 0:
+            findr.addCandidate(createPerson());
+            break;
+        case 1:
+            if (!persons.isEmpty()) {
+                findr.removePerson(persons.get(random.nextInt(persons.size())));
+            }
+            break;
+        case 2:
+            if (!persons.isEmpty()) {
+                findr.setPerson(persons.get(random.nextInt(persons.size())), createPerson());
+            }
+            break;
+        case 3:
+            Tag renamed = tags.get(random.nextInt(tags.size()));
+            Tag newTag = new Tag(randomOf(TAG_NAMES) + createdCount++);
+            findr.setTag(renamed, newTag);
+            break;
+        case 4:
+            if (tags.size() > 1) {
+                findr.removeTag(tags.get(random.nextInt(tags.size())));
+            }
+            break;
+        default:
+            findr.setPersons(List.of(createPerson(), createPerson()));
+            break;
+        }
+    }
+
+    private Person createPerson() {
+        int id = createdCount++;
+        String firstName = randomOf(FIRST_NAMES);
+        Set<Tag> tags = new HashSet<>();
+        for (int i = random.nextInt(3); i > 0; i--) {
+            tags.add(new Tag(randomOf(TAG_NAMES)));
+        }
+        return new Person(new Name(firstName + " " + randomOf(LAST_NAMES) + " " + id), new Phone("9" + (1000000 + id)),
+                new Email(firstName.toLowerCase() + id + "@" + randomOf(DOMAINS)),
+                new Address(random.nextInt(20) + " " + randomOf(STREETS)), tags);
+    }
+
+    private CandidateQuery createQuery() {
+        List<List<Term>> alternatives = new ArrayList<>();
+        for (int i = random.nextInt(3); i >= 0; i--) {
+            List<Term> terms = new ArrayList<>();
+            for (int j = random.nextInt(3); j >= 0; j--) {
+                terms.add(createTerm(Match.values()[random.nextInt(Match.values().length)]));
+            }
+            alternatives.add(terms);
+        }
+        return new CandidateQuery(alternatives);
+    }
+
+    private Term createTerm(Match match) {
+        SearchField field = SearchField.values()[random.nextInt(SearchField.values().length)];
+        if (match == Match.SUBSTRING) {
+            return new Term(field, List.of(randomOf(QUERY_FRAGMENTS)), match);
+        }
+
+        List<String> words = new ArrayList<>();
+        for (int k = random.nextInt(2); k >= 0; k--) {
+            words.add(randomOf(QUERY_WORDS));
+        }
+        return match == Match.FUZZY
+                ? new Term(field, words, match, 1 + random.nextInt(3))
+                : new Term(field, words, match);
+    }
+
+    private String randomOf(String[] choices) {
+        return choices[random.nextInt(choices.length)];
+    }
+}
@@ -3,9 +3,14 @@ package seedu.address.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalFindr;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -16,7 +21,10 @@ import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.exceptions.DuplicateTagException;
+import seedu.address.testutil.ListCandidateRecords;
 
 public class FindrTest {
 
@@ -28,8 +36,14 @@ public class FindrTest {
     }
 
     private Person createPerson(String name) {
+        return createPerson(name, "friends");
+    }
+
+    private Person createPerson(String name, String... tagNames) {
         Set<Tag> tags = new HashSet<>();
-        tags.add(new Tag("friends"));
+        for (String tagName : tagNames) {
+            tags.add(new Tag(tagName));
+        }
         return new Person(new Name(name), new Phone("12345678"),
                 new Email(name.toLowerCase() + "@example.com"),
                 new Address("123 Street"), tags);
@@ -98,4 +112,198 @@ public class FindrTest {
         Person updatedAlice = findr.getCandidateList().get(0);
         assertTrue(updatedAlice.getTags().isEmpty());
     }
+
+    @Test
+    public void setTag_personsWithoutTag_leftUntouched() {
+        findr.addCandidate(createPerson("Alice", "friends"));
+        findr.addCandidate(createPerson("Bob", "colleagues"));
+        Person bob = findr.getCandidateList().get(1);
+        Tag renamedTag = new Tag("Buddies");
+
+        findr.setTag(new Tag("friends"), renamedTag);
+
+        assertSame(bob, findr.getCandidateList().get(1));
+        assertTrue(findr.getCandidateList().get(0).getTags().contains(renamedTag));
+    }
+
+    @Test
+    public void removeTag_personsWithoutTag_leftUntouched() {
+        findr.addCandidate(createPerson("Alice", "friends", "colleagues"));
+        findr.addCandidate(createPerson("Bob", "colleagues"));
+        Person bob = findr.getCandidateList().get(1);
+
+        findr.removeTag(new Tag("friends"));
+
+        assertSame(bob, findr.getCandidateList().get(1));
+        assertEquals(Set.of(new Tag("colleagues")), findr.getCandidateList().get(0).getTags());
+    }
+
+    @Test
+    public void setTag_afterCandidateEdits_updatesCurrentHolders() {
+        findr.addCandidate(createPerson("Alice", "friends"));
+        findr.addCandidate(createPerson("Bob", "colleagues"));
+        Person alice = findr.getCandidateList().get(0);
+        Person bob = findr.getCandidateList().get(1);
+
+        // Alice drops the tag and Bob picks it up, so only Bob should be affected by the rename
+        findr.setPerson(alice, createPerson("Alice", "colleagues"));
+        findr.setPerson(bob, createPerson("Bob", "colleagues", "friends"));
+        Person editedAlice = findr.getCandidateList().get(0);
+        Tag renamedTag = new Tag("Buddies");
+
+        findr.setTag(new Tag("friends"), renamedTag);
+
+        assertSame(editedAlice, findr.getCandidateList().get(0));
+        assertTrue(findr.getCandidateList().get(1).getTags().contains(renamedTag));
+    }
+
+    @Test
+    public void removeTag_afterCandidateRemoved_updatesRemainingHolders() {
+        findr.addCandidate(createPerson("Alice", "friends"));
+        findr.addCandidate(createPerson("Bob", "friends"));
+        findr.removePerson(findr.getCandidateList().get(0));
+
+        findr.removeTag(new Tag("friends"));
+
+        assertEquals(1, findr.getCandidateList().size());
+        assertTrue(findr.getCandidateList().get(0).getTags().isEmpty());
+    }
+
+    @Test
+    public void getVersion_mutations_advanceVersion() {
+        long version = findr.getVersion();
+        findr.addCandidate(createPerson("Alice"));
+        assertTrue(findr.getVersion() > version);
+
+        version = findr.getVersion();
+        findr.addTag(new Tag("colleagues"));
+        assertTrue(findr.getVersion() > version);
+
+        version = findr.getVersion();
+        findr.removePerson(findr.getCandidateList().get(0));
+        assertTrue(findr.getVersion() > version);
+    }
+
+    @Test
+    public void getVersion_readsAndFailedMutations_keepVersion() {
+        findr.addCandidate(createPerson("Alice"));
+        long version = findr.getVersion();
+
+        findr.hasCandidate(createPerson("Alice"));
+        findr.getTag(new Tag("friends"));
+        assertThrows(DuplicatePersonException.class, () -> findr.addCandidate(createPerson("Alice")));
+
+        assertEquals(version, findr.getVersion());
+    }
+
+    @Test
+    public void addMutationListener_replayedMutations_reproduceCandidateList() {
+        Findr copy = new Findr(findr);
+        List<FindrMutation> mutations = new ArrayList<>();
+        findr.addMutationListener(mutations::add);
+
+        findr.addCandidate(createPerson("Alice"));
+        findr.addCandidate(createPerson("Bob", "colleagues"));
+        findr.setTag(new Tag("friends"), new Tag("buddies"));
+        findr.removePerson(findr.getCandidateList().get(1));
+        // Each new tag is recorded as added to the catalogue ahead of the candidate holding it
+        assertEquals(new FindrMutation.AddTag(new Tag("friends")), mutations.get(0));
+        assertTrue(mutations.get(1) instanceof FindrMutation.AddCandidate);
+        assertEquals(new FindrMutation.AddTag(new Tag("colleagues")), mutations.get(2));
+        assertEquals(6, mutations.size());
+
+        mutations.forEach(mutation -> mutation.applyTo(copy));
+        assertEquals(findr, copy);
+    }
+
+    @Test
+    public void addMutationListener_failedMutation_notNotified() {
+        findr.addCandidate(createPerson("Alice"));
+        List<FindrMutation> mutations = new ArrayList<>();
+        findr.addMutationListener(mutations::add);
+
+        assertThrows(DuplicatePersonException.class, () -> findr.addCandidate(createPerson("Alice")));
+        assertTrue(mutations.isEmpty());
+    }
+
+    @Test
+    public void bulkLoad_tagsAndPersons_resolvesTagsToCatalogue() {
+        Tag catalogueFriends = new Tag("friends", "Social", "#00FF00", "Close friends");
+        findr.bulkLoad(List.of(catalogueFriends),
+                List.of(createPerson("Alice"), createPerson("Bob", "FRIENDS", "gym")));
+
+        assertEquals(2, findr.getCandidateList().size());
+        assertEquals(List.of(catalogueFriends, new Tag("gym")), findr.getTagList());
+        for (Person person : findr.getCandidateList()) {
+            assertTrue(person.getTags().stream().anyMatch(tag -> tag == catalogueFriends));
+        }
+    }
+
+    @Test
+    public void bulkLoad_replacesExistingData() {
+        findr.addCandidate(createPerson("Alice", "colleagues"));
+        findr.bulkLoad(List.of(), List.of(createPerson("Bob")));
+
+        Findr expected = new Findr();
+        expected.addCandidate(createPerson("Bob"));
+        assertEquals(expected, findr);
+
+        // Renaming a tag must only reach the candidates loaded with it
+        findr.setTag(new Tag("friends"), new Tag("buddies"));
+        assertTrue(findr.getCandidateList().get(0).getTags().contains(new Tag("buddies")));
+    }
+
+    @Test
+    public void bulkLoad_duplicates_throwsAndLeavesDataUnchanged() {
+        findr.addCandidate(createPerson("Alice"));
+        Findr expected = new Findr(findr);
+
+        assertThrows(DuplicatePersonException.class, () ->
+                findr.bulkLoad(List.of(), List.of(createPerson("Bob"), createPerson("Bob"))));
+        assertThrows(DuplicateTagException.class, () ->
+                findr.bulkLoad(List.of(new Tag("gym"), new Tag("GYM")), List.of()));
+        assertEquals(expected, findr);
+    }
+
+    @Test
+    public void bulkLoad_replayedMutations_reproduceCandidateList() {
+        Findr copy = new Findr();
+        findr.addMutationListener(mutation -> mutation.applyTo(copy));
+
+        findr.bulkLoad(List.of(new Tag("gym")), List.of(createPerson("Alice"), createPerson("Bob", "gym")));
+        assertEquals(findr, copy);
+    }
+
+    @Test
+    public void loadRecords_records_sameAsBulkLoad() {
+        Findr typicalFindr = getTypicalFindr();
+        ListCandidateRecords records = new ListCandidateRecords(typicalFindr.getCandidateList());
+        findr.loadRecords(typicalFindr.getTagList(), records);
+
+        assertEquals(typicalFindr, findr);
+        assertSame(records, findr.getCandidateRecords().get());
+    }
+
+    @Test
+    public void loadRecords_thenSetTag_renamesTagAcrossCandidates() {
+        findr.loadRecords(List.of(new Tag("friends"), new Tag("gym")), new ListCandidateRecords(
+                List.of(createPerson("Alice"), createPerson("Bob", "gym"))));
+
+        findr.setTag(new Tag("gym"), new Tag("swimming"));
+
+        assertTrue(findr.getCandidateRecords().isEmpty());
+        assertFalse(findr.getCandidateList().get(0).getTags().contains(new Tag("swimming")));
+        assertTrue(findr.getCandidateList().get(1).getTags().contains(new Tag("swimming")));
+    }
+
+    @Test
+    public void constructor_readOnlyFindrBackedByRecords_sharesRecords() {
+        ListCandidateRecords records = new ListCandidateRecords(getTypicalFindr().getCandidateList());
+        findr.loadRecords(getTypicalFindr().getTagList(), records);
+
+        Findr copy = new Findr(findr);
+
+        assertSame(records, copy.getCandidateRecords().get());
+        assertEquals(findr, copy);
+    }
 }
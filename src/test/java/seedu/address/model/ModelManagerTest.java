@@ -7,17 +7,24 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalFindr;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
-import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.CandidateQuery;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Stage;
 import seedu.address.model.tag.Tag;
 import seedu.address.testutil.FindrBuilder;
+import seedu.address.testutil.ListCandidateRecords;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -94,6 +101,81 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getObservableCandidateList().remove(0));
     }
 
+    @Test
+    public void getCandidateListVersion_viewChanges_keepVersion() {
+        modelManager.addCandidate(ALICE);
+        long version = modelManager.getCandidateListVersion();
+
+        modelManager.updateFilteredCandidateList(CandidateQuery.anyName(Arrays.asList("Alice")));
+        modelManager.updateSortedCandidateList(Comparator.comparing(person -> person.getName().fullName));
+        modelManager.setGuiSettings(new GuiSettings(1, 2, 3, 4));
+        assertEquals(version, modelManager.getCandidateListVersion());
+
+        modelManager.deleteCandidate(ALICE);
+        assertTrue(modelManager.getCandidateListVersion() > version);
+    }
+
+    @Test
+    public void getStageCandidateList_modifyList_throwsUnsupportedOperationException() {
+        modelManager.addCandidate(ALICE);
+        assertThrows(UnsupportedOperationException.class, () ->
+                modelManager.getStageCandidateList(Stage.CANDIDATES).remove(0));
+    }
+
+    @Test
+    public void getStageCandidateList_afterMutations_matchesDisplayedOrder() {
+        ModelManager model = new ModelManager(getTypicalFindr(), new UserPrefs());
+        assertStageListsMatchDisplayedList(model);
+
+        Person alice = model.getStageCandidateList(Stage.CANDIDATES).get(0);
+        model.setPerson(alice, new PersonBuilder(alice).withStage(Stage.HIRED).build());
+        assertStageListsMatchDisplayedList(model);
+
+        model.deleteCandidate(model.getStageCandidateList(Stage.CONTACTED).get(0));
+        assertStageListsMatchDisplayedList(model);
+
+        model.addCandidate(new PersonBuilder().withName("Zed Stage").withStage(Stage.INTERVIEWED).build());
+        assertStageListsMatchDisplayedList(model);
+
+        model.updateSortedCandidateList(Comparator.comparing(person -> person.getName().fullName));
+        assertStageListsMatchDisplayedList(model);
+
+        model.updateFilteredCandidateList(CandidateQuery.anyName(Arrays.asList("Meier")));
+        assertStageListsMatchDisplayedList(model);
+
+        model.setAddressBook(new Findr());
+        assertStageListsMatchDisplayedList(model);
+    }
+
+    @Test
+    public void getStageCandidateList_findrBackedByRecords_matchesDisplayedOrder() {
+        Findr typicalFindr = getTypicalFindr();
+        ListCandidateRecords records = new ListCandidateRecords(typicalFindr.getCandidateList());
+        Findr findr = new Findr();
+        findr.loadRecords(typicalFindr.getTagList(), records);
+        ModelManager model = new ModelManager(findr, new UserPrefs());
+        assertEquals(typicalFindr.getCandidateList(), List.copyOf(model.getObservableCandidateList()));
+        assertStageListsMatchDisplayedList(model);
+
+        model.updateSortedCandidateList(Comparator.comparing(person -> person.getName().fullName));
+        assertStageListsMatchDisplayedList(model);
+
+        model.addCandidate(new PersonBuilder().withName("Zed Stage").withStage(Stage.INTERVIEWED).build());
+        assertStageListsMatchDisplayedList(model);
+
+        model.deleteCandidate(model.getStageCandidateList(Stage.CONTACTED).get(0));
+        assertStageListsMatchDisplayedList(model);
+    }
+
+    private static void assertStageListsMatchDisplayedList(Model model) {
+        for (Stage stage : Stage.values()) {
+            List<Person> expected = model.getObservableCandidateList().stream()
+                    .filter(person -> person.getStage() == stage)
+                    .toList();
+            assertEquals(expected, List.copyOf(model.getStageCandidateList(stage)));
+        }
+    }
+
     @Test
     public void getTagList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getTagList().remove(0));
@@ -169,7 +251,7 @@ public class ModelManagerTest {
 
         // different filteredList -> returns false
         String[] keywords = ALICE.getName().fullName.split("\\s+");
-        modelManager.updateFilteredCandidateList(new NameContainsKeywordsPredicate(Arrays.asList(keywords)));
+        modelManager.updateFilteredCandidateList(CandidateQuery.anyName(Arrays.asList(keywords)));
         assertFalse(modelManager.equals(new ModelManager(findr, userPrefs)));
 
         // resets modelManager to initial state for upcoming tests
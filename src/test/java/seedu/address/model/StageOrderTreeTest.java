@@ -0,0 +1,102 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Stage;
+
+public class StageOrderTreeTest {
+
+    private final StageOrderTree tree = new StageOrderTree();
+
+    @Test
+    public void get_emptyTree_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.get(0));
+    }
+
+    @Test
+    public void select_indexBeyondStage_throwsIndexOutOfBoundsException() {
+        tree.insert(0, Stage.CANDIDATES);
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.select(Stage.CANDIDATES, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.select(Stage.HIRED, 0));
+    }
+
+    @Test
+    public void insert_positionBeyondEnd_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.insert(1, Stage.CANDIDATES));
+    }
+
+    @Test
+    public void insertAndRemove_smallSequence_tracksStages() {
+        tree.insert(0, Stage.INTERVIEWED);
+        tree.insert(0, Stage.CANDIDATES);
+        tree.insert(1, Stage.CONTACTED);
+
+        assertEquals(3, tree.size());
+        assertEquals(Stage.CONTACTED, tree.get(1));
+        assertEquals(2, tree.select(Stage.INTERVIEWED, 0));
+        assertEquals(1, tree.rank(Stage.CANDIDATES, 3));
+        assertEquals(0, tree.rank(Stage.INTERVIEWED, 2));
+
+        assertEquals(Stage.CONTACTED, tree.remove(1));
+        assertEquals(0, tree.count(Stage.CONTACTED));
+        assertEquals(Stage.INTERVIEWED, tree.get(1));
+    }
+
+    @Test
+    public void randomOperations_matchListModel() {
+        Random random = new Random(42);
+        List<Stage> expected = new ArrayList<>();
+        Stage[] stages = Stage.values();
+
+        for (int i = 0; i < 2000; i++) {
+            if (expected.isEmpty() || random.nextInt(3) > 0) {
+                Stage stage = stages[random.nextInt(stages.length)];
+                int position = random.nextInt(expected.size() + 1);
+                expected.add(position, stage);
+                tree.insert(position, stage);
+            } else {
+                int position = random.nextInt(expected.size());
+                assertEquals(expected.remove(position), tree.remove(position));
+            }
+        }
+        assertMatches(expected);
+
+        tree.setAll(expected.size() / 2, expected::get);
+        assertMatches(expected.subList(0, expected.size() / 2));
+    }
+
+    private void assertMatches(List<Stage> expected) {
+        assertEquals(expected.size(), tree.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), tree.get(i));
+        }
+
+        for (Stage stage : Stage.values()) {
+            List<Integer> positionsInStage = new ArrayList<>();
+            for (int position = 0; position < expected.size(); position++) {
+                if (expected.get(position) == stage) {
+                    positionsInStage.add(position);
+                }
+            }
+            assertEquals(positionsInStage.size(), tree.count(stage));
+            for (int i = 0; i < positionsInStage.size(); i++) {
+                assertEquals(positionsInStage.get(i), tree.select(stage, i));
+            }
+
+            int seen = 0;
+            for (int position = 0; position <= expected.size(); position++) {
+                assertEquals(seen, tree.rank(stage, position));
+                if (position < expected.size() && expected.get(position) == stage) {
+                    seen++;
+                }
+            }
+        }
+    }
+}
@@ -98,4 +98,69 @@ public class UserPrefsTest {
         assertEquals(Paths.get("new", "path.json"), original.getSearchHistoryFilePath());
     }
 
+    @Test
+    public void isCompactDataFile_defaultFalse() {
+        assertFalse(new UserPrefs().isCompactDataFile());
+    }
+
+    @Test
+    public void resetData_withCompactDataFile_success() {
+        UserPrefs original = new UserPrefs();
+        UserPrefs newPrefs = new UserPrefs();
+        newPrefs.setCompactDataFile(true);
+        assertFalse(original.equals(newPrefs));
+
+        original.resetData(newPrefs);
+        assertTrue(original.isCompactDataFile());
+        assertEquals(newPrefs, original);
+    }
+
+    @Test
+    public void isMappedDataFile_defaultFalse() {
+        assertFalse(new UserPrefs().isMappedDataFile());
+    }
+
+    @Test
+    public void resetData_withMappedDataFile_success() {
+        UserPrefs original = new UserPrefs();
+        UserPrefs newPrefs = new UserPrefs();
+        newPrefs.setMappedDataFile(true);
+        assertFalse(original.equals(newPrefs));
+
+        original.resetData(newPrefs);
+        assertTrue(original.isMappedDataFile());
+        assertEquals(newPrefs, original);
+    }
+
+    @Test
+    public void setSearchHistoryCapacity_nonPositive_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setSearchHistoryCapacity(0));
+        assertEquals(UserPrefs.DEFAULT_SEARCH_HISTORY_CAPACITY, userPrefs.getSearchHistoryCapacity());
+    }
+
+    @Test
+    public void resetData_withSearchHistoryCapacity_success() {
+        UserPrefs original = new UserPrefs();
+        UserPrefs newPrefs = new UserPrefs();
+        newPrefs.setSearchHistoryCapacity(5000);
+        assertFalse(original.equals(newPrefs));
+
+        original.resetData(newPrefs);
+        assertEquals(5000, original.getSearchHistoryCapacity());
+        assertEquals(newPrefs, original);
+    }
+
+    @Test
+    public void resetData_withProgressiveStartup_success() {
+        UserPrefs original = new UserPrefs();
+        UserPrefs newPrefs = new UserPrefs();
+        newPrefs.setProgressiveStartup(true);
+        assertFalse(original.isProgressiveStartup());
+        assertFalse(original.equals(newPrefs));
+
+        original.resetData(newPrefs);
+        assertTrue(original.isProgressiveStartup());
+        assertEquals(newPrefs, original);
+    }
 }
@@ -0,0 +1,171 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.CandidateQuery.Match;
+import seedu.address.model.person.CandidateQuery.Term;
+import seedu.address.testutil.PersonBuilder;
+
+public class CandidateQueryTest {
+
+    private static final int RANDOM_CASES = 20_000;
+
+    private static final Person ALICE = new PersonBuilder().withName("Alice Pauline")
+            .withEmail("alice.tan@Example.com").withAddress("123, Jurong West Ave 6, #08-111")
+            .withTags("friends", "Java").build();
+
+    @Test
+    public void equals() {
+        CandidateQuery firstQuery = CandidateQuery.anyName(List.of("first"));
+        CandidateQuery secondQuery = CandidateQuery.anyName(List.of("first", "second"));
+
+        // same object -> returns true
+        assertTrue(firstQuery.equals(firstQuery));
+
+        // same values -> returns true
+        assertTrue(firstQuery.equals(new CandidateQuery(List.of(List.of(
+                new Term(SearchField.NAME, List.of("first"), Match.WORD))))));
+
+        // different types -> returns false
+        assertFalse(firstQuery.equals(1));
+
+        // null -> returns false
+        assertFalse(firstQuery.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstQuery.equals(secondQuery));
+    }
+
+    @Test
+    public void term_noWords_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Term(SearchField.NAME, List.of(), Match.WORD));
+        assertThrows(IllegalArgumentException.class, () -> Term.of(SearchField.EMAIL, "@.", Match.WORD));
+        assertThrows(IllegalArgumentException.class, () -> Term.of(SearchField.EMAIL, "", Match.SUBSTRING));
+        assertThrows(IllegalArgumentException.class, () ->
+                new Term(SearchField.NAME, List.of("al", "ice"), Match.SUBSTRING));
+        assertThrows(IllegalArgumentException.class, () -> Term.fuzzy(SearchField.NAME, "alice", 0));
+        assertThrows(IllegalArgumentException.class, () -> Term.of(SearchField.NAME, "alice", Match.FUZZY));
+        assertThrows(IllegalArgumentException.class, () ->
+                new Term(SearchField.NAME, List.of("alice"), Match.WORD, 1));
+    }
+
+    @Test
+    public void test_fieldsAndPrefixes() {
+        // Words of each field, ignoring case
+        assertTrue(query(new Term(SearchField.NAME, List.of("pauline"), Match.WORD)).test(ALICE));
+        assertTrue(query(Term.of(SearchField.EMAIL, "EXAMPLE.com", Match.WORD)).test(ALICE));
+        assertTrue(query(Term.of(SearchField.ADDRESS, "#08-111", Match.WORD)).test(ALICE));
+        assertTrue(query(Term.of(SearchField.TAG, "java", Match.WORD)).test(ALICE));
+
+        // Whole words only, unless the last word is a prefix
+        assertFalse(query(Term.of(SearchField.NAME, "Ali", Match.WORD)).test(ALICE));
+        assertTrue(query(Term.of(SearchField.NAME, "Ali", Match.PREFIX)).test(ALICE));
+        assertFalse(query(Term.of(SearchField.EMAIL, "ali.tan", Match.PREFIX)).test(ALICE));
+        assertTrue(query(Term.of(SearchField.EMAIL, "alice.t", Match.PREFIX)).test(ALICE));
+
+        // Fragments anywhere in a value of the field, across words but not across tags
+        assertTrue(query(Term.of(SearchField.NAME, "CE PAUL", Match.SUBSTRING)).test(ALICE));
+        assertTrue(query(Term.of(SearchField.EMAIL, "n@ex", Match.SUBSTRING)).test(ALICE));
+        assertTrue(query(Term.of(SearchField.ADDRESS, "6, #", Match.SUBSTRING)).test(ALICE));
+        assertTrue(query(Term.of(SearchField.TAG, "av", Match.SUBSTRING)).test(ALICE));
+        assertFalse(query(Term.of(SearchField.TAG, "sjava", Match.SUBSTRING)).test(ALICE));
+        assertFalse(query(Term.of(SearchField.NAME, "alice  pauline", Match.SUBSTRING)).test(ALICE));
+
+        // Words within the most edits allowed
+        assertTrue(query(Term.fuzzy(SearchField.NAME, "Alcie", 2)).test(ALICE));
+        assertFalse(query(Term.fuzzy(SearchField.NAME, "Alcie", 1)).test(ALICE));
+        assertTrue(query(Term.fuzzy(SearchField.NAME, "pauline alic", 1)).test(ALICE));
+        assertFalse(query(Term.fuzzy(SearchField.NAME, "pauline bob", 1)).test(ALICE));
+        assertTrue(query(Term.fuzzy(SearchField.TAG, "jaba", 1)).test(ALICE));
+
+        // Words of other fields do not match
+        assertFalse(query(Term.of(SearchField.NAME, "friends", Match.WORD)).test(ALICE));
+        assertFalse(query(Term.of(SearchField.TAG, "alice", Match.WORD)).test(ALICE));
+
+        // All terms of any alternative
+        Term aliceName = Term.of(SearchField.NAME, "alice", Match.WORD);
+        Term bobName = Term.of(SearchField.NAME, "bob", Match.WORD);
+        assertFalse(new CandidateQuery(List.of(List.of(aliceName, bobName))).test(ALICE));
+        assertTrue(new CandidateQuery(List.of(List.of(aliceName), List.of(bobName))).test(ALICE));
+        assertFalse(new CandidateQuery(List.of()).test(ALICE));
+        assertTrue(new CandidateQuery(List.of(List.of())).test(ALICE));
+    }
+
+    @Test
+    public void test_anyName_matchesAnyWordOfName() {
+        String[] pieces = {"alice", "ALICE", "Alice", "bob", "s/o", "S/O", "O'Brien", "o'brien", "Straße", "STRASSE",
+            "İ", "i", "ǅ", "ǆ", "Σ", "ς", "Jean-Luc", "jean", "1"};
+        Random random = new Random(1);
+        int matchCount = 0;
+        for (int i = 0; i < RANDOM_CASES; i++) {
+            String name = randomWords(random, pieces, 1 + random.nextInt(3));
+            if (!Name.isValidName(name)) {
+                continue;
+            }
+            Person person = new PersonBuilder().withName(name).build();
+            List<String> keywords = List.of(randomWords(random, pieces, 1 + random.nextInt(2)).split(" "));
+
+            boolean expected = keywords.stream()
+                    .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+            assertEquals(expected, CandidateQuery.anyName(keywords).test(person),
+                    "Disagreement on " + keywords + " in " + person.getName());
+            matchCount += expected ? 1 : 0;
+        }
+        assertTrue(matchCount > 0);
+    }
+
+    @Test
+    public void distanceTo_fuzzyTerms_fewestEditsOfMatchingAlternative() {
+        Term alcieName = Term.fuzzy(SearchField.NAME, "alcie", 2);
+        Term paulineName = Term.fuzzy(SearchField.NAME, "paulin", 2);
+        Term javaTag = Term.of(SearchField.TAG, "java", Match.WORD);
+
+        // Each fuzzy word counts the edits to its closest word, and other terms count none
+        assertEquals(2, query(alcieName).distanceTo(ALICE));
+        assertEquals(3, new CandidateQuery(List.of(List.of(alcieName, paulineName, javaTag))).distanceTo(ALICE));
+        assertEquals(0, query(javaTag).distanceTo(ALICE));
+
+        // The closest alternative that matches
+        Term aliceName = Term.fuzzy(SearchField.NAME, "alice", 1);
+        Term bobName = Term.fuzzy(SearchField.NAME, "bob", 1);
+        assertEquals(0, new CandidateQuery(List.of(List.of(alcieName), List.of(aliceName))).distanceTo(ALICE));
+        assertEquals(2, new CandidateQuery(List.of(List.of(alcieName), List.of(bobName))).distanceTo(ALICE));
+        assertEquals(Integer.MAX_VALUE, query(bobName).distanceTo(ALICE));
+
+        // Closer persons come first
+        Person alcie = new PersonBuilder(ALICE).withName("Alcie Pauline").build();
+        assertTrue(query(alcieName).byDistance().compare(alcie, ALICE) < 0);
+        assertTrue(query(alcieName).byDistance().compare(ALICE, alcie) > 0);
+        assertTrue(query(alcieName).isFuzzy());
+        assertFalse(query(javaTag).isFuzzy());
+    }
+
+    @Test
+    public void toStringMethod() {
+        CandidateQuery query = CandidateQuery.anyName(List.of("keyword1", "keyword2"));
+        String expected = CandidateQuery.class.getCanonicalName() + "{alternatives=" + query.getAlternatives() + "}";
+        assertEquals(expected, query.toString());
+    }
+
+    private static CandidateQuery query(Term term) {
+        return new CandidateQuery(List.of(List.of(term)));
+    }
+
+    private static String randomWords(Random random, String[] pieces, int count) {
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            words.add(pieces[random.nextInt(pieces.length)]);
+        }
+        return String.join(" ", words);
+    }
+}
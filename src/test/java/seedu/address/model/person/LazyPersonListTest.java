@@ -0,0 +1,100 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.testutil.ListCandidateRecords;
+import seedu.address.testutil.PersonBuilder;
+
+public class LazyPersonListTest {
+
+    private final LazyPersonList lazyPersonList = new LazyPersonList();
+
+    @Test
+    public void setRecords_buildsNoPerson() {
+        ListCandidateRecords records = new ListCandidateRecords(getTypicalPersons());
+        lazyPersonList.setRecords(records);
+
+        assertEquals(getTypicalPersons().size(), lazyPersonList.size());
+        assertSame(records, lazyPersonList.getRecords().get());
+        assertEquals(0, records.getBuildCount());
+    }
+
+    @Test
+    public void get_cachedPerson_buildsPersonOnce() {
+        ListCandidateRecords records = new ListCandidateRecords(getTypicalPersons());
+        lazyPersonList.setRecords(records);
+
+        Person first = lazyPersonList.get(0);
+        assertSame(first, lazyPersonList.get(0));
+        assertEquals(getTypicalPersons().get(0), first);
+        assertEquals(1, records.getBuildCount());
+    }
+
+    @Test
+    public void get_beyondCacheCapacity_dropsLeastRecentlyUsed() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i <= LazyPersonList.CACHE_CAPACITY; i++) {
+            persons.add(new PersonBuilder().withName("Candidate " + i).build());
+        }
+        ListCandidateRecords records = new ListCandidateRecords(persons);
+        lazyPersonList.setRecords(records);
+
+        for (int i = 0; i <= LazyPersonList.CACHE_CAPACITY; i++) {
+            lazyPersonList.get(i);
+        }
+        assertEquals(persons.size(), records.getBuildCount());
+
+        // the first person was the least recently used, so it is built again
+        lazyPersonList.get(0);
+        assertEquals(persons.size() + 1, records.getBuildCount());
+    }
+
+    @Test
+    public void add_backedByRecords_buildsEveryPerson() {
+        ListCandidateRecords records = new ListCandidateRecords(getTypicalPersons());
+        lazyPersonList.setRecords(records);
+        Person first = lazyPersonList.get(0);
+        List<Integer> addedAt = new ArrayList<>();
+        lazyPersonList.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                if (change.wasAdded()) {
+                    addedAt.add(change.getFrom());
+                }
+            }
+        });
+
+        lazyPersonList.add(HOON);
+
+        assertTrue(lazyPersonList.getRecords().isEmpty());
+        assertEquals(List.of(getTypicalPersons().size()), addedAt);
+        assertSame(first, lazyPersonList.get(0));
+        assertEquals(getTypicalPersons().size(), records.getBuildCount());
+
+        List<Person> expectedPersons = new ArrayList<>(getTypicalPersons());
+        expectedPersons.add(HOON);
+        assertEquals(expectedPersons, lazyPersonList);
+    }
+
+    @Test
+    public void setAll_backedByRecords_replacesContents() {
+        ListCandidateRecords records = new ListCandidateRecords(getTypicalPersons());
+        lazyPersonList.setRecords(records);
+
+        lazyPersonList.setAll(List.of(ALICE, IDA));
+
+        assertTrue(lazyPersonList.getRecords().isEmpty());
+        assertEquals(List.of(ALICE, IDA), lazyPersonList);
+    }
+}
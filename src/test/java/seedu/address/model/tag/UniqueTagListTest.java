@@ -2,6 +2,7 @@ package seedu.address.model.tag;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -93,6 +94,17 @@ class UniqueTagListTest {
         assertEquals(updatedBackend, uniqueTagList.get(new Tag("backend")));
     }
 
+    @Test
+    void setTag_differentIdentity_releasesOldName() {
+        uniqueTagList.add(backend);
+        Tag renamed = new Tag("platform", "Engineering", "#1F75FE", "Backend specialist");
+        uniqueTagList.setTag(backend, renamed);
+
+        assertFalse(uniqueTagList.contains(new Tag("backend")));
+        assertSame(renamed, uniqueTagList.get(new Tag("PLATFORM")));
+        assertThrows(TagNotFoundException.class, () -> uniqueTagList.get(new Tag("backend")));
+    }
+
     @Test
     void setTag_duplicateIdentity_throwsDuplicateTagException() {
         uniqueTagList.add(backend);
@@ -125,6 +137,7 @@ class UniqueTagListTest {
         uniqueTagList.remove(backend);
 
         assertFalse(uniqueTagList.contains(backend));
+        assertThrows(TagNotFoundException.class, () -> uniqueTagList.get(new Tag("backend")));
     }
 
     @Test
@@ -138,6 +151,15 @@ class UniqueTagListTest {
         assertFalse(uniqueTagList.contains(backend));
     }
 
+    @Test
+    void setTags_list_replacesCatalogue() {
+        uniqueTagList.add(backend);
+        uniqueTagList.setTags(Arrays.asList(frontend));
+
+        assertFalse(uniqueTagList.contains(backend));
+        assertSame(frontend, uniqueTagList.get(new Tag("Frontend")));
+    }
+
     @Test
     void setTags_listWithDuplicates_throwsDuplicateTagException() {
         List<Tag> tagsWithDuplicates = Arrays.asList(backend, new Tag("backend"));
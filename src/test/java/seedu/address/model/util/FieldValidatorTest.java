@@ -0,0 +1,187 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Differential tests that check each scanner in {@code FieldValidator} against the regex it replaces, over
+ * hand-picked edge cases and random strings built from the characters that matter to that regex.
+ */
+public class FieldValidatorTest {
+
+    private static final int RANDOM_CASES = 50_000;
+    private static final int MAX_RANDOM_LENGTH = 12;
+
+    @Test
+    public void isValidName_matchesRegex() {
+        List<String> cases = new ArrayList<>(List.of("", " ", "Alice", "  Alice   Pauline ", "Ravi s/o Kumar",
+                "Ravi S/O Kumar", "Ravi d/o Kumar s/o Raj", "s/o Ravi", "Ravis/o Kumar", "Ravi s/oKumar", "Ravi s/o",
+                "Ravi s/", "Ravi /o", "Ravi s//o", "Ravi s/o/o", "Ravi -s/o- x", "Ravi s/o'x", "José", "Zoë",
+                "O'Brien-Smith", "Ravi\ts/o\nKumar", "李小龙", "Ravi s/o\u0301", "Ravi \u0301s/o",
+                "Ravi é\u0301s/o", "\u0301", "1st", "_Alice", "Alice_", "Alice.", "Al\u0001ce", "\u0001Alice\u0001",
+                "a@b", "Ravi ś/o", "\uD835\uDC00lice", "Ravi s/o \uD835\uDC00", "\uD800", "Alice\u00A0Pauline"));
+        addRandomCases(cases, 1, "a", "s", "S", "d", "D", "o", "O", "/", " ", "\t", "\n", "@", "'", "-", "_", "1",
+                ".", "é", "\u0301", "\u0903", "\u20DD", "²", "Ⅻ", "\u0001", "\u00A0", "\u0085",
+                "\uD835\uDC00", "\uD834\uDD67", "\uD800");
+
+        assertSameAsRegex(cases, FieldValidator::isValidName, test -> {
+            String collapsed = test.trim().replaceAll("\\s+", " ");
+            return !collapsed.isEmpty() && collapsed.matches(Name.VALIDATION_REGEX);
+        });
+    }
+
+    @Test
+    public void isValidName_wordBoundaries_matchesRegex() {
+        // Java's \b counts letters, digits and underscores of any script as word characters, along with
+        // non-spacing marks on them, but not other numbers and marks, nor the letters (?i) only folds in Unicode
+        List<String> cases = List.of("Ravi s/o Kumar", "René s/o Kumar", "Renés/o Kumar", "Ravi s/oé", "Ravi s/o é",
+                "Ravi_s/o Kumar", "Ravi s/o_Kumar", "Ravi s/o²", "Ravi ²s/o", "Ravi s/oⅫ", "Ravi Ⅻs/o",
+                "Ravi ٣s/o", "Ravi s/o٣", "Ravi s/o\u0903", "Ravi \u0903s/o", "Ravi s/o\u20DD", "Ravi \u20DDs/o",
+                "Ravi s/o\u0301", "Ravi \u0301s/o", "Ravi é\u0301s/o", "Ravi ²\u0301s/o", "Ravi s/o\u0301\u0301",
+                "Ravi \uD835\uDC00s/o", "Ravi s/o\uD835\uDC00", "Ravi \uD834\uDD67s/o", "Ravi ſ/o Kumar",
+                "Ravi s/\u1D3C Kumar", "Ravi Ｓ/o Kumar", "李s/o", "李 s/o 龙", "Ravi s/o-Kumar", "Ravi -s/o",
+                "Ravi 's/o'", "Ravi @s/o@");
+
+        assertSameAsRegex(new ArrayList<>(cases), FieldValidator::isValidName, test -> {
+            String collapsed = test.trim().replaceAll("\\s+", " ");
+            return !collapsed.isEmpty() && collapsed.matches(Name.VALIDATION_REGEX);
+        });
+    }
+
+    @Test
+    public void asciiOnlyFields_nonAsciiDigitsAndLetters_matchesRegex() {
+        // \d, \p{Alnum} and [^\W_] only match ASCII, although \b and \p{L} do not
+        List<String> digits = List.of("١٢٣", "１２３", "12３", "²³⁴", "१२३");
+        List<String> letters = List.of("é", "Ａbc", "abcß", "٣", "ⅰⅱ", "ǅ");
+
+        assertSameAsRegex(withValid(digits, "123"), FieldValidator::isValidPhone,
+                test -> test.matches(Phone.VALIDATION_REGEX));
+        assertSameAsRegex(withValid(letters, "abc"), FieldValidator::isValidTagName,
+                test -> test.matches(Tag.VALIDATION_REGEX));
+        assertSameAsRegex(withValid(letters, "abc"), test -> FieldValidator.isValidTagCategory("a " + test),
+                test -> ("a " + test).matches(Tag.CATEGORY_VALIDATION_REGEX));
+        assertSameAsRegex(withValid(letters, "abc"), test -> FieldValidator.isValidEmail(test + "@cd"),
+                test -> (test + "@cd").matches(Email.VALIDATION_REGEX));
+        assertSameAsRegex(withValid(letters, "abc"), test -> FieldValidator.isValidEmail("a@b." + test),
+                test -> ("a@b." + test).matches(Email.VALIDATION_REGEX));
+        assertSameAsRegex(withValid(digits, "#123456"), FieldValidator::isValidTagColour,
+                test -> test.matches(Tag.COLOUR_VALIDATION_REGEX));
+    }
+
+    @Test
+    public void isValidPhone_matchesRegex() {
+        List<String> cases = new ArrayList<>(List.of("", "1", "12", "123", "91234567", "9123 4567", "+6591234567",
+                "١٢٣", "123\n"));
+        addRandomCases(cases, 2, "0", "5", "9", "a", " ", "-", "١", "\n");
+
+        assertSameAsRegex(cases, FieldValidator::isValidPhone, test -> test.matches(Phone.VALIDATION_REGEX));
+    }
+
+    @Test
+    public void isValidEmail_matchesRegex() {
+        List<String> cases = new ArrayList<>(List.of("", "@", "a@bc", "a@b", "a@b-c", "a@b-cd", "a@bc-d",
+                "a.b@c.de", "a..b@cd", ".a@cd", "a.@cd", "a+b_c-d.e@cd", "a@b.c", "a@b.cd", "a@.cd", "a@cd.",
+                "a@c--d.ef", "a@-cd", "a@cd-", "a@b@cd", "a_@cd", "é@cd", "a@cé", "a@cd\n", "a b@cd",
+                "peterjack_1190@example.com", "e1@example.co.uk", "a@1.2.34"));
+        addRandomCases(cases, 3, "a", "b", "1", "-", ".", "@", "+", "_", "é", " ");
+
+        assertSameAsRegex(cases, FieldValidator::isValidEmail, test -> test.matches(Email.VALIDATION_REGEX));
+    }
+
+    @Test
+    public void isValidAddress_matchesRegex() {
+        List<String> cases = new ArrayList<>(List.of("", " ", "a", " a", "Blk 456, Den Road, #01-355", "a\nb",
+                "a\r", "\ta", "\u00A0", "\u0085", "a\u0085", "a\u2028", "a\u2029b", "\uD800", "a\uD800"));
+        addRandomCases(cases, 4, "a", " ", "\t", "\n", "\r", "\u000B", "\f", "\u0085", "\u2028", "\u2029", "\u00A0",
+                "\uD800", "\uDC00", "é", "#");
+
+        assertSameAsRegex(cases, FieldValidator::isValidAddress, test -> test.matches(Address.VALIDATION_REGEX));
+    }
+
+    @Test
+    public void isValidTagName_matchesRegex() {
+        List<String> cases = new ArrayList<>(List.of("", "friends", "Friends2", "best friends", "é", "a_b", "a-b"));
+        addRandomCases(cases, 5, "a", "Z", "0", " ", "é", "_", "-", "\n");
+
+        assertSameAsRegex(cases, FieldValidator::isValidTagName, test -> test.matches(Tag.VALIDATION_REGEX));
+    }
+
+    @Test
+    public void isValidTagCategory_matchesRegex() {
+        List<String> cases = new ArrayList<>(List.of("", " ", "General", "Tech Skills", " General", "General ",
+                "Tech  Skills", "Tech-Skills", "é"));
+        addRandomCases(cases, 6, "a", "Z", "0", " ", "é", "_", "-", "\t");
+
+        assertSameAsRegex(cases, FieldValidator::isValidTagCategory, test ->
+                test.matches(Tag.CATEGORY_VALIDATION_REGEX));
+    }
+
+    @Test
+    public void isValidTagColour_matchesRegex() {
+        List<String> cases = new ArrayList<>(List.of("", "#", "#7A7A7A", "#7a7a7a", "7A7A7A", "#7A7A7", "#7A7A7A7",
+                "#GGGGGG", "#7A7A7A\n", "#7A7A7\n"));
+        addRandomCases(cases, 7, "#", "0", "9", "a", "f", "A", "F", "g", "G", "\n");
+
+        assertSameAsRegex(cases, FieldValidator::isValidTagColour, test ->
+                test.matches(Tag.COLOUR_VALIDATION_REGEX));
+    }
+
+    /**
+     * Adds {@code RANDOM_CASES} strings of random length built from {@code pieces} to {@code cases}.
+     */
+    private static void addRandomCases(List<String> cases, long seed, String... pieces) {
+        Random random = new Random(seed);
+        for (int i = 0; i < RANDOM_CASES; i++) {
+            StringBuilder builder = new StringBuilder();
+            int length = random.nextInt(MAX_RANDOM_LENGTH + 1);
+            for (int j = 0; j < length; j++) {
+                builder.append(pieces[random.nextInt(pieces.length)]);
+            }
+            cases.add(builder.toString());
+        }
+    }
+
+    /**
+     * Returns {@code cases} along with {@code valid}, so that both valid and invalid cases are checked.
+     */
+    private static List<String> withValid(List<String> cases, String valid) {
+        List<String> withValid = new ArrayList<>(cases);
+        withValid.add(valid);
+        return withValid;
+    }
+
+    /**
+     * Asserts that {@code scanner} and {@code regex} agree on every one of {@code cases}, and that both valid and
+     * invalid cases were checked.
+     */
+    private static void assertSameAsRegex(List<String> cases, Predicate<String> scanner, Predicate<String> regex) {
+        int validCount = 0;
+        for (String test : cases) {
+            boolean expected = regex.test(test);
+            assertEquals(expected, scanner.test(test), "Disagreement on \"" + escape(test) + "\"");
+            validCount += expected ? 1 : 0;
+        }
+        assertTrue(validCount > 0 && validCount < cases.size());
+    }
+
+    private static String escape(String test) {
+        StringBuilder builder = new StringBuilder();
+        for (char c : test.toCharArray()) {
+            builder.append(c >= 0x20 && c < 0x7F ? String.valueOf(c) : String.format("\\u%04X", (int) c));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,187 @@
+package seedu.address.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalFindr;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Findr;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonFindrStorage;
+import seedu.address.storage.JsonSearchHistoryStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class ConcurrentCommandRunnerTest {
+
+    private static final String ADD_AMY = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+            + ADDRESS_DESC_AMY;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalFindr(), new UserPrefs());
+    private Logic logic;
+    private ConcurrentCommandRunner runner;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(new JsonFindrStorage(temporaryFolder.resolve("findr.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonSearchHistoryStorage(temporaryFolder.resolve("searchHistory.json")));
+        logic = new LogicManager(model, storage);
+        runner = new ConcurrentCommandRunner(logic, model.getUserPrefs());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        logic.shutdown();
+    }
+
+    @Test
+    public void execute_find_returnsMatchesWithoutFilteringModel() throws Exception {
+        ConcurrentCommandRunner.Reply reply = runner.execute(FindCommand.COMMAND_WORD + " Alice");
+
+        assertEquals(List.of(ALICE), reply.candidates());
+        assertEquals(getTypicalFindr().getCandidateList().size(), model.getObservableCandidateList().size());
+    }
+
+    @Test
+    public void execute_mutatingCommand_changesModelAndLaterSnapshots() throws Exception {
+        int initialSize = runner.execute(ListCommand.COMMAND_WORD).candidates().size();
+
+        ConcurrentCommandRunner.Reply reply = runner.execute(ADD_AMY);
+        assertEquals(initialSize + 1, reply.candidates().size());
+        assertEquals(initialSize + 1, model.getCandidateList().getCandidateList().size());
+        assertEquals(initialSize + 1, runner.execute(ListCommand.COMMAND_WORD).candidates().size());
+    }
+
+    @Test
+    public void execute_readsAfterOneChange_shareSnapshot() throws Exception {
+        runner.execute(ADD_AMY);
+        runner.execute(FindCommand.COMMAND_WORD + " Alice");
+        Findr snapshot = runner.getSnapshot();
+
+        runner.execute(ListCommand.COMMAND_WORD);
+        runner.execute(FindCommand.COMMAND_WORD + " e/*example*");
+        assertSame(snapshot, runner.getSnapshot());
+
+        runner.execute("delete 1 from/candidates");
+        assertNotSame(snapshot, runner.getSnapshot());
+    }
+
+    @Test
+    public void execute_failingMutatingCommand_throwsCommandExceptionAndKeepsSnapshot() throws Exception {
+        int initialSize = runner.execute(ListCommand.COMMAND_WORD).candidates().size();
+        assertThrows(Exception.class, () -> runner.execute("delete 99 from/candidates"));
+        assertEquals(initialSize, runner.execute(ListCommand.COMMAND_WORD).candidates().size());
+    }
+
+    @Test
+    public void execute_twoClientsWithDifferentFilters_indexesReferToEachClientsOwnList() throws Exception {
+        assertEquals(List.of(ALICE), runner.execute("first", FindCommand.COMMAND_WORD + " Alice").candidates());
+        assertEquals(List.of(BENSON, DANIEL),
+                runner.execute("second", FindCommand.COMMAND_WORD + " Benson Daniel").candidates());
+
+        runner.execute("second", "delete 2 from/contacted");
+        assertFalse(model.hasCandidate(DANIEL));
+        assertTrue(model.hasCandidate(BENSON));
+
+        // The second client's change leaves the first client's list, and the candidate at its index 1, as they were
+        ConcurrentCommandRunner.Reply reply = runner.execute("first", "delete 1 from/candidates");
+        assertEquals(String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(ALICE)),
+                reply.commandResult().getFeedbackToUser());
+        assertFalse(model.hasCandidate(ALICE));
+        assertEquals(getTypicalFindr().getCandidateList().size() - 2,
+                model.getCandidateList().getCandidateList().size());
+    }
+
+    @Test
+    public void execute_candidateChangedByAnotherClient_throwsCommandException() throws Exception {
+        runner.execute("first", ListCommand.COMMAND_WORD);
+        runner.execute("second", ListCommand.COMMAND_WORD);
+        runner.execute("second", EditCommand.COMMAND_WORD + " 1 from/candidates" + ADDRESS_DESC_AMY);
+
+        assertThrows(CommandException.class, ConcurrentCommandRunner.MESSAGE_CANDIDATE_CHANGED, () ->
+                runner.execute("first", "delete 1 from/candidates"));
+        assertTrue(model.hasCandidate(ALICE));
+
+        // Once listed again, the index refers to the changed candidate
+        runner.execute("first", ListCommand.COMMAND_WORD);
+        runner.execute("first", "delete 1 from/candidates");
+        assertFalse(model.hasCandidate(ALICE));
+    }
+
+    @Test
+    public void execute_newClientRefersToIndex_throwsCommandException() {
+        assertThrows(CommandException.class, Messages.MESSAGE_INVALID_CANDIDATE_DISPLAYED_INDEX, () ->
+                runner.execute("new", "delete 1 from/candidates"));
+        assertTrue(model.hasCandidate(ALICE));
+    }
+
+    @Test
+    public void execute_invalidCommand_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> runner.execute("uicfhmowqewca"));
+    }
+
+    @Test
+    public void execute_concurrentReadersAndWriter_eachReaderSeesConsistentSnapshot() throws Exception {
+        int initialSize = getTypicalFindr().getCandidateList().size();
+        int writeCount = 20;
+        ExecutorService clients = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> reads = new ArrayList<>();
+            for (int i = 0; i < writeCount; i++) {
+                String add = AddCommand.COMMAND_WORD + " n/Candidate " + i + " p/9" + (1000000 + i)
+                        + " e/candidate" + i + "@example.com a/Block " + i;
+                clients.submit(() -> runner.execute(add));
+                for (int j = 0; j < 4; j++) {
+                    reads.add(clients.submit(() -> runner.execute(ListCommand.COMMAND_WORD).candidates().size()));
+                }
+            }
+
+            for (Future<Integer> read : reads) {
+                int size = read.get();
+                assertTrue(size >= initialSize && size <= initialSize + writeCount);
+            }
+        } finally {
+            clients.shutdown();
+        }
+        assertEquals(initialSize + writeCount, runner.execute(ListCommand.COMMAND_WORD).candidates().size());
+    }
+}
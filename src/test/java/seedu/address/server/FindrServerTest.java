@@ -0,0 +1,129 @@
+package seedu.address.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalFindr;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonFindrStorage;
+import seedu.address.storage.JsonSearchHistoryStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.TypicalPersons;
+
+public class FindrServerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private Logic logic;
+    private FindrServer server;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        Model model = new ModelManager(getTypicalFindr(), new UserPrefs());
+        StorageManager storage = new StorageManager(new JsonFindrStorage(temporaryFolder.resolve("findr.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonSearchHistoryStorage(temporaryFolder.resolve("searchHistory.json")));
+        logic = new LogicManager(model, storage);
+        server = new FindrServer(new ConcurrentCommandRunner(logic, model.getUserPrefs()), 0, 2);
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop();
+        logic.shutdown();
+    }
+
+    @Test
+    public void constructor_invalidArguments_throwsIllegalArgumentException() {
+        ConcurrentCommandRunner runner = new ConcurrentCommandRunner(logic, new UserPrefs());
+        assertThrows(IllegalArgumentException.class, () -> new FindrServer(runner, -1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new FindrServer(runner, 0, 0));
+    }
+
+    @Test
+    public void getUri_loopbackAddress() {
+        URI uri = server.getUri();
+        assertEquals("http", uri.getScheme());
+        assertEquals(FindrServer.COMMAND_PATH, uri.getPath());
+        assertTrue(uri.getPort() > 0);
+    }
+
+    @Test
+    public void post_validCommand_repliesWithFeedbackAndCandidates() throws Exception {
+        HttpResponse<String> response = post(FindCommand.COMMAND_WORD + " Alice");
+
+        assertEquals(200, response.statusCode());
+        Map<?, ?> reply = JsonUtil.fromJsonString(response.body(), Map.class);
+        assertEquals(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, 1), reply.get("feedback"));
+        assertEquals(List.of(Messages.format(TypicalPersons.ALICE)), reply.get("candidates"));
+    }
+
+    @Test
+    public void post_namedClients_indexesReferToEachClientsOwnList() throws Exception {
+        post("first", FindCommand.COMMAND_WORD + " Alice");
+        post("second", FindCommand.COMMAND_WORD + " Carl");
+
+        HttpResponse<String> response = post("first", "delete 1 from/candidates");
+        assertEquals(200, response.statusCode());
+        Map<?, ?> reply = JsonUtil.fromJsonString(response.body(), Map.class);
+        assertEquals(String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS,
+                Messages.format(TypicalPersons.ALICE)), reply.get("feedback"));
+    }
+
+    @Test
+    public void post_invalidCommand_repliesWithError() throws Exception {
+        HttpResponse<String> response = post("uicfhmowqewca");
+
+        assertEquals(400, response.statusCode());
+        Map<?, ?> reply = JsonUtil.fromJsonString(response.body(), Map.class);
+        assertEquals(Messages.MESSAGE_UNKNOWN_COMMAND, reply.get("error"));
+    }
+
+    @Test
+    public void get_rejectedAsMethodNotAllowed() throws Exception {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(server.getUri()).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertEquals(405, response.statusCode());
+    }
+
+    private HttpResponse<String> post(String commandText) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(server.getUri())
+                .POST(HttpRequest.BodyPublishers.ofString(commandText))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String clientId, String commandText) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(server.getUri())
+                .header(FindrServer.CLIENT_HEADER, clientId)
+                .POST(HttpRequest.BodyPublishers.ofString(commandText))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
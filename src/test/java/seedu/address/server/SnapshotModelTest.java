@@ -0,0 +1,78 @@
+package seedu.address.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalFindr;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Findr;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.CandidateQuery;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.SearchField;
+
+public class SnapshotModelTest {
+
+    private final Findr snapshot = getTypicalFindr();
+
+    @BeforeEach
+    public void setUp() {
+        snapshot.prepareForConcurrentReads();
+    }
+
+    @Test
+    public void getObservableCandidateList_unfiltered_listsSnapshotInOrder() {
+        SnapshotModel model = new SnapshotModel(snapshot, new UserPrefs());
+        assertEquals(snapshot.getCandidateList(), model.getObservableCandidateList());
+    }
+
+    @Test
+    public void updateFilteredCandidateList_query_filtersOnlyThisModel() {
+        SnapshotModel model = new SnapshotModel(snapshot, new UserPrefs());
+        SnapshotModel otherModel = new SnapshotModel(snapshot, new UserPrefs());
+
+        model.updateFilteredCandidateList(CandidateQuery.anyName(List.of("Alice", "Benson")));
+        assertEquals(List.of(ALICE, BENSON), model.getObservableCandidateList());
+        assertEquals(snapshot.getCandidateList(), otherModel.getObservableCandidateList());
+
+        model.updateFilteredCandidateList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(snapshot.getCandidateList(), model.getObservableCandidateList());
+    }
+
+    @Test
+    public void updateFilteredCandidateList_fuzzyQuery_ranksClosestFirst() {
+        SnapshotModel model = new SnapshotModel(snapshot, new UserPrefs());
+        model.updateFilteredCandidateList(new CandidateQuery(List.of(
+                List.of(CandidateQuery.Term.fuzzy(SearchField.NAME, "Bensen", 2)),
+                List.of(CandidateQuery.Term.fuzzy(SearchField.NAME, "Aliec", 2)))));
+        assertEquals(List.of(BENSON, ALICE), model.getObservableCandidateList());
+    }
+
+    @Test
+    public void updateSortedCandidateList_comparator_sortsDisplayedCandidates() {
+        SnapshotModel model = new SnapshotModel(snapshot, new UserPrefs());
+        Comparator<Person> byNameDescending = Comparator.comparing((Person person) -> person.getName().fullName)
+                .reversed();
+        model.updateSortedCandidateList(byNameDescending);
+
+        List<Person> expected = snapshot.getCandidateList().stream().sorted(byNameDescending).toList();
+        assertEquals(expected, model.getObservableCandidateList());
+    }
+
+    @Test
+    public void addCandidate_throwsUnsupportedOperationException() {
+        SnapshotModel model = new SnapshotModel(snapshot, new UserPrefs());
+        assertThrows(UnsupportedOperationException.class, SnapshotModel.MESSAGE_READ_ONLY, () ->
+                model.addCandidate(ALICE));
+        assertThrows(UnsupportedOperationException.class, SnapshotModel.MESSAGE_READ_ONLY, () ->
+                model.deleteCandidate(ALICE));
+    }
+}
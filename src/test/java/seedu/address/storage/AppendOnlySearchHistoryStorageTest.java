@@ -0,0 +1,117 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+
+public class AppendOnlySearchHistoryStorageTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSearchHistoryStorageTest");
+    private static final int CAPACITY = 3;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new AppendOnlySearchHistoryStorage(testFolder.resolve("history"), 0));
+    }
+
+    @Test
+    public void readSearchHistory_missingFile_emptyResult() throws Exception {
+        assertFalse(new AppendOnlySearchHistoryStorage(testFolder.resolve("history"), CAPACITY)
+                .readSearchHistory().isPresent());
+    }
+
+    @Test
+    public void appendSearchHistory_thenRead_mostRecentInOrder() throws Exception {
+        AppendOnlySearchHistoryStorage storage = storageAt(testFolder.resolve("history"));
+        storage.appendSearchHistory(List.of("list", "find \"Alex\""));
+        storage.appendSearchHistory(List.of("sort name", "find a\nb"));
+
+        assertEquals(List.of("find \"Alex\"", "sort name", "find a\nb"), readFresh(storage));
+        assertEquals(4, Files.readAllLines(storage.getSearchHistoryFilePath()).size());
+    }
+
+    @Test
+    public void appendSearchHistory_beyondTwiceCapacity_compactsFile() throws Exception {
+        AppendOnlySearchHistoryStorage storage = storageAt(testFolder.resolve("history"));
+        for (int i = 0; i < 2 * CAPACITY; i++) {
+            storage.appendSearchHistory(List.of("find " + i));
+        }
+        assertEquals(2 * CAPACITY, Files.readAllLines(storage.getSearchHistoryFilePath()).size());
+
+        storage.appendSearchHistory(List.of("list"));
+
+        assertEquals(List.of("find 4", "find 5", "list"), Files.readAllLines(storage.getSearchHistoryFilePath())
+                .stream().map(line -> line.substring(1, line.length() - 1)).toList());
+        assertEquals(List.of("find 4", "find 5", "list"), readFresh(storage));
+    }
+
+    @Test
+    public void appendSearchHistory_jsonArrayFile_convertsFile() throws Exception {
+        Path filePath = testFolder.resolve("history");
+        Files.copy(TEST_DATA_FOLDER.resolve("TypicalSearchHistory.json"), filePath);
+        AppendOnlySearchHistoryStorage storage = storageAt(filePath);
+        assertEquals(List.of("list", "add n/John p/123 e/john@example.com", "find John"),
+                storage.readSearchHistory().get());
+
+        storage.appendSearchHistory(List.of("sort name"));
+
+        assertEquals(List.of("add n/John p/123 e/john@example.com", "find John", "sort name"), readFresh(storage));
+        assertFalse(Files.readString(filePath).startsWith("["));
+    }
+
+    @Test
+    public void readSearchHistory_tornLastLine_skipsItAndRewritesOnAppend() throws Exception {
+        Path filePath = testFolder.resolve("history");
+        Files.writeString(filePath, "\"list\"\n\"find Al", UTF_8);
+        AppendOnlySearchHistoryStorage storage = storageAt(filePath);
+        assertEquals(List.of("list"), storage.readSearchHistory().get());
+
+        storage.appendSearchHistory(List.of("sort name"));
+
+        assertEquals(List.of("list", "sort name"), readFresh(storage));
+    }
+
+    @Test
+    public void readSearchHistory_damagedJsonArray_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("history");
+        Files.writeString(filePath, "[\"list\", ", UTF_8);
+
+        assertThrows(DataLoadingException.class, () -> storageAt(filePath).readSearchHistory());
+    }
+
+    @Test
+    public void saveSearchHistory_thenAppend_mostRecentInOrder() throws Exception {
+        AppendOnlySearchHistoryStorage storage = storageAt(testFolder.resolve("data").resolve("history"));
+        storage.saveSearchHistory(List.of("a", "b", "c", "d"));
+        storage.appendSearchHistory(List.of("e"));
+
+        assertEquals(List.of("c", "d", "e"), readFresh(storage));
+    }
+
+    private static AppendOnlySearchHistoryStorage storageAt(Path filePath) {
+        return new AppendOnlySearchHistoryStorage(filePath, CAPACITY);
+    }
+
+    /**
+     * Reads the search history through a new storage, so that nothing the given storage remembers is relied on.
+     */
+    private static List<String> readFresh(AppendOnlySearchHistoryStorage storage) throws Exception {
+        return storageAt(storage.getSearchHistoryFilePath()).readSearchHistory().get();
+    }
+}
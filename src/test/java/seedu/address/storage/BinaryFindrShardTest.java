@@ -0,0 +1,86 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Rating;
+import seedu.address.model.person.Stage;
+import seedu.address.storage.JsonFindrShard.Shard;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryFindrShardTest {
+
+    private static final long[] ORDINALS = {0, 3, 4, 9, 10, 11, 1000};
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_writtenShard_sameCandidatesAndOrdinals() throws Exception {
+        List<Person> persons = getTypicalPersons();
+        persons.set(1, new PersonBuilder(persons.get(1)).withRating(Rating.EXCELLENT).withStage(Stage.HIRED)
+                .withName("Benson Meißner").build());
+        Path shardPath = write(persons);
+
+        Shard shard = BinaryFindrShard.read(shardPath, List.of());
+        assertEquals(persons, shard.persons());
+        assertArrayEquals(ORDINALS, shard.ordinals());
+    }
+
+    @Test
+    public void write_typicalPersons_smallerThanJson() throws Exception {
+        Path binaryPath = write(getTypicalPersons());
+        Path jsonPath = testFolder.resolve("shard.json");
+        JsonFindrShard.write(getTypicalPersons(), ORDINALS, jsonPath, true);
+
+        assertTrue(Files.size(binaryPath) * 3 < Files.size(jsonPath));
+    }
+
+    @Test
+    public void isBinary_jsonShard_false() throws Exception {
+        Path jsonPath = testFolder.resolve("shard.json");
+        JsonFindrShard.write(getTypicalPersons(), ORDINALS, jsonPath, false);
+
+        assertFalse(BinaryFindrShard.isBinary(jsonPath));
+        assertTrue(BinaryFindrShard.isBinary(write(getTypicalPersons())));
+    }
+
+    @Test
+    public void read_flippedByte_throwsIllegalValueException() throws Exception {
+        Path shardPath = write(getTypicalPersons());
+        byte[] bytes = Files.readAllBytes(shardPath);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(shardPath, bytes);
+
+        assertThrows(IllegalValueException.class, () -> BinaryFindrShard.read(shardPath, List.of()));
+    }
+
+    @Test
+    public void read_truncated_throwsIllegalValueException() throws Exception {
+        Path shardPath = write(getTypicalPersons());
+        byte[] bytes = Files.readAllBytes(shardPath);
+        Files.write(shardPath, Arrays.copyOf(bytes, bytes.length - 10));
+
+        assertThrows(IllegalValueException.class, () -> BinaryFindrShard.read(shardPath, List.of()));
+    }
+
+    private Path write(List<Person> persons) throws Exception {
+        Path shardPath = testFolder.resolve("shard.bin");
+        BinaryFindrShard.write(persons, ORDINALS, shardPath);
+        return shardPath;
+    }
+}
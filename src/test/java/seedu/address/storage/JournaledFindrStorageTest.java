@@ -0,0 +1,185 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalFindr;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.Findr;
+import seedu.address.model.FindrMutation;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Stage;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledFindrStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private JournaledFindrStorage storage;
+    private Findr expected;
+    private List<FindrMutation> mutations;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("findr.json");
+        storage = new JournaledFindrStorage(filePath);
+        expected = getTypicalFindr();
+        mutations = new ArrayList<>();
+        expected.addMutationListener(mutations::add);
+    }
+
+    @Test
+    public void constructor_nonPositiveThreshold_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new JournaledFindrStorage(filePath, 0));
+    }
+
+    @Test
+    public void readCandidateList_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readCandidateList().isPresent());
+    }
+
+    @Test
+    public void saveMutations_noSnapshotYet_writesSnapshot() throws Exception {
+        expected.addCandidate(HOON);
+        storage.saveMutations(mutations, expected);
+
+        assertTrue(Files.exists(filePath));
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(expected, readFresh());
+    }
+
+    @Test
+    public void saveMutations_afterSnapshot_appendsWithoutRewritingSnapshot() throws Exception {
+        storage.saveCandidateList(expected);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        applyEveryKindOfMutation();
+        storage.saveMutations(List.copyOf(mutations), expected);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(1 + mutations.size(), Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(expected, readFresh());
+    }
+
+    @Test
+    public void saveMutations_thresholdExceeded_compactsIntoSnapshot() throws Exception {
+        storage = new JournaledFindrStorage(filePath, 2);
+        storage.saveCandidateList(expected);
+
+        for (Person person : List.of(HOON, IDA, new PersonBuilder().withName("Zed").build())) {
+            mutations.clear();
+            expected.addCandidate(person);
+            storage.saveMutations(List.copyOf(mutations), expected);
+        }
+
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(expected, readFresh());
+    }
+
+    @Test
+    public void saveMutations_wholesaleMutation_compactsIntoSnapshot() throws Exception {
+        storage.saveCandidateList(expected);
+
+        expected.setPersons(List.of(ALICE, HOON));
+        storage.saveMutations(List.copyOf(mutations), expected);
+
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(expected, readFresh());
+    }
+
+    @Test
+    public void readCandidateList_tornFinalRecord_discardsRecordAndKeepsJournalUsable() throws Exception {
+        storage.saveCandidateList(expected);
+        expected.addCandidate(HOON);
+        storage.saveMutations(List.copyOf(mutations), expected);
+        long intactSize = Files.size(storage.getJournalFilePath());
+
+        // Simulates a crash part-way through appending the next record
+        Files.write(storage.getJournalFilePath(), "0123abcd {\"type\":\"addCand".getBytes(UTF_8),
+                StandardOpenOption.APPEND);
+
+        JournaledFindrStorage reopened = new JournaledFindrStorage(filePath);
+        assertEquals(expected, reopened.readCandidateList().get());
+        assertEquals(intactSize, Files.size(storage.getJournalFilePath()));
+
+        mutations.clear();
+        expected.addCandidate(IDA);
+        reopened.saveMutations(List.copyOf(mutations), expected);
+        assertEquals(expected, readFresh());
+    }
+
+    @Test
+    public void readCandidateList_corruptedEarlierRecord_throwsDataLoadingException() throws Exception {
+        storage.saveCandidateList(expected);
+        expected.addCandidate(HOON);
+        expected.addCandidate(IDA);
+        storage.saveMutations(List.copyOf(mutations), expected);
+
+        List<String> lines = new ArrayList<>(Files.readAllLines(storage.getJournalFilePath()));
+        lines.set(1, lines.get(1).replace("Hoon", "Hoom"));
+        Files.write(storage.getJournalFilePath(), lines);
+
+        assertThrows(DataLoadingException.class, () -> new JournaledFindrStorage(filePath).readCandidateList());
+    }
+
+    @Test
+    public void readCandidateList_journalForOtherSnapshot_ignoresJournal() throws Exception {
+        storage.saveCandidateList(expected);
+        expected.addCandidate(HOON);
+        storage.saveMutations(List.copyOf(mutations), expected);
+
+        // Simulates a crash after a compaction replaced the snapshot but before it replaced the journal
+        Findr replacement = new Findr();
+        replacement.addCandidate(IDA);
+        new JsonFindrStorage(filePath).saveCandidateList(replacement);
+
+        assertEquals(replacement, readFresh());
+    }
+
+    @Test
+    public void readCandidateList_otherPath_replaysItsJournal() throws Exception {
+        Path otherPath = testFolder.resolve("other.json");
+        JournaledFindrStorage other = new JournaledFindrStorage(otherPath);
+        other.saveCandidateList(expected);
+        expected.addCandidate(HOON);
+        other.saveMutations(List.copyOf(mutations), expected);
+
+        assertEquals(expected, storage.readCandidateList(otherPath).get());
+    }
+
+    private void applyEveryKindOfMutation() {
+        mutations.clear();
+        expected.addCandidate(HOON);
+        expected.setPerson(getTypicalPersons().get(0), new PersonBuilder(ALICE).withStage(Stage.HIRED).build());
+        expected.removePerson(BENSON);
+        expected.addTag(new Tag("colleagues"));
+        expected.setTag(new Tag("friends"), new Tag("buddies", "Social", "#00FF00", "Close friends"));
+        expected.removeTag(new Tag("owesMoney"));
+    }
+
+    private Findr readFresh() throws Exception {
+        return (Findr) new JournaledFindrStorage(filePath).readCandidateList().get();
+    }
+}
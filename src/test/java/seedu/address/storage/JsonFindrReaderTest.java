@@ -0,0 +1,98 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.Findr;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.TypicalPersons;
+
+public class JsonFindrReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path NOT_JSON_FILE = Paths.get("src", "test", "data", "JsonAddressBookStorageTest",
+            "notJsonFormatAddressBook.json");
+
+    private static final String HANS = "{\"name\": \"Hans Meier\", \"phone\": \"9482424\", "
+            + "\"email\": \"hans@example.com\", \"address\": \"4th street\", "
+            + "\"tags\": [{\"tagName\": \"friends\"}]}";
+    private static final String FRIENDS_TAG = "{\"tagName\": \"friends\", \"category\": \"Social\", "
+            + "\"colour\": \"#00FF00\", \"description\": \"Close friends\"}";
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        assertEquals(TypicalPersons.getTypicalFindr(), JsonFindrReader.read(TYPICAL_PERSONS_FILE));
+    }
+
+    @Test
+    public void read_personsBeforeTags_resolvesTagsToCatalogue() throws Exception {
+        Findr findr = read("{\"persons\": [" + HANS + "], \"tags\": [" + FRIENDS_TAG + "]}");
+
+        Person hans = findr.getCandidateList().get(0);
+        Tag friends = hans.getTags().iterator().next();
+        assertEquals("Social", friends.category);
+        assertEquals("#00FF00", friends.colour);
+        assertEquals(1, findr.getTagList().size());
+    }
+
+    @Test
+    public void read_unknownAndNullFields_ignored() throws Exception {
+        Findr findr = read("{\"_comment\": {\"nested\": [1, 2]}, \"tags\": null, \"persons\": [" + HANS + "]}");
+        assertEquals(1, findr.getCandidateList().size());
+    }
+
+    @Test
+    public void read_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> JsonFindrReader.read(INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableFindr.MESSAGE_DUPLICATE_PERSON, () ->
+                JsonFindrReader.read(DUPLICATE_PERSON_FILE));
+    }
+
+    @Test
+    public void read_duplicateTags_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableFindr.MESSAGE_DUPLICATE_TAG, () ->
+                read("{\"tags\": [" + FRIENDS_TAG + ", " + FRIENDS_TAG + "], \"persons\": []}"));
+    }
+
+    @Test
+    public void read_notAnObject_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonFindrReader.MESSAGE_NOT_AN_OBJECT, () -> read("[]"));
+    }
+
+    @Test
+    public void read_personsNotAnArray_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, String.format(JsonFindrReader.MESSAGE_NOT_AN_ARRAY, "persons"), () ->
+                read("{\"persons\": " + HANS + "}"));
+    }
+
+    @Test
+    public void read_notJsonFormat_throwsIOException() {
+        assertThrows(IOException.class, () -> JsonFindrReader.read(NOT_JSON_FILE));
+    }
+
+    private Findr read(String json) throws Exception {
+        Path file = testFolder.resolve("findr.json");
+        Files.writeString(file, json);
+        return JsonFindrReader.read(file);
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,6 +10,7 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalFindr;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -86,6 +88,21 @@ public class JsonFindrStorageTest {
 
     }
 
+    @Test
+    public void saveCandidateList_compact_writesSmallerFileThatReadsBack() throws Exception {
+        Path prettyPath = testFolder.resolve("pretty.json");
+        Path compactPath = testFolder.resolve("compact.json");
+        Findr original = getTypicalFindr();
+
+        new JsonFindrStorage(prettyPath).saveCandidateList(original);
+        new JsonFindrStorage(compactPath, true).saveCandidateList(original);
+
+        assertEquals(1, Files.readAllLines(compactPath).size());
+        assertTrue(Files.size(compactPath) < Files.size(prettyPath));
+        assertEquals(original, new JsonFindrStorage(compactPath).readCandidateList().get());
+        assertEquals(original, new JsonFindrStorage(prettyPath, true).readCandidateList().get());
+    }
+
     @Test
     public void saveAddressBook_nullCandidateList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveCandidateList(null, "SomeFile.json"));
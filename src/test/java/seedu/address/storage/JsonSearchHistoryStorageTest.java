@@ -87,6 +87,15 @@ public class JsonSearchHistoryStorageTest {
         assertEquals(original, readBack.get());
     }
 
+    @Test
+    public void appendSearchHistory_existingHistory_addedToEnd() throws Exception {
+        Path filePath = testFolder.resolve("TempSearchHistory.json");
+        saveSearchHistory(Arrays.asList("list", "find Test"), filePath);
+
+        new JsonSearchHistoryStorage(filePath).appendSearchHistory(Arrays.asList("sort name"));
+        assertEquals(Arrays.asList("list", "find Test", "sort name"), readSearchHistory(filePath).get());
+    }
+
     @Test
     public void getSearchHistoryFilePath() {
         JsonSearchHistoryStorage storage = new JsonSearchHistoryStorage(Paths.get("test.json"));
@@ -0,0 +1,84 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalFindr;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.Findr;
+import seedu.address.model.person.Rating;
+import seedu.address.model.person.Stage;
+import seedu.address.testutil.PersonBuilder;
+
+public class MappedFindrSnapshotTest {
+
+    private static final long GENERATION = 42;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void open_writtenSnapshot_sameCandidatesAndGeneration() throws Exception {
+        Findr expected = getTypicalFindr();
+        expected.addCandidate(new PersonBuilder().withName("Zed Stage").withStage(Stage.HIRED)
+                .withRating(Rating.EXCELLENT).withTags("gym").build());
+        Path snapshotPath = write(expected);
+
+        MappedFindrSnapshot snapshot = MappedFindrSnapshot.open(snapshotPath);
+
+        assertEquals(GENERATION, snapshot.getGeneration());
+        assertEquals(expected.getTagList(), snapshot.getTags().subList(0, expected.getTagList().size()));
+        assertEquals(expected.getCandidateList(), snapshot.asList());
+        for (int i = 0; i < snapshot.size(); i++) {
+            assertEquals(expected.getCandidateList().get(i).getStage(), snapshot.getStage(i));
+        }
+    }
+
+    @Test
+    public void get_corruptedRecord_throwsIllegalStateException() throws Exception {
+        Findr expected = getTypicalFindr();
+        Path snapshotPath = write(expected);
+        byte[] bytes = Files.readAllBytes(snapshotPath);
+        // The last record ends the file, followed only by its checksum
+        bytes[bytes.length - 5] ^= 1;
+        Files.write(snapshotPath, bytes);
+
+        MappedFindrSnapshot snapshot = MappedFindrSnapshot.open(snapshotPath);
+
+        int last = snapshot.size() - 1;
+        assertThrows(IllegalStateException.class, () -> snapshot.get(last));
+        assertEquals(expected.getCandidateList().get(0), snapshot.get(0));
+    }
+
+    @Test
+    public void open_corruptedHeader_throwsIllegalValueException() throws Exception {
+        Path snapshotPath = write(getTypicalFindr());
+        byte[] bytes = Files.readAllBytes(snapshotPath);
+        bytes[6] ^= 1;
+        Files.write(snapshotPath, bytes);
+
+        assertThrows(IllegalValueException.class, () -> MappedFindrSnapshot.open(snapshotPath));
+    }
+
+    @Test
+    public void open_truncated_throwsIllegalValueException() throws Exception {
+        Path snapshotPath = write(getTypicalFindr());
+        byte[] bytes = Files.readAllBytes(snapshotPath);
+        Files.write(snapshotPath, Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertThrows(IllegalValueException.class, () -> MappedFindrSnapshot.open(snapshotPath));
+    }
+
+    private Path write(Findr candidateList) throws Exception {
+        Path snapshotPath = testFolder.resolve("findr.json.snapshot");
+        MappedFindrSnapshot.write(candidateList, GENERATION, snapshotPath);
+        return snapshotPath;
+    }
+}
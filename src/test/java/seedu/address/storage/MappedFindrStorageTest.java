@@ -0,0 +1,93 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalFindr;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.Findr;
+import seedu.address.model.FindrMutation;
+import seedu.address.model.ReadOnlyFindr;
+
+public class MappedFindrStorageTest {
+
+    private static final int SHARD_COUNT = 4;
+
+    @TempDir
+    public Path testFolder;
+
+    private MappedFindrStorage storage;
+    private Findr expected;
+    private List<FindrMutation> mutations;
+
+    @BeforeEach
+    public void setUp() {
+        storage = new MappedFindrStorage(new ShardedFindrStorage(testFolder.resolve("findr.json"), SHARD_COUNT));
+        expected = getTypicalFindr();
+        mutations = new ArrayList<>();
+        expected.addMutationListener(mutations::add);
+    }
+
+    @Test
+    public void readCandidateList_missingData_emptyResult() throws Exception {
+        assertFalse(storage.readCandidateList().isPresent());
+        assertFalse(Files.exists(storage.getSnapshotPath()));
+    }
+
+    @Test
+    public void readCandidateList_afterSave_writesSnapshotThenReadsLazily() throws Exception {
+        storage.saveCandidateList(expected);
+
+        // The first read goes to the shards and leaves a snapshot behind for the next one
+        ReadOnlyFindr firstRead = storage.readCandidateList().get();
+        assertTrue(firstRead.getCandidateRecords().isEmpty());
+        assertTrue(Files.exists(storage.getSnapshotPath()));
+        assertEquals(expected, new Findr(firstRead));
+
+        ReadOnlyFindr secondRead = storage.readCandidateList().get();
+        assertTrue(secondRead.getCandidateRecords().isPresent());
+        assertEquals(expected, new Findr(secondRead));
+    }
+
+    @Test
+    public void readCandidateList_afterSaveMutations_refreshesSnapshot() throws Exception {
+        storage.saveCandidateList(expected);
+        storage.readCandidateList();
+
+        mutations.clear();
+        expected.addCandidate(HOON);
+        storage.saveMutations(List.copyOf(mutations), expected);
+
+        ReadOnlyFindr outOfDateRead = storage.readCandidateList().get();
+        assertTrue(outOfDateRead.getCandidateRecords().isEmpty());
+        assertEquals(expected, new Findr(outOfDateRead));
+
+        ReadOnlyFindr refreshedRead = storage.readCandidateList().get();
+        assertTrue(refreshedRead.getCandidateRecords().isPresent());
+        assertEquals(expected, new Findr(refreshedRead));
+    }
+
+    @Test
+    public void readCandidateList_damagedSnapshot_readsShards() throws Exception {
+        storage.saveCandidateList(expected);
+        storage.readCandidateList();
+        Files.write(storage.getSnapshotPath(), new byte[] {'F', 'N', 'D', 'M', 1});
+
+        ReadOnlyFindr read = storage.readCandidateList().get();
+        assertTrue(read.getCandidateRecords().isEmpty());
+        assertEquals(expected, new Findr(read));
+
+        // The damaged snapshot is replaced by the full read
+        assertTrue(storage.readCandidateList().get().getCandidateRecords().isPresent());
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class ParallelConverterTest {
+
+    private static final int RECORD_COUNT = ParallelConverter.PARALLEL_THRESHOLD * 20;
+
+    private final List<Integer> records = IntStream.range(0, RECORD_COUNT).boxed().collect(Collectors.toList());
+
+    @Test
+    public void convertAll_validRecords_keepsOrder() throws Exception {
+        List<String> expected = records.stream().map(String::valueOf).collect(Collectors.toList());
+        assertEquals(expected, ParallelConverter.convertAll(records, String::valueOf));
+    }
+
+    @Test
+    public void convertAll_emptyRecords_returnsEmptyList() throws Exception {
+        assertEquals(List.of(), ParallelConverter.convertAll(List.<Integer>of(), String::valueOf));
+    }
+
+    @Test
+    public void convertAll_severalInvalidRecords_reportsFirstInOrder() {
+        // Later failures are spread out so that other workers are likely to hit one of them first
+        for (int attempt = 0; attempt < 20; attempt++) {
+            assertThrows(IllegalValueException.class, "invalid 1500", () ->
+                    ParallelConverter.convertAll(records, record -> {
+                        if (record >= 1500 && record % 1500 == 0) {
+                            throw new IllegalValueException("invalid " + record);
+                        }
+                        return record;
+                    }));
+        }
+    }
+
+    @Test
+    public void convertAll_invalidRecordBelowThreshold_reportsIt() {
+        assertThrows(IllegalValueException.class, "invalid 2", () ->
+                ParallelConverter.convertAll(List.of(1, 2, 3), record -> {
+                    if (record >= 2) {
+                        throw new IllegalValueException("invalid " + record);
+                    }
+                    return record;
+                }));
+    }
+}
@@ -0,0 +1,124 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class SearchHistorySaverTest {
+
+    private final SearchHistoryStorageStub storage = new SearchHistoryStorageStub();
+    private final SearchHistorySaver saver = new SearchHistorySaver(storage);
+
+    @AfterEach
+    public void tearDown() {
+        storage.release();
+        saver.shutdown();
+    }
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SearchHistorySaver(null));
+    }
+
+    @Test
+    public void flush_afterSave_appendsCommand() {
+        storage.release();
+        saver.save("list");
+        saver.flush();
+
+        assertEquals(List.of(List.of("list")), storage.batches);
+    }
+
+    @Test
+    public void save_burstDuringWrite_appendedInOneWrite() throws Exception {
+        saver.save("list");
+        assertTrue(storage.writeStarted.await(5, TimeUnit.SECONDS));
+
+        // The first write is blocked, so every later command should be appended in a single write
+        saver.save("find Alex");
+        saver.save("sort name");
+        storage.release();
+        saver.flush();
+
+        assertEquals(List.of(List.of("list"), List.of("find Alex", "sort name")), storage.batches);
+    }
+
+    @Test
+    public void save_storageThrows_keepsSaving() {
+        storage.failure = new IOException("disk full");
+        storage.release();
+        saver.save("list");
+        saver.flush();
+
+        storage.failure = null;
+        saver.save("find Alex");
+        saver.flush();
+
+        assertEquals(List.of(List.of("list"), List.of("find Alex")), storage.batches);
+    }
+
+    @Test
+    public void shutdown_pendingSave_writesBeforeStopping() {
+        storage.release();
+        saver.save("list");
+        saver.shutdown();
+        assertEquals(1, storage.batches.size());
+    }
+
+    /**
+     * A {@code SearchHistoryStorage} that records the commands it is asked to append, and holds every write until
+     * {@link #release()} is called.
+     */
+    private static class SearchHistoryStorageStub implements SearchHistoryStorage {
+        private final List<List<String>> batches = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+        private volatile IOException failure;
+
+        void release() {
+            released.countDown();
+        }
+
+        @Override
+        public Path getSearchHistoryFilePath() {
+            return Paths.get("stub.json");
+        }
+
+        @Override
+        public Optional<List<String>> readSearchHistory() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveSearchHistory(List<String> searchHistory) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void appendSearchHistory(List<String> commands) throws IOException {
+            writeStarted.countDown();
+            try {
+                released.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            batches.add(List.copyOf(commands));
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+}
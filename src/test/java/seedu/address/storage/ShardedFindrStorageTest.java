@@ -0,0 +1,354 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalFindr;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.Findr;
+import seedu.address.model.FindrMutation;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Stage;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class ShardedFindrStorageTest {
+
+    private static final int SHARD_COUNT = 4;
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private ShardedFindrStorage storage;
+    private Findr expected;
+    private List<FindrMutation> mutations;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("findr.json");
+        storage = new ShardedFindrStorage(filePath, SHARD_COUNT);
+        expected = getTypicalFindr();
+        mutations = new ArrayList<>();
+        expected.addMutationListener(mutations::add);
+    }
+
+    @Test
+    public void constructor_nonPositiveShardCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ShardedFindrStorage(filePath, 0));
+    }
+
+    @Test
+    public void constructor_nonPositiveCompactionThreshold_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new ShardedFindrStorage(filePath, SHARD_COUNT, ShardFormat.BINARY, 0));
+    }
+
+    @Test
+    public void shardOf_sameIdentity_sameShardOnEveryRun() {
+        // Pinned so that a change to the hash, which would scatter existing data files, is caught
+        assertEquals(1, ShardedFindrStorage.shardOf(ALICE, ShardedFindrStorage.DEFAULT_SHARD_COUNT));
+        assertEquals(ShardedFindrStorage.shardOf(ALICE, SHARD_COUNT),
+                ShardedFindrStorage.shardOf(new PersonBuilder(ALICE).withStage(Stage.HIRED).build(), SHARD_COUNT));
+    }
+
+    @Test
+    public void readCandidateList_missingData_emptyResult() throws Exception {
+        assertFalse(storage.readCandidateList().isPresent());
+    }
+
+    @Test
+    public void saveCandidateList_thenRead_sameCandidatesInSameOrder() throws Exception {
+        storage.saveCandidateList(expected);
+
+        assertTrue(Files.exists(storage.getShardDirectoryPath().resolve(ShardedFindrStorage.MANIFEST_FILE_NAME)));
+        assertEquals(SHARD_COUNT, shardFiles().size());
+        assertEquals(expected, readFresh());
+    }
+
+    @Test
+    public void saveMutations_candidateAdded_appendsToJournalOnly() throws Exception {
+        storage.saveCandidateList(expected);
+        Map<Integer, String> before = shardFiles();
+
+        expected.addCandidate(HOON);
+        storage.saveMutations(List.copyOf(mutations), expected);
+
+        assertEquals(before, shardFiles());
+        assertEquals(2, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertTrue(storage.hasJournaledChanges(filePath));
+        assertEquals(expected, readFresh());
+    }
+
+    @Test
+    public void compactJournal_candidateAdded_rewritesOnlyItsShard() throws Exception {
+        storage.saveCandidateList(expected);
+        Map<Integer, String> before = shardFiles();
+
+        expected.addCandidate(HOON);
+        storage.saveMutations(List.copyOf(mutations), expected);
+        storage.compactJournal(expected);
+
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertFalse(storage.hasJournaledChanges(filePath));
+        Map<Integer, String> after = shardFiles();
+        int dirtyShard = ShardedFindrStorage.shardOf(HOON, SHARD_COUNT);
+        for (int shard = 0; shard < SHARD_COUNT; shard++) {
+            if (shard == dirtyShard) {
+                assertNotEquals(before.get(shard), after.get(shard));
+            } else {
+                assertEquals(before.get(shard), after.get(shard));
+            }
+        }
+        assertEquals(expected, readFresh());
+    }
+
+    @Test
+    public void saveMutations_thresholdExceeded_compactsIntoDirtyShards() throws Exception {
+        storage = new ShardedFindrStorage(filePath, SHARD_COUNT, ShardFormat.BINARY, 2);
+        storage.saveCandidateList(expected);
+        Map<Integer, String> before = shardFiles();
+
+        expected.addCandidate(HOON);
+        storage.saveMutations(List.copyOf(mutations), expected);
+        mutations.clear();
+        expected.addCandidate(IDA);
+        storage.saveMutations(List.copyOf(mutations), expected);
+        assertEquals(before, shardFiles());
+
+        mutations.clear();
+        Person zed = new PersonBuilder().withName("Zed").withPhone("90000000").withEmail("zed@example.com").build();
+        expected.addCandidate(zed);
+        storage.saveMutations(List.copyOf(mutations), expected);
+
+        Map<Integer, String> after = shardFiles();
+        List<Integer> dirtyShards = Stream.of(HOON, IDA, zed)
+                .map(person -> ShardedFindrStorage.shardOf(person, SHARD_COUNT)).toList();
+        for (int shard = 0; shard < SHARD_COUNT; shard++) {
+            assertEquals(dirtyShards.contains(shard), !before.get(shard).equals(after.get(shard)));
+        }
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(expected, readFresh());
+    }
+
+    @Test
+    public void compactJournal_afterReopening_rewritesShardsOfReplayedChanges() throws Exception {
+        storage.saveCandidateList(expected);
+        Map<Integer, String> before = shardFiles();
+        expected.addCandidate(HOON);
+        storage.saveMutations(List.copyOf(mutations), expected);
+
+        ShardedFindrStorage reopened = new ShardedFindrStorage(filePath, SHARD_COUNT);
+        reopened.compactJournal(reopened.readCandidateList().get());
+
+        Map<Integer, String> after = shardFiles();
+        int dirtyShard = ShardedFindrStorage.shardOf(HOON, SHARD_COUNT);
+        for (int shard = 0; shard < SHARD_COUNT; shard++) {
+            assertEquals(shard == dirtyShard, !before.get(shard).equals(after.get(shard)));
+        }
+        assertEquals(expected, readFresh());
+    }
+
+    @Test
+    public void readCandidateList_tornFinalRecord_discardsRecordAndKeepsJournalUsable() throws Exception {
+        storage.saveCandidateList(expected);
+        expected.addCandidate(HOON);
+        storage.saveMutations(List.copyOf(mutations), expected);
+        long intactSize = Files.size(storage.getJournalFilePath());
+
+        // Simulates a crash part-way through appending the next record
+        Files.write(storage.getJournalFilePath(), "0123abcd {\"type\":\"addCand".getBytes(UTF_8),
+                StandardOpenOption.APPEND);
+
+        ShardedFindrStorage reopened = new ShardedFindrStorage(filePath, SHARD_COUNT);
+        assertEquals(expected, reopened.readCandidateList().get());
+        assertEquals(intactSize, Files.size(storage.getJournalFilePath()));
+
+        mutations.clear();
+        expected.addCandidate(IDA);
+        reopened.saveMutations(List.copyOf(mutations), expected);
+        assertEquals(expected, readFresh());
+    }
+
+    @Test
+    public void readCandidateList_journalForOlderManifest_ignoresJournal() throws Exception {
+        storage.saveCandidateList(expected);
+        expected.addCandidate(HOON);
+        storage.saveMutations(List.copyOf(mutations), expected);
+        byte[] journal = Files.readAllBytes(storage.getJournalFilePath());
+
+        // Simulates a crash after a compaction replaced the manifest but before it replaced the journal
+        Findr replacement = new Findr();
+        replacement.addCandidate(IDA);
+        new ShardedFindrStorage(filePath, SHARD_COUNT).saveCandidateList(replacement);
+        Files.write(storage.getJournalFilePath(), journal);
+
+        assertFalse(storage.hasJournaledChanges(filePath));
+        assertEquals(replacement, readFresh());
+    }
+
+    @Test
+    public void saveMutations_manyRounds_keepsCandidateOrder() throws Exception {
+        // Compacts every few rounds, so that both the journal and the shards are exercised
+        storage = new ShardedFindrStorage(filePath, SHARD_COUNT, ShardFormat.BINARY, 7);
+        storage.saveCandidateList(expected);
+
+        for (int round = 0; round < 20; round++) {
+            mutations.clear();
+            expected.addCandidate(new PersonBuilder().withName("Zed " + round).withPhone("9000" + round)
+                    .withEmail("zed" + round + "@example.com").build());
+            Person first = expected.getCandidateList().get(0);
+            Person middle = expected.getCandidateList().get(expected.getCandidateList().size() / 2);
+            // Renaming moves the candidate to another shard while keeping its place in the list
+            expected.setPerson(middle, new PersonBuilder(middle).withName("Renamed " + round).build());
+            if (round % 3 == 0) {
+                expected.removePerson(first);
+            }
+            storage.saveMutations(List.copyOf(mutations), expected);
+        }
+
+        assertEquals(expected, readFresh());
+    }
+
+    @Test
+    public void saveMutations_tagEdited_rewritesEveryShard() throws Exception {
+        storage.saveCandidateList(expected);
+        Map<Integer, String> before = shardFiles();
+
+        expected.setTag(new Tag("friends"), new Tag("buddies", "Social", "#00FF00", "Close friends"));
+        storage.saveMutations(List.copyOf(mutations), expected);
+
+        Map<Integer, String> after = shardFiles();
+        for (int shard = 0; shard < SHARD_COUNT; shard++) {
+            assertNotEquals(before.get(shard), after.get(shard));
+        }
+        assertFalse(storage.hasJournaledChanges(filePath));
+        assertEquals(expected, readFresh());
+    }
+
+    @Test
+    public void saveMutations_tagAdded_rewritesNoShard() throws Exception {
+        storage.saveCandidateList(expected);
+        Map<Integer, String> before = shardFiles();
+
+        expected.addTag(new Tag("colleagues"));
+        storage.saveMutations(List.copyOf(mutations), expected);
+        storage.compactJournal(expected);
+
+        assertEquals(before, shardFiles());
+        assertEquals(expected, readFresh());
+    }
+
+    @Test
+    public void compactJournal_staleShardFile_deleted() throws Exception {
+        storage.saveCandidateList(expected);
+        // Simulates a save that wrote a shard but was interrupted before replacing the manifest
+        Path staleShard = storage.getShardDirectoryPath().resolve("shard-0-99.json");
+        Files.writeString(staleShard, "{}");
+
+        expected.addCandidate(HOON);
+        storage.saveMutations(List.copyOf(mutations), expected);
+        storage.compactJournal(expected);
+
+        assertFalse(Files.exists(staleShard));
+        assertEquals(expected, readFresh());
+    }
+
+    @Test
+    public void readCandidateList_singleFile_migratesIntoShards() throws Exception {
+        JournaledFindrStorage singleFileStorage = new JournaledFindrStorage(filePath);
+        singleFileStorage.saveCandidateList(expected);
+        expected.addCandidate(IDA);
+        singleFileStorage.saveMutations(List.copyOf(mutations), expected);
+        byte[] singleFile = Files.readAllBytes(filePath);
+        byte[] singleFileJournal = Files.readAllBytes(singleFileStorage.getJournalFilePath());
+
+        assertEquals(expected, storage.readCandidateList().get());
+        assertEquals(SHARD_COUNT, shardFiles().size());
+        assertEquals(expected, readFresh());
+
+        mutations.clear();
+        Findr migrated = new Findr(expected);
+        expected.removePerson(BENSON);
+        storage.saveMutations(List.copyOf(mutations), expected);
+        assertEquals(expected, readFresh());
+
+        // The single file is left as it was, as a backup of the list at migration
+        assertArrayEquals(singleFile, Files.readAllBytes(filePath));
+        assertArrayEquals(singleFileJournal, Files.readAllBytes(singleFileStorage.getJournalFilePath()));
+        assertEquals(migrated, new JournaledFindrStorage(filePath).readCandidateList().get());
+    }
+
+    @Test
+    public void readCandidateList_invalidValueInShard_throwsDataLoadingException() throws Exception {
+        new ShardedFindrStorage(filePath, SHARD_COUNT, ShardFormat.JSON).saveCandidateList(expected);
+        Path shard = storage.getShardDirectoryPath().resolve(shardFiles().get(ShardedFindrStorage.shardOf(ALICE,
+                SHARD_COUNT)));
+        Files.writeString(shard, Files.readString(shard).replace("Alice", "Al!ce"));
+
+        assertThrows(DataLoadingException.class, () -> readFresh());
+    }
+
+    @Test
+    public void compactJournal_formatChanged_readsShardsOfBothFormats() throws Exception {
+        new ShardedFindrStorage(filePath, SHARD_COUNT, ShardFormat.JSON).saveCandidateList(expected);
+        assertEquals(expected, storage.readCandidateList().get());
+
+        // Only the shard of the new candidate is rewritten, in binary, next to the json ones
+        expected.addCandidate(HOON);
+        storage.saveMutations(List.copyOf(mutations), expected);
+        storage.compactJournal(expected);
+        Path binaryShard = storage.getShardDirectoryPath().resolve(shardFiles().get(ShardedFindrStorage.shardOf(HOON,
+                SHARD_COUNT)));
+        assertTrue(BinaryFindrShard.isBinary(binaryShard));
+
+        assertEquals(expected, readFresh());
+    }
+
+    @Test
+    public void readCandidateList_otherPath_readsItsShards() throws Exception {
+        Path otherPath = testFolder.resolve("other.json");
+        new ShardedFindrStorage(otherPath).saveCandidateList(expected);
+
+        assertEquals(expected, storage.readCandidateList(otherPath).get());
+    }
+
+    /**
+     * Returns the file of each shard in the shard directory, by shard.
+     */
+    private Map<Integer, String> shardFiles() throws Exception {
+        Map<Integer, String> files = new TreeMap<>();
+        try (Stream<Path> entries = Files.list(storage.getShardDirectoryPath())) {
+            entries.map(entry -> entry.getFileName().toString())
+                    .filter(name -> name.startsWith("shard-"))
+                    .forEach(name -> files.put(Integer.parseInt(name.split("-")[1]), name));
+        }
+        return files;
+    }
+
+    private Findr readFresh() throws Exception {
+        return (Findr) new ShardedFindrStorage(filePath, SHARD_COUNT).readCandidateList().get();
+    }
+}
@@ -0,0 +1,165 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Findr;
+import seedu.address.model.FindrMutation;
+import seedu.address.model.ReadOnlyFindr;
+import seedu.address.model.person.Person;
+
+public class WriteBehindSaverTest {
+
+    private final FindrStorageStub storage = new FindrStorageStub();
+    private final WriteBehindSaver saver = new WriteBehindSaver(storage, new Findr());
+
+    @AfterEach
+    public void tearDown() {
+        storage.release();
+        saver.shutdown();
+    }
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WriteBehindSaver(null, new Findr()));
+        assertThrows(NullPointerException.class, () -> new WriteBehindSaver(storage, null));
+    }
+
+    @Test
+    public void save_nullMutations_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> saver.save(null));
+    }
+
+    @Test
+    public void flush_afterSave_writesMutationsAndResult() {
+        storage.release();
+        saver.save(List.of(new FindrMutation.AddCandidate(ALICE)));
+        saver.flush();
+
+        assertEquals(List.of(List.of(new FindrMutation.AddCandidate(ALICE))), storage.batches);
+        assertEquals(List.of(ALICE), storage.results.get(0).getCandidateList());
+    }
+
+    @Test
+    public void save_burstDuringWrite_coalescesIntoOneWrite() throws Exception {
+        saver.save(List.of(new FindrMutation.AddCandidate(ALICE)));
+        assertTrue(storage.writeStarted.await(5, TimeUnit.SECONDS));
+
+        // The first write is blocked, so every later request should collapse into a single write
+        List<Person> later = List.of(BENSON, CARL, DANIEL, ELLE);
+        for (Person person : later) {
+            saver.save(List.of(new FindrMutation.AddCandidate(person)));
+        }
+        storage.release();
+        saver.flush();
+
+        assertEquals(2, storage.batches.size());
+        assertEquals(later.size(), storage.batches.get(1).size());
+        assertEquals(List.of(ALICE, BENSON, CARL, DANIEL, ELLE), storage.results.get(1).getCandidateList());
+    }
+
+    @Test
+    public void save_emptyMutations_writesNothing() {
+        storage.release();
+        saver.save(List.of());
+        saver.flush();
+        assertTrue(storage.batches.isEmpty());
+    }
+
+    @Test
+    public void save_storageThrows_reportsFailure() {
+        IOException failure = new IOException("disk full");
+        storage.failure = failure;
+        storage.release();
+        List<IOException> reported = Collections.synchronizedList(new ArrayList<>());
+        saver.setFailureHandler(reported::add);
+
+        saver.save(List.of(new FindrMutation.AddCandidate(ALICE)));
+        saver.flush();
+
+        assertEquals(List.of(failure), reported);
+    }
+
+    @Test
+    public void shutdown_pendingSave_writesBeforeStopping() {
+        storage.release();
+        saver.save(List.of(new FindrMutation.AddCandidate(ALICE)));
+        saver.shutdown();
+        assertEquals(1, storage.batches.size());
+    }
+
+    /**
+     * A {@code FindrStorage} that records the changes it is asked to save, with a copy of the resulting candidate
+     * list, and holds every write until {@link #release()} is called.
+     */
+    private static class FindrStorageStub implements FindrStorage {
+        private final List<List<FindrMutation>> batches = Collections.synchronizedList(new ArrayList<>());
+        private final List<ReadOnlyFindr> results = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+        private volatile IOException failure;
+
+        void release() {
+            released.countDown();
+        }
+
+        @Override
+        public Path getFindrFilePath() {
+            return Paths.get("stub.json");
+        }
+
+        @Override
+        public Optional<ReadOnlyFindr> readCandidateList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyFindr> readCandidateList(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveCandidateList(ReadOnlyFindr candidateList) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveCandidateList(ReadOnlyFindr candidateList, Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveMutations(List<FindrMutation> mutations, ReadOnlyFindr candidateList) throws IOException {
+            writeStarted.countDown();
+            try {
+                released.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            batches.add(mutations);
+            results.add(new Findr(candidateList));
+        }
+    }
+}
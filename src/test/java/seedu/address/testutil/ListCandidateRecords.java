@@ -0,0 +1,41 @@
+package seedu.address.testutil;
+
+import java.util.List;
+
+import seedu.address.model.person.CandidateRecords;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Stage;
+
+/**
+ * {@code CandidateRecords} backed by a list of persons, which counts how many times it has built a candidate.
+ * Each candidate is built as a new instance, as it would be by records in storage.
+ */
+public class ListCandidateRecords implements CandidateRecords {
+
+    private final List<Person> persons;
+    private int buildCount;
+
+    public ListCandidateRecords(List<Person> persons) {
+        this.persons = List.copyOf(persons);
+    }
+
+    public int getBuildCount() {
+        return buildCount;
+    }
+
+    @Override
+    public int size() {
+        return persons.size();
+    }
+
+    @Override
+    public Stage getStage(int index) {
+        return persons.get(index).getStage();
+    }
+
+    @Override
+    public Person get(int index) {
+        buildCount++;
+        return new PersonBuilder(persons.get(index)).build();
+    }
+}
@@ -0,0 +1,137 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.SortedList;
+
+public class ListMirrorTest {
+
+    private final List<Runnable> queuedSteps = new ArrayList<>();
+    private final List<Runnable> queuedCopies = new ArrayList<>();
+    private final ObservableList<String> source = FXCollections.observableArrayList("b", "d", "a");
+
+    @Test
+    public void of_initialContents_copiedOnceRead() {
+        ObservableList<String> mirror = ListMirror.of(source, queuedSteps::add, Runnable::run);
+        assertEquals(3, mirror.size());
+        assertNull(mirror.get(0));
+
+        runQueued(queuedSteps);
+        assertEquals(source, mirror);
+    }
+
+    @Test
+    public void of_modifyMirror_throwsUnsupportedOperationException() {
+        ObservableList<String> mirror = ListMirror.of(source, queuedSteps::add, Runnable::run);
+        assertThrows(UnsupportedOperationException.class, () -> mirror.add("e"));
+    }
+
+    @Test
+    public void sourceChanged_beforeStepsRun_mirrorUnchanged() {
+        ObservableList<String> mirror = ListMirror.of(source, queuedSteps::add, Runnable::run);
+        assertMirrors(source, mirror);
+        source.add("e");
+
+        assertEquals(List.of("b", "d", "a"), mirror);
+        runQueued(queuedSteps);
+        assertEquals(source, mirror);
+    }
+
+    @Test
+    public void sourceChangedRepeatedly_stepsRunLater_mirrorFollowsEveryChange() {
+        ObservableList<String> mirror = ListMirror.of(source, queuedSteps::add, Runnable::run);
+        source.add(1, "c");
+        source.remove("b");
+        source.set(0, "z");
+        source.setAll("x", "y");
+        source.addAll("p", "q", "r");
+        source.removeIf(item -> item.equals("y") || item.equals("q"));
+
+        runQueued(queuedSteps);
+        assertEquals(List.of("x", "p", "r"), mirror);
+    }
+
+    @Test
+    public void sortedSourcePermutated_mirrorFollowsOrder() {
+        SortedList<String> sorted = new SortedList<>(source);
+        ObservableList<String> mirror = ListMirror.of(sorted, queuedSteps::add, Runnable::run);
+
+        sorted.setComparator(Comparator.naturalOrder());
+        source.add("c");
+        sorted.setComparator(Comparator.reverseOrder());
+
+        runQueued(queuedSteps);
+        assertMirrors(List.of("d", "c", "b", "a"), mirror);
+    }
+
+    @Test
+    public void sourceChanged_directExecutors_mirrorUpdatedImmediately() {
+        ObservableList<String> mirror = ListMirror.of(source, Runnable::run, Runnable::run);
+        source.remove(0);
+        assertEquals(List.of("d", "a"), mirror);
+    }
+
+    @Test
+    public void longChange_onlyBlocksReadAreCopied() {
+        ObservableList<String> mirror = ListMirror.of(source, queuedSteps::add, Runnable::run);
+        List<String> items = IntStream.range(0, 3 * ListMirror.BLOCK_SIZE).mapToObj(Integer::toString)
+                .collect(Collectors.toList());
+        source.setAll(items);
+        runQueued(queuedSteps);
+
+        String lastItem = items.get(items.size() - 1);
+        assertNull(mirror.get(items.size() - 1));
+        runQueued(queuedSteps);
+        assertEquals(lastItem, mirror.get(items.size() - 1));
+        assertNull(mirror.get(0));
+
+        assertMirrors(items, mirror);
+    }
+
+    @Test
+    public void sourceChanged_beforeBlockCopied_blockDroppedAndCopiedAgain() {
+        ObservableList<String> mirror = ListMirror.of(source, queuedSteps::add, queuedCopies::add);
+        assertNull(mirror.get(0));
+        source.add(0, "z");
+
+        // The copy was asked for before the change, so it is dropped rather than put in the wrong places
+        runQueued(queuedCopies);
+        runQueued(queuedSteps);
+        assertEquals("z", mirror.get(0));
+        assertNull(mirror.get(1));
+
+        runQueued(queuedCopies);
+        runQueued(queuedSteps);
+        assertEquals(List.of("z", "b", "d", "a"), mirror);
+    }
+
+    /**
+     * Reads every item of {@code mirror}, copies them, and asserts that it then equals {@code expected}.
+     */
+    private void assertMirrors(List<String> expected, ObservableList<String> mirror) {
+        for (int i = 0; i < mirror.size(); i++) {
+            mirror.get(i);
+        }
+        runQueued(queuedCopies);
+        runQueued(queuedSteps);
+        assertEquals(expected, mirror);
+    }
+
+    private void runQueued(List<Runnable> queued) {
+        List<Runnable> tasks = new ArrayList<>(queued);
+        queued.clear();
+        tasks.forEach(Runnable::run);
+    }
+}